@@ -22,6 +22,7 @@ import gms.shared.event.coi.EventStatusInfo;
 import gms.shared.event.coi.LocationSolution;
 import gms.shared.event.coi.featureprediction.FeaturePrediction;
 import gms.shared.event.coi.featureprediction.FeaturePredictionContainer;
+import gms.shared.event.coi.featureprediction.type.FeaturePredictionType;
 import gms.shared.event.manager.config.EventConfigurationResolver;
 import gms.shared.event.manager.config.FeaturePredictionsDefinitions;
 import gms.shared.featureprediction.request.PredictForLocationRequest;
@@ -63,6 +64,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /** Defines event-manager-service endpoints */
 @RestController
@@ -76,6 +81,7 @@ public class EventManager {
       "Analyst may only mark an event complete if it is in progress or not complete";
   static final String STATUS_CHANGE_ERROR = "Analyst may not mark %s event as %s";
   private static final int CUSTOM_PARTIAL_RESPONSE_CODE = 209;
+  private static final int MAX_CONCURRENT_FEATURE_PREDICTION_REQUESTS = 8;
   private static final String SYSTEM_MESSAGE_EVENT_TYPE = "events";
   private static final Logger LOGGER = LoggerFactory.getLogger(EventManager.class);
   private final EventAccessor eventAccessor;
@@ -319,25 +325,46 @@ public class EventManager {
               locationName ->
                   receiverNameMapResponse.put(
                       locationName, FeaturePredictionContainer.create(new ArrayList<>())));
-      for (var predictionDefinitionAndPhaseTypesToReceiverNameAndLocation :
-          predictionDefinitionsAndPhasetypesToReceiverNamesAndLocations.entrySet()) {
-        var def = predictionDefinitionAndPhaseTypesToReceiverNameAndLocation.getKey().getLeft();
-        var locs =
-            predictionDefinitionAndPhaseTypesToReceiverNameAndLocation.getValue().stream()
-                .map(Pair::getRight)
-                .collect(Collectors.toList());
-        var phases = predictionDefinitionAndPhaseTypesToReceiverNameAndLocation.getKey().getRight();
-        var predictForLocationRequest =
-            PredictForLocationRequest.from(
-                def.getPredictionTypes(),
-                eventPredictionRequest.getSourceLocation(),
-                locs,
-                new ArrayList<>(phases),
-                def.getEarthModel(),
-                def.getCorrectionDefinitions());
-
-        var fpsWebPredectPair =
-            webRequests.fpsWebRequestPredictForLocation(predictForLocationRequest);
+      var predictionDefinitionsAndPhaseTypesToReceiverNamesAndLocationsList =
+          List.copyOf(predictionDefinitionsAndPhasetypesToReceiverNamesAndLocations.entrySet());
+      var predictForLocationRequests =
+          predictionDefinitionsAndPhaseTypesToReceiverNamesAndLocationsList.stream()
+              .map(
+                  (var predictionDefinitionAndPhaseTypesToReceiverNameAndLocation) -> {
+                    var def =
+                        predictionDefinitionAndPhaseTypesToReceiverNameAndLocation
+                            .getKey()
+                            .getLeft();
+                    var locs =
+                        predictionDefinitionAndPhaseTypesToReceiverNameAndLocation
+                            .getValue()
+                            .stream()
+                            .map(Pair::getRight)
+                            .collect(Collectors.toList());
+                    var phases =
+                        predictionDefinitionAndPhaseTypesToReceiverNameAndLocation
+                            .getKey()
+                            .getRight();
+                    return PredictForLocationRequest.from(
+                        def.getPredictionTypes(),
+                        eventPredictionRequest.getSourceLocation(),
+                        locs,
+                        new ArrayList<>(phases),
+                        def.getEarthModel(),
+                        def.getCorrectionDefinitions());
+                  })
+              .collect(Collectors.toList());
+
+      // the requests are independent of each other, so they are sent to FeaturePredictorService
+      // concurrently and their responses merged in request order
+      var fpsWebPredictPairs =
+          callFeaturePredictorServiceConcurrently(
+              predictForLocationRequests, webRequests::fpsWebRequestPredictForLocation);
+
+      for (var i = 0; i < fpsWebPredictPairs.size(); i++) {
+        var predictionDefinitionAndPhaseTypesToReceiverNameAndLocation =
+            predictionDefinitionsAndPhaseTypesToReceiverNamesAndLocationsList.get(i);
+        var fpsWebPredectPair = fpsWebPredictPairs.get(i);
 
         FeaturePredictionContainer featurePredictionContainer = null;
 
@@ -395,39 +422,190 @@ public class EventManager {
           predictionDefinitionsToChannelsAndPhaseTypes,
       LocationSolution locationSolution) {
 
-    var partialResults = new AtomicBoolean(false);
+    // FeaturePredictorService skips prediction type/channel pairs already predicted in the
+    // LocationSolution it is given, so definitions sharing a pair are called one after another.
+    // Definitions that share no pairs are independent and are called concurrently.
+    var independentDefinitionChains =
+        groupDefinitionsSharingPredictions(predictionDefinitionsToChannelsAndPhaseTypes);
+
+    List<Pair<LocationSolution, Boolean>> chainResults;
+    try {
+      chainResults =
+          callFeaturePredictorServiceConcurrently(
+              independentDefinitionChains,
+              chain -> callFeaturePredictorServiceForDefinitionChain(chain, locationSolution));
+    } catch (FeaturePredictionException e) {
+      LOGGER.error(FP_ERROR, e);
+      return ResponseEntity.badRequest()
+          .body(Map.of(EventManagerExceptionHandler.ERROR_MSG_KEY, e.getMessage()));
+    }
+
+    var partialResults = chainResults.stream().anyMatch(Pair::getRight);
+    var predictedLocationSolution =
+        mergeFeaturePredictions(
+            locationSolution,
+            chainResults.stream().map(Pair::getLeft).collect(Collectors.toList()));
+
+    if (partialResults) {
+      LOGGER.info("travel time files not found - " + "cannot predict all arrival times");
+    }
+    var responseCode = partialResults ? CUSTOM_PARTIAL_RESPONSE_CODE : HttpStatus.OK.value();
+    return ResponseEntity.status(responseCode).body(predictedLocationSolution);
+  }
+
+  /**
+   * Groups the prediction definitions into chains that share no prediction type/channel pairs with
+   * each other. Definitions within a chain keep their iteration order.
+   *
+   * @param predictionDefinitionsToChannelsAndPhaseTypes the definitions and the channels and phase
+   *     types to predict with each
+   * @return the independent chains of definitions
+   */
+  static List<List<Map.Entry<FeaturePredictionsDefinitions, Pair<List<Channel>, List<PhaseType>>>>>
+      groupDefinitionsSharingPredictions(
+          Map<FeaturePredictionsDefinitions, Pair<List<Channel>, List<PhaseType>>>
+              predictionDefinitionsToChannelsAndPhaseTypes) {
+
+    List<List<Map.Entry<FeaturePredictionsDefinitions, Pair<List<Channel>, List<PhaseType>>>>>
+        chains = new ArrayList<>();
+    List<Set<Pair<FeaturePredictionType<?>, Channel>>> chainPredictions = new ArrayList<>();
+
     for (var definitionToChannelsAndPhaseTypes :
         predictionDefinitionsToChannelsAndPhaseTypes.entrySet()) {
+      Set<Pair<FeaturePredictionType<?>, Channel>> predictions = new HashSet<>();
+      definitionToChannelsAndPhaseTypes
+          .getKey()
+          .getPredictionTypes()
+          .forEach(
+              predictionType ->
+                  definitionToChannelsAndPhaseTypes
+                      .getValue()
+                      .getLeft()
+                      .forEach(channel -> predictions.add(Pair.of(predictionType, channel))));
+
+      // merge every existing chain sharing a pair with this definition into one chain, keeping
+      // the definitions in the order they were first encountered
+      List<Map.Entry<FeaturePredictionsDefinitions, Pair<List<Channel>, List<PhaseType>>>> chain =
+          new ArrayList<>();
+      Set<Pair<FeaturePredictionType<?>, Channel>> mergedPredictions = new HashSet<>(predictions);
+      var insertAt = chains.size();
+      for (var i = chains.size() - 1; i >= 0; i--) {
+        if (!Collections.disjoint(chainPredictions.get(i), predictions)) {
+          chain.addAll(0, chains.remove(i));
+          mergedPredictions.addAll(chainPredictions.remove(i));
+          insertAt = i;
+        }
+      }
+      chain.add(definitionToChannelsAndPhaseTypes);
+      chains.add(insertAt, chain);
+      chainPredictions.add(insertAt, mergedPredictions);
+    }
+
+    return chains;
+  }
+
+  private Pair<LocationSolution, Boolean> callFeaturePredictorServiceForDefinitionChain(
+      List<Map.Entry<FeaturePredictionsDefinitions, Pair<List<Channel>, List<PhaseType>>>> chain,
+      LocationSolution locationSolution)
+      throws FeaturePredictionException {
+
+    var partialResults = false;
+    for (var definitionToChannelsAndPhaseTypes : chain) {
       // call FeaturePredictorService for each combined definition, collection of channels, and
       // collection of phaseTypes
       var predictionsForLocationSolutionDefinition = definitionToChannelsAndPhaseTypes.getKey();
       var channels = new ArrayList<>(definitionToChannelsAndPhaseTypes.getValue().getLeft());
       var phaseTypes = new ArrayList<>(definitionToChannelsAndPhaseTypes.getValue().getRight());
-      try {
-        var featurePredictionPair =
-            callFeaturePredictorServiceForPredictionDefinition(
-                predictionsForLocationSolutionDefinition, channels, locationSolution, phaseTypes);
-
-        var locationSolutionOptional = featurePredictionPair.getLeft();
-        if (locationSolutionOptional.isPresent()) {
-          locationSolution = locationSolutionOptional.get();
-        }
+      var featurePredictionPair =
+          callFeaturePredictorServiceForPredictionDefinition(
+              predictionsForLocationSolutionDefinition, channels, locationSolution, phaseTypes);
 
-        if (Boolean.TRUE.equals(featurePredictionPair.getRight())) {
-          partialResults.set(true);
-        }
-      } catch (FeaturePredictionException e) {
-        LOGGER.error(FP_ERROR, e);
-        return ResponseEntity.badRequest()
-            .body(Map.of(EventManagerExceptionHandler.ERROR_MSG_KEY, e.getMessage()));
+      var locationSolutionOptional = featurePredictionPair.getLeft();
+      if (locationSolutionOptional.isPresent()) {
+        locationSolution = locationSolutionOptional.get();
+      }
+
+      if (Boolean.TRUE.equals(featurePredictionPair.getRight())) {
+        partialResults = true;
       }
     }
 
-    if (partialResults.get()) {
-      LOGGER.info("travel time files not found - " + "cannot predict all arrival times");
+    return Pair.of(locationSolution, partialResults);
+  }
+
+  /**
+   * Combines the {@link FeaturePrediction}s added to the source {@link LocationSolution} by each
+   * independent chain of FeaturePredictorService calls
+   *
+   * @param locationSolution the source {@link LocationSolution}
+   * @param predictedLocationSolutions the {@link LocationSolution} resulting from each chain
+   * @return the source {@link LocationSolution} with all of the predictions added
+   */
+  private static LocationSolution mergeFeaturePredictions(
+      LocationSolution locationSolution, List<LocationSolution> predictedLocationSolutions) {
+
+    var sourceData = locationSolution.getData();
+    if (predictedLocationSolutions.size() == 1 || sourceData.isEmpty()) {
+      return predictedLocationSolutions.isEmpty()
+          ? locationSolution
+          : predictedLocationSolutions.get(predictedLocationSolutions.size() - 1);
+    }
+
+    var featurePredictions =
+        predictedLocationSolutions.stream()
+            .map(LocationSolution::getData)
+            .flatMap(Optional::stream)
+            .map(LocationSolution.Data::getFeaturePredictions)
+            .reduce(sourceData.get().getFeaturePredictions(), FeaturePredictionContainer::union);
+
+    return locationSolution.toBuilder()
+        .setData(sourceData.get().toBuilder().setFeaturePredictions(featurePredictions).build())
+        .build();
+  }
+
+  /**
+   * Sends each request to FeaturePredictorService concurrently, bounded by {@link
+   * #MAX_CONCURRENT_FEATURE_PREDICTION_REQUESTS}
+   *
+   * @param requests the requests to send
+   * @param featurePredictorServiceCall sends a single request to FeaturePredictorService
+   * @return the response to each request, in request order
+   * @throws FeaturePredictionException if any request fails
+   */
+  private static <T, R> List<R> callFeaturePredictorServiceConcurrently(
+      List<T> requests, FeaturePredictorServiceCall<T, R> featurePredictorServiceCall)
+      throws FeaturePredictionException {
+
+    if (requests.size() < 2) {
+      List<R> responses = new ArrayList<>();
+      for (var request : requests) {
+        responses.add(featurePredictorServiceCall.call(request));
+      }
+      return responses;
     }
-    var responseCode = partialResults.get() ? CUSTOM_PARTIAL_RESPONSE_CODE : HttpStatus.OK.value();
-    return ResponseEntity.status(responseCode).body(locationSolution);
+
+    try {
+      return Flux.fromIterable(requests)
+          .flatMapSequential(
+              request ->
+                  Mono.fromCallable(() -> featurePredictorServiceCall.call(request))
+                      .subscribeOn(Schedulers.boundedElastic()),
+              MAX_CONCURRENT_FEATURE_PREDICTION_REQUESTS)
+          .collectList()
+          .blockOptional()
+          .orElseGet(List::of);
+    } catch (RuntimeException e) {
+      if (Exceptions.unwrap(e) instanceof FeaturePredictionException featurePredictionException) {
+        throw featurePredictionException;
+      }
+      throw e;
+    }
+  }
+
+  /** A blocking call to FeaturePredictorService */
+  @FunctionalInterface
+  private interface FeaturePredictorServiceCall<T, R> {
+    R call(T request) throws FeaturePredictionException;
   }
 
   private Pair<Optional<LocationSolution>, Boolean>
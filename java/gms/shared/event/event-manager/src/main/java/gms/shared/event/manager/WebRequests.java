@@ -35,6 +35,7 @@ class WebRequests {
   private static final int CUSTOM_PARTIAL_RESPONSE_CODE = 209;
   private static final int MAX_LEN_ERR_MSG = 100;
 
+  // Cloned for each request, so a request's response filter is not shared with concurrent requests
   private final WebClient.Builder webClientBuilder;
   private final URI predictForLocationUri;
   private final URI predictForLocationSolutionAndChannelUri;
@@ -78,6 +79,7 @@ class WebRequests {
             s -> exchangeFilterResponseProcessor(s, partialResult));
     var locationSolutionJson =
         this.webClientBuilder
+            .clone()
             .filter(partialResultsResponseFilter)
             .build()
             .post()
@@ -140,6 +142,7 @@ class WebRequests {
             s -> exchangeFilterResponseProcessor(s, partialResult));
     var locationJson =
         this.webClientBuilder
+            .clone()
             .filter(partialResultsResponseFilter)
             .build()
             .post()
@@ -28,6 +28,7 @@ import gms.shared.event.coi.featureprediction.FeaturePredictionContainer;
 import gms.shared.event.coi.featureprediction.type.FeaturePredictionType;
 import gms.shared.event.coi.featureprediction.value.ArrivalTimeFeaturePredictionValue;
 import gms.shared.event.manager.config.EventConfigurationResolver;
+import gms.shared.event.manager.config.FeaturePredictionsDefinitions;
 import gms.shared.featureprediction.request.PredictForLocationRequest;
 import gms.shared.featureprediction.request.PredictForLocationSolutionAndChannelRequest;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementTypes;
@@ -48,12 +49,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
@@ -146,6 +150,112 @@ class EventManagerTest {
                 List.of()));
   }
 
+  @Test
+  void testPredictFeaturesForLocationSolutionMergesConcurrentPredictions()
+      throws FeaturePredictionException {
+    var eventLocation = EventLocation.from(0.0, 0.0, 0.0, Instant.EPOCH);
+    var locationSolution = createTestLocationSolution(eventLocation);
+
+    var channel = createTestChannel("stationOne.channelOne", Location.from(0.0, 0.0, 0.0, 0.0));
+    var phaseTypes = List.of(PhaseType.P, PhaseType.S, PhaseType.PKP);
+
+    var slownessPrediction = EventTestFixtures.FEATURE_PREDICTION;
+    var otherPrediction = slownessPrediction.toBuilder().setPhase(PhaseType.S).build();
+
+    // The slowness and arrival time definitions share no prediction type/channel pairs, so each
+    // is predicted from the source LocationSolution and the results are merged
+    when(webRequests.fpsWebRequestPredictForLocationSolutionAndChannel(any()))
+        .thenAnswer(
+            invocation -> {
+              PredictForLocationSolutionAndChannelRequest request = invocation.getArgument(0);
+              assertEquals(locationSolution, request.getSourceLocationSolution());
+              var slowness =
+                  request
+                      .getPredictionTypes()
+                      .contains(FeaturePredictionType.SLOWNESS_PREDICTION_TYPE);
+              var prediction = slowness ? slownessPrediction : otherPrediction;
+              return Pair.of(
+                  Optional.of(withFeaturePredictions(locationSolution, prediction)), !slowness);
+            });
+
+    var responseEntity =
+        eventManager.predictFeaturesForLocationSolution(
+            PredictFeaturesForLocationSolutionRequest.from(
+                locationSolution, List.of(channel), phaseTypes));
+
+    assertEquals(209, responseEntity.getStatusCode().value());
+    var predictedLocationSolution = (LocationSolution) responseEntity.getBody();
+    assertEquals(locationSolution.getId(), predictedLocationSolution.getId());
+    assertEquals(
+        Set.of(slownessPrediction, otherPrediction),
+        predictedLocationSolution
+            .getData()
+            .orElseThrow()
+            .getFeaturePredictions()
+            .map(Function.identity())
+            .collect(Collectors.toSet()));
+    verify(webRequests, times(2)).fpsWebRequestPredictForLocationSolutionAndChannel(any());
+  }
+
+  @Test
+  void testGroupDefinitionsSharingPredictions() {
+    var slowness =
+        FeaturePredictionsDefinitions.create(
+            "Iaspei", List.of(), List.of(FeaturePredictionType.SLOWNESS_PREDICTION_TYPE));
+    var arrivalTime =
+        FeaturePredictionsDefinitions.create(
+            "Iaspei", List.of(), List.of(FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE));
+    var otherSlowness =
+        FeaturePredictionsDefinitions.create(
+            "ak135", List.of(), List.of(FeaturePredictionType.SLOWNESS_PREDICTION_TYPE));
+    var bothTypes =
+        FeaturePredictionsDefinitions.create(
+            "ak135",
+            List.of(),
+            List.of(
+                FeaturePredictionType.SLOWNESS_PREDICTION_TYPE,
+                FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE));
+
+    var channelOne = UtilsTestFixtures.CHANNEL;
+    var channelTwo = UtilsTestFixtures.CHANNEL_TWO;
+    List<PhaseType> phaseTypes = List.of(PhaseType.P);
+
+    Map<FeaturePredictionsDefinitions, Pair<List<Channel>, List<PhaseType>>> definitions =
+        new LinkedHashMap<>();
+    definitions.put(slowness, Pair.of(List.of(channelOne), phaseTypes));
+    definitions.put(arrivalTime, Pair.of(List.of(channelOne), phaseTypes));
+    definitions.put(otherSlowness, Pair.of(List.of(channelTwo), phaseTypes));
+
+    // no definitions share a prediction type and channel, so all are independent
+    assertEquals(
+        List.of(List.of(slowness), List.of(arrivalTime), List.of(otherSlowness)),
+        chainDefinitions(definitions));
+
+    // shares a pair with the first and third definitions, joining them in their original order
+    definitions.put(bothTypes, Pair.of(List.of(channelTwo), phaseTypes));
+    definitions.put(slowness, Pair.of(List.of(channelOne, channelTwo), phaseTypes));
+    assertEquals(
+        List.of(List.of(slowness, otherSlowness, bothTypes), List.of(arrivalTime)),
+        chainDefinitions(definitions));
+  }
+
+  private static List<List<FeaturePredictionsDefinitions>> chainDefinitions(
+      Map<FeaturePredictionsDefinitions, Pair<List<Channel>, List<PhaseType>>> definitions) {
+    return EventManager.groupDefinitionsSharingPredictions(definitions).stream()
+        .map(chain -> chain.stream().map(Map.Entry::getKey).toList())
+        .toList();
+  }
+
+  private static LocationSolution withFeaturePredictions(
+      LocationSolution locationSolution, FeaturePrediction<?>... featurePredictions) {
+    return locationSolution.toBuilder()
+        .setData(
+            locationSolution.getData().orElseThrow().toBuilder()
+                .setFeaturePredictions(FeaturePredictionContainer.of(featurePredictions))
+                .build())
+        .build();
+  }
+
   @Test
   void testPredictFeaturesForEventLocationIncorrectInput() throws FeaturePredictionException {
     var eventLocation = EventLocation.from(0.0, 0.0, 0.0, Instant.EPOCH);
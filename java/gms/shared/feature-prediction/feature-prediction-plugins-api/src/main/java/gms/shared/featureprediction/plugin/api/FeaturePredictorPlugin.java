@@ -9,6 +9,7 @@ import gms.shared.event.coi.featureprediction.value.FeaturePredictionValue;
 import gms.shared.stationdefinition.coi.channel.Location;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /** Specifies the interface for creating generic feature predictions. */
 public interface FeaturePredictorPlugin extends InitializablePlugin {
@@ -33,4 +34,42 @@ public interface FeaturePredictorPlugin extends InitializablePlugin {
       PhaseType phase,
       String earthModel,
       List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions);
+
+  /**
+   * Get the Optional values of the FeaturePredictions for a single source location, phase, and
+   * earth model, across many receiver locations. Plugins may override this to share work, such as
+   * earth model table lookups, across all of the receiver locations.
+   *
+   * @param featurePredictionType Type of the FeaturePredictions to retrieve
+   * @param <T> Class that extend FeaturePredictionValue, which is tightly matched to
+   *     FeaturePredictionType
+   * @param sourceLocation location of source
+   * @param receiverLocations locations of receivers
+   * @param phase phase to calculate for
+   * @param earthModel earth model to use
+   * @param featurePredictionCorrectionDefinitions
+   * @return The FeaturePrediction Optionals with the given type, one per receiver location, in the
+   *     same order as the receiver locations.
+   */
+  default <T extends FeaturePredictionValue<?, ?, ?>>
+      List<Optional<FeaturePrediction<T>>> predictForReceivers(
+          FeaturePredictionType<T> featurePredictionType,
+          EventLocation sourceLocation,
+          List<Location> receiverLocations,
+          PhaseType phase,
+          String earthModel,
+          List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions) {
+
+    return receiverLocations.stream()
+        .map(
+            receiverLocation ->
+                predict(
+                    featurePredictionType,
+                    sourceLocation,
+                    receiverLocation,
+                    phase,
+                    earthModel,
+                    featurePredictionCorrectionDefinitions))
+        .collect(Collectors.toList());
+  }
 }
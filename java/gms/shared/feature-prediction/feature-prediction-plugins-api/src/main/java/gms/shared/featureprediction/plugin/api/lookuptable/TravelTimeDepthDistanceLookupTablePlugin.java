@@ -1,5 +1,6 @@
 package gms.shared.featureprediction.plugin.api.lookuptable;
 
+import gms.shared.common.coi.types.PhaseType;
 import gms.shared.featureprediction.utilities.view.Immutable2dArray;
 import gms.shared.stationdefinition.coi.utils.Units;
 import java.time.Duration;
@@ -9,4 +10,16 @@ import java.time.Duration;
  * distance, and PhaseType dependent travel time, and travel time standard deviation.
  */
 public interface TravelTimeDepthDistanceLookupTablePlugin
-    extends EarthModelDepthDistanceLookupTablePlugin<Immutable2dArray<Duration>, Units> {}
+    extends EarthModelDepthDistanceLookupTablePlugin<Immutable2dArray<Duration>, Units> {
+
+  /**
+   * Returns the travel times this plugin defines for the provided PhaseType, in seconds. The grid
+   * is ordered identically to the values returned by getValues, i.e.
+   * travelTimes[depthIndex][distanceIndex], with undefined travel times set to NaN. Implementations
+   * may share the returned grid between callers, so callers must not modify it.
+   *
+   * @param phaseType the PhaseType for the requested travel times
+   * @return a 2D ordered grid of travel times in seconds for the provided PhaseType
+   */
+  double[][] getValuesInSeconds(PhaseType phaseType);
+}
@@ -16,10 +16,12 @@ import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.Location;
 import jakarta.annotation.PostConstruct;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -93,27 +95,34 @@ public class FeaturePredictor {
     // FeturePedictorContainer.create
     List<FeaturePrediction<?>> featurePredictionList = new ArrayList<>();
 
-    // Collect list of Feature Predictor Plugins
-    var optionalFeaturePredictionList =
-        receiverLocations.stream()
-            .map(
-                receiverLocation ->
-                    predictionTypes.stream()
-                        .map(
-                            predictionType ->
-                                phaseTypes.stream()
-                                    .map(
-                                        phaseType ->
-                                            getFeaturePredictionOptional(
-                                                predictionType,
-                                                sourceLocation,
-                                                receiverLocation,
-                                                phaseType,
-                                                earthModel,
-                                                featurePredictionCorrectionDefinitions))))
-            .flatMap(Functions.identity())
-            .flatMap(Functions.identity())
-            .collect(Collectors.toList());
+    Map<FeaturePredictionType<?>, List<Location>> receiverLocationsByType =
+        predictionTypes.stream()
+            .distinct()
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    predictionType -> receiverLocations,
+                    (first, second) -> first,
+                    LinkedHashMap::new));
+
+    var predictionsByTypeAndPhase =
+        predictForReceivers(
+            receiverLocationsByType,
+            sourceLocation,
+            phaseTypes,
+            earthModel,
+            featurePredictionCorrectionDefinitions);
+
+    // Collect the batched predictions in receiver, prediction type, phase order
+    List<Optional<FeaturePrediction<?>>> optionalFeaturePredictionList = new ArrayList<>();
+    for (var i = 0; i < receiverLocations.size(); i++) {
+      for (var predictionType : predictionTypes) {
+        for (var phaseType : phaseTypes) {
+          optionalFeaturePredictionList.add(
+              predictionsByTypeAndPhase.get(Pair.of(predictionType, phaseType)).get(i));
+        }
+      }
+    }
 
     // Determine if it is a partial response
     var isPartialResponse = optionalFeaturePredictionList.stream().anyMatch(Optional::isEmpty);
@@ -202,47 +211,60 @@ public class FeaturePredictor {
     if (mapTypeEntryList.isEmpty()) {
       featurePredictionList = List.of();
     } else {
-      featurePredictionList =
+      Map<FeaturePredictionType<?>, List<Channel>> channelsByType =
           mapTypeEntryList.stream()
-              .map(
-                  entry ->
-                      phaseTypes.stream()
-                          .map(
-                              phaseType -> {
-                                //
-                                // For each phasetype, perform the actual feature prediction
-                                // calculation.
-                                //
-                                var predictionType = entry.getKey();
-                                var receiverLocation = entry.getValue().getLocation();
-                                var temp =
-                                    getFeaturePredictionOptional(
-                                            predictionType,
-                                            sourceLocationSolution.getData().get().getLocation(),
-                                            receiverLocation,
-                                            phaseType,
-                                            earthModel,
-                                            featurePredictionCorrectionDefinitions)
-                                        .map(
-                                            featurePrediction ->
-                                                featurePrediction.toBuilder()
-                                                    .setChannel(Optional.of(entry.getValue()))
-                                                    .build());
-                                if (temp.isEmpty()) {
-                                  LOGGER.info(
-                                      "No travel time files found for phase {} and earthmodel {} -"
-                                          + " cannot predict arrival time",
-                                      phaseType,
-                                      earthModel);
-                                  partialResults.set(true);
-                                }
-                                return temp;
-                              }))
-              // Flatmap one more time, because by now we have combined three
-              // seperate streams: predictionTypes, channels, phasetypes.
-              .flatMap(Functions.identity())
-              .flatMap(Optional::stream)
-              .collect(Collectors.toList());
+              .collect(
+                  Collectors.groupingBy(
+                      Map.Entry::getKey,
+                      LinkedHashMap::new,
+                      Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+
+      Map<FeaturePredictionType<?>, List<Location>> receiverLocationsByType =
+          channelsByType.entrySet().stream()
+              .collect(
+                  Collectors.toMap(
+                      Map.Entry::getKey,
+                      entry ->
+                          entry.getValue().stream()
+                              .map(Channel::getLocation)
+                              .collect(Collectors.toList()),
+                      (first, second) -> first,
+                      LinkedHashMap::new));
+
+      var predictionsByTypeAndPhase =
+          predictForReceivers(
+              receiverLocationsByType,
+              data.getLocation(),
+              phaseTypes,
+              earthModel,
+              featurePredictionCorrectionDefinitions);
+
+      featurePredictionList = new ArrayList<>();
+      for (var entry : channelsByType.entrySet()) {
+        var predictionType = entry.getKey();
+        var channels = entry.getValue();
+        for (var i = 0; i < channels.size(); i++) {
+          var channel = channels.get(i);
+          for (var phaseType : phaseTypes) {
+            var temp =
+                predictionsByTypeAndPhase
+                    .get(Pair.of(predictionType, phaseType))
+                    .get(i)
+                    .map(
+                        featurePrediction ->
+                            featurePrediction.toBuilder().setChannel(Optional.of(channel)).build());
+            if (temp.isEmpty()) {
+              LOGGER.info(
+                  "No travel time files found for phase {} and earthmodel {} -"
+                      + " cannot predict arrival time",
+                  phaseType,
+                  earthModel);
+              partialResults.set(true);
+            }
+            temp.ifPresent(featurePredictionList::add);
+          }
+        }
+      }
     }
 
     var newFeaturePredictionContainer = FeaturePredictionContainer.create(featurePredictionList);
@@ -268,11 +290,58 @@ public class FeaturePredictor {
     return Pair.of(newLocationSolution, partialResults.get());
   }
 
+  /**
+   * Calculates feature predictions for every prediction type, phase and receiver location
+   * combination. Each prediction type and phase pair is sent to its plugin as a single batch of
+   * receiver locations, so the plugin can share earth model data across receivers, and the batches
+   * are calculated in parallel.
+   *
+   * @param receiverLocationsByType The receiver locations to predict for, by prediction type
+   * @param sourceLocation The source location, or location of the event
+   * @param phaseTypes Which phases to predict for
+   * @param earthModel Which model to use
+   * @param featurePredictionCorrectionDefinitions List of correction definitions specifying which
+   *     corrections to perform and how to perform them.
+   * @return The feature prediction Optionals, in the order of the receiver locations for their
+   *     prediction type, keyed by prediction type and phase
+   */
+  private Map<Pair<FeaturePredictionType<?>, PhaseType>, List<Optional<FeaturePrediction<?>>>>
+      predictForReceivers(
+          Map<FeaturePredictionType<?>, List<Location>> receiverLocationsByType,
+          EventLocation sourceLocation,
+          List<PhaseType> phaseTypes,
+          String earthModel,
+          List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions) {
+
+    return receiverLocationsByType.keySet().stream()
+        .flatMap(
+            predictionType ->
+                phaseTypes.stream()
+                    .distinct()
+                    .map(
+                        phaseType ->
+                            Pair.<FeaturePredictionType<?>, PhaseType>of(
+                                predictionType, phaseType)))
+        .collect(Collectors.toList())
+        .parallelStream()
+        .collect(
+            Collectors.toConcurrentMap(
+                Function.identity(),
+                typeAndPhase ->
+                    getFeaturePredictionOptionals(
+                        typeAndPhase.getLeft(),
+                        sourceLocation,
+                        receiverLocationsByType.get(typeAndPhase.getLeft()),
+                        typeAndPhase.getRight(),
+                        earthModel,
+                        featurePredictionCorrectionDefinitions)));
+  }
+
   private <T extends FeaturePredictionValue<?, ?, ?>>
-      Optional<FeaturePrediction<T>> getFeaturePredictionOptional(
+      List<Optional<FeaturePrediction<?>>> getFeaturePredictionOptionals(
           FeaturePredictionType<T> predictionType,
           EventLocation sourceLocation,
-          Location receiverLocation,
+          List<Location> receiverLocations,
           PhaseType phaseType,
           String earthModel,
           List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions) {
@@ -281,12 +350,17 @@ public class FeaturePredictor {
             featurePredictorMap.get(definition.getPluginNameByType(predictionType)))
         .orElseThrow(
             () -> new IllegalArgumentException("No plugin configured for " + predictionType))
-        .predict(
+        .predictForReceivers(
             predictionType,
             sourceLocation,
-            receiverLocation,
+            receiverLocations,
             phaseType,
             earthModel,
-            featurePredictionCorrectionDefinitions);
+            featurePredictionCorrectionDefinitions)
+        .stream()
+        .map(
+            featurePredictionOptional ->
+                featurePredictionOptional.<FeaturePrediction<?>>map(Function.identity()))
+        .collect(Collectors.toList());
   }
 }
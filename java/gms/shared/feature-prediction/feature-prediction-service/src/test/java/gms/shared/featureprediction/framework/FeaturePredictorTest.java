@@ -117,6 +117,11 @@ class FeaturePredictorTest {
                       .build());
             });
 
+    Mockito.when(
+            mockFeaturePredictorPlugin.predictForReceivers(
+                any(), any(), anyList(), any(), any(), anyList()))
+        .thenCallRealMethod();
+
     Mockito.when(
             mockFeaturePredictorDefinition.getPluginNameByType(
                 FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE))
@@ -143,6 +148,89 @@ class FeaturePredictorTest {
     Assertions.assertEquals(value, newFeaturePrediction.getPredictionValue());
   }
 
+  @Test
+  void testEventAndReceiverLocationsBatchedByPhase() {
+
+    var sourceLocation = EventLocation.from(0.0, 0.0, 0.0, Instant.EPOCH);
+    var receiverLocations =
+        List.of(Location.from(1.0, 1.0, 1.0, 1.0), Location.from(2.0, 2.0, 2.0, 2.0));
+    var phases = List.of(PhaseType.P, PhaseType.S);
+
+    var value =
+        ArrivalTimeFeaturePredictionValue.create(
+            ArrivalTimeMeasurementValue.from(
+                InstantValue.from(Instant.EPOCH.plusSeconds(1), Duration.ZERO), Optional.empty()),
+            Map.of(),
+            Set.of());
+
+    Mockito.when(
+            mockFeaturePredictorPlugin.predictForReceivers(
+                eq(FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE),
+                eq(sourceLocation),
+                eq(receiverLocations),
+                any(PhaseType.class),
+                eq("Ak135"),
+                anyList()))
+        .thenAnswer(
+            answer -> {
+              List<Location> receiverLocationsArgument = answer.getArgument(2);
+              PhaseType phaseArgument = answer.getArgument(3);
+
+              return receiverLocationsArgument.stream()
+                  .map(
+                      receiverLocation ->
+                          Optional.of(
+                              FeaturePrediction.<ArrivalTimeFeaturePredictionValue>builder()
+                                  .setPredictionType(
+                                      FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE)
+                                  .setPredictionChannelSegment(Optional.empty())
+                                  .setChannel(Optional.empty())
+                                  .setReceiverLocation(receiverLocation)
+                                  .setSourceLocation(sourceLocation)
+                                  .setExtrapolated(false)
+                                  .setPhase(phaseArgument)
+                                  .setPredictionValue(value)
+                                  .build()))
+                  .toList();
+            });
+
+    Mockito.when(
+            mockFeaturePredictorDefinition.getPluginNameByType(
+                FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE))
+        .thenReturn(PLUGIN_NAME);
+
+    var newFeaturePredictionContainer =
+        featurePredictor.predict(
+            List.of(FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE),
+            sourceLocation,
+            receiverLocations,
+            phases,
+            "Ak135",
+            List.of());
+
+    // One batch per phase, each covering every receiver
+    phases.forEach(
+        phase ->
+            Mockito.verify(mockFeaturePredictorPlugin)
+                .predictForReceivers(
+                    eq(FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE),
+                    eq(sourceLocation),
+                    eq(receiverLocations),
+                    eq(phase),
+                    eq("Ak135"),
+                    anyList()));
+    Mockito.verify(mockFeaturePredictorPlugin, Mockito.never())
+        .predict(any(), any(), any(), any(), any(), any());
+
+    var newFeaturePredictions =
+        newFeaturePredictionContainer
+            .getLeft()
+            .getFeaturePredictionsForType(FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE);
+
+    Assertions.assertEquals(4, newFeaturePredictions.size());
+    Assertions.assertFalse(newFeaturePredictionContainer.getRight());
+  }
+
   @Test
   void testEarthModelMissingPhase() {
     var sourceLocation = EventLocation.from(0.0, 0.0, 0.0, Instant.EPOCH);
@@ -158,6 +246,11 @@ class FeaturePredictorTest {
                 anyList()))
         .thenReturn(Optional.empty());
 
+    Mockito.when(
+            mockFeaturePredictorPlugin.predictForReceivers(
+                any(), any(), anyList(), any(), any(), anyList()))
+        .thenCallRealMethod();
+
     Mockito.when(
             mockFeaturePredictorDefinition.getPluginNameByType(
                 FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE))
@@ -287,6 +380,11 @@ class FeaturePredictorTest {
                 return Optional.of(intermediateOutputFeaturePrediction);
               });
 
+      Mockito.when(
+              mockFeaturePredictorPlugin.predictForReceivers(
+                  any(), any(), anyList(), any(), any(), anyList()))
+          .thenCallRealMethod();
+
       Mockito.when(
               mockFeaturePredictorDefinition.getPluginNameByType(
                   FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE))
@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.ToDoubleFunction;
 
 /**
  * A generic immutable 2D array class. All rows in the array must be the same length.
@@ -56,6 +57,26 @@ public class Immutable2dArray<T> {
     return copyOf(type, values);
   }
 
+  /**
+   * Converts each element of this array to a primitive double, without copying the boxed values
+   *
+   * @param converter function converting an element, which may be null, to a double
+   * @return a new primitive array, indexed identically to this array
+   */
+  public double[][] toDoubleArray(ToDoubleFunction<T> converter) {
+    var doubleValues = new double[values.length][];
+    for (var i = 0; i < values.length; i++) {
+      T[] valuesRow = values[i];
+      var doubleValuesRow = new double[valuesRow.length];
+      for (var j = 0; j < valuesRow.length; j++) {
+        doubleValuesRow[j] = converter.applyAsDouble(valuesRow[j]);
+      }
+      doubleValues[i] = doubleValuesRow;
+    }
+
+    return doubleValues;
+  }
+
   // Array.newInstance() is returning the correct type here.  No need to warn.
   @SuppressWarnings("unchecked")
   private static <T> T[][] copyOf(Class<T> type, T[][] values) {
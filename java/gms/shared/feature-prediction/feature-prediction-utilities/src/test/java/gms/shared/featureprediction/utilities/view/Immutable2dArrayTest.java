@@ -74,6 +74,17 @@ class Immutable2dArrayTest {
     assertTrue(Arrays.deepEquals(values, immutableDoubleArray.copyOf()));
   }
 
+  @Test
+  void testToDoubleArray() {
+    Double[][] values2 = new Double[][] {{1.0, null}, {3.0, 4.0}};
+    Immutable2dArray<Double> immutableDoubleArray2 = Immutable2dArray.from(Double.class, values2);
+
+    assertTrue(
+        Arrays.deepEquals(
+            new double[][] {{2.0, Double.NaN}, {6.0, 8.0}},
+            immutableDoubleArray2.toDoubleArray(v -> v == null ? Double.NaN : v * 2)));
+  }
+
   @Test
   void testNotEquals() {
     // Test class path
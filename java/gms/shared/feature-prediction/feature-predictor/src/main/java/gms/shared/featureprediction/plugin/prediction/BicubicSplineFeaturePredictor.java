@@ -28,7 +28,7 @@ import gms.shared.stationdefinition.coi.channel.Location;
 import gms.shared.stationdefinition.coi.utils.DoubleValue;
 import gms.shared.stationdefinition.coi.utils.Units;
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -128,6 +128,42 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
       String earthModel,
       List<FeaturePredictionCorrectionDefinition> correctionDefinitions) {
 
+    return predictForReceivers(
+            predictionType,
+            sourceLocation,
+            List.of(receiverLocation),
+            phaseType,
+            earthModel,
+            correctionDefinitions)
+        .get(0);
+  }
+
+  /**
+   * Calculate feature predictions for many receivers. Uses bicubic spline interpolation on the data
+   * tables. The travel time table and its axes are looked up once for all receivers, and the
+   * receivers are interpolated in parallel.
+   *
+   * @param predictionType Which type of prediction to calculate.
+   * @param sourceLocation The event location
+   * @param receiverLocations The receiver locations.
+   * @param phaseType The phase to predict for.
+   * @param earthModel The earth model to use.
+   * @param correctionDefinitions List of corrections to use; each
+   *     bicubicSplineFeaturePredictorDefinition contains correction-specific parameters.
+   * @param <T> Class that will hold the feature prediction information. Must extend
+   *     FeaturePredictionValue
+   * @return New feature predictions, one per receiver location, in receiver location order.
+   */
+  @Override
+  public <T extends FeaturePredictionValue<?, ?, ?>>
+      List<Optional<FeaturePrediction<T>>> predictForReceivers(
+          FeaturePredictionType<T> predictionType,
+          EventLocation sourceLocation,
+          List<Location> receiverLocations,
+          PhaseType phaseType,
+          String earthModel,
+          List<FeaturePredictionCorrectionDefinition> correctionDefinitions) {
+
     LOGGER.info("BicubicSplineFeaturePredictor predict starting");
 
     var pluginName = getPluginName(earthModel);
@@ -156,10 +192,41 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
               + "cannot predict arrival time",
           phaseType,
           earthModel);
-      return Optional.empty();
+      return Collections.nCopies(receiverLocations.size(), Optional.empty());
     }
 
-    var utility = getEarthModelUtility(travelTimePlugin, phaseType, travelTimesAsDoubles);
+    var depths = travelTimePlugin.getDepthsKmForData(phaseType).toArray();
+    var distances = travelTimePlugin.getDistancesDegForData(phaseType).toArray();
+
+    // EarthModelUtility is stateful, so each receiver gets its own utility over the shared table
+    return receiverLocations.stream()
+        .parallel()
+        .map(
+            receiverLocation ->
+                predict(
+                    predictionType,
+                    Pair.of(sourceLocation, receiverLocation),
+                    phaseType,
+                    earthModel,
+                    correctionDefinitions,
+                    new EarthModelUtility(
+                        depths,
+                        distances,
+                        travelTimesAsDoubles,
+                        bicubicSplineFeaturePredictorDefinition.getExtrapolate())))
+        .collect(Collectors.toList());
+  }
+
+  private <T extends FeaturePredictionValue<?, ?, ?>> Optional<FeaturePrediction<T>> predict(
+      FeaturePredictionType<T> predictionType,
+      Pair<EventLocation, Location> location,
+      PhaseType phaseType,
+      String earthModel,
+      List<FeaturePredictionCorrectionDefinition> correctionDefinitions,
+      EarthModelUtility utility) {
+
+    var sourceLocation = location.getLeft();
+    var receiverLocation = location.getRight();
 
     double[] travelTimeAndDerivatives;
 
@@ -192,7 +259,7 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
 
     return getOptionalPredictionByType(
         predictionType,
-        Pair.of(sourceLocation, receiverLocation),
+        location,
         phaseType,
         earthModel,
         correctionDefinitions,
@@ -366,26 +433,15 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
     return predictionComponents;
   }
 
-  private double[][] getTravelTimesAsDoubles(
+  /**
+   * Get the travel times for the given phase in seconds. The returned grid is shared by the plugin,
+   * and is only read by {@link EarthModelUtility}, so it is not copied.
+   */
+  private static double[][] getTravelTimesAsDoubles(
       TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin, PhaseType phaseType) {
-    double[][] travelTimesAsDoubles;
-
-    var values = travelTimePlugin.getValues(phaseType);
-    if (values != null) {
-      travelTimesAsDoubles =
-          Arrays.stream(travelTimePlugin.getValues(phaseType).copyOf())
-              .map(
-                  durationArray ->
-                      Arrays.stream(durationArray)
-                          .mapToDouble(
-                              duration ->
-                                  Optional.ofNullable(duration)
-                                      .map(d -> d.toNanos() / 1_000_000_000.0)
-                                      .orElse(Double.NaN))
-                          .toArray())
-              .toArray(double[][]::new);
 
-    } else {
+    var travelTimesAsDoubles = travelTimePlugin.getValuesInSeconds(phaseType);
+    if (travelTimesAsDoubles == null) {
       throw new EarthModelMissingPhaseTypeException();
     }
 
@@ -435,18 +491,6 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
                 ((basePredictedTravelTime - Math.floor(basePredictedTravelTime)) * 1_000_000_000L));
   }
 
-  private EarthModelUtility getEarthModelUtility(
-      TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin,
-      PhaseType phaseType,
-      double[][] travelTimesAsDoubles) {
-
-    return new EarthModelUtility(
-        travelTimePlugin.getDepthsKmForData(phaseType).toArray(),
-        travelTimePlugin.getDistancesDegForData(phaseType).toArray(),
-        travelTimesAsDoubles,
-        bicubicSplineFeaturePredictorDefinition.getExtrapolate());
-  }
-
   private String getPluginName(String earthModel) {
     return bicubicSplineFeaturePredictorDefinition
         .getTravelTimeDepthDistanceLookupTablePluginNameByEarthModel()
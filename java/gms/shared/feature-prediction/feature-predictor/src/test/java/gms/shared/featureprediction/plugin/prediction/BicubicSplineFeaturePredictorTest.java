@@ -21,7 +21,6 @@ import gms.shared.event.coi.featureprediction.value.NumericFeaturePredictionValu
 import gms.shared.featureprediction.plugin.api.correction.ellipticity.EllipticityCorrectorPlugin;
 import gms.shared.featureprediction.plugin.api.lookuptable.TravelTimeDepthDistanceLookupTablePlugin;
 import gms.shared.featureprediction.plugin.correction.elevation.ElevationCorrector;
-import gms.shared.featureprediction.utilities.view.Immutable2dArray;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementType;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementTypes;
 import gms.shared.signaldetection.coi.values.ArrivalTimeMeasurementValue;
@@ -254,6 +253,58 @@ class BicubicSplineFeaturePredictorTest {
     Assertions.assertTrue(actual.isEmpty());
   }
 
+  @Test
+  void testPredictForReceivers() {
+    setupTravelTimeMockPluginConfiguration();
+    setupMockTravelTimePlugin();
+
+    var sourceLocation = EventLocation.from(3, 0, 3, Instant.EPOCH);
+    var receiverLocations = List.of(Location.from(0, 0, 0, 0), Location.from(0, 1, 0, 0));
+
+    var actual =
+        bicubicSplineFeaturePredictor.predictForReceivers(
+            FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE,
+            sourceLocation,
+            receiverLocations,
+            PhaseType.P,
+            AK135,
+            List.of());
+
+    // The travel time table is only looked up once for the whole batch
+    Mockito.verify(mockTravelTimePlugin).getValuesInSeconds(PhaseType.P);
+
+    Assertions.assertEquals(receiverLocations.size(), actual.size());
+    for (var i = 0; i < receiverLocations.size(); i++) {
+      var expected =
+          bicubicSplineFeaturePredictor.predict(
+              FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE,
+              sourceLocation,
+              receiverLocations.get(i),
+              PhaseType.P,
+              AK135,
+              List.of());
+
+      Assertions.assertTrue(expected.isPresent());
+      Assertions.assertEquals(expected, actual.get(i));
+    }
+  }
+
+  @Test
+  void testPredictForReceiversNonExistingPhases() {
+    setupTravelTimeMockPluginConfiguration();
+
+    var actual =
+        bicubicSplineFeaturePredictor.predictForReceivers(
+            FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE,
+            EventLocation.from(3, 0, 3, Instant.EPOCH),
+            List.of(Location.from(0, 0, 0, 0), Location.from(0, 1, 0, 0)),
+            PhaseType.IPx,
+            AK135,
+            List.of());
+
+    Assertions.assertEquals(List.of(Optional.empty(), Optional.empty()), actual);
+  }
+
   @Test
   void testNanPrediction() {
     setupTravelTimeMockPluginConfiguration();
@@ -265,23 +316,15 @@ class BicubicSplineFeaturePredictorTest {
 
     // Table with NaNs at an edge. Should return an Optional.empty
     // if near or beyond those NaNs.
-    Mockito.when(mockTravelTimePlugin.getValues(PhaseType.P))
+    Mockito.when(mockTravelTimePlugin.getValuesInSeconds(PhaseType.P))
         .thenReturn(
-            Immutable2dArray.from(
-                Duration.class,
-                new Duration[][] {
-                  {
-                    Duration.ofSeconds(1),
-                    Duration.ofSeconds(2),
-                    Duration.ofSeconds(3),
-                    Duration.ofSeconds(4),
-                    Duration.ofSeconds(5)
-                  },
-                  {Duration.ofSeconds(1), null, null, null, null},
-                  {Duration.ofSeconds(1), null, null, null, null},
-                  {Duration.ofSeconds(1), null, null, null, null},
-                  {Duration.ofSeconds(1), null, null, null, null}
-                }));
+            new double[][] {
+              {1, 2, 3, 4, 5},
+              {1, Double.NaN, Double.NaN, Double.NaN, Double.NaN},
+              {1, Double.NaN, Double.NaN, Double.NaN, Double.NaN},
+              {1, Double.NaN, Double.NaN, Double.NaN, Double.NaN},
+              {1, Double.NaN, Double.NaN, Double.NaN, Double.NaN}
+            });
 
     var sourceLocation = EventLocation.from(6, 0, 6, Instant.EPOCH);
     var receiverLocation = Location.from(0, 0, 0, 0);
@@ -401,46 +444,14 @@ class BicubicSplineFeaturePredictorTest {
         .thenReturn(ImmutableDoubleArray.copyOf(new double[] {1, 2, 3, 4, 5}));
     Mockito.when(mockTravelTimePlugin.getDistancesDegForData(PhaseType.P))
         .thenReturn(ImmutableDoubleArray.copyOf(new double[] {1, 2, 3, 4, 5}));
-    Mockito.when(mockTravelTimePlugin.getValues(PhaseType.P))
+    Mockito.when(mockTravelTimePlugin.getValuesInSeconds(PhaseType.P))
         .thenReturn(
-            Immutable2dArray.from(
-                Duration.class,
-                new Duration[][] {
-                  {
-                    Duration.ofSeconds(1),
-                    Duration.ofSeconds(2),
-                    Duration.ofSeconds(3),
-                    Duration.ofSeconds(4),
-                    Duration.ofSeconds(5)
-                  },
-                  {
-                    Duration.ofSeconds(1),
-                    Duration.ofSeconds(2),
-                    Duration.ofSeconds(3),
-                    Duration.ofSeconds(4),
-                    Duration.ofSeconds(5)
-                  },
-                  {
-                    Duration.ofSeconds(1),
-                    Duration.ofSeconds(2),
-                    Duration.ofSeconds(3),
-                    Duration.ofSeconds(4),
-                    Duration.ofSeconds(5)
-                  },
-                  {
-                    Duration.ofSeconds(1),
-                    Duration.ofSeconds(2),
-                    Duration.ofSeconds(3),
-                    Duration.ofSeconds(4),
-                    Duration.ofSeconds(5)
-                  },
-                  {
-                    Duration.ofSeconds(1),
-                    Duration.ofSeconds(2),
-                    Duration.ofSeconds(3),
-                    Duration.ofSeconds(4),
-                    Duration.ofSeconds(5)
-                  }
-                }));
+            new double[][] {
+              {1, 2, 3, 4, 5},
+              {1, 2, 3, 4, 5},
+              {1, 2, 3, 4, 5},
+              {1, 2, 3, 4, 5},
+              {1, 2, 3, 4, 5}
+            });
   }
 }
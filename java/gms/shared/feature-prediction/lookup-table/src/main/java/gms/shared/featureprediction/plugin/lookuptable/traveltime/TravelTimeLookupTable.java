@@ -30,6 +30,8 @@ public abstract class TravelTimeLookupTable implements TravelTimeDepthDistanceLo
 
   // maps the PhaseType to the lookup table for that PhaseType
   private Map<PhaseType, TravelTimeLookupView> viewMap;
+  // maps the PhaseType to the travel times in seconds for that PhaseType, shared read-only
+  private Map<PhaseType, double[][]> travelTimesInSecondsMap;
   private boolean isInitialized = false;
 
   protected TravelTimeLookupTable(
@@ -68,6 +70,13 @@ public abstract class TravelTimeLookupTable implements TravelTimeDepthDistanceLo
 
     viewMap = Collections.unmodifiableMap(tmpMap);
 
+    Map<PhaseType, double[][]> tmpTravelTimesInSecondsMap = new EnumMap<>(PhaseType.class);
+    viewMap.forEach(
+        (phaseType, view) ->
+            tmpTravelTimesInSecondsMap.put(
+                phaseType, view.getTravelTimes().toDoubleArray(TravelTimeLookupTable::toSeconds)));
+    travelTimesInSecondsMap = Collections.unmodifiableMap(tmpTravelTimesInSecondsMap);
+
     isInitialized = true;
   }
 
@@ -106,6 +115,20 @@ public abstract class TravelTimeLookupTable implements TravelTimeDepthDistanceLo
     return viewMap.get(phaseType).getTravelTimes();
   }
 
+  /**
+   * Returns the travel times for the provided PhaseType in seconds. The grid is computed once at
+   * initialization and shared between all callers, so it must not be modified.
+   *
+   * @param phaseType the PhaseType for the requested travel times
+   * @return the travel times in seconds, indexed by depth and then distance
+   */
+  @Override
+  public double[][] getValuesInSeconds(PhaseType phaseType) {
+    Validate.isTrue(isInitialized, errorMessageUninitializedPlugin);
+    validatePhaseType(phaseType);
+    return travelTimesInSecondsMap.get(phaseType);
+  }
+
   public ImmutableDoubleArray getDepthsKmForStandardDeviations(PhaseType phaseType) {
     Validate.isTrue(isInitialized, errorMessageUninitializedPlugin);
     validatePhaseType(phaseType);
@@ -123,4 +146,8 @@ public abstract class TravelTimeLookupTable implements TravelTimeDepthDistanceLo
     validatePhaseType(phaseType);
     return viewMap.get(phaseType).getModelingErrors();
   }
+
+  private static double toSeconds(Duration duration) {
+    return duration == null ? Double.NaN : duration.toNanos() / 1_000_000_000.0;
+  }
 }
@@ -181,6 +181,19 @@ class Ak135TravelTimeLookupTableTest {
     Assertions.assertEquals(Duration.parse("PT1491.9803S"), durationArray.get().getValue(1, 1));
   }
 
+  @Test
+  void testGetValuesInSeconds() {
+    setup();
+    Assertions.assertDoesNotThrow(() -> lookupTable.initialize());
+
+    var travelTimes = lookupTable.getValuesInSeconds(PhaseType.P);
+    Assertions.assertArrayEquals(new double[] {0.0, 1212.5273}, travelTimes[0]);
+    Assertions.assertArrayEquals(new double[] {79.6958, 1132.8315}, travelTimes[1]);
+
+    // the grid is computed once, rather than per call
+    Assertions.assertSame(travelTimes, lookupTable.getValuesInSeconds(PhaseType.P));
+  }
+
   @Test
   void testGetDepthsKmForStandardDeviations() {
     setup();
@@ -245,6 +258,8 @@ class Ak135TravelTimeLookupTableTest {
         IllegalArgumentException.class, () -> lookupTable.getDistancesDegForData((PhaseType.P)));
     Assertions.assertThrows(
         IllegalArgumentException.class, () -> lookupTable.getValues(PhaseType.P));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> lookupTable.getValuesInSeconds(PhaseType.P));
     Assertions.assertThrows(
         IllegalArgumentException.class,
         () -> lookupTable.getDepthsKmForStandardDeviations(PhaseType.P));
@@ -7,6 +7,7 @@ import com.google.auto.value.AutoValue;
 import com.google.common.base.Preconditions;
 import gms.shared.common.coi.types.PhaseType;
 import java.time.Duration;
+import java.util.Optional;
 
 /**
  * Describes parameters used to calculate {@link FkSpectrum}, but does not include input waveform
@@ -130,6 +131,14 @@ public abstract class FkSpectraDefinition {
    */
   public abstract int getMinimumWaveformsForSpectra();
 
+  /**
+   * Obtains the maximum number of Fk Spectrum time windows to compute in parallel. Windows are
+   * computed sequentially when not provided.
+   *
+   * @return {@literal windowParallelism, > 0 }
+   */
+  public abstract Optional<Integer> getWindowParallelism();
+
   public static Builder builder() {
     return new AutoValue_FkSpectraDefinition.Builder();
   }
@@ -175,6 +184,12 @@ public abstract class FkSpectraDefinition {
 
     public abstract Builder setMinimumWaveformsForSpectra(int minimumWaveformsForSpectra);
 
+    public Builder setWindowParallelism(int windowParallelism) {
+      return setWindowParallelism(Optional.of(windowParallelism));
+    }
+
+    public abstract Builder setWindowParallelism(Optional<Integer> windowParallelism);
+
     protected abstract FkSpectraDefinition autobuild();
 
     public FkSpectraDefinition build() {
@@ -204,6 +219,9 @@ public abstract class FkSpectraDefinition {
       Preconditions.checkState(
           definition.getMinimumWaveformsForSpectra() > 1,
           "FkSpectraDefinition requires minimumWaveformsForSpectra > 1");
+      Preconditions.checkState(
+          definition.getWindowParallelism().map(parallelism -> parallelism > 0).orElse(true),
+          "FkSpectraDefinition requires windowParallelism > 0");
 
       return definition;
     }
@@ -70,11 +70,16 @@ class FkSpectraDefinitionTest {
             DEFINITION.toBuilder().setWaveformSampleRateToleranceHz(-1)),
         arguments(
             "FkSpectraDefinition requires minimumWaveformsForSpectra > 1",
-            DEFINITION.toBuilder().setMinimumWaveformsForSpectra(1)));
+            DEFINITION.toBuilder().setMinimumWaveformsForSpectra(1)),
+        arguments(
+            "FkSpectraDefinition requires windowParallelism > 0",
+            DEFINITION.toBuilder().setWindowParallelism(0)));
   }
 
   @Test
   void testSerialization() {
     TestUtilities.assertSerializes(DEFINITION, FkSpectraDefinition.class);
+    TestUtilities.assertSerializes(
+        DEFINITION.toBuilder().setWindowParallelism(4).build(), FkSpectraDefinition.class);
   }
 }
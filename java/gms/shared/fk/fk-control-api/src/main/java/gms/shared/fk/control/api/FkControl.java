@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import reactor.core.publisher.Flux;
 
 /** Interface for the FK control class, its claim check, and its streaming commands */
 @Component("fk-control")
@@ -24,4 +25,17 @@ public interface FkControl {
   @Operation(description = "Compute FK's per the given request and return them")
   ChannelSegment<FkSpectra> handleRequest(
       @RequestBody(description = "The request") FkStreamingRequest request);
+
+  /**
+   * Computes FKs per a given request, streaming them back in time ordered batches as they are
+   * computed rather than after all of them are computed
+   *
+   * @param request the {@link FkStreamingRequest}
+   * @return {@link FkSpectra} {@link ChannelSegment}s, each holding a batch of consecutive spectra
+   */
+  @POST
+  @Path("/spectra/interactive/streaming")
+  @Operation(description = "Compute FK's per the given request and stream them in batches")
+  Flux<ChannelSegment<FkSpectra>> handleStreamingRequest(
+      @RequestBody(description = "The request") FkStreamingRequest request);
 }
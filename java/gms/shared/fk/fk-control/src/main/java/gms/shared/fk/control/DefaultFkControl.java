@@ -39,16 +39,20 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 public final class DefaultFkControl implements FkControl {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFkControl.class);
   private static final double BILLION = 1E9;
   private static final int PORT_8080 = 8080;
+  private static final int STREAMING_BATCH_SIZE = 10;
   private static final FacetingDefinition CHANNEL_FACETING_DEFINITION =
       FacetingDefinition.builder()
           .setClassType(FacetingTypes.CHANNEL_TYPE.getValue())
@@ -131,6 +135,55 @@ public final class DefaultFkControl implements FkControl {
 
     LOGGER.info("FkControl executing streaming request:\n{}", request);
 
+    return createFkSpectraSegment(createFkProcessing(request));
+  }
+
+  /**
+   * Execute FK processing using the provided {@link FkStreamingRequest}, emitting the spectra in
+   * batches of consecutive time windows as each batch is computed. Waveforms and stations are
+   * retrieved, and the request validated, before the returned {@link Flux} is created; spectra are
+   * only computed as the Flux is consumed.
+   *
+   * @param request object describing the Fk Spectrum processing request, not null
+   * @return time ordered {@link ChannelSegment}s, each holding one batch of spectra, not null
+   */
+  @Override
+  public Flux<ChannelSegment<FkSpectra>> handleStreamingRequest(FkStreamingRequest request) {
+    Objects.requireNonNull(request, "Cannot execute FK calculation from null FkStreamingRequest");
+
+    LOGGER.info("FkControl executing batched streaming request:\n{}", request);
+
+    var fkProcessing = createFkProcessing(request);
+    var fkChannel = fkProcessing.createFkChannel();
+    var samplePeriod =
+        Duration.ofNanos((long) (BILLION / fkProcessing.definition.getSampleRateHz()));
+    var spectrumCount = new AtomicLong();
+
+    return Flux.fromStream(
+            () ->
+                fkProcessing.spectraPlugin.generateFkBatches(
+                    fkProcessing.station,
+                    fkProcessing.channelSegments,
+                    fkProcessing.definition,
+                    STREAMING_BATCH_SIZE))
+        .map(
+            (List<FkSpectrum> batch) -> {
+              var batchStartTime =
+                  fkProcessing.startTime.plus(
+                      samplePeriod.multipliedBy(spectrumCount.getAndAdd(batch.size())));
+              return createFkSpectraSegment(fkProcessing, fkChannel, batchStartTime, batch);
+            })
+        // bound the computed but unsent batches, computing them off of the response threads
+        .limitRate(1)
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Retrieves the waveforms and station for the provided {@link FkStreamingRequest} and resolves
+   * the plugins and definition used to compute its FK spectra
+   */
+  private FkProcessing createFkProcessing(FkStreamingRequest request) {
+
     final double samplePeriod = 1.0 / request.getSampleRate();
     long nanosToEnd = (long) (samplePeriod * BILLION * (request.getSampleCount() - 1));
 
@@ -213,7 +266,7 @@ public final class DefaultFkControl implements FkControl {
                     this.pluginRegistry.get(parameters.getPluginName(), FkAttributesPlugin.class))
             .toList();
 
-    return createFkSpectraSegment(
+    return new FkProcessing(
         fkSpectraPlugin,
         attributesPlugins,
         fkSpectraParameters.getDefinition(),
@@ -242,51 +295,58 @@ public final class DefaultFkControl implements FkControl {
    * using the a new output channel id that is not the same as the channel id referenced by the
    * input {@link ChannelSegment}.
    *
-   * @param fkSpectraPlugin The plugin Fk Spectra algorithm
-   * @param fkAttributesPlugins The plugins for Fk Attributes generation given an Fk Spectrum
-   * @param fkSpectrumDefinition The Fk Spectrum definition identifying window lead and length,
-   *     low/high frequencies, sample rate, etc. used by the Fk Spectra plugin
-   * @param channelSegments The input ChannelSegment supplying the waveforms as input to Fk Spectra
+   * @param fkProcessing The plugins, definition and input ChannelSegments supplying the waveforms
+   *     as input to Fk Spectra
    * @return The new ChannelSegment of type FkSpectra
    */
-  private static ChannelSegment<FkSpectra> createFkSpectraSegment(
-      FkSpectraPlugin fkSpectraPlugin,
-      List<FkAttributesPlugin> fkAttributesPlugins,
-      FkSpectraDefinition fkSpectrumDefinition,
-      Instant startTime,
-      Station station,
-      Collection<ChannelSegment<Waveform>> channelSegments) {
+  private static ChannelSegment<FkSpectra> createFkSpectraSegment(FkProcessing fkProcessing) {
 
     // Create a collection of FkSpectrum to be aggregated by new ChannelSegment<FkSpectra>.
     List<FkSpectra> fkSpectraList =
-        fkSpectraPlugin.generateFk(station, channelSegments, fkSpectrumDefinition);
+        fkProcessing.spectraPlugin.generateFk(
+            fkProcessing.station, fkProcessing.channelSegments, fkProcessing.definition);
 
     LOGGER.info("Fk Spectrum on ChannelSegments output {} FkSpectra", fkSpectraList.size());
 
+    return createFkSpectraSegment(
+        fkProcessing,
+        fkProcessing.createFkChannel(),
+        fkProcessing.startTime,
+        fkSpectraList.get(0).getValues());
+  }
+
+  /**
+   * Creates a new {@link ChannelSegment} on the provided FK channel from the provided {@link
+   * FkSpectrum}s, generating the attributes of each spectrum
+   *
+   * @param fkProcessing The attributes plugins and definition used to compute the spectra
+   * @param fkChannel The FK channel of the new ChannelSegment
+   * @param startTime The start time of the first spectrum
+   * @param fkSpectrums The spectra, without attributes
+   * @return The new ChannelSegment of type FkSpectra
+   */
+  private static ChannelSegment<FkSpectra> createFkSpectraSegment(
+      FkProcessing fkProcessing,
+      Channel fkChannel,
+      Instant startTime,
+      List<FkSpectrum> fkSpectrums) {
+
+    var fkSpectrumDefinition = fkProcessing.definition;
+
     // Instantiate a List of FkSpectrum objects to be aggregated by
     // ChannelSegment<FkSpectra>.
-    List<Channel> inputChannels =
-        channelSegments.stream()
-            .map(ChannelSegment::getId)
-            .map(ChannelSegmentDescriptor::getChannel)
-            .toList();
-    var fkChannel = ChannelFactory.createFkChannel(station, inputChannels, fkSpectrumDefinition);
-
     List<FkSpectrum> fkSpectrumListWithAttributes = new ArrayList<>();
 
-    fkSpectraList
-        .get(0)
-        .getValues()
-        .forEach(
-            (FkSpectrum spectrum) -> {
-              var builder = spectrum.toBuilder();
-              fkAttributesPlugins.forEach(
-                  (FkAttributesPlugin plugin) -> {
-                    FkSpectraInfo info = buildInfo(fkSpectrumDefinition);
-                    builder.setAttributes(plugin.generateFkAttributes(info, spectrum));
-                  });
-              fkSpectrumListWithAttributes.add(builder.build());
-            });
+    fkSpectrums.forEach(
+        (FkSpectrum spectrum) -> {
+          var builder = spectrum.toBuilder();
+          fkProcessing.attributesPlugins.forEach(
+              (FkAttributesPlugin plugin) -> {
+                FkSpectraInfo info = buildInfo(fkSpectrumDefinition);
+                builder.setAttributes(plugin.generateFkAttributes(info, spectrum));
+              });
+          fkSpectrumListWithAttributes.add(builder.build());
+        });
 
     var fkSpectraBuilder =
         FkSpectra.builder()
@@ -324,4 +384,39 @@ public final class DefaultFkControl implements FkControl {
         .setSlowDeltaY(definition.getSlowDeltaYSecPerKm())
         .build();
   }
+
+  /** Inputs of the FK processing of a single {@link FkStreamingRequest} */
+  private static final class FkProcessing {
+
+    private final FkSpectraPlugin spectraPlugin;
+    private final List<FkAttributesPlugin> attributesPlugins;
+    private final FkSpectraDefinition definition;
+    private final Instant startTime;
+    private final Station station;
+    private final Collection<ChannelSegment<Waveform>> channelSegments;
+
+    private FkProcessing(
+        FkSpectraPlugin spectraPlugin,
+        List<FkAttributesPlugin> attributesPlugins,
+        FkSpectraDefinition definition,
+        Instant startTime,
+        Station station,
+        Collection<ChannelSegment<Waveform>> channelSegments) {
+      this.spectraPlugin = spectraPlugin;
+      this.attributesPlugins = attributesPlugins;
+      this.definition = definition;
+      this.startTime = startTime;
+      this.station = station;
+      this.channelSegments = channelSegments;
+    }
+
+    private Channel createFkChannel() {
+      List<Channel> inputChannels =
+          channelSegments.stream()
+              .map(ChannelSegment::getId)
+              .map(ChannelSegmentDescriptor::getChannel)
+              .toList();
+      return ChannelFactory.createFkChannel(station, inputChannels, definition);
+    }
+  }
 }
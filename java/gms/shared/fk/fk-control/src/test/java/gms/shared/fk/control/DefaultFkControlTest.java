@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -41,13 +42,16 @@ import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.ChannelSegmentDescriptor;
 import gms.shared.waveform.coi.FkAttributes;
 import gms.shared.waveform.coi.FkSpectra;
+import gms.shared.waveform.coi.FkSpectrum;
 import gms.shared.waveform.coi.Waveform;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +59,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultFkControlTest {
@@ -128,6 +133,34 @@ class DefaultFkControlTest {
     verifyNoInteractions(controlContext, pluginRegistry, webRequests, configurationConsumerUtility);
   }
 
+  @Test
+  void testHandleStreamingRequestValidation() {
+    NullPointerException ex =
+        assertThrows(NullPointerException.class, () -> fkControl.handleStreamingRequest(null));
+    assertEquals("Cannot execute FK calculation from null FkStreamingRequest", ex.getMessage());
+    verifyNoInteractions(controlContext, pluginRegistry, webRequests, configurationConsumerUtility);
+  }
+
+  @Test
+  void testHandleStreamingRequestNoWaveformsReturned() throws IOException {
+    when(webRequests.waveformRequest(waveformRequest)).thenReturn(List.of());
+
+    Exception ex =
+        assertThrows(IllegalStateException.class, () -> fkControl.handleStreamingRequest(REQUEST));
+    assertEquals(
+        "Cannot calculate FK - no waveforms were found for provided channels and time range",
+        ex.getMessage());
+
+    verify(webRequests, times(1)).waveformRequest(waveformRequest);
+    verifyNoMoreInteractions(webRequests);
+    verifyNoInteractions(
+        controlContext,
+        pluginRegistry,
+        configurationConsumerUtility,
+        fkSpectraPlugin,
+        fkAttributesPlugin);
+  }
+
   @Test
   void testHandleRequestFailedWaveformRequest() throws IOException {
     when(webRequests.waveformRequest(waveformRequest)).thenThrow(HttpResponseException.class);
@@ -325,4 +358,95 @@ class DefaultFkControlTest {
       verifyNoInteractions(controlContext);
     }
   }
+
+  @Test
+  void testHandleStreamingRequest() throws IOException {
+    try (MockedStatic<ChannelFactory> channelFactory = mockStatic(ChannelFactory.class)) {
+      List<FkSpectrum> batch = BASE_FKS;
+
+      FkSpectraInfo fkSpectraInfo =
+          FkSpectraInfo.builder()
+              .setLowFrequency(DEFINITION.getLowFrequencyHz())
+              .setHighFrequency(DEFINITION.getHighFrequencyHz())
+              .setEastSlowStart(DEFINITION.getSlowStartXSecPerKm())
+              .setEastSlowDelta(DEFINITION.getSlowDeltaXSecPerKm())
+              .setNorthSlowStart(DEFINITION.getSlowStartYSecPerKm())
+              .setNorthSlowDelta(DEFINITION.getSlowDeltaYSecPerKm())
+              .build();
+
+      FkAttributes fkAttributes =
+          FkAttributes.builder()
+              .setAzimuth(3.0)
+              .setAzimuthUncertainty(0.1)
+              .setSlowness(32.3)
+              .setSlownessUncertainty(.098)
+              .setPeakFStat(23.2)
+              .build();
+
+      when(webRequests.waveformRequest(waveformRequest)).thenReturn(BASE_CHANNEL_SEGMENTS);
+      when(webRequests.stationDefinitionStationRequest(stationRequest))
+          .thenReturn(List.of(STATION));
+      when(configurationConsumerUtility.resolve(
+              "fk-control.fk-spectra-definitions", List.of(), FkSpectraDefinition.class))
+          .thenReturn(DEFINITION);
+      doReturn(fkSpectraPlugin)
+          .when(pluginRegistry)
+          .get("caponFkSpectraPlugin", FkSpectraPlugin.class);
+      doReturn(fkAttributesPlugin)
+          .when(pluginRegistry)
+          .get("maxPowerFkAttributesPlugin", FkAttributesPlugin.class);
+      when(fkSpectraPlugin.generateFkBatches(any(), any(), any(), anyInt()))
+          .thenReturn(Stream.of(batch, batch));
+      channelFactory
+          .when(() -> ChannelFactory.createFkChannel(any(), any(), any()))
+          .thenReturn(FK_CHANNEL);
+      when(fkAttributesPlugin.generateFkAttributes(fkSpectraInfo, BASE_FKS.get(0)))
+          .thenReturn(fkAttributes);
+
+      Flux<ChannelSegment<FkSpectra>> result =
+          assertDoesNotThrow(() -> fkControl.handleStreamingRequest(REQUEST));
+
+      // the FK channel is created when the request is handled, before any spectra are computed
+      channelFactory.verify(() -> ChannelFactory.createFkChannel(any(), any(), any()), times(1));
+      verifyNoInteractions(fkSpectraPlugin);
+
+      List<ChannelSegment<FkSpectra>> segments = result.collectList().block();
+      assertNotNull(segments);
+      assertEquals(2, segments.size());
+
+      Duration samplePeriod = Duration.ofNanos((long) (1E9 / DEFINITION.getSampleRateHz()));
+      for (var i = 0; i < segments.size(); i++) {
+        ChannelSegment<FkSpectra> segment = segments.get(i);
+        assertEquals(FK_CHANNEL, segment.getId().getChannel());
+        assertEquals(1, segment.getTimeseries().size());
+
+        FkSpectra spectra = segment.getTimeseries().get(0);
+        assertEquals(
+            REQUEST.getStartTime().plus(samplePeriod.multipliedBy((long) i * BASE_FKS.size())),
+            spectra.getStartTime());
+        assertEquals(BASE_FKS.size(), spectra.getValues().size());
+        spectra
+            .getValues()
+            .forEach(spectrum -> assertEquals(List.of(fkAttributes), spectrum.getAttributes()));
+      }
+
+      verify(webRequests, times(1)).waveformRequest(waveformRequest);
+      verify(webRequests, times(1)).stationDefinitionStationRequest(stationRequest);
+      verify(configurationConsumerUtility, times(1))
+          .resolve("fk-control.fk-spectra-definitions", List.of(), FkSpectraDefinition.class);
+      verify(pluginRegistry, times(1)).get("caponFkSpectraPlugin", FkSpectraPlugin.class);
+      verify(pluginRegistry, times(1)).get("maxPowerFkAttributesPlugin", FkAttributesPlugin.class);
+      verify(fkSpectraPlugin, times(1)).generateFkBatches(any(), any(), any(), anyInt());
+      verify(fkAttributesPlugin, times(2)).generateFkAttributes(fkSpectraInfo, BASE_FKS.get(0));
+
+      verifyNoMoreInteractions(
+          webRequests,
+          configurationConsumerUtility,
+          pluginRegistry,
+          fkSpectraPlugin,
+          fkAttributesPlugin);
+      channelFactory.verifyNoMoreInteractions();
+      verifyNoInteractions(controlContext);
+    }
+  }
 }
@@ -14,6 +14,7 @@ import gms.shared.fk.coi.FkSpectraDefinition;
 import gms.shared.frameworks.configuration.repository.client.ConfigurationConsumerUtility;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -68,6 +69,16 @@ class FkConfigurationTest {
     assertEquals(DEFINITION, parameters.getDefinition());
   }
 
+  @Test
+  void testCreateFkSpectraParametersKeepsConfiguredWindowParallelism() {
+    when(configurationConsumerUtility.resolve(
+            "fk-control.fk-spectra-definitions", List.of(), FkSpectraDefinition.class))
+        .thenReturn(DEFINITION.toBuilder().setWindowParallelism(4).build());
+    FkSpectraParameters parameters =
+        configuration.createFkSpectraParameters(REQUEST, WF_SAMPLE_RATE);
+    assertEquals(Optional.of(4), parameters.getDefinition().getWindowParallelism());
+  }
+
   @Test
   void testCreateFkAttributesParametersValidation() {
     Exception ex =
@@ -5,9 +5,11 @@ import gms.shared.fk.pluginregistry.Plugin;
 import gms.shared.stationdefinition.coi.station.Station;
 import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.FkSpectra;
+import gms.shared.waveform.coi.FkSpectrum;
 import gms.shared.waveform.coi.Waveform;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface FkSpectraPlugin extends Plugin {
 
@@ -24,4 +26,26 @@ public interface FkSpectraPlugin extends Plugin {
       Station station,
       Collection<ChannelSegment<Waveform>> channelSegments,
       FkSpectraDefinition definition);
+
+  /**
+   * Generates the results of an Fk Spectrum in batches of consecutive time windows, allowing
+   * callers to deliver early spectra before later windows are processed. Each batch holds at most
+   * batchSize spectra. Batches carry no start times; callers place each batch by the number of
+   * spectra preceding it. The default implementation generates all of the spectra before returning
+   * them.
+   *
+   * @param channelSegments Collection of {@link ChannelSegment} containing waveforms for an Fk
+   *     Spectrum, not null
+   * @param definition The Fk Spectrum definition identifying window lead and length, low/high
+   *     frequencies, sample rate, etc. used by the Fk Spectrum plugin
+   * @param batchSize maximum number of spectra in each batch
+   * @return Fk Spectrum results, in time order
+   */
+  default Stream<List<FkSpectrum>> generateFkBatches(
+      Station station,
+      Collection<ChannelSegment<Waveform>> channelSegments,
+      FkSpectraDefinition definition,
+      int batchSize) {
+    return generateFk(station, channelSegments, definition).stream().map(FkSpectra::getValues);
+  }
 }
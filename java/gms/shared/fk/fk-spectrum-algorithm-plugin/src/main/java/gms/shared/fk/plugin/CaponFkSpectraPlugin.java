@@ -11,12 +11,15 @@ import gms.shared.stationdefinition.coi.channel.RelativePosition;
 import gms.shared.stationdefinition.coi.station.Station;
 import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.FkSpectra;
+import gms.shared.waveform.coi.FkSpectrum;
 import gms.shared.waveform.coi.Waveform;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 @AutoService(Plugin.class)
 public class CaponFkSpectraPlugin implements FkSpectraPlugin {
@@ -34,6 +37,31 @@ public class CaponFkSpectraPlugin implements FkSpectraPlugin {
       Collection<ChannelSegment<Waveform>> channelSegments,
       FkSpectraDefinition definition) {
 
+    var algorithm = createAlgorithm(station, channelSegments, definition);
+
+    return List.of(
+        createSpectra(
+            getStartTime(channelSegments, definition),
+            algorithm.generateFk(channelSegments),
+            definition));
+  }
+
+  @Override
+  public Stream<List<FkSpectrum>> generateFkBatches(
+      Station station,
+      Collection<ChannelSegment<Waveform>> channelSegments,
+      FkSpectraDefinition definition,
+      int batchSize) {
+
+    return createAlgorithm(station, channelSegments, definition)
+        .generateFkBatches(channelSegments, batchSize);
+  }
+
+  private CaponFkSpectrumAlgorithm createAlgorithm(
+      Station station,
+      Collection<ChannelSegment<Waveform>> channelSegments,
+      FkSpectraDefinition definition) {
+
     Objects.requireNonNull(
         channelSegments, getName() + " cannot generate FK spectra from null channel segments");
     Objects.requireNonNull(
@@ -52,20 +80,27 @@ public class CaponFkSpectraPlugin implements FkSpectraPlugin {
     Map<Channel, RelativePosition> relativePositionsByChannelName =
         station.getRelativePositionsByChannel();
 
-    var algorithm =
-        CaponFkSpectrumAlgorithm.create(definition, mediumVelocity, relativePositionsByChannelName);
+    return CaponFkSpectrumAlgorithm.create(
+        definition, mediumVelocity, relativePositionsByChannelName);
+  }
+
+  private static Instant getStartTime(
+      Collection<ChannelSegment<Waveform>> channelSegments, FkSpectraDefinition definition) {
+    return channelSegments
+        .iterator()
+        .next()
+        .getId()
+        .getStartTime()
+        .plus(definition.getWindowLead());
+  }
 
+  private static FkSpectra createSpectra(
+      Instant startTime, List<FkSpectrum> values, FkSpectraDefinition definition) {
     FkSpectra.Builder spectra =
         FkSpectra.builder()
-            .setStartTime(
-                channelSegments
-                    .iterator()
-                    .next()
-                    .getId()
-                    .getStartTime()
-                    .plus(definition.getWindowLead()))
+            .setStartTime(startTime)
             .setSampleRateHz(definition.getSampleRateHz())
-            .withValues(algorithm.generateFk(channelSegments));
+            .withValues(values);
 
     spectra
         .metadataBuilder()
@@ -75,6 +110,6 @@ public class CaponFkSpectraPlugin implements FkSpectraPlugin {
         .setSlowStartY(definition.getSlowStartYSecPerKm())
         .setSlowDeltaY(definition.getSlowDeltaYSecPerKm());
 
-    return List.of(spectra.build());
+    return spectra.build();
   }
 }
@@ -0,0 +1,294 @@
+package gms.shared.fk.plugin.algorithms;
+
+import gms.shared.fk.coi.FkSpectraDefinition;
+import gms.shared.fk.plugin.algorithms.util.FftUtilities;
+import gms.shared.stationdefinition.coi.channel.RelativePosition;
+import gms.shared.waveform.coi.Waveform;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleBinaryOperator;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Computes the beam power and F-statistic grids of FK spectra using primitive arrays. Complex
+ * values are stored as interleaved real/imaginary pairs in {@code double[]}s, so no intermediate
+ * complex objects are created while the slowness grid is swept.
+ *
+ * <p>The steering phase factors for each slowness cell, channel and passband frequency depend only
+ * on the window sample count, so they are computed once per sample count and reused by every time
+ * window processed by this engine. An engine is safe to use from multiple threads.
+ */
+final class CaponFkEngine {
+
+  private static final double TWO_PI = 2 * Math.PI;
+
+  /** Largest steering factor table cached, in doubles (64 MiB) */
+  private static final long MAX_CACHED_STEERING_VALUES = 1L << 23;
+
+  private final FkSpectraDefinition definition;
+  private final long maxCachedSteeringValues;
+  private final int slowCountY;
+  private final int slowCountX;
+  private final int cellCount;
+  private final int positionCount;
+
+  // Per-position displacements
+  private final double[] eastDisplacementsKm;
+  private final double[] northDisplacementsKm;
+  private final double[] verticalDisplacementsKm;
+
+  // Per-cell slownesses, in row-major slowness grid order
+  private final double[] slowEasts;
+  private final double[] slowNorths;
+  private final double[] verticalSlownesses;
+
+  private final Map<Integer, Passband> passbandsBySampleCount = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new engine
+   *
+   * @param definition the {@link FkSpectraDefinition} describing the slowness grid and passband
+   * @param relativePositions positions of the channels, in the order of the waveforms to process
+   * @param verticalSlownessCalculator calculates the vertical slowness from the east and north
+   *     slownesses, returning NaN when no spectrum value can be calculated for the slowness
+   */
+  CaponFkEngine(
+      FkSpectraDefinition definition,
+      List<RelativePosition> relativePositions,
+      DoubleBinaryOperator verticalSlownessCalculator) {
+    this(definition, relativePositions, verticalSlownessCalculator, MAX_CACHED_STEERING_VALUES);
+  }
+
+  CaponFkEngine(
+      FkSpectraDefinition definition,
+      List<RelativePosition> relativePositions,
+      DoubleBinaryOperator verticalSlownessCalculator,
+      long maxCachedSteeringValues) {
+    this.definition = definition;
+    this.maxCachedSteeringValues = maxCachedSteeringValues;
+    this.slowCountY = definition.getSlowCountY();
+    this.slowCountX = definition.getSlowCountX();
+    this.cellCount = slowCountY * slowCountX;
+    this.positionCount = relativePositions.size();
+
+    this.eastDisplacementsKm = new double[positionCount];
+    this.northDisplacementsKm = new double[positionCount];
+    this.verticalDisplacementsKm = new double[positionCount];
+    for (var i = 0; i < positionCount; i++) {
+      var position = relativePositions.get(i);
+      eastDisplacementsKm[i] = position.getEastDisplacementKm();
+      northDisplacementsKm[i] = position.getNorthDisplacementKm();
+      verticalDisplacementsKm[i] = position.getVerticalDisplacementKm();
+    }
+
+    this.slowEasts = new double[cellCount];
+    this.slowNorths = new double[cellCount];
+    this.verticalSlownesses = new double[cellCount];
+    for (var i = 0; i < slowCountY; i++) {
+      double slowNorth =
+          definition.getSlowStartYSecPerKm()
+              + ((slowCountY - i) * definition.getSlowDeltaYSecPerKm());
+      for (var j = 0; j < slowCountX; j++) {
+        double slowEast =
+            definition.getSlowStartXSecPerKm() + (j * definition.getSlowDeltaXSecPerKm());
+        var cell = i * slowCountX + j;
+        slowEasts[cell] = slowEast;
+        slowNorths[cell] = slowNorth;
+        verticalSlownesses[cell] = verticalSlownessCalculator.applyAsDouble(slowEast, slowNorth);
+      }
+    }
+  }
+
+  /**
+   * Computes the beam power and F-statistic of every slowness cell for a single time window
+   *
+   * @param windowedWaveforms waveforms trimmed to the time window, all with the same sample count,
+   *     in the order of the relative positions this engine was created with
+   * @param power filled with the beam power of each slowness cell
+   * @param fstat filled with the F-statistic of each slowness cell
+   */
+  void computeSpectrum(List<Waveform> windowedWaveforms, double[][] power, double[][] fstat) {
+    int numChannels = windowedWaveforms.size();
+    int numSamples = windowedWaveforms.get(0).getSampleCount();
+
+    var passband = passbandsBySampleCount.computeIfAbsent(numSamples, this::createPassband);
+    int numBins = passband.frequencies.length;
+    int channelStride = numBins * 2;
+
+    // Interleaved passband FFT values, indexed by [channel][bin][re/im]
+    var passbandFfts = new double[numChannels * channelStride];
+    for (var c = 0; c < numChannels; c++) {
+      double[] fft = FftUtilities.computeFftWindow(windowedWaveforms.get(c));
+      for (var k = 0; k < numBins; k++) {
+        int fftIndex = passband.binIndices[k] * 2;
+        passbandFfts[c * channelStride + k * 2] = fft[fftIndex];
+        passbandFfts[c * channelStride + k * 2 + 1] = fft[fftIndex + 1];
+      }
+    }
+
+    double scalingFactor = 1 / Math.pow(numSamples, 2);
+
+    var pAvg = 0.0;
+    for (double value : passbandFfts) {
+      pAvg += value * value;
+    }
+    pAvg /= numChannels;
+    pAvg /= Math.pow(numSamples, 2);
+
+    // Scratch buffers reused by every slowness cell of this window
+    var beam = new double[channelStride];
+    double[] cellSteering =
+        passband.steering == null ? new double[positionCount * channelStride] : null;
+
+    for (var i = 0; i < slowCountY; i++) {
+      for (var j = 0; j < slowCountX; j++) {
+        var cell = i * slowCountX + j;
+
+        if (Double.isNaN(verticalSlownesses[cell])) {
+          power[i][j] = Double.NaN;
+        } else {
+          double[] steering;
+          int steeringOffset;
+          if (passband.steering != null) {
+            steering = passband.steering;
+            steeringOffset = cell * positionCount * channelStride;
+          } else {
+            fillSteering(cell, numChannels, passband.frequencies, cellSteering, 0);
+            steering = cellSteering;
+            steeringOffset = 0;
+          }
+
+          power[i][j] =
+              beamPower(passbandFfts, steering, steeringOffset, numChannels, numBins, beam)
+                  * scalingFactor;
+        }
+
+        fstat[i][j] = computeFStatistic(power[i][j], pAvg, numChannels);
+      }
+    }
+  }
+
+  /**
+   * Shifts and stacks the passband FFTs of every channel, returning the unscaled power of the
+   * resulting beam
+   */
+  private static double beamPower(
+      double[] passbandFfts,
+      double[] steering,
+      int steeringOffset,
+      int numChannels,
+      int numBins,
+      double[] beam) {
+    int channelStride = numBins * 2;
+
+    Arrays.fill(beam, 0.0);
+
+    for (var c = 0; c < numChannels; c++) {
+      int fftOffset = c * channelStride;
+      int shiftOffset = steeringOffset + c * channelStride;
+      for (var k = 0; k < channelStride; k += 2) {
+        double shiftRe = steering[shiftOffset + k];
+        double shiftIm = steering[shiftOffset + k + 1];
+        double fftRe = passbandFfts[fftOffset + k];
+        double fftIm = passbandFfts[fftOffset + k + 1];
+        beam[k] += shiftRe * fftRe - shiftIm * fftIm;
+        beam[k + 1] += shiftRe * fftIm + shiftIm * fftRe;
+      }
+    }
+
+    var pixel = 0.0;
+    for (var k = 0; k < channelStride; k += 2) {
+      double beamRe = beam[k] / numChannels;
+      double beamIm = beam[k + 1] / numChannels;
+      pixel += beamRe * beamRe + beamIm * beamIm;
+    }
+    return pixel;
+  }
+
+  private Passband createPassband(int numSamples) {
+    double delFrequency = definition.getWaveformSampleRateHz() / numSamples;
+    double[] frequencyAxis = CaponFkSpectrumAlgorithm.fftFreq(numSamples, delFrequency);
+
+    /* binIndices houses the bins of the bandpass filter imposed on the waveforms
+     * before the FK spectrum is generated. */
+    int[] binIndices =
+        CaponFkSpectrumAlgorithm.findBinIndices(
+            frequencyAxis, definition.getLowFrequencyHz(), definition.getHighFrequencyHz());
+
+    var frequencies = new double[binIndices.length];
+    for (var k = 0; k < binIndices.length; k++) {
+      frequencies[k] = frequencyAxis[binIndices[k]];
+    }
+
+    long steeringValues = (long) cellCount * positionCount * frequencies.length * 2;
+    double[] steering = null;
+    if (steeringValues <= maxCachedSteeringValues) {
+      int cellStride = positionCount * frequencies.length * 2;
+      steering = new double[(int) steeringValues];
+      for (var cell = 0; cell < cellCount; cell++) {
+        if (!Double.isNaN(verticalSlownesses[cell])) {
+          fillSteering(cell, positionCount, frequencies, steering, cell * cellStride);
+        }
+      }
+    }
+
+    return new Passband(binIndices, frequencies, steering);
+  }
+
+  /**
+   * Fills the interleaved steering phase factors, exp(2 * pi * i * f * dt), of a slowness cell for
+   * each channel and passband frequency
+   */
+  private void fillSteering(
+      int cell, int numChannels, double[] frequencies, double[] steering, int offset) {
+    double slowEast = slowEasts[cell];
+    double slowNorth = slowNorths[cell];
+    double verticalSlowness = verticalSlownesses[cell];
+
+    var index = offset;
+    for (var c = 0; c < numChannels; c++) {
+      double timeShift =
+          eastDisplacementsKm[c] * slowEast
+              + northDisplacementsKm[c] * slowNorth
+              + verticalDisplacementsKm[c] * verticalSlowness;
+      for (double frequency : frequencies) {
+        double phase = frequency * timeShift * TWO_PI;
+        steering[index++] = FastMath.cos(phase);
+        steering[index++] = FastMath.sin(phase);
+      }
+    }
+  }
+
+  /**
+   * Calculate the fstat given beam power (an fk element), average power, and the number of array
+   * elements.
+   *
+   * @param fkPower A calculated fk pixel (beam power) (Units: dB)
+   * @param pAvg Average of the powers of all the waveforms that went into the fk (Units: dB)
+   * @param numChannels Number of channels used to create fk
+   * @return The calculated fstat (Unitless)
+   */
+  private static double computeFStatistic(double fkPower, double pAvg, double numChannels) {
+    double fstat = (numChannels - 1) * fkPower;
+    fstat /= (pAvg - fkPower);
+    return fstat;
+  }
+
+  /** Passband bins and steering factors shared by all time windows with the same sample count */
+  private static final class Passband {
+
+    private final int[] binIndices;
+    private final double[] frequencies;
+
+    // Indexed by [cell][position][bin][re/im], or null when too large to cache
+    private final double[] steering;
+
+    private Passband(int[] binIndices, double[] frequencies, double[] steering) {
+      this.binIndices = binIndices;
+      this.frequencies = frequencies;
+      this.steering = steering;
+    }
+  }
+}
@@ -1,9 +1,9 @@
 package gms.shared.fk.plugin.algorithms;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.primitives.Ints;
 import gms.shared.fk.coi.FkSpectraDefinition;
-import gms.shared.fk.plugin.algorithms.util.FftUtilities;
 import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.RelativePosition;
 import gms.shared.utilities.signalprocessing.normalization.DeMeaner;
@@ -14,21 +14,18 @@ import gms.shared.waveform.coi.Waveform;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.math3.complex.Complex;
-import org.apache.commons.math3.complex.ComplexField;
-import org.apache.commons.math3.linear.Array2DRowFieldMatrix;
-import org.apache.commons.math3.linear.ArrayFieldVector;
 
 public final class CaponFkSpectrumAlgorithm {
 
@@ -67,6 +64,35 @@ public final class CaponFkSpectrumAlgorithm {
    * @throws IllegalArgumentException if the algorithm parameters are inconsistent or degenerate
    */
   public List<FkSpectrum> generateFk(Collection<ChannelSegment<Waveform>> channelSegments) {
+    var windows = createWindows(channelSegments);
+    return windows.generate(windows.windowStarts);
+  }
+
+  /**
+   * Generate FK Spectra for the given {@link Waveform}s in batches of consecutive time windows. A
+   * batch is only generated once the returned stream reaches it, so callers can deliver the spectra
+   * of early windows before later windows are processed.
+   *
+   * @param channelSegments {@link Waveform}s from which to generate FK Spectra
+   * @param batchSize maximum number of time windows in each batch
+   * @return lazily generated, non-empty batches of FK Spectra, in time order
+   * @throws IllegalArgumentException if the algorithm parameters are inconsistent or degenerate
+   */
+  public Stream<List<FkSpectrum>> generateFkBatches(
+      Collection<ChannelSegment<Waveform>> channelSegments, int batchSize) {
+    Validate.isTrue(batchSize > 0, "CaponFkSpectrumAlgorithm requires a batch size > 0");
+
+    var windows = createWindows(channelSegments);
+    return Lists.partition(windows.windowStarts, batchSize).stream()
+        .map(windows::generate)
+        .filter(batch -> !batch.isEmpty());
+  }
+
+  /**
+   * Validates the channel segments and prepares the time windows from which FK Spectra are
+   * generated
+   */
+  private FkWindows createWindows(Collection<ChannelSegment<Waveform>> channelSegments) {
 
     //
     // Validate input data
@@ -86,7 +112,7 @@ public final class CaponFkSpectrumAlgorithm {
         "CaponFkSpectrumAlgorithm cannot generate an FKSpectra from duplicate channel segments");
 
     // Determine the start and end points of the Spectra
-    List<FkSpectrum> fkList = new ArrayList<>();
+    List<Instant> windowStarts = new ArrayList<>();
 
     List<ChannelSegment<Waveform>> fkChannelSegments =
         transformChannelSegmentsByWaveform(channelSegments, DeMeaner::demean);
@@ -115,6 +141,9 @@ public final class CaponFkSpectrumAlgorithm {
                           channelSegment.getId().getChannel().toEntityReference()))
               .collect(Collectors.toList());
 
+      var engine =
+          new CaponFkEngine(definition, relativePositionsList, this::calculateVerticalSlowness);
+
       /*
        * Fk Timeseries:
        *        |            |             |
@@ -137,12 +166,86 @@ public final class CaponFkSpectrumAlgorithm {
           !windowStart.plus(definition.getWindowLength()).isAfter(endTime);
           fkStartTime = fkStartTime.plus(fkSamplePeriod),
               windowStart = fkStartTime.minus(definition.getWindowLead())) {
-        generateSingleFk(fkChannelSegments, relativePositionsList, windowStart, jitterBaseStartTime)
-            .ifPresent(fkList::add);
+        windowStarts.add(windowStart);
+      }
+
+      return new FkWindows(fkChannelSegments, engine, jitterBaseStartTime, windowStarts);
+    }
+
+    return new FkWindows(fkChannelSegments, null, null, windowStarts);
+  }
+
+  /**
+   * Time windows of a set of demeaned (and optionally normalized) channel segments. The windows are
+   * independent of each other, so any subset of them can be generated at a time.
+   */
+  private final class FkWindows {
+
+    private final List<ChannelSegment<Waveform>> fkChannelSegments;
+    private final CaponFkEngine engine;
+    private final Instant jitterBaseStartTime;
+    private final List<Instant> windowStarts;
+
+    private FkWindows(
+        List<ChannelSegment<Waveform>> fkChannelSegments,
+        CaponFkEngine engine,
+        Instant jitterBaseStartTime,
+        List<Instant> windowStarts) {
+      this.fkChannelSegments = fkChannelSegments;
+      this.engine = engine;
+      this.jitterBaseStartTime = jitterBaseStartTime;
+      this.windowStarts = windowStarts;
+    }
+
+    /**
+     * Generates the FK spectra of the provided windows
+     *
+     * @param starts start times of the windows, in time order
+     * @return the generated FK spectra, in time order
+     */
+    private List<FkSpectrum> generate(List<Instant> starts) {
+      Function<Instant, Optional<FkSpectrum>> fkGenerator =
+          windowStart ->
+              generateSingleFk(fkChannelSegments, engine, windowStart, jitterBaseStartTime);
+
+      int windowParallelism = definition.getWindowParallelism().orElse(1);
+      if (windowParallelism > 1 && starts.size() > 1) {
+        return generateFksInParallel(starts, fkGenerator, windowParallelism);
       }
+
+      return starts.stream()
+          .map(fkGenerator)
+          .flatMap(Optional::stream)
+          .collect(Collectors.toList());
     }
+  }
 
-    return fkList;
+  /**
+   * Generates the FK spectra of each window on a {@link ForkJoinPool} bounded to the provided
+   * parallelism, preserving the time order of the windows
+   *
+   * @param windowStarts start times of the windows, in time order
+   * @param fkGenerator generates the FK spectrum for a window start time
+   * @param windowParallelism maximum number of windows to generate at once
+   * @return the generated FK spectra, in time order
+   */
+  private static List<FkSpectrum> generateFksInParallel(
+      List<Instant> windowStarts,
+      Function<Instant, Optional<FkSpectrum>> fkGenerator,
+      int windowParallelism) {
+
+    var pool = new ForkJoinPool(Math.min(windowParallelism, windowStarts.size()));
+    try {
+      return pool.submit(
+              () ->
+                  windowStarts.parallelStream()
+                      .map(fkGenerator)
+                      .flatMap(Optional::stream)
+                      .collect(Collectors.toList()))
+          .join();
+    } finally {
+      pool.shutdown();
+    }
   }
 
   private Optional<Instant> getModalTime(
@@ -299,21 +402,6 @@ public final class CaponFkSpectrumAlgorithm {
     }
   }
 
-  /**
-   * Calculate the fstat given beam power (an fk element), average power, and the number of array
-   * elements.
-   *
-   * @param fkPower A calculated fk pixel (beam power) (Units: dB)
-   * @param pAvg Average of the powers of all the waveforms that went into the fk (Units: dB)
-   * @param numChannels Number of channels used to create fk
-   * @return The calculated fstat (Unitless)
-   */
-  private static double computeFStatistic(double fkPower, double pAvg, double numChannels) {
-    double fstat = (numChannels - 1) * fkPower;
-    fstat /= (pAvg - fkPower);
-    return fstat;
-  }
-
   /**
    * Measures the quality of the fk spectrum.
    *
@@ -492,6 +580,19 @@ public final class CaponFkSpectrumAlgorithm {
       Instant windowStart,
       Instant minStartTime) {
 
+    return generateSingleFk(
+        channelSegments,
+        new CaponFkEngine(definition, relativePositions, this::calculateVerticalSlowness),
+        windowStart,
+        minStartTime);
+  }
+
+  private Optional<FkSpectrum> generateSingleFk(
+      List<ChannelSegment<Waveform>> channelSegments,
+      CaponFkEngine engine,
+      Instant windowStart,
+      Instant minStartTime) {
+
     List<Waveform> waveformSubset =
         getWaveformSubset(
             channelSegments,
@@ -510,160 +611,13 @@ public final class CaponFkSpectrumAlgorithm {
       return Optional.empty();
     }
 
-    int numSamples = windowedWaveforms.get(0).getSampleCount();
-    int numChannels = windowedWaveforms.size();
-
-    List<Complex[]> ffts =
-        windowedWaveforms.stream()
-            .map(FftUtilities::computeFftWindow)
-            .map(FftUtilities::getComplexFft)
-            .collect(Collectors.toList());
-    Array2DRowFieldMatrix<Complex> fftWaveformMatrix =
-        new Array2DRowFieldMatrix<>(ComplexField.getInstance(), numChannels, numSamples);
-
-    for (var i = 0; i < numChannels; i++) {
-      fftWaveformMatrix.setRow(i, ffts.get(i));
-    }
-
-    double delFrequency = definition.getWaveformSampleRateHz() / numSamples;
-
-    double[] frequencyAxis = fftFreq(numSamples, delFrequency);
-
-    /* frequencyBinIndices houses the bins of the bandpass filter imposed on the waveforms
-     * before the FK spectrum is generated. */
-    int[] frequencyBinIndices =
-        findBinIndices(
-            frequencyAxis, definition.getLowFrequencyHz(), definition.getHighFrequencyHz());
-
-    // calculate the passband of the fft'd data.  That is, keep the values that correspond to the
-    // indices in the frequencyAxis that pass the band pass filter
-    // This is part of the outer summation in the FK formula
-    int numFrequencyBins = frequencyBinIndices.length;
-    ArrayFieldVector<Complex> passbandFrequencies =
-        new ArrayFieldVector<>(ComplexField.getInstance(), numFrequencyBins);
-    for (var i = 0; i < numFrequencyBins; i++) {
-      passbandFrequencies.setEntry(i, new Complex(frequencyAxis[frequencyBinIndices[i]]));
-    }
-
-    Array2DRowFieldMatrix<Complex> passbandFfts =
-        calculatePassbandFftMatrix(fftWaveformMatrix, frequencyBinIndices);
-
-    int fftRows = definition.getSlowCountY();
-    int fftCols = definition.getSlowCountX();
-    var power = new double[fftRows][fftCols];
-    var fstat = new double[fftRows][fftCols];
-
-    double slowNorthStart = definition.getSlowStartYSecPerKm();
-    double slowEastStart = definition.getSlowStartXSecPerKm();
-    double slowNorthDelta = definition.getSlowDeltaYSecPerKm();
-    double slowEastDelta = definition.getSlowDeltaXSecPerKm();
-
-    double pAvg = calculateAveragePower(passbandFfts, numSamples, numChannels);
-    double scalingFactor = 1 / Math.pow(numSamples, 2);
-    for (var i = 0; i < fftRows; i++) {
-      double slowNorth = slowNorthStart + ((fftRows - i) * slowNorthDelta);
-
-      for (var j = 0; j < fftCols; j++) {
-        double slowEast = slowEastStart + (j * slowEastDelta);
-        double verticalSlowness = calculateVerticalSlowness(slowEast, slowNorth);
-
-        if (!Double.isNaN(verticalSlowness)) {
-          Array2DRowFieldMatrix<Complex> timeShifts =
-              calculateTimeShifts(
-                  numChannels,
-                  relativePositions,
-                  slowEast,
-                  slowNorth,
-                  verticalSlowness,
-                  passbandFrequencies);
-          Array2DRowFieldMatrix<Complex> shiftedWaveforms =
-              rowWiseMultiply(timeShifts, passbandFfts);
-
-          ArrayFieldVector<Complex> beam =
-              new ArrayFieldVector<>(
-                  ComplexField.getInstance(), passbandFrequencies.getDimension());
-          beam = shiftBeam(beam, numChannels, shiftedWaveforms);
-          beam = (ArrayFieldVector<Complex>) beam.mapDivide(new Complex(numChannels));
-
-          double pixel =
-              Arrays.stream(beam.toArray())
-                  .map(Complex::abs)
-                  .map(absBeamPoint -> Math.pow(absBeamPoint, 2))
-                  .collect(Collectors.summingDouble(Double::valueOf));
-          pixel *= scalingFactor;
-          power[i][j] = pixel;
-        } else {
-          power[i][j] = Double.NaN;
-        }
-
-        fstat[i][j] = computeFStatistic(power[i][j], pAvg, numChannels);
-      }
-    }
+    var power = new double[definition.getSlowCountY()][definition.getSlowCountX()];
+    var fstat = new double[definition.getSlowCountY()][definition.getSlowCountX()];
+    engine.computeSpectrum(windowedWaveforms, power, fstat);
 
     return Optional.of(FkSpectrum.from(power, fstat, computeFkQual(power)));
   }
 
-  private static ArrayFieldVector<Complex> shiftBeam(
-      ArrayFieldVector<Complex> beam,
-      int numChannels,
-      Array2DRowFieldMatrix<Complex> shiftedWaveforms) {
-    for (var k = 0; k < numChannels; k++) {
-      beam = beam.add((ArrayFieldVector<Complex>) shiftedWaveforms.getRowVector(k));
-    }
-    return beam;
-  }
-
-  private static Array2DRowFieldMatrix<Complex> rowWiseMultiply(
-      Array2DRowFieldMatrix<Complex> matrix1, Array2DRowFieldMatrix<Complex> matrix2) {
-    Preconditions.checkState(
-        matrix1.getRowDimension() == matrix2.getRowDimension(), "Row dimensions must match");
-    Preconditions.checkState(
-        matrix1.getColumnDimension() == matrix2.getColumnDimension(),
-        "Column dimensions must match");
-
-    Array2DRowFieldMatrix<Complex> result =
-        new Array2DRowFieldMatrix<>(
-            ComplexField.getInstance(), matrix1.getRowDimension(), matrix1.getColumnDimension());
-
-    for (var i = 0; i < matrix1.getRowDimension(); i++) {
-      result.setRowVector(i, matrix1.getRowVector(i).ebeMultiply(matrix2.getRowVector(i)));
-    }
-
-    return result;
-  }
-
-  static Array2DRowFieldMatrix<Complex> calculateTimeShifts(
-      int numChannels,
-      List<RelativePosition> relativePositions,
-      double slowEast,
-      double slowNorth,
-      double verticalSlowness,
-      ArrayFieldVector<Complex> passbandFrequencies) {
-
-    ArrayFieldVector<Complex> timeShifts =
-        new ArrayFieldVector<>(ComplexField.getInstance(), numChannels);
-    Array2DRowFieldMatrix<Complex> shiftFactor =
-        new Array2DRowFieldMatrix<>(
-            ComplexField.getInstance(), numChannels, passbandFrequencies.getDimension());
-
-    for (var i = 0; i < numChannels; i++) {
-      var position = relativePositions.get(i);
-      double timeShift =
-          position.getEastDisplacementKm() * slowEast
-              + position.getNorthDisplacementKm() * slowNorth
-              + position.getVerticalDisplacementKm() * verticalSlowness;
-      timeShifts.setEntry(i, new Complex(timeShift));
-      var timeShiftFrequencyRow = passbandFrequencies.mapMultiply(new Complex(timeShift));
-      var timeShiftFrequenceRowPrime =
-          timeShiftFrequencyRow.mapMultiply(Complex.I.multiply(2 * Math.PI));
-      for (var j = 0; j < passbandFrequencies.getDimension(); j++) {
-        shiftFactor.setEntry(i, j, timeShiftFrequenceRowPrime.getEntry(j).exp());
-      }
-    }
-
-    return shiftFactor;
-  }
-
   private double calculateVerticalSlowness(double slowEast, double slowNorth) {
     double verticalSlowness;
     // compute 3D FK...
@@ -685,37 +639,6 @@ public final class CaponFkSpectrumAlgorithm {
     return verticalSlowness;
   }
 
-  private static Array2DRowFieldMatrix<Complex> calculatePassbandFftMatrix(
-      Array2DRowFieldMatrix<Complex> ffts, int[] frequencyBinIndices) {
-    int numFrequencyBins = frequencyBinIndices.length;
-
-    // if the frequencyBin indices are always consecutive, might be able to use getSubMatrix
-    Array2DRowFieldMatrix<Complex> passBandFfts =
-        new Array2DRowFieldMatrix<>(
-            ComplexField.getInstance(), ffts.getRowDimension(), numFrequencyBins);
-
-    for (var i = 0; i < numFrequencyBins; i++) {
-      passBandFfts.setColumn(i, ffts.getColumn(frequencyBinIndices[i]));
-    }
-
-    return passBandFfts;
-  }
-
-  private static double calculateAveragePower(
-      Array2DRowFieldMatrix<Complex> passBandFfts, int numSamples, int channelCount) {
-    var pAvg = 0.0;
-
-    Complex[][] data = passBandFfts.getData();
-    for (Complex[] passbandFft : data) {
-      for (Complex complex : passbandFft) {
-        pAvg += Math.pow(complex.abs(), 2);
-      }
-    }
-    pAvg /= channelCount;
-    pAvg /= Math.pow(numSamples, 2);
-    return pAvg;
-  }
-
   /**
    * Compute the FFT Frequency Bin Array for an array with N Samples. Based on the NumPy library
    * function numpy.fft.fftfreq found here: https://docs.scipy
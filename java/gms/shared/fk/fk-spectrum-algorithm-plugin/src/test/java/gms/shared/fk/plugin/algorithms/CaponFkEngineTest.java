@@ -0,0 +1,182 @@
+package gms.shared.fk.plugin.algorithms;
+
+import static gms.shared.fk.testfixtures.FkTestFixtures.DEFINITION;
+import static gms.shared.waveform.testfixture.FkTestFixtures.RELATIVE_POSITIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gms.shared.fk.coi.FkSpectraDefinition;
+import gms.shared.fk.plugin.algorithms.util.FftUtilities;
+import gms.shared.stationdefinition.coi.channel.RelativePosition;
+import gms.shared.waveform.coi.Waveform;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.DoubleBinaryOperator;
+import org.apache.commons.math3.complex.Complex;
+import org.junit.jupiter.api.Test;
+
+class CaponFkEngineTest {
+
+  private static final double RELATIVE_TOLERANCE = 1.0e-12;
+  private static final double MEDIUM_VELOCITY = 10.0;
+
+  private static final DoubleBinaryOperator VERTICAL_SLOWNESS_2D = (slowEast, slowNorth) -> 0.0;
+
+  private static final DoubleBinaryOperator VERTICAL_SLOWNESS_3D =
+      (slowEast, slowNorth) -> {
+        double verticalSlowness =
+            1.0 / (MEDIUM_VELOCITY * MEDIUM_VELOCITY)
+                - Math.pow(slowEast, 2)
+                - Math.pow(slowNorth, 2);
+        return verticalSlowness >= 1.0e-5 ? Math.sqrt(verticalSlowness) : Double.NaN;
+      };
+
+  @Test
+  void testComputeSpectrumMatchesComplexReference() {
+    var waveforms = randomWaveforms(RELATIVE_POSITIONS.size(), 41);
+    var engine = new CaponFkEngine(DEFINITION, RELATIVE_POSITIONS, VERTICAL_SLOWNESS_2D);
+
+    assertMatchesReference(DEFINITION, engine, waveforms, VERTICAL_SLOWNESS_2D);
+  }
+
+  @Test
+  void testComputeSpectrumWithVerticalOffsetsMatchesComplexReference() {
+    var definition =
+        DEFINITION.toBuilder()
+            .setUseChannelVerticalOffsets(true)
+            .setSlowStartXSecPerKm(-0.15)
+            .setSlowStartYSecPerKm(-0.15)
+            .build();
+    var waveforms = randomWaveforms(RELATIVE_POSITIONS.size(), 40);
+    var engine = new CaponFkEngine(definition, RELATIVE_POSITIONS, VERTICAL_SLOWNESS_3D);
+
+    assertMatchesReference(definition, engine, waveforms, VERTICAL_SLOWNESS_3D);
+  }
+
+  @Test
+  void testUncachedSteeringMatchesCachedSteering() {
+    var waveforms = randomWaveforms(RELATIVE_POSITIONS.size(), 40);
+    var cachedEngine = new CaponFkEngine(DEFINITION, RELATIVE_POSITIONS, VERTICAL_SLOWNESS_2D);
+    var uncachedEngine = new CaponFkEngine(DEFINITION, RELATIVE_POSITIONS, VERTICAL_SLOWNESS_2D, 0);
+
+    var cachedPower = new double[DEFINITION.getSlowCountY()][DEFINITION.getSlowCountX()];
+    var cachedFstat = new double[DEFINITION.getSlowCountY()][DEFINITION.getSlowCountX()];
+    cachedEngine.computeSpectrum(waveforms, cachedPower, cachedFstat);
+
+    var uncachedPower = new double[DEFINITION.getSlowCountY()][DEFINITION.getSlowCountX()];
+    var uncachedFstat = new double[DEFINITION.getSlowCountY()][DEFINITION.getSlowCountX()];
+    uncachedEngine.computeSpectrum(waveforms, uncachedPower, uncachedFstat);
+
+    for (var i = 0; i < cachedPower.length; i++) {
+      for (var j = 0; j < cachedPower[i].length; j++) {
+        assertEquals(cachedPower[i][j], uncachedPower[i][j]);
+        assertEquals(cachedFstat[i][j], uncachedFstat[i][j]);
+      }
+    }
+  }
+
+  private static void assertMatchesReference(
+      FkSpectraDefinition definition,
+      CaponFkEngine engine,
+      List<Waveform> waveforms,
+      DoubleBinaryOperator verticalSlownessCalculator) {
+
+    var power = new double[definition.getSlowCountY()][definition.getSlowCountX()];
+    var fstat = new double[definition.getSlowCountY()][definition.getSlowCountX()];
+    engine.computeSpectrum(waveforms, power, fstat);
+
+    var expectedPower =
+        referencePower(definition, RELATIVE_POSITIONS, waveforms, verticalSlownessCalculator);
+
+    for (var i = 0; i < power.length; i++) {
+      for (var j = 0; j < power[i].length; j++) {
+        if (Double.isNaN(expectedPower[i][j])) {
+          assertEquals(Double.NaN, power[i][j]);
+        } else {
+          assertEquals(
+              expectedPower[i][j],
+              power[i][j],
+              Math.abs(expectedPower[i][j]) * RELATIVE_TOLERANCE,
+              "validation failed on (" + i + ", " + j + ")");
+        }
+      }
+    }
+  }
+
+  /** Straightforward {@link Complex} implementation of the Capon FK beam power */
+  private static double[][] referencePower(
+      FkSpectraDefinition definition,
+      List<RelativePosition> relativePositions,
+      List<Waveform> waveforms,
+      DoubleBinaryOperator verticalSlownessCalculator) {
+
+    int numChannels = waveforms.size();
+    int numSamples = waveforms.get(0).getSampleCount();
+
+    double[] frequencyAxis =
+        CaponFkSpectrumAlgorithm.fftFreq(
+            numSamples, definition.getWaveformSampleRateHz() / numSamples);
+    int[] bins =
+        CaponFkSpectrumAlgorithm.findBinIndices(
+            frequencyAxis, definition.getLowFrequencyHz(), definition.getHighFrequencyHz());
+
+    List<Complex[]> ffts = new ArrayList<>();
+    for (Waveform waveform : waveforms) {
+      ffts.add(FftUtilities.getComplexFft(FftUtilities.computeFftWindow(waveform)));
+    }
+
+    int rows = definition.getSlowCountY();
+    int cols = definition.getSlowCountX();
+    var power = new double[rows][cols];
+    for (var i = 0; i < rows; i++) {
+      double slowNorth =
+          definition.getSlowStartYSecPerKm() + ((rows - i) * definition.getSlowDeltaYSecPerKm());
+      for (var j = 0; j < cols; j++) {
+        double slowEast =
+            definition.getSlowStartXSecPerKm() + (j * definition.getSlowDeltaXSecPerKm());
+        double verticalSlowness = verticalSlownessCalculator.applyAsDouble(slowEast, slowNorth);
+
+        if (Double.isNaN(verticalSlowness)) {
+          power[i][j] = Double.NaN;
+          continue;
+        }
+
+        var pixel = 0.0;
+        for (int bin : bins) {
+          var beam = Complex.ZERO;
+          for (var c = 0; c < numChannels; c++) {
+            var position = relativePositions.get(c);
+            double timeShift =
+                position.getEastDisplacementKm() * slowEast
+                    + position.getNorthDisplacementKm() * slowNorth
+                    + position.getVerticalDisplacementKm() * verticalSlowness;
+            var shift =
+                new Complex(frequencyAxis[bin])
+                    .multiply(new Complex(timeShift))
+                    .multiply(Complex.I.multiply(2 * Math.PI))
+                    .exp();
+            beam = beam.add(shift.multiply(ffts.get(c)[bin]));
+          }
+          pixel += Math.pow(beam.divide(new Complex(numChannels)).abs(), 2);
+        }
+        power[i][j] = pixel / Math.pow(numSamples, 2);
+      }
+    }
+
+    return power;
+  }
+
+  private static List<Waveform> randomWaveforms(int count, int sampleCount) {
+    var random = new Random(7);
+    List<Waveform> waveforms = new ArrayList<>();
+    for (var i = 0; i < count; i++) {
+      var samples = new double[sampleCount];
+      for (var j = 0; j < sampleCount; j++) {
+        samples[j] = random.nextGaussian();
+      }
+      waveforms.add(Waveform.create(Instant.EPOCH, DEFINITION.getWaveformSampleRateHz(), samples));
+    }
+    return waveforms;
+  }
+}
@@ -216,6 +216,61 @@ class CaponFkSpectrumAlgorithmTest {
     }
   }
 
+  @Test
+  void testGenerateMultipleFksInParallel() {
+    FkSpectraDefinition parallelDefinition = DEFINITION.toBuilder().setWindowParallelism(4).build();
+
+    CaponFkSpectrumAlgorithm algorithm =
+        CaponFkSpectrumAlgorithm.create(parallelDefinition, 10, RELATIVE_POSITION_MAP);
+    List<FkSpectrum> fkSpectrumList = algorithm.generateFk(BASE_CHANNEL_SEGMENTS);
+    assertEquals(BASE_FKS.size(), fkSpectrumList.size());
+
+    for (int i = 0; i < BASE_FKS.size(); i++) {
+      FkSpectrum expected = BASE_FKS.get(i);
+      FkSpectrum actual = fkSpectrumList.get(i);
+
+      compareArrays(expected.getPower(), actual.getPower());
+      compareArrays(expected.getFstat(), actual.getFstat());
+      assertEquals(expected.getQuality(), actual.getQuality());
+    }
+  }
+
+  @Test
+  void testGenerateFkBatches() {
+    CaponFkSpectrumAlgorithm algorithm =
+        CaponFkSpectrumAlgorithm.create(DEFINITION, 10, RELATIVE_POSITION_MAP);
+    List<List<FkSpectrum>> batches =
+        algorithm.generateFkBatches(BASE_CHANNEL_SEGMENTS, 2).collect(Collectors.toList());
+
+    assertEquals((BASE_FKS.size() + 1) / 2, batches.size());
+    batches.forEach(batch -> assertTrue(!batch.isEmpty() && batch.size() <= 2));
+
+    List<FkSpectrum> fkSpectrumList =
+        batches.stream().flatMap(List::stream).collect(Collectors.toList());
+    assertEquals(BASE_FKS.size(), fkSpectrumList.size());
+
+    for (int i = 0; i < BASE_FKS.size(); i++) {
+      FkSpectrum expected = BASE_FKS.get(i);
+      FkSpectrum actual = fkSpectrumList.get(i);
+
+      compareArrays(expected.getPower(), actual.getPower());
+      compareArrays(expected.getFstat(), actual.getFstat());
+      assertEquals(expected.getQuality(), actual.getQuality());
+    }
+  }
+
+  @Test
+  void testGenerateFkBatchesValidation() {
+    CaponFkSpectrumAlgorithm algorithm =
+        CaponFkSpectrumAlgorithm.create(DEFINITION, 10, RELATIVE_POSITION_MAP);
+
+    IllegalArgumentException ex =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> algorithm.generateFkBatches(BASE_CHANNEL_SEGMENTS, 0));
+    assertEquals("CaponFkSpectrumAlgorithm requires a batch size > 0", ex.getMessage());
+  }
+
   @Test
   void testMultipleFkFromWaveformWithGaps() {
     FkSpectraDefinition gapFkDefinition =
@@ -0,0 +1,489 @@
+package gms.shared.frameworks.configuration;
+
+import gms.shared.frameworks.configuration.Operator.Type;
+import gms.shared.frameworks.configuration.constraints.BooleanConstraint;
+import gms.shared.frameworks.configuration.constraints.DefaultConstraint;
+import gms.shared.frameworks.configuration.constraints.DoubleRange;
+import gms.shared.frameworks.configuration.constraints.NumericRangeConstraint;
+import gms.shared.frameworks.configuration.constraints.NumericScalarConstraint;
+import gms.shared.frameworks.configuration.constraints.PhaseConstraint;
+import gms.shared.frameworks.configuration.constraints.StringConstraint;
+import gms.shared.frameworks.configuration.constraints.TimeOfDayRange;
+import gms.shared.frameworks.configuration.constraints.TimeOfDayRangeConstraint;
+import gms.shared.frameworks.configuration.constraints.TimeOfYearRangeConstraint;
+import gms.shared.frameworks.osd.coi.PhaseType;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves a single {@link Configuration} the same way as {@link
+ * ConfigurationResolver#resolve(Configuration, List)}, but with the Configuration's {@link
+ * ConfigurationOption}s indexed by the {@link Selector} values their {@link Constraint}s accept.
+ * Each criterion has hash buckets for string, phase, boolean and numeric scalar Constraints and
+ * sorted elementary intervals for numeric and time of day range Constraints. Resolution only checks
+ * the ConfigurationOptions accepted by the index for every one of their Constraints, so the
+ * tiebreakers and the ambiguity checks are applied to the same matches as a full resolution.
+ *
+ * <p>Numeric Selector values can also be canonicalized to the intervals between the numeric
+ * Constraint boundaries for their criterion, so callers caching resolutions by Selector share
+ * entries for values every Constraint evaluates the same way.
+ *
+ * <p>Selectors whose values cannot be evaluated by every Constraint for their criterion (e.g. a
+ * null value, or a String selecting a numeric Constraint) fall back to a full resolution so any
+ * resulting exceptions are also unchanged.
+ */
+public final class CompiledConfigurationResolver {
+
+  private static final double NANOS_PER_DAY = TimeUnit.DAYS.toNanos(1);
+
+  private static final Set<ConstraintType> NUMERIC_CONSTRAINT_TYPES =
+      EnumSet.of(ConstraintType.NUMERIC_RANGE, ConstraintType.NUMERIC_SCALAR);
+
+  private final Configuration configuration;
+  private final List<ConfigurationOption> options;
+
+  // Number of non-wildcard Constraints in each ConfigurationOption, which the index must accept
+  private final int[] requiredAcceptances;
+
+  // Whether each ConfigurationOption has a DefaultConstraint criterion
+  private final boolean[] defaultOptions;
+
+  // ConfigurationOptions the index cannot count, such as those with repeated criteria, which are
+  // always checked with a full match
+  private final boolean[] uncountedOptions;
+
+  private final Map<String, CriterionIndex> criterionIndices;
+
+  // False if any Constraint is of a type the index does not recognize
+  private final boolean indexed;
+
+  private CompiledConfigurationResolver(Configuration configuration) {
+    this.configuration = configuration;
+    this.options = List.copyOf(configuration.getConfigurationOptions());
+    this.requiredAcceptances = new int[options.size()];
+    this.defaultOptions = new boolean[options.size()];
+    this.uncountedOptions = new boolean[options.size()];
+    this.criterionIndices = new HashMap<>();
+
+    var allIndexed = true;
+    for (var i = 0; i < options.size(); i++) {
+      Set<String> criteria = new HashSet<>();
+      for (Constraint<?, ?> constraint : options.get(i).getConstraints()) {
+        if (constraint.getConstraintType() == ConstraintType.WILDCARD) {
+          continue;
+        }
+
+        requiredAcceptances[i]++;
+        uncountedOptions[i] |= !criteria.add(constraint.getCriterion());
+        defaultOptions[i] |= DefaultConstraint.CRITERION.equals(constraint.getCriterion());
+
+        // Other Constraints for the default criterion are evaluated with the default Selector
+        allIndexed &=
+            !DefaultConstraint.CRITERION.equals(constraint.getCriterion())
+                || constraint instanceof DefaultConstraint;
+        allIndexed &=
+            criterionIndices
+                .computeIfAbsent(constraint.getCriterion(), c -> new CriterionIndex())
+                .add(constraint, i);
+      }
+    }
+
+    criterionIndices.values().forEach(CriterionIndex::build);
+    this.indexed = allIndexed;
+  }
+
+  static CompiledConfigurationResolver create(Configuration configuration) {
+    return new CompiledConfigurationResolver(configuration);
+  }
+
+  /**
+   * Obtains the {@link Configuration} resolved by this resolver
+   *
+   * @return {@link Configuration}, not null
+   */
+  public Configuration getConfiguration() {
+    return configuration;
+  }
+
+  /**
+   * Finds which {@link ConfigurationOption} best matches a list of {@link Selector}s, with the same
+   * results as {@link ConfigurationResolver#resolve(Configuration, List)}.
+   *
+   * @param selectors Selectors to match against constraints in the Configuration's
+   *     ConfigurationOptions, not null
+   * @return a field map (Map of String to Object), not null
+   * @throws IllegalArgumentException if there is a repeated {@link Selector#getCriterion()} in the
+   *     provided Selectors
+   * @throws NullPointerException if selectors are null
+   * @throws IllegalStateException if the Selectors satisfy more than one ConfigurationOption; if
+   *     the selectors do not match any ConfigurationOptions
+   * @see ConfigurationResolver#resolve(Configuration, List)
+   */
+  public Map<String, Object> resolve(List<Selector> selectors) {
+    Objects.requireNonNull(selectors, "Cannot resolve from null Selectors");
+
+    ConfigurationResolver.validateSelectors(selectors);
+
+    if (!isIndexable(selectors)) {
+      return ConfigurationResolver.resolve(configuration, selectors);
+    }
+
+    final Optional<Map<String, Object>> defaults =
+        getBestMatchedParameters(ConfigurationResolver.withDefaultSelector(selectors), true);
+
+    final Optional<Map<String, Object>> overrides = getBestMatchedParameters(selectors, false);
+
+    return ConfigurationResolver.combineParameters(defaults, overrides);
+  }
+
+  /**
+   * Replaces each numeric {@link Selector} value with a representative of the interval between the
+   * numeric {@link Constraint} boundaries for its criterion. Every Constraint evaluates all the
+   * values in such an interval the same way, so resolving the canonical Selectors has the same
+   * result as resolving the provided Selectors. Values on a boundary, zeros, NaN, and values for
+   * criteria with non-numeric Constraints are unchanged.
+   *
+   * @param selectors Selectors to canonicalize, not null
+   * @return canonical Selectors in the same order, or the provided list if no value changed
+   * @throws NullPointerException if selectors are null
+   */
+  public List<Selector> canonicalize(List<Selector> selectors) {
+    Objects.requireNonNull(selectors, "Cannot canonicalize null Selectors");
+
+    if (!indexed) {
+      return selectors;
+    }
+
+    List<Selector> canonicalSelectors = null;
+    for (var i = 0; i < selectors.size(); i++) {
+      Selector<?> selector = selectors.get(i);
+      var index = criterionIndices.get(selector.getCriterion());
+      var value = index == null ? selector.getValue() : index.canonicalize(selector.getValue());
+
+      if (value != selector.getValue()) {
+        if (canonicalSelectors == null) {
+          canonicalSelectors = new ArrayList<>(selectors);
+        }
+        canonicalSelectors.set(i, Selector.from(selector.getCriterion(), value));
+      }
+    }
+
+    return canonicalSelectors == null ? selectors : canonicalSelectors;
+  }
+
+  /**
+   * Determines whether the index can evaluate the {@link Selector}s without changing the outcome of
+   * a full resolution
+   */
+  private boolean isIndexable(List<Selector> selectors) {
+    if (!indexed) {
+      return false;
+    }
+
+    for (Selector<?> selector : selectors) {
+      // An explicit default Selector is repeated when resolving defaults
+      if (DefaultConstraint.CRITERION.equals(selector.getCriterion())) {
+        return false;
+      }
+
+      var index = criterionIndices.get(selector.getCriterion());
+      if (index != null && !index.canEvaluate(selector.getValue())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Obtains an Optional field map containing the {@link ConfigurationOption#getParameters()} from
+   * the {@link ConfigurationOption} best matched by the provided {@link Selector}s.
+   *
+   * @param selectors {@link List} of {@link Selector}s, not null
+   * @param resolvingDefaults whether the Selectors include the default Selector
+   * @return Optional string to object map, not null
+   */
+  private Optional<Map<String, Object>> getBestMatchedParameters(
+      List<Selector> selectors, boolean resolvingDefaults) {
+
+    var acceptances = new int[options.size()];
+    for (Selector<?> selector : selectors) {
+      var index = criterionIndices.get(selector.getCriterion());
+      if (index != null) {
+        index.accept(selector.getValue(), acceptances);
+      }
+    }
+
+    // A ConfigurationOption can only match if the index accepted all of its Constraints, and it
+    // has a DefaultConstraint exactly when the default Selector is present
+    final List<ConfigurationOption> matches = new ArrayList<>();
+    for (var i = 0; i < options.size(); i++) {
+      boolean candidate =
+          uncountedOptions[i]
+              || (acceptances[i] == requiredAcceptances[i]
+                  && defaultOptions[i] == resolvingDefaults);
+
+      if (candidate && ConfigurationResolver.match(options.get(i).getConstraints(), selectors)) {
+        matches.add(options.get(i));
+      }
+    }
+
+    return Optional.ofNullable(
+        matches.isEmpty() ? null : ConfigurationResolver.findBestMatch(matches).getParameters());
+  }
+
+  // Binary searches order -0.0 before 0.0, so both zeros are searched as 0.0. Range indices then
+  // accept a superset of the values the ranges contain.
+  private static double normalizeZero(double value) {
+    return value + 0.0;
+  }
+
+  /**
+   * Index of the {@link Constraint}s for a single criterion. The index accepts a superset of the
+   * ConfigurationOptions whose Constraint is satisfied by a Selector value.
+   */
+  private static final class CriterionIndex {
+
+    private final Set<ConstraintType> constraintTypes = EnumSet.noneOf(ConstraintType.class);
+    private final Map<Object, List<Integer>> valueBuckets = new HashMap<>();
+    private final Map<Double, List<Integer>> scalarBuckets = new HashMap<>();
+    private final RangeIndex numericRanges = new RangeIndex();
+    private final RangeIndex timeOfDayRanges = new RangeIndex();
+
+    // ConfigurationOptions accepted for every Selector value
+    private final List<Integer> unindexedOptions = new ArrayList<>();
+
+    // Range endpoints and scalar values of all numeric Constraints, including negated ones
+    private final List<Double> numericBoundaries = new ArrayList<>();
+    private double[] sortedNumericBoundaries = new double[0];
+
+    // First value canonicalized in each interval between the sorted numeric boundaries
+    private final Map<Integer, Number> intervalRepresentatives = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the Constraint of a ConfigurationOption to the index
+     *
+     * @return false if the Constraint's type is not recognized
+     */
+    boolean add(Constraint<?, ?> constraint, int option) {
+      constraintTypes.add(constraint.getConstraintType());
+      boolean negated = constraint.getOperator().isNegated();
+
+      if (constraint instanceof NumericRangeConstraint rangeConstraint) {
+        numericBoundaries.add(rangeConstraint.getValue().getMin());
+        numericBoundaries.add(rangeConstraint.getValue().getMax());
+      } else if (constraint instanceof NumericScalarConstraint scalarConstraint) {
+        numericBoundaries.add(scalarConstraint.getValue().doubleValue());
+      }
+
+      if (constraint instanceof StringConstraint stringConstraint && !negated) {
+        addValues(stringConstraint.getOperator(), stringConstraint.getValue(), option);
+      } else if (constraint instanceof PhaseConstraint phaseConstraint && !negated) {
+        addValues(phaseConstraint.getOperator(), phaseConstraint.getValue(), option);
+      } else if (constraint instanceof BooleanConstraint booleanConstraint && !negated) {
+        addToBucket(valueBuckets, booleanConstraint.getValue(), option);
+      } else if (constraint instanceof NumericScalarConstraint scalarConstraint
+          && !negated
+          && scalarConstraint.getValue() instanceof Double scalar) {
+        addToBucket(scalarBuckets, scalar, option);
+      } else if (constraint instanceof NumericRangeConstraint rangeConstraint && !negated) {
+        DoubleRange range = rangeConstraint.getValue();
+        numericRanges.add(range.getMin(), range.getMax(), option);
+      } else if (constraint instanceof TimeOfDayRangeConstraint timeConstraint && !negated) {
+        addTimeOfDayRange(timeConstraint.getValue(), option);
+      } else {
+        unindexedOptions.add(option);
+        return isRecognized(constraint);
+      }
+
+      return true;
+    }
+
+    private void addValues(Operator operator, Set<?> values, int option) {
+      if (operator.getType() == Type.IN) {
+        values.forEach(value -> addToBucket(valueBuckets, value, option));
+      } else if (values.size() == 1) {
+        // EQ Constraints with several values never match
+        addToBucket(valueBuckets, values.iterator().next(), option);
+      }
+    }
+
+    private void addTimeOfDayRange(TimeOfDayRange range, int option) {
+      double min = range.getMin().toNanoOfDay();
+      double max = range.getMax().toNanoOfDay();
+
+      // Time of day ranges run clockwise from min to max, wrapping at midnight
+      if (min <= max) {
+        timeOfDayRanges.add(min, max, option);
+      } else {
+        timeOfDayRanges.add(min, NANOS_PER_DAY, option);
+        timeOfDayRanges.add(0, max, option);
+      }
+    }
+
+    private static <K> void addToBucket(Map<K, List<Integer>> buckets, K value, int option) {
+      List<Integer> bucket = buckets.computeIfAbsent(value, v -> new ArrayList<>());
+      if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != option) {
+        bucket.add(option);
+      }
+    }
+
+    private static boolean isRecognized(Constraint<?, ?> constraint) {
+      return switch (constraint.getConstraintType()) {
+        case BOOLEAN -> constraint instanceof BooleanConstraint;
+        case DEFAULT -> constraint instanceof DefaultConstraint;
+        case NUMERIC_RANGE -> constraint instanceof NumericRangeConstraint;
+        case NUMERIC_SCALAR -> constraint instanceof NumericScalarConstraint;
+        case PHASE -> constraint instanceof PhaseConstraint;
+        case STRING -> constraint instanceof StringConstraint;
+        case TIME_OF_DAY_RANGE -> constraint instanceof TimeOfDayRangeConstraint;
+        case TIME_OF_YEAR_RANGE -> constraint instanceof TimeOfYearRangeConstraint;
+        case WILDCARD -> false;
+      };
+    }
+
+    void build() {
+      numericRanges.build();
+      timeOfDayRanges.build();
+
+      // NaN boundaries are never equal to or between other values
+      sortedNumericBoundaries =
+          numericBoundaries.stream()
+              .mapToDouble(CompiledConfigurationResolver::normalizeZero)
+              .filter(boundary -> !Double.isNaN(boundary))
+              .sorted()
+              .distinct()
+              .toArray();
+    }
+
+    /**
+     * Obtains the representative of the interval between numeric boundaries containing the value,
+     * or the value itself if it is not strictly inside such an interval
+     */
+    Object canonicalize(Object value) {
+      if (!(value instanceof Number number)
+          || !NUMERIC_CONSTRAINT_TYPES.containsAll(constraintTypes)) {
+        return value;
+      }
+
+      // Ranges compare zeros by sign at their boundaries, so zeros are not interchangeable with
+      // the other values in their interval
+      double doubleValue = number.doubleValue();
+      if (Double.isNaN(doubleValue) || doubleValue == 0) {
+        return value;
+      }
+
+      int position = Arrays.binarySearch(sortedNumericBoundaries, doubleValue);
+      return position >= 0
+          ? value
+          : intervalRepresentatives.computeIfAbsent(-position - 1, interval -> number);
+    }
+
+    /** Determines whether every Constraint in the index evaluates the value without an exception */
+    boolean canEvaluate(Object value) {
+      for (ConstraintType constraintType : constraintTypes) {
+        boolean evaluates =
+            switch (constraintType) {
+              case BOOLEAN -> value instanceof Boolean;
+              case NUMERIC_RANGE, NUMERIC_SCALAR -> value instanceof Number;
+              case PHASE -> value instanceof PhaseType;
+              case STRING -> value instanceof String;
+              case TIME_OF_DAY_RANGE -> value instanceof LocalTime;
+              case TIME_OF_YEAR_RANGE -> value instanceof LocalDateTime;
+              case DEFAULT, WILDCARD -> true;
+            };
+
+        if (!evaluates) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    /** Counts an acceptance of each ConfigurationOption that the value may satisfy */
+    void accept(Object value, int[] acceptances) {
+      if (value instanceof Number number) {
+        var doubleValue = number.doubleValue();
+        countAll(scalarBuckets.get(doubleValue), acceptances);
+        numericRanges.accept(doubleValue, acceptances);
+      } else if (value instanceof LocalTime localTime) {
+        timeOfDayRanges.accept(localTime.toNanoOfDay(), acceptances);
+      } else {
+        countAll(valueBuckets.get(value), acceptances);
+      }
+
+      countAll(unindexedOptions, acceptances);
+    }
+
+    private static void countAll(List<Integer> options, int[] acceptances) {
+      if (options != null) {
+        for (int option : options) {
+          acceptances[option]++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Index of closed ranges, split at every range endpoint into elementary intervals. Each endpoint
+   * and each open interval between endpoints lists the ranges containing it, so a lookup is a
+   * binary search.
+   */
+  private static final class RangeIndex {
+
+    private final List<double[]> ranges = new ArrayList<>();
+    private final List<Integer> rangeOptions = new ArrayList<>();
+
+    private double[] endpoints = new double[0];
+
+    // Slot 2i + 1 is endpoint i, slot 2i is the open interval before it
+    private List<List<Integer>> slots = List.of(List.of());
+
+    void add(double min, double max, int option) {
+      ranges.add(new double[] {normalizeZero(min), normalizeZero(max)});
+      rangeOptions.add(option);
+    }
+
+    void build() {
+      if (ranges.isEmpty()) {
+        return;
+      }
+
+      endpoints = ranges.stream().flatMapToDouble(Arrays::stream).sorted().distinct().toArray();
+
+      slots = new ArrayList<>();
+      for (var i = 0; i < 2 * endpoints.length + 1; i++) {
+        slots.add(new ArrayList<>());
+      }
+
+      for (var i = 0; i < ranges.size(); i++) {
+        int first = 2 * Arrays.binarySearch(endpoints, ranges.get(i)[0]) + 1;
+        int last = 2 * Arrays.binarySearch(endpoints, ranges.get(i)[1]) + 1;
+        for (var slot = first; slot <= last; slot++) {
+          slots.get(slot).add(rangeOptions.get(i));
+        }
+      }
+    }
+
+    void accept(double value, int[] acceptances) {
+      int position = Arrays.binarySearch(endpoints, normalizeZero(value));
+      int slot = position >= 0 ? 2 * position + 1 : 2 * (-position - 1);
+      for (int option : slots.get(slot)) {
+        acceptances[option]++;
+      }
+    }
+  }
+}
@@ -77,22 +77,69 @@ public class ConfigurationResolver {
     Objects.requireNonNull(configuration, "Cannot resolve a null Configuration");
     Objects.requireNonNull(selectors, "Cannot resolve from null Selectors");
 
-    // Validate each Selector is for a unique Criterion
-    if (selectors.size() != selectors.stream().map(Selector::getCriterion).distinct().count()) {
-      throw new IllegalArgumentException("Each Selector must be for a unique criterion");
-    }
+    validateSelectors(selectors);
 
     // Resolve the best matching defaults for the provided selectors
-    List<Selector> selectorsWithDefault =
-        Stream.concat(selectors.stream(), Stream.of(defaultSelector)).collect(Collectors.toList());
-
     final Optional<Map<String, Object>> defaults =
-        getBestMatchedParameters(configuration, selectorsWithDefault);
+        getBestMatchedParameters(configuration, withDefaultSelector(selectors));
 
     // Resolve the best matching default overrides for the provided selectors
     final Optional<Map<String, Object>> overrides =
         getBestMatchedParameters(configuration, selectors);
 
+    return combineParameters(defaults, overrides);
+  }
+
+  /**
+   * Obtains a {@link CompiledConfigurationResolver} for the {@link Configuration}, which indexes
+   * the Configuration's {@link ConfigurationOption}s once so resolutions only check the
+   * ConfigurationOptions that can match their {@link Selector}s. Resolution results are the same as
+   * {@link ConfigurationResolver#resolve(Configuration, List)}.
+   *
+   * @param configuration Configuration to compile, not null
+   * @return {@link CompiledConfigurationResolver}, not null
+   * @throws NullPointerException if configuration is null
+   */
+  public static CompiledConfigurationResolver compile(Configuration configuration) {
+    Objects.requireNonNull(configuration, "Cannot compile a null Configuration");
+    return CompiledConfigurationResolver.create(configuration);
+  }
+
+  /**
+   * Validates each {@link Selector} is for a unique criterion
+   *
+   * @param selectors {@link List} of {@link Selector}s, not null
+   * @throws IllegalArgumentException if there is a repeated {@link Selector#getCriterion()}
+   */
+  static void validateSelectors(List<Selector> selectors) {
+    if (selectors.size() != selectors.stream().map(Selector::getCriterion).distinct().count()) {
+      throw new IllegalArgumentException("Each Selector must be for a unique criterion");
+    }
+  }
+
+  /**
+   * Obtains the {@link Selector}s used to resolve defaults, which are the provided Selectors
+   * followed by the Selector matching a {@link DefaultConstraint}
+   *
+   * @param selectors {@link List} of {@link Selector}s, not null
+   * @return {@link List} of {@link Selector}s, not null
+   */
+  static List<Selector> withDefaultSelector(List<Selector> selectors) {
+    return Stream.concat(selectors.stream(), Stream.of(defaultSelector))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Combines the resolved defaults and default overrides into a single field map
+   *
+   * @param defaults best matching default parameters, not null
+   * @param overrides best matching default override parameters, not null
+   * @return a field map (Map of String to Object), not null
+   * @throws IllegalStateException if there are no defaults and no default overrides
+   */
+  static Map<String, Object> combineParameters(
+      Optional<Map<String, Object>> defaults, Optional<Map<String, Object>> overrides) {
+
     // Throw if there are no defaults and no default overrides matching the provided selectors
     if (!defaults.isPresent() && !overrides.isPresent()) {
       throw new IllegalStateException(
@@ -141,7 +188,7 @@ public class ConfigurationResolver {
    * @return true if the Constraints match the Selectors and false otherwise
    */
   @SuppressWarnings("unchecked")
-  private static boolean match(List<Constraint> constraints, List<Selector> selectors) {
+  static boolean match(List<Constraint> constraints, List<Selector> selectors) {
 
     // Remove WildcardConstraints since they have no effect, then sort by Constraint criterion
     final List<Constraint> sortedConstraints =
@@ -186,7 +233,7 @@ public class ConfigurationResolver {
    *     not null
    * @return ConfigurationOption winning the tiebreakers, not null
    */
-  private static ConfigurationOption findBestMatch(Collection<ConfigurationOption> matches) {
+  static ConfigurationOption findBestMatch(Collection<ConfigurationOption> matches) {
 
     // Only 1 match - return it
     if (matches.size() == 1) {
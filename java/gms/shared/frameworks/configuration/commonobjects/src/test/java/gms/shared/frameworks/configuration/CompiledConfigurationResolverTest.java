@@ -0,0 +1,285 @@
+package gms.shared.frameworks.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import gms.shared.frameworks.configuration.Operator.Type;
+import gms.shared.frameworks.configuration.constraints.BooleanConstraint;
+import gms.shared.frameworks.configuration.constraints.DefaultConstraint;
+import gms.shared.frameworks.configuration.constraints.DoubleRange;
+import gms.shared.frameworks.configuration.constraints.NumericRangeConstraint;
+import gms.shared.frameworks.configuration.constraints.NumericScalarConstraint;
+import gms.shared.frameworks.configuration.constraints.PhaseConstraint;
+import gms.shared.frameworks.configuration.constraints.StringConstraint;
+import gms.shared.frameworks.configuration.constraints.TimeOfDayRange;
+import gms.shared.frameworks.configuration.constraints.TimeOfDayRangeConstraint;
+import gms.shared.frameworks.configuration.constraints.TimeOfYearRange;
+import gms.shared.frameworks.configuration.constraints.TimeOfYearRangeConstraint;
+import gms.shared.frameworks.configuration.constraints.WildcardConstraint;
+import gms.shared.frameworks.osd.coi.PhaseType;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class CompiledConfigurationResolverTest {
+
+  private static final List<String> CRITERIA =
+      List.of("station", "phase", "enabled", "snr", "baz", "time", "season");
+
+  private static final List<String> STATIONS = List.of("A", "B", "C", "D");
+  private static final List<PhaseType> PHASES = List.of(PhaseType.P, PhaseType.S, PhaseType.Lg);
+  private static final List<Double> SNR_BOUNDS =
+      List.of(Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 2.5, 5.0, 10.0, Double.POSITIVE_INFINITY);
+  private static final List<Number> SNR_VALUES =
+      List.of(-1.0, -0.5, -0.0, 0.0, 1.0, 2.5, 3, 5, 5.0, 7.5, 10.0, 12.0, 20.0, Double.NaN);
+  private static final List<Number> BAZ_VALUES = List.of(0.0, 45.0, 90, 90.0, 135.0, 180.0, 270L);
+  private static final List<LocalTime> TIMES =
+      List.of(LocalTime.MIDNIGHT, LocalTime.of(6, 0), LocalTime.NOON, LocalTime.of(18, 0));
+  private static final List<LocalTime> TIME_VALUES =
+      List.of(
+          LocalTime.MIDNIGHT,
+          LocalTime.of(3, 0),
+          LocalTime.of(6, 0),
+          LocalTime.NOON,
+          LocalTime.of(18, 0),
+          LocalTime.MAX);
+  private static final TimeOfYearRange WINTER =
+      TimeOfYearRange.from(LocalDateTime.of(0, 12, 1, 0, 0), LocalDateTime.of(0, 3, 1, 0, 0));
+
+  @Test
+  void testResolveMatchesConfigurationResolver() {
+    var random = new Random(4096);
+
+    for (var i = 0; i < 300; i++) {
+      var configuration = randomConfiguration(random);
+      var resolver = ConfigurationResolver.compile(configuration);
+
+      for (var j = 0; j < 20; j++) {
+        var selectors = randomSelectors(random);
+        var expected = outcome(() -> ConfigurationResolver.resolve(configuration, selectors));
+        assertEquals(
+            expected,
+            outcome(() -> resolver.resolve(selectors)),
+            () -> configuration + " resolved with " + selectors);
+
+        var canonicalSelectors = resolver.canonicalize(selectors);
+        assertEquals(
+            expected,
+            outcome(() -> ConfigurationResolver.resolve(configuration, canonicalSelectors)),
+            () -> configuration + " resolved with " + canonicalSelectors);
+      }
+    }
+  }
+
+  @Test
+  void testResolveFallsBackForUnindexedSelectors() {
+    var stationIsA =
+        StringConstraint.from("station", Operator.from(Type.EQ, false), Set.of("A"), 10);
+    var configuration =
+        Configuration.from(
+            "TEST-CONFIG",
+            List.of(
+                ConfigurationOption.from(
+                    "DEFAULT", List.of(DefaultConstraint.from()), Map.of("a", 1)),
+                ConfigurationOption.from("STATION-A", List.of(stationIsA), Map.of("a", 2))));
+    var resolver = ConfigurationResolver.compile(configuration);
+
+    List<List<Selector>> selectorLists =
+        List.of(
+            List.of(Selector.from("station", 5)),
+            List.of(Selector.from(DefaultConstraint.CRITERION, "-")),
+            List.of(Selector.from("station", "A"), Selector.from(DefaultConstraint.CRITERION, "-")),
+            List.of(Selector.from("station", "A"), Selector.from("station", "B")));
+
+    assertAll(
+        selectorLists.stream()
+            .map(
+                selectors ->
+                    () ->
+                        assertEquals(
+                            outcome(() -> ConfigurationResolver.resolve(configuration, selectors)),
+                            outcome(() -> resolver.resolve(selectors)))));
+  }
+
+  @Test
+  void testCanonicalizeNumericSelectors() {
+    var near =
+        NumericRangeConstraint.from(
+            "distance", Operator.from(Type.IN, false), DoubleRange.from(0, 20), 10);
+    var far =
+        NumericRangeConstraint.from(
+            "distance", Operator.from(Type.IN, false), DoubleRange.from(20, 180), 10);
+    var configuration =
+        Configuration.from(
+            "TEST-CONFIG",
+            List.of(
+                ConfigurationOption.from("NEAR", List.of(near), Map.of("a", 1)),
+                ConfigurationOption.from("FAR", List.of(far), Map.of("a", 2))));
+    var resolver = ConfigurationResolver.compile(configuration);
+
+    Selector<String> station = Selector.from("station", "A");
+    List<Selector> nearSelectors = List.of(station, Selector.from("distance", 12.3));
+    List<Selector> otherNearSelectors = List.of(station, Selector.from("distance", 15.7));
+    List<Selector> boundarySelectors = List.of(station, Selector.from("distance", 20.0));
+
+    var canonicalSelectors = resolver.canonicalize(nearSelectors);
+    assertSame(nearSelectors, canonicalSelectors);
+    assertEquals(canonicalSelectors, resolver.canonicalize(otherNearSelectors));
+    assertSame(boundarySelectors, resolver.canonicalize(boundarySelectors));
+    assertEquals(
+        List.of(station, Selector.from("distance", 12.3)),
+        resolver.canonicalize(List.of(station, Selector.from("distance", 1))));
+  }
+
+  @Test
+  void testResolveNullSelectors() {
+    var resolver = ConfigurationResolver.compile(Configuration.from("TEST-CONFIG", List.of()));
+
+    TestUtilities.expectExceptionAndMessage(
+        () -> resolver.resolve(null),
+        NullPointerException.class,
+        "Cannot resolve from null Selectors");
+  }
+
+  @Test
+  void testCompileNullConfiguration() {
+    TestUtilities.expectExceptionAndMessage(
+        () -> ConfigurationResolver.compile(null),
+        NullPointerException.class,
+        "Cannot compile a null Configuration");
+  }
+
+  /** Resolution result, or the class and message of the exception thrown by the resolution */
+  private static Object outcome(Supplier<Map<String, Object>> resolution) {
+    try {
+      return resolution.get();
+    } catch (RuntimeException e) {
+      return List.of(e.getClass(), String.valueOf(e.getMessage()));
+    }
+  }
+
+  private static Configuration randomConfiguration(Random random) {
+    List<ConfigurationOption> options = new ArrayList<>();
+
+    int defaultCount = random.nextInt(3);
+    for (var i = 0; i < defaultCount; i++) {
+      List<Constraint> constraints = randomConstraints(random, 2);
+      constraints.add(random.nextInt(constraints.size() + 1), DefaultConstraint.from());
+      options.add(ConfigurationOption.from("DEFAULT-" + i, constraints, Map.of("a", i, "d", i)));
+    }
+
+    int overrideCount = random.nextInt(12);
+    for (var i = 0; i < overrideCount; i++) {
+      options.add(
+          ConfigurationOption.from(
+              "OVERRIDE-" + i, randomConstraints(random, 4), Map.of("a", 100 + i)));
+    }
+
+    return Configuration.from("TEST-CONFIG", options);
+  }
+
+  private static List<Constraint> randomConstraints(Random random, int maxCount) {
+    List<String> criteria = new ArrayList<>(CRITERIA);
+    List<Constraint> constraints = new ArrayList<>();
+
+    int count = random.nextInt(maxCount + 1);
+    for (var i = 0; i < count; i++) {
+      String criterion = criteria.remove(random.nextInt(criteria.size()));
+      constraints.add(
+          random.nextInt(5) == 0
+              ? WildcardConstraint.from(criterion)
+              : randomConstraint(random, criterion));
+    }
+
+    return constraints;
+  }
+
+  private static Constraint<?, ?> randomConstraint(Random random, String criterion) {
+    // Priorities must be consistent for each criterion within a Configuration
+    long priority = 10L * (CRITERIA.indexOf(criterion) + 1);
+
+    return switch (criterion) {
+      case "station" -> StringConstraint.from(
+          criterion,
+          randomOperator(random, Type.IN, Type.EQ),
+          randomSet(random, STATIONS),
+          priority);
+      case "phase" -> PhaseConstraint.from(
+          criterion, randomOperator(random, Type.IN, Type.EQ), randomSet(random, PHASES), priority);
+      case "enabled" -> BooleanConstraint.from(criterion, random.nextBoolean(), priority);
+      case "snr" -> {
+        double first = pick(random, SNR_BOUNDS);
+        double second = pick(random, SNR_BOUNDS);
+        yield NumericRangeConstraint.from(
+            criterion,
+            randomOperator(random, Type.IN),
+            Double.compare(first, second) <= 0
+                ? DoubleRange.from(first, second)
+                : DoubleRange.from(second, first),
+            priority);
+      }
+      case "baz" -> NumericScalarConstraint.from(
+          criterion,
+          randomOperator(random, Type.EQ),
+          pick(random, BAZ_VALUES).doubleValue(),
+          priority);
+      case "time" -> TimeOfDayRangeConstraint.from(
+          criterion,
+          randomOperator(random, Type.IN),
+          TimeOfDayRange.from(pick(random, TIMES), pick(random, TIMES)),
+          priority);
+      default -> TimeOfYearRangeConstraint.from(
+          criterion, randomOperator(random, Type.IN), WINTER, priority);
+    };
+  }
+
+  private static List<Selector> randomSelectors(Random random) {
+    List<Selector> selectors = new ArrayList<>();
+    for (String criterion : CRITERIA) {
+      if (random.nextInt(4) == 0) {
+        continue;
+      }
+
+      Object value =
+          switch (criterion) {
+            case "station" -> pick(random, STATIONS);
+            case "phase" -> pick(random, PHASES);
+            case "enabled" -> random.nextBoolean();
+            case "snr" -> pick(random, SNR_VALUES);
+            case "baz" -> pick(random, BAZ_VALUES);
+            case "time" -> pick(random, TIME_VALUES);
+            default -> LocalDateTime.of(0, 1 + random.nextInt(12), 1, 0, 0);
+          };
+
+      // Occasionally select with a value the Constraints cannot evaluate
+      selectors.add(Selector.from(criterion, random.nextInt(50) == 0 ? "invalid" : value));
+    }
+
+    return selectors;
+  }
+
+  private static Operator randomOperator(Random random, Type... types) {
+    return Operator.from(types[random.nextInt(types.length)], random.nextInt(4) == 0);
+  }
+
+  private static <T> Set<T> randomSet(Random random, List<T> values) {
+    List<T> remaining = new ArrayList<>(values);
+    int count = 1 + random.nextInt(2);
+    List<T> selected = new ArrayList<>();
+    for (var i = 0; i < count; i++) {
+      selected.add(remaining.remove(random.nextInt(remaining.size())));
+    }
+    return Set.copyOf(selected);
+  }
+
+  private static <T> T pick(Random random, List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+}
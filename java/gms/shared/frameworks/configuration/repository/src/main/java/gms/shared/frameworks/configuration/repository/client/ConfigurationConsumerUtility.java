@@ -8,7 +8,6 @@ import gms.shared.frameworks.configuration.ConfigurationRepository;
 import gms.shared.frameworks.configuration.ConfigurationResolver;
 import gms.shared.frameworks.configuration.RetryConfig;
 import gms.shared.frameworks.configuration.Selector;
-import gms.shared.frameworks.osd.coi.FieldMapUtilities;
 import gms.shared.frameworks.utilities.Validation;
 import jakarta.persistence.NoResultException;
 import java.time.Duration;
@@ -560,12 +559,13 @@ public class ConfigurationConsumerUtility {
     Objects.requireNonNull(parametersClass, "Cannot resolve Configuration to null parametersClass");
 
     // Resolve and construct parametersClass instance.
-    // resolve() call is not inlined in SerializationUtility.fromFieldMap call since both calls
+    // resolveFieldMap() call is not inlined in the convertFieldMap call since both calls
     // produce IllegalArgumentException but only the SerializationUtility's exception is caught and
     // rethrown.
-    final Map<String, Object> resolvedFieldMap = resolve(configurationName, selectors);
+    final ConfigurationSelectorCache selectorCache = getSelectorCache(configurationName, selectors);
+    final Map<String, Object> resolvedFieldMap = selectorCache.resolveFieldMap(selectors);
     try {
-      return FieldMapUtilities.fromFieldMap(resolvedFieldMap, parametersClass);
+      return selectorCache.convertFieldMap(resolvedFieldMap, parametersClass);
     } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException(
           "Resolved Configuration is not a valid instance of " + parametersClass.getCanonicalName(),
@@ -587,6 +587,22 @@ public class ConfigurationConsumerUtility {
    *     algorithm.
    */
   public Map<String, Object> resolve(String configurationName, List<Selector> selectors) {
+    return getSelectorCache(configurationName, selectors).resolveFieldMap(selectors);
+  }
+
+  /**
+   * Obtains the {@link ConfigurationSelectorCache} for the {@link Configuration} with the provided
+   * name, loading the Configuration if it has not been loaded yet
+   *
+   * @param configurationName name of the Configuration to resolve
+   * @param selectors {@link Selector}s describing how to resolve the Configuration
+   * @return {@link ConfigurationSelectorCache}, not null
+   * @throws NullPointerException if configurationName or selectors are null
+   * @throws IllegalArgumentException if this ConfigurationConsumerUtility does not have a
+   *     Configuration with the provided name
+   */
+  private ConfigurationSelectorCache getSelectorCache(
+      String configurationName, List<Selector> selectors) {
     Objects.requireNonNull(
         configurationName, "Cannot resolve Configuration for null configurationName");
     Objects.requireNonNull(selectors, "Cannot resolve Configuration for null selectors");
@@ -620,8 +636,7 @@ public class ConfigurationConsumerUtility {
                 new IllegalArgumentException(
                     "No Configuration named "
                         + configurationName
-                        + " is in this ConfigurationConsumerUtility"))
-        .resolveFieldMap(selectors);
+                        + " is in this ConfigurationConsumerUtility"));
   }
 
   protected Duration getSelectorCacheExpiration() {
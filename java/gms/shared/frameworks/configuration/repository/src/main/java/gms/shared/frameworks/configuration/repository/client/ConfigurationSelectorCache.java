@@ -1,10 +1,26 @@
 package gms.shared.frameworks.configuration.repository.client;
 
 import gms.shared.frameworks.configuration.Selector;
+import gms.shared.frameworks.osd.coi.FieldMapUtilities;
 import java.util.List;
 import java.util.Map;
 
 public interface ConfigurationSelectorCache {
 
   Map<String, Object> resolveFieldMap(List<Selector> selectors);
+
+  /**
+   * Converts a field map resolved by this cache into an instance of the parameters class.
+   * Implementations may return the same instance for repeated conversions of a resolved field map,
+   * so parameters classes are expected to be immutable.
+   *
+   * @param fieldMap field map obtained from {@link #resolveFieldMap(List)}, not null
+   * @param parametersClass class type of the parameters, not null
+   * @param <T> type of the parametersClass
+   * @return instance of T (the parametersClass), not null
+   * @throws IllegalArgumentException if the field map cannot be converted to an instance of T
+   */
+  default <T> T convertFieldMap(Map<String, Object> fieldMap, Class<T> parametersClass) {
+    return FieldMapUtilities.fromFieldMap(fieldMap, parametersClass);
+  }
 }
@@ -2,32 +2,41 @@ package gms.shared.frameworks.configuration.repository.client;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.util.concurrent.UncheckedExecutionException;
+import gms.shared.frameworks.configuration.CompiledConfigurationResolver;
 import gms.shared.frameworks.configuration.Configuration;
 import gms.shared.frameworks.configuration.ConfigurationResolver;
 import gms.shared.frameworks.configuration.Selector;
+import gms.shared.frameworks.osd.coi.FieldMapUtilities;
 import java.time.Duration;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Predicate;
 
 public class ConfigurationSelectorGuavaCache implements ConfigurationSelectorCache {
 
-  private final Configuration configuration;
+  private final CompiledConfigurationResolver resolver;
 
   private final Cache<Set<Selector>, Map<String, Object>> fieldMapCache;
 
-  private final Collection<Map<String, Object>> cacheValues;
+  // Equal field maps resolved from different Selectors share a single instance
+  private final Interner<Map<String, Object>> fieldMapInterner;
+
+  // Parameters class instances converted from each interned field map. Weak keys are compared by
+  // identity, so lookups do not hash the field map contents.
+  private final Cache<Map<String, Object>, Map<Class<?>, Object>> parametersCache;
 
   private ConfigurationSelectorGuavaCache(
       Configuration configuration, Duration expiration, long maxEntries) {
-    this.configuration = configuration;
+    this.resolver = ConfigurationResolver.compile(configuration);
     this.fieldMapCache =
         CacheBuilder.newBuilder().expireAfterAccess(expiration).maximumSize(maxEntries).build();
-    this.cacheValues = fieldMapCache.asMap().values();
+    this.fieldMapInterner = Interners.newWeakInterner();
+    this.parametersCache = CacheBuilder.newBuilder().weakKeys().build();
   }
 
   public static ConfigurationSelectorGuavaCache create(
@@ -37,9 +46,12 @@ public class ConfigurationSelectorGuavaCache implements ConfigurationSelectorCac
 
   @Override
   public Map<String, Object> resolveFieldMap(List<Selector> selectors) {
-    Set<Selector> selectorSet = Set.copyOf(selectors);
+    // Numeric Selectors resolving the same way share a cache entry
+    List<Selector> canonicalSelectors = resolver.canonicalize(selectors);
+    Set<Selector> selectorSet = Set.copyOf(canonicalSelectors);
     try {
-      return fieldMapCache.get(selectorSet, () -> resolveAndCheckExistingFieldMap(selectors));
+      return fieldMapCache.get(
+          selectorSet, () -> resolveAndCheckExistingFieldMap(canonicalSelectors));
     } catch (ExecutionException | UncheckedExecutionException e) {
       // Need to unwrap the exception if it's unchecked.
       Throwable cause = e.getCause();
@@ -56,10 +68,19 @@ public class ConfigurationSelectorGuavaCache implements ConfigurationSelectorCac
     }
   }
 
+  @Override
+  public <T> T convertFieldMap(Map<String, Object> fieldMap, Class<T> parametersClass) {
+    var parametersByClass =
+        parametersCache.asMap().computeIfAbsent(fieldMap, f -> new ConcurrentHashMap<>());
+
+    // Conversion failures propagate without caching anything
+    return parametersClass.cast(
+        parametersByClass.computeIfAbsent(
+            parametersClass, c -> FieldMapUtilities.fromFieldMap(fieldMap, c)));
+  }
+
   private Map<String, Object> resolveAndCheckExistingFieldMap(List<Selector> selectors) {
-    var fieldMap = ConfigurationResolver.resolve(configuration, selectors);
-    var existingFieldMap = cacheValues.stream().filter(Predicate.isEqual(fieldMap)).findAny();
-    return existingFieldMap.orElse(fieldMap);
+    return fieldMapInterner.intern(resolver.resolve(selectors));
   }
 
   protected Cache<Set<Selector>, Map<String, Object>> getFieldMapCache() {
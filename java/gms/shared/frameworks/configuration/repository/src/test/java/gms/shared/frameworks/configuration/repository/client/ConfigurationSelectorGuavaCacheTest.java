@@ -7,9 +7,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.google.common.collect.Lists;
+import gms.shared.frameworks.configuration.CompiledConfigurationResolver;
 import gms.shared.frameworks.configuration.Configuration;
+import gms.shared.frameworks.configuration.ConfigurationOption;
 import gms.shared.frameworks.configuration.ConfigurationResolver;
+import gms.shared.frameworks.configuration.Operator;
+import gms.shared.frameworks.configuration.Operator.Type;
 import gms.shared.frameworks.configuration.Selector;
+import gms.shared.frameworks.configuration.constraints.DefaultConstraint;
+import gms.shared.frameworks.configuration.constraints.DoubleRange;
+import gms.shared.frameworks.configuration.constraints.NumericRangeConstraint;
+import gms.shared.frameworks.configuration.repository.FooParameters;
+import gms.shared.frameworks.osd.coi.FieldMapUtilities;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,21 +44,23 @@ class ConfigurationSelectorGuavaCacheTest {
 
   @Mock Configuration mockConfiguration;
 
+  @Mock CompiledConfigurationResolver mockResolver;
+
   @Test
   void testUpdatesCache() {
-    ConfigurationSelectorGuavaCache cache =
-        ConfigurationSelectorGuavaCache.create(
-            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
-
     Map<String, Object> testFieldMap = Map.of("TEST", "TEST");
     List<Selector> dummySelectors = Collections.emptyList();
 
     try (MockedStatic<ConfigurationResolver> resolve =
         Mockito.mockStatic(ConfigurationResolver.class)) {
 
-      resolve
-          .when(() -> ConfigurationResolver.resolve(mockConfiguration, dummySelectors))
-          .thenReturn(new HashMap<>(testFieldMap));
+      resolve.when(() -> ConfigurationResolver.compile(mockConfiguration)).thenReturn(mockResolver);
+      ConfigurationSelectorGuavaCache cache =
+          ConfigurationSelectorGuavaCache.create(
+              mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+      Mockito.when(mockResolver.canonicalize(dummySelectors)).thenReturn(dummySelectors);
+      Mockito.when(mockResolver.resolve(dummySelectors)).thenReturn(new HashMap<>(testFieldMap));
       var fieldMapCache = cache.getFieldMapCache();
 
       assertNull(fieldMapCache.getIfPresent(Set.copyOf(dummySelectors)));
@@ -61,19 +72,19 @@ class ConfigurationSelectorGuavaCacheTest {
 
   @Test
   void testResolveSameSelectors() {
-    ConfigurationSelectorGuavaCache cache =
-        ConfigurationSelectorGuavaCache.create(
-            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
-
     Map<String, Object> testFieldMap = Map.of("TEST", "TEST");
     List<Selector> selectors = List.of(Selector.from("TEST", 1), Selector.from("TEST2", "TEST"));
 
     try (MockedStatic<ConfigurationResolver> resolve =
         Mockito.mockStatic(ConfigurationResolver.class)) {
 
-      resolve
-          .when(() -> ConfigurationResolver.resolve(mockConfiguration, selectors))
-          .thenReturn(new HashMap<>(testFieldMap));
+      resolve.when(() -> ConfigurationResolver.compile(mockConfiguration)).thenReturn(mockResolver);
+      ConfigurationSelectorGuavaCache cache =
+          ConfigurationSelectorGuavaCache.create(
+              mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+      Mockito.when(mockResolver.canonicalize(selectors)).thenReturn(selectors);
+      Mockito.when(mockResolver.resolve(selectors)).thenReturn(new HashMap<>(testFieldMap));
       var fieldMapCache = cache.getFieldMapCache();
 
       assertNull(fieldMapCache.getIfPresent(Set.copyOf(selectors)));
@@ -82,6 +93,7 @@ class ConfigurationSelectorGuavaCacheTest {
       assertEquals(testFieldMap, fieldMapCache.getIfPresent(Set.copyOf(selectors)));
 
       List<Selector> reverse = Lists.reverse(selectors);
+      Mockito.when(mockResolver.canonicalize(reverse)).thenReturn(reverse);
       assertEquals(testFieldMap, cache.resolveFieldMap(reverse));
       assertEquals(1, fieldMapCache.size());
     }
@@ -89,10 +101,6 @@ class ConfigurationSelectorGuavaCacheTest {
 
   @Test
   void testResolveDifferentSelectorsSameFieldMap() {
-    ConfigurationSelectorGuavaCache cache =
-        ConfigurationSelectorGuavaCache.create(
-            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
-
     Map<String, Object> testFieldMap = Map.of("TEST", "TEST");
     List<Selector> selectors1 = List.of(Selector.from("TEST", 1));
     List<Selector> selectors2 = List.of(Selector.from("TEST", 2));
@@ -100,12 +108,15 @@ class ConfigurationSelectorGuavaCacheTest {
     try (MockedStatic<ConfigurationResolver> resolve =
         Mockito.mockStatic(ConfigurationResolver.class)) {
 
-      resolve
-          .when(() -> ConfigurationResolver.resolve(mockConfiguration, selectors1))
-          .thenReturn(new HashMap<>(testFieldMap));
-      resolve
-          .when(() -> ConfigurationResolver.resolve(mockConfiguration, selectors2))
-          .thenReturn(new HashMap<>(testFieldMap));
+      resolve.when(() -> ConfigurationResolver.compile(mockConfiguration)).thenReturn(mockResolver);
+      ConfigurationSelectorGuavaCache cache =
+          ConfigurationSelectorGuavaCache.create(
+              mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+      Mockito.when(mockResolver.canonicalize(selectors1)).thenReturn(selectors1);
+      Mockito.when(mockResolver.resolve(selectors1)).thenReturn(new HashMap<>(testFieldMap));
+      Mockito.when(mockResolver.canonicalize(selectors2)).thenReturn(selectors2);
+      Mockito.when(mockResolver.resolve(selectors2)).thenReturn(new HashMap<>(testFieldMap));
 
       Map<String, Object> resolvedMap1 = cache.resolveFieldMap(selectors1);
       Map<String, Object> resolvedMap2 = cache.resolveFieldMap(selectors2);
@@ -117,19 +128,71 @@ class ConfigurationSelectorGuavaCacheTest {
     }
   }
 
-  @ParameterizedTest
-  @MethodSource("exceptionSource")
-  void testResolutionFailureThrowsException(RuntimeException exception) {
+  @Test
+  void testResolveNumericSelectorsSharedAcrossInterval() {
+    var near =
+        NumericRangeConstraint.from(
+            "distance", Operator.from(Type.IN, false), DoubleRange.from(0, 20), 10);
+    var configuration =
+        Configuration.from(
+            "TEST-CONFIG",
+            List.of(
+                ConfigurationOption.from(
+                    "DEFAULT", List.of(DefaultConstraint.from()), Map.of("a", 1)),
+                ConfigurationOption.from("NEAR", List.of(near), Map.of("a", 2))));
+    ConfigurationSelectorGuavaCache cache =
+        ConfigurationSelectorGuavaCache.create(configuration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+    var nearFieldMap = cache.resolveFieldMap(List.of(Selector.from("distance", 12.3)));
+    assertEquals(Map.of("a", 2), nearFieldMap);
+    assertSame(nearFieldMap, cache.resolveFieldMap(List.of(Selector.from("distance", 15.7))));
+    assertEquals(1, cache.getFieldMapCache().size());
+
+    assertEquals(Map.of("a", 1), cache.resolveFieldMap(List.of(Selector.from("distance", 45.0))));
+    assertEquals(2, cache.getFieldMapCache().size());
+  }
+
+  @Test
+  void testConvertFieldMapReusesParameters() {
+    ConfigurationSelectorGuavaCache cache =
+        ConfigurationSelectorGuavaCache.create(
+            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+    FooParameters expected = FooParameters.from(10, "string10", true);
+    Map<String, Object> fieldMap = FieldMapUtilities.toFieldMap(expected);
+
+    FooParameters parameters = cache.convertFieldMap(fieldMap, FooParameters.class);
+    assertEquals(expected, parameters);
+    assertSame(parameters, cache.convertFieldMap(fieldMap, FooParameters.class));
+  }
+
+  @Test
+  void testConvertFieldMapInvalidParameters() {
     ConfigurationSelectorGuavaCache cache =
         ConfigurationSelectorGuavaCache.create(
             mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
 
+    Map<String, Object> fieldMap = Map.of("a", "not a number");
+
+    assertThrows(
+        IllegalArgumentException.class, () -> cache.convertFieldMap(fieldMap, FooParameters.class));
+    assertThrows(
+        IllegalArgumentException.class, () -> cache.convertFieldMap(fieldMap, FooParameters.class));
+  }
+
+  @ParameterizedTest
+  @MethodSource("exceptionSource")
+  void testResolutionFailureThrowsException(RuntimeException exception) {
     try (MockedStatic<ConfigurationResolver> resolve =
         Mockito.mockStatic(ConfigurationResolver.class)) {
 
-      resolve
-          .when(() -> ConfigurationResolver.resolve(mockConfiguration, List.of()))
-          .thenThrow(exception);
+      resolve.when(() -> ConfigurationResolver.compile(mockConfiguration)).thenReturn(mockResolver);
+      ConfigurationSelectorGuavaCache cache =
+          ConfigurationSelectorGuavaCache.create(
+              mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+      Mockito.when(mockResolver.canonicalize(List.of())).thenReturn(List.of());
+      Mockito.when(mockResolver.resolve(List.of())).thenThrow(exception);
       assertThrows(exception.getClass(), () -> cache.resolveFieldMap(List.of()));
     }
   }
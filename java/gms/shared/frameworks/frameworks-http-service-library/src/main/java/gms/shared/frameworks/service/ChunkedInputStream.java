@@ -0,0 +1,69 @@
+package gms.shared.frameworks.service;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * {@link InputStream} reading through a sequence of byte chunks, e.g. the chunks of a request body
+ * as they are received. Only the chunk currently being read is held by the stream; the next chunk
+ * is retrieved from the iterator once the current one is exhausted.
+ */
+class ChunkedInputStream extends InputStream {
+
+  private static final byte[] EMPTY_CHUNK = new byte[0];
+
+  private final Iterator<byte[]> chunks;
+  private byte[] chunk = EMPTY_CHUNK;
+  private int position;
+
+  ChunkedInputStream(Iterator<byte[]> chunks) {
+    this.chunks = Objects.requireNonNull(chunks, "Cannot create ChunkedInputStream from null");
+  }
+
+  @Override
+  public int read() {
+    if (!nextChunkAvailable()) {
+      return -1;
+    }
+    return chunk[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    if (length == 0) {
+      return 0;
+    }
+    if (!nextChunkAvailable()) {
+      return -1;
+    }
+
+    var count = Math.min(length, chunk.length - position);
+    System.arraycopy(chunk, position, bytes, offset, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return chunk.length - position;
+  }
+
+  /**
+   * Advances to the next non-empty chunk if the current chunk has been read, blocking until the
+   * chunk is received
+   *
+   * @return true if there is an unread byte, false at the end of the stream
+   */
+  private boolean nextChunkAvailable() {
+    while (position == chunk.length) {
+      if (!chunks.hasNext()) {
+        return false;
+      }
+      chunk = chunks.next();
+      position = 0;
+    }
+    return true;
+  }
+}
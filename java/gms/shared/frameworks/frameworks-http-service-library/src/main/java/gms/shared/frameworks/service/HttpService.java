@@ -15,6 +15,7 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +35,7 @@ public class HttpService {
   private static final Logger LOGGER = LoggerFactory.getLogger(HttpService.class);
   private static final String TEXT_PLAIN = "text/plain";
   private static final String APPLICATION_JSON = "application/json";
+  private static final int STREAMING_BODY_PREFETCH = 16;
 
   private boolean isRunning = false;
 
@@ -103,7 +105,11 @@ public class HttpService {
                   LOGGER.info("Registering {} routes", this.definition.getRoutes().size());
                   for (Route r : this.definition.getRoutes()) {
                     LOGGER.info("Registering route with path {}", r.getPath());
-                    routes.post(r.getPath(), nettyRoute(r.getHandler()));
+                    routes.post(
+                        r.getPath(),
+                        r.isStreamingBody()
+                            ? streamingNettyRoute(r.getHandler())
+                            : nettyRoute(r.getHandler()));
                   }
                 })
             .bindNow();
@@ -161,6 +167,62 @@ public class HttpService {
             .flatMapMany(buf -> handleRequest(nettyRequest, nettyResponse, handler, buf));
   }
 
+  /**
+   * Creates an I/O handler {@link BiFunction}, as {@link #nettyRoute(RequestHandler)} does, that
+   * streams the request body to the {@link RequestHandler} rather than aggregating it first. The
+   * handler reads the body incrementally through {@link Request#getBodyStream()}; at most {@link
+   * #STREAMING_BODY_PREFETCH} received chunks are buffered ahead of the handler, so the memory held
+   * for a request stays bounded regardless of its size.
+   *
+   * <p>The handler is invoked on {@link Schedulers#boundedElastic()} since reading the body blocks
+   * until it is received. A {@link Flux} response body is also subscribed to there so it may keep
+   * reading the request body as the response is sent.
+   *
+   * @param handler the request handler operation backed by application logic
+   * @return a route function that streams the request body to the provided RequestHandler
+   */
+  private BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> streamingNettyRoute(
+      RequestHandler<?> handler) {
+    return (nettyRequest, nettyResponse) ->
+        Flux.using(
+            () -> nettyRequest.receive().asByteArray().toStream(STREAMING_BODY_PREFETCH),
+            (Stream<byte[]> chunks) -> {
+              final Request request =
+                  new NettyRequest(nettyRequest, new ChunkedInputStream(chunks.iterator()));
+              return Mono.fromCallable(() -> handleStreamingRequest(nettyRequest, request, handler))
+                  .subscribeOn(Schedulers.boundedElastic())
+                  .flatMapMany(
+                      routeResponse ->
+                          writeOutResponse(
+                              nettyResponse, routeResponse, request.clientAcceptsMsgpack()));
+            },
+            Stream::close);
+  }
+
+  /**
+   * Handles a request whose body is streamed with the given {@link RequestHandler} object
+   *
+   * @param nettyRequest - {@link HttpServerRequest} that was provided by the incoming request.
+   * @param request - {@link Request} wrapping the incoming request and its streamed body
+   * @param handler - {@link RequestHandler} holding the callback to handle the request with
+   * @return the {@link Response} of the handler, with any {@link Flux} body subscribed to on {@link
+   *     Schedulers#boundedElastic()}
+   */
+  private Response<?> handleStreamingRequest(
+      HttpServerRequest nettyRequest, Request request, RequestHandler<?> handler) {
+    LOGGER.info("Handling streaming request: {}", nettyRequest);
+    final ObjectMapper deserializer =
+        request.clientSentMsgpack()
+            ? this.definition.getMsgpackMapper()
+            : this.definition.getJsonMapper();
+    final Response<?> routeResponse = invokeHandler(handler, request, deserializer);
+    return routeResponse
+        .getBody()
+        .flatMap(HttpService::asFlux)
+        .<Response<?>>map(flux -> Response.success(flux.subscribeOn(Schedulers.boundedElastic())))
+        .orElse(routeResponse);
+  }
+
   /**
    * Handles the given data, sent as a byte[], with the given {@link RequestHandler} object
    *
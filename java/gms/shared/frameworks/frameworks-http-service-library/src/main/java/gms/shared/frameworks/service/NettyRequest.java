@@ -1,5 +1,9 @@
 package gms.shared.frameworks.service;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -12,6 +16,7 @@ public class NettyRequest implements Request {
   private static final Logger LOGGER = LoggerFactory.getLogger(NettyRequest.class);
   private HttpServerRequest request;
   private byte[] body;
+  private InputStream bodyStream;
 
   public NettyRequest(HttpServerRequest request, byte[] body) {
     this.request = request;
@@ -19,6 +24,20 @@ public class NettyRequest implements Request {
     LOGGER.debug("Request Headers:{}", request.requestHeaders());
   }
 
+  /**
+   * Creates a request whose body is read incrementally from the provided stream. The body is only
+   * buffered in memory as a whole if it is retrieved through {@link #getBody()} or {@link
+   * #getRawBody()}.
+   *
+   * @param request the underlying netty request
+   * @param bodyStream stream of the request body
+   */
+  public NettyRequest(HttpServerRequest request, InputStream bodyStream) {
+    this.request = request;
+    this.bodyStream = bodyStream;
+    LOGGER.debug("Request Headers:{}", request.requestHeaders());
+  }
+
   @Override
   public Optional<String> getPathParam(String name) {
     return Optional.ofNullable(this.request.param(name));
@@ -26,14 +45,26 @@ public class NettyRequest implements Request {
 
   @Override
   public String getBody() {
-    return new String(this.body);
+    return new String(getRawBody());
   }
 
   @Override
   public byte[] getRawBody() {
+    if (this.body == null) {
+      try {
+        this.body = this.bodyStream.readAllBytes();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read the request body", e);
+      }
+    }
     return this.body;
   }
 
+  @Override
+  public InputStream getBodyStream() {
+    return this.bodyStream != null ? this.bodyStream : new ByteArrayInputStream(this.body);
+  }
+
   @Override
   public Optional<String> getHeader(String name) {
     return Optional.ofNullable(this.request.requestHeaders().get(name));
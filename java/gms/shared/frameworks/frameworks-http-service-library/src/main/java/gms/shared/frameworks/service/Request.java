@@ -1,6 +1,8 @@
 package gms.shared.frameworks.service;
 
 import gms.shared.frameworks.common.ContentType;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
 
@@ -33,6 +35,17 @@ public interface Request {
    */
   byte[] getRawBody();
 
+  /**
+   * Gets the body of the request as a stream, to be read incrementally e.g. by an {@link
+   * com.fasterxml.jackson.databind.ObjectMapper}. The stream can only be read once, and reading it
+   * excludes reading the body through {@link #getBody()} or {@link #getRawBody()}.
+   *
+   * @return a stream of the raw bytes of the body of the request
+   */
+  default InputStream getBodyStream() {
+    return new ByteArrayInputStream(getRawBody());
+  }
+
   /**
    * Gets the header with the specified name
    *
@@ -22,6 +22,14 @@ public abstract class Route {
    */
   public abstract RequestHandler getHandler();
 
+  /**
+   * Indicates whether requests matching this route have their body streamed to the handler through
+   * {@link Request#getBodyStream()} rather than aggregated before the handler is invoked.
+   *
+   * @return true if the request body is streamed, false if it is aggregated
+   */
+  public abstract boolean isStreamingBody();
+
   /**
    * Creates a Route
    *
@@ -30,12 +38,30 @@ public abstract class Route {
    * @return a route
    */
   public static Route create(String path, RequestHandler handler) {
+    return create(path, handler, false);
+  }
+
+  /**
+   * Creates a Route whose handler reads the request body incrementally from {@link
+   * Request#getBodyStream()}, so the body is never held in memory as a whole. A {@link
+   * reactor.core.publisher.Flux} response body produced by the handler is subscribed to on a
+   * scheduler that allows blocking, so it may lazily read from the request body stream.
+   *
+   * @param path the path (URL) of the route
+   * @param handler the handler that is to be used for requests matching this route
+   * @return a route
+   */
+  public static Route createStreaming(String path, RequestHandler handler) {
+    return create(path, handler, true);
+  }
+
+  private static Route create(String path, RequestHandler handler, boolean streamingBody) {
     Validate.notBlank(path, "Path cannot be blank or null");
     if (!path.startsWith("/")) {
       path = "/" + path;
     }
     validateIsUrl(path);
-    return new AutoValue_Route(path, handler);
+    return new AutoValue_Route(path, handler, streamingBody);
   }
 
   private static void validateIsUrl(String path) {
@@ -0,0 +1,44 @@
+package gms.shared.frameworks.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChunkedInputStreamTest {
+
+  @Test
+  void testReadAcrossChunks() throws IOException {
+    var stream =
+        new ChunkedInputStream(
+            List.of(new byte[] {1, 2}, new byte[0], new byte[] {3}, new byte[] {4, 5, 6})
+                .iterator());
+
+    assertEquals(1, stream.read());
+    var bytes = new byte[4];
+    assertEquals(1, stream.read(bytes, 0, 4));
+    assertEquals(2, bytes[0]);
+    assertArrayEquals(new byte[] {3, 4, 5, 6}, stream.readAllBytes());
+    assertEquals(-1, stream.read());
+    assertEquals(-1, stream.read(bytes, 0, 4));
+    assertEquals(0, stream.read(bytes, 0, 0));
+  }
+
+  @Test
+  void testReadUnsignedBytes() {
+    var stream = new ChunkedInputStream(List.of(new byte[] {(byte) 0xFF}).iterator());
+
+    assertEquals(255, stream.read());
+    assertEquals(-1, stream.read());
+  }
+
+  @Test
+  void testReadInvalidRange() {
+    var stream = new ChunkedInputStream(List.<byte[]>of().iterator());
+
+    assertThrows(IndexOutOfBoundsException.class, () -> stream.read(new byte[2], 1, 2));
+  }
+}
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.io.JsonEOFException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auto.value.AutoValue;
@@ -22,6 +23,7 @@ import gms.shared.frameworks.common.HttpStatus.Code;
 import gms.shared.frameworks.common.config.ServerConfig;
 import gms.shared.frameworks.osd.coi.datatransferobjects.CoiObjectMapperFactory;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.ServerSocket;
@@ -62,6 +64,12 @@ class HttpServiceTest {
           // returns a Flux based on parameters from the StreamingRequest input
           Route.create("/streamingResponse", HttpServiceTest::streamingResponse),
 
+          // returns the keys from the streamed body of the request as an array
+          Route.createStreaming("/streamingEchoKeys", HttpServiceTest::streamingEchoKeys),
+
+          // returns a Flux of the doubled integers lazily read from the streamed request body
+          Route.createStreaming("/streamingDoubles", HttpServiceTest::streamingDoubles),
+
           // returns an error
           Route.create("/error", (req, deserializer) -> Response.error(Code.BAD_GATEWAY, "error")),
 
@@ -162,6 +170,46 @@ class HttpServiceTest {
     }
   }
 
+  private static Response<List<String>> streamingEchoKeys(
+      Request request, ObjectMapper deserializer) {
+    try {
+      var jsonNode = deserializer.readTree(request.getBodyStream());
+      List<String> keysList = new ArrayList<>();
+      jsonNode.fieldNames().forEachRemaining(keysList::add);
+      return Response.success(keysList);
+    } catch (IOException e) {
+      return Response.clientError("Exception on deserialization: " + e.getMessage());
+    }
+  }
+
+  private static Response<Flux<?>> streamingDoubles(Request request, ObjectMapper deserializer) {
+    return Response.success(
+        Flux.<Integer, JsonParser>generate(
+            () -> deserializer.getFactory().createParser(request.getBodyStream()),
+            (parser, sink) -> {
+              try {
+                if (parser.nextToken() == null) {
+                  sink.complete();
+                } else {
+                  sink.next(2 * parser.readValueAs(Integer.class));
+                }
+              } catch (JsonEOFException ex) {
+                // MessagePack JsonParser implementation throws this when EOF is reached
+                sink.complete();
+              } catch (IOException e) {
+                sink.error(e);
+              }
+              return parser;
+            },
+            parser -> {
+              try {
+                parser.close();
+              } catch (IOException e) {
+                // nothing further to release
+              }
+            }));
+  }
+
   private static HttpResponse<String> requestEchoBodyRoute(String body) throws Exception {
     return client.send(
         HttpRequest.newBuilder(URI.create("http://localhost:" + servicePort + "/echoBody"))
@@ -456,6 +504,68 @@ class HttpServiceTest {
     verifyExpectedCollection(streamingRequest, response.body(), msgpackMapper);
   }
 
+  @Test
+  void testStreamingBodyEchoKeysRoute() throws Exception {
+    final var requestBodyDataMap = Map.of("key1", "val1", "key2", "val2");
+    for (var mapper : List.of(jsonMapper, msgpackMapper)) {
+      final var body = mapper.writeValueAsBytes(requestBodyDataMap);
+      final var response =
+          client.send(
+              HttpRequest.newBuilder(
+                      URI.create("http://localhost:" + servicePort + "/streamingEchoKeys"))
+                  .header(
+                      "Content-Type",
+                      mapper == jsonMapper ? ContentType.JSON_NAME : ContentType.MSGPACK_NAME)
+                  .POST(BodyPublishers.ofByteArray(body))
+                  .build(),
+              BodyHandlers.ofString());
+
+      assertEquals(HttpStatus.OK_200, response.statusCode());
+      final var responseKeysArray = jsonMapper.readValue(response.body(), String[].class);
+      assertEquals(Set.of("key1", "key2"), new HashSet<>(Arrays.asList(responseKeysArray)));
+    }
+  }
+
+  @Test
+  void testStreamingBodyStreamingResponseRouteJson() throws Exception {
+    verifyStreamingDoubles(jsonMapper, ContentType.JSON_NAME, ContentType.JSON_STREAM);
+  }
+
+  @Test
+  void testStreamingBodyStreamingResponseRouteMsgPack() throws Exception {
+    verifyStreamingDoubles(msgpackMapper, ContentType.MSGPACK_NAME, ContentType.MSGPACK_STREAM);
+  }
+
+  private static void verifyStreamingDoubles(
+      ObjectMapper mapper, String requestContentType, ContentType responseContentType)
+      throws Exception {
+    // large enough to be received as many chunks
+    final int count = 100_000;
+    final var body = new ByteArrayOutputStream();
+    for (var i = 0; i < count; i++) {
+      body.write(mapper.writeValueAsBytes(i));
+      if (mapper == jsonMapper) {
+        // separate the JSON numbers; MessagePack values are self delimiting
+        body.write(' ');
+      }
+    }
+
+    final var response =
+        client.send(
+            HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + servicePort + "/streamingDoubles"))
+                .header("Content-Type", requestContentType)
+                .header("Accept", responseContentType.toString())
+                .POST(BodyPublishers.ofByteArray(body.toByteArray()))
+                .build(),
+            BodyHandlers.ofInputStream());
+
+    verifyExpectedStatusAndContentType(response, responseContentType);
+    assertEquals(
+        IntStream.range(0, count).map(i -> 2 * i).boxed().collect(Collectors.toList()),
+        readCollection(mapper, response.body(), Integer.class));
+  }
+
   @Test
   void testServiceMakesHealthcheckRouteJson() throws Exception {
     final var httpRequest =
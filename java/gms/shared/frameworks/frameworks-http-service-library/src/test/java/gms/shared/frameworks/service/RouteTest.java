@@ -1,8 +1,10 @@
 package gms.shared.frameworks.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +48,14 @@ class RouteTest {
     assertEquals(expectedPath, r.getPath());
     assertEquals(handler, r.getHandler());
   }
+
+  @Test
+  void testCreateStreaming() {
+    assertFalse(Route.create("/foo", handler).isStreamingBody());
+
+    Route r = Route.createStreaming("foo", handler);
+    assertEquals("/foo", r.getPath());
+    assertEquals(handler, r.getHandler());
+    assertTrue(r.isStreamingBody());
+  }
 }
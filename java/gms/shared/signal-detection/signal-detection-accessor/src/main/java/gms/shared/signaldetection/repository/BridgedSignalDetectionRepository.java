@@ -180,10 +180,9 @@ import org.springframework.stereotype.Component;
             stageName, ASSOC_CONNECTOR_TYPE);
 
     // create arids using from id utility and signal detection objects
+    var aridsBySignalDetectionId = signalDetectionIdUtility.getAridsForSignalDetectionUUIDs(ids);
     Collection<Long> arids =
-        ids.stream()
-            .map(signalDetectionIdUtility::getAridForSignalDetectionUUID)
-            .collect(Collectors.toList());
+        ids.stream().map(aridsBySignalDetectionId::get).collect(Collectors.toList());
 
     // create map of current stage arrivals using arids as keys
     Map<Long, ArrivalDao> currentStageArrivals =
@@ -290,6 +289,11 @@ import org.springframework.stereotype.Component;
     SetMultimap<Long, AmplitudeDao> amplitudeDaos =
         findCurrentStageAmplitudes(amplitudeDatabaseConnector, currentArids);
 
+    // assign the detection ids in bulk, so the converter finds them in the id near cache
+    if (signalDetectionIdUtility.isNearCacheEnabled()) {
+      signalDetectionIdUtility.getOrCreateSignalDetectionIdsFromArids(currentArids);
+    }
+
     return currentStageArrivals.entrySet().stream()
         .map(
             entry ->
@@ -422,23 +426,20 @@ import org.springframework.stereotype.Component;
 
   private List<SignalDetectionHypothesisAssocIdComponents> findSdhAssocIdComponents(
       List<SignalDetectionHypothesisId> ids) {
-    return ids.stream()
-        .map(
-            hypId ->
-                signalDetectionIdUtility.getAssocIdComponentsFromSignalDetectionHypothesisId(
-                    hypId.getId()))
-        .toList();
+    var assocIdComponentsByHypothesisId =
+        signalDetectionIdUtility.getAssocIdComponentsFromSignalDetectionHypothesisIds(
+            ids.stream().map(SignalDetectionHypothesisId::getId).toList());
+
+    return ids.stream().map(hypId -> assocIdComponentsByHypothesisId.get(hypId.getId())).toList();
   }
 
   private List<SignalDetectionHypothesisArrivalIdComponents> findArrivalIdComponents(
       List<SignalDetectionHypothesisId> ids) {
+    var arrivalIdComponentsByHypothesisId =
+        signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisIds(
+            ids.stream().map(SignalDetectionHypothesisId::getId).toList());
 
-    return ids.stream()
-        .map(
-            hypId ->
-                signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisId(
-                    hypId.getId()))
-        .toList();
+    return ids.stream().map(hypId -> arrivalIdComponentsByHypothesisId.get(hypId.getId())).toList();
   }
 
   @Override
@@ -485,41 +486,50 @@ import org.springframework.stereotype.Component;
     var lagDuration = signalDetectionBridgeDefinition.getMeasuredWaveformLagDuration();
 
     // create excluded arids using from id utility and signal detection objects
+    var excludedIds = excludedSignalDetections.stream().map(SignalDetection::getId).toList();
+    var excludedAridsById = signalDetectionIdUtility.getAridsForSignalDetectionUUIDs(excludedIds);
     Collection<Long> excludedArids =
-        excludedSignalDetections.stream()
-            .map(sd -> signalDetectionIdUtility.getAridForSignalDetectionUUID(sd.getId()))
-            .collect(Collectors.toList());
+        excludedIds.stream().map(excludedAridsById::get).collect(Collectors.toList());
 
     SetMultimap<String, String> channelGroupNames =
         findChannelGroupNamesFromStationsAndTimeRange(stations, startTime, endTime);
 
-    return stations.stream()
-        .map(
-            (Station station) -> {
-              var currentStageArrivals =
-                  arrivalDatabaseConnector
-                      .findArrivals(
-                          new ArrayList<>(channelGroupNames.get(station.getName())),
-                          excludedArids,
-                          startTime,
-                          endTime,
-                          leadDuration,
-                          lagDuration)
-                      .stream()
-                      .collect(Collectors.toMap(ArrivalDao::getId, Functions.identity()));
-
-              return createListOfSignalDetections(
-                  currentStageArrivals,
-                  stageId,
-                  prevArrivalDatabaseConnectorExists,
-                  prevAssocDatabaseConnectorExists,
-                  assocDatabaseConnector,
-                  amplitudeDatabaseConnector);
-            })
-        .flatMap(List::stream)
-        .collect(Collectors.toList());
+    // query the arrivals of every station's channel groups together, rather than per station
+    List<String> allChannelGroupNames =
+        stations.stream()
+            .map(Station::getName)
+            .flatMap(stationName -> channelGroupNames.get(stationName).stream())
+            .distinct()
+            .collect(Collectors.toList());
+
+    Map<Long, ArrivalDao> currentStageArrivals =
+        arrivalDatabaseConnector
+            .findArrivals(
+                allChannelGroupNames, excludedArids, startTime, endTime, leadDuration, lagDuration)
+            .stream()
+            .collect(Collectors.toMap(ArrivalDao::getId, Functions.identity(), (a, b) -> a));
+
+    return createListOfSignalDetections(
+        currentStageArrivals,
+        stageId,
+        prevArrivalDatabaseConnectorExists,
+        prevAssocDatabaseConnectorExists,
+        assocDatabaseConnector,
+        amplitudeDatabaseConnector);
   }
 
+  /**
+   * Create {@link SignalDetection}s from the provided arrivals, querying the previous stage
+   * arrivals, assocs and amplitudes once for the union of their arids
+   *
+   * @param currentStageArrivals map of arids to current stage {@link ArrivalDao}s
+   * @param stageId current stage {@link WorkflowDefinitionId}
+   * @param prevArrivalDatabaseConnectorExists whether the previous stage has an arrival connector
+   * @param prevAssocDatabaseConnectorExists whether the previous stage has an assoc connector
+   * @param assocDatabaseConnector current stage {@link AssocDatabaseConnector}
+   * @param amplitudeDatabaseConnector current stage {@link AmplitudeDatabaseConnector}
+   * @return list of {@link SignalDetection}s
+   */
   private List<SignalDetection> createListOfSignalDetections(
       Map<Long, ArrivalDao> currentStageArrivals,
       WorkflowDefinitionId stageId,
@@ -528,6 +538,10 @@ import org.springframework.stereotype.Component;
       AssocDatabaseConnector assocDatabaseConnector,
       AmplitudeDatabaseConnector amplitudeDatabaseConnector) {
 
+    if (currentStageArrivals.isEmpty()) {
+      return new ArrayList<>();
+    }
+
     var currentArids = new ArrayList<>(currentStageArrivals.keySet());
 
     // query for previous stage arrivals using current stage and arids
@@ -553,7 +567,13 @@ import org.springframework.stereotype.Component;
 
     Optional<WorkflowDefinitionId> previousStageOptional = getPreviousStage(stageId);
 
-    return currentStageArrivals.entrySet().stream()
+    // assign the detection ids in bulk, so the converter finds them in the id near cache
+    if (signalDetectionIdUtility.isNearCacheEnabled()) {
+      signalDetectionIdUtility.getOrCreateSignalDetectionIdsFromArids(currentArids);
+    }
+
+    // the queried records are only read from here on, so conversion can run in parallel
+    return currentStageArrivals.entrySet().parallelStream()
         .map(
             entry ->
                 mapEntryToSignalDetectionBuilder(
@@ -1418,14 +1438,16 @@ import org.springframework.stereotype.Component;
     checkNotNull(hypotheses);
 
     var partialResults = new AtomicBoolean(false);
+    var hypothesisReferences =
+        hypotheses.stream().distinct().map(SignalDetectionHypothesis::toEntityReference).toList();
+    var legacyAccountInfoByHypothesisId = findLegacyAccountInfo(hypothesisReferences);
     var sdhsWithLegacyAccountInfo =
-        hypotheses.stream()
-            .distinct()
-            .map(SignalDetectionHypothesis::toEntityReference)
+        hypothesisReferences.stream()
             .map(
                 (SignalDetectionHypothesis sdh) -> {
                   LOGGER.debug("Hypothesis: {}", sdh.getId());
-                  var legacyAccountInfoPair = getLegacyAccountInfo(sdh);
+                  var legacyAccountInfoPair =
+                      getLegacyAccountInfo(sdh, legacyAccountInfoByHypothesisId);
                   setPartialResultsFlag(partialResults, legacyAccountInfoPair.getRight());
                   return legacyAccountInfoPair
                       .getLeft()
@@ -1506,28 +1528,49 @@ import org.springframework.stereotype.Component;
         partialResults.get());
   }
 
+  /**
+   * Find the legacy account information of the provided hypotheses, looking up the assoc id
+   * components of only the hypotheses without arrival id components
+   *
+   * @param hypotheses the {@link SignalDetectionHypothesis}s to find account information for
+   * @return legacy account information by hypothesis UUID, without hypotheses that have none
+   */
+  private Map<UUID, SignalDetectionHypothesisArrivalIdComponents> findLegacyAccountInfo(
+      List<SignalDetectionHypothesis> hypotheses) {
+
+    var hypothesisIds = hypotheses.stream().map(sdh -> sdh.getId().getId()).toList();
+    Map<UUID, SignalDetectionHypothesisArrivalIdComponents> legacyAccountInfoByHypothesisId =
+        new HashMap<>(
+            signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisIds(
+                hypothesisIds));
+
+    var remainingHypothesisIds =
+        hypothesisIds.stream()
+            .filter(hypothesisId -> !legacyAccountInfoByHypothesisId.containsKey(hypothesisId))
+            .toList();
+    if (!remainingHypothesisIds.isEmpty()) {
+      // TODO: Why are these component types separate? Can we join the two together with
+      // an optional field?
+      signalDetectionIdUtility
+          .getAssocIdComponentsFromSignalDetectionHypothesisIds(remainingHypothesisIds)
+          .forEach(
+              (hypothesisId, sdhAssocIdC) ->
+                  legacyAccountInfoByHypothesisId.put(
+                      hypothesisId,
+                      SignalDetectionHypothesisArrivalIdComponents.create(
+                          sdhAssocIdC.getLegacyDatabaseAccountId(), sdhAssocIdC.getArid())));
+    }
+
+    return legacyAccountInfoByHypothesisId;
+  }
+
   private Pair<Optional<SignalDetectionHypothesisArrivalIdComponents>, Boolean>
-      getLegacyAccountInfo(SignalDetectionHypothesis hypothesis) {
+      getLegacyAccountInfo(
+          SignalDetectionHypothesis hypothesis,
+          Map<UUID, SignalDetectionHypothesisArrivalIdComponents> legacyAccountInfoByHypothesisId) {
 
     var legacyAccountInfo =
-        Optional.ofNullable(
-                signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisId(
-                    hypothesis.getId().getId()))
-            .or(
-                () -> {
-                  var sdhAssocIdComponents =
-                      Optional.ofNullable(
-                          signalDetectionIdUtility
-                              .getAssocIdComponentsFromSignalDetectionHypothesisId(
-                                  hypothesis.getId().getId()));
-
-                  // TODO: Why are these component types separate? Can we join the two together with
-                  // an optional field?
-                  return sdhAssocIdComponents.map(
-                      sdhAssocIdC ->
-                          SignalDetectionHypothesisArrivalIdComponents.create(
-                              sdhAssocIdC.getLegacyDatabaseAccountId(), sdhAssocIdC.getArid()));
-                });
+        Optional.ofNullable(legacyAccountInfoByHypothesisId.get(hypothesis.getId().getId()));
 
     var partialResults = new AtomicBoolean(false);
     legacyAccountInfo.ifPresentOrElse(
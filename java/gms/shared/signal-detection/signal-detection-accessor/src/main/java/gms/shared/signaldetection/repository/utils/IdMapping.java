@@ -0,0 +1,141 @@
+package gms.shared.signaldetection.repository.utils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.ignite.IgniteCache;
+
+/**
+ * One direction of an id mapping held in an {@link IgniteCache}, optionally fronted by a process
+ * local near cache. Ids are never remapped once assigned, so near cached entries do not go stale
+ * and writes of an already near cached mapping are skipped.
+ *
+ * @param <K> mapped from id type
+ * @param <V> mapped to id type
+ */
+final class IdMapping<K, V> {
+
+  private final IgniteCache<K, V> cache;
+
+  // null when the near cache is disabled
+  private volatile Cache<K, V> nearCache;
+
+  IdMapping(IgniteCache<K, V> cache, long nearCacheMaxEntries) {
+    this.cache = cache;
+    configureNearCache(nearCacheMaxEntries);
+  }
+
+  /**
+   * Replaces the near cache with an empty near cache of the provided size
+   *
+   * @param maxEntries maximum number of near cached mappings; 0 disables the near cache
+   */
+  void configureNearCache(long maxEntries) {
+    Preconditions.checkArgument(maxEntries >= 0, "Near cache size cannot be negative");
+    this.nearCache =
+        maxEntries == 0
+            ? null
+            : CacheBuilder.newBuilder().maximumSize(maxEntries).recordStats().build();
+  }
+
+  boolean isNearCacheEnabled() {
+    return nearCache != null;
+  }
+
+  V get(K key) {
+    var near = nearCache;
+    if (near == null) {
+      return cache.get(key);
+    }
+
+    var value = near.getIfPresent(key);
+    if (value == null) {
+      value = cache.get(key);
+      if (value != null) {
+        near.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Retrieves the mappings of the provided keys with at most one {@link IgniteCache#getAll} call
+   *
+   * @param keys the keys to look up
+   * @return the mapped values by key, without the keys that are not mapped
+   */
+  Map<K, V> getAll(Collection<K> keys) {
+    Set<K> remainingKeys = new LinkedHashSet<>(keys);
+    Map<K, V> values = new HashMap<>();
+
+    var near = nearCache;
+    if (near != null) {
+      values.putAll(near.getAllPresent(remainingKeys));
+      remainingKeys.removeAll(values.keySet());
+    }
+
+    if (!remainingKeys.isEmpty()) {
+      var cachedValues = cache.getAll(remainingKeys);
+      if (near != null) {
+        near.putAll(cachedValues);
+      }
+      values.putAll(cachedValues);
+    }
+
+    return values;
+  }
+
+  void put(K key, V value) {
+    var near = nearCache;
+    if (near != null && Objects.equals(near.asMap().get(key), value)) {
+      return;
+    }
+
+    cache.put(key, value);
+    if (near != null) {
+      near.put(key, value);
+    }
+  }
+
+  /**
+   * Stores the provided mappings with at most one {@link IgniteCache#putAll} call
+   *
+   * @param values the values to store by key
+   */
+  void putAll(Map<K, V> values) {
+    var near = nearCache;
+    Map<K, V> newValues = new HashMap<>(values);
+    if (near != null) {
+      var nearValues = near.asMap();
+      newValues
+          .entrySet()
+          .removeIf(entry -> entry.getValue().equals(nearValues.get(entry.getKey())));
+    }
+
+    if (newValues.isEmpty()) {
+      return;
+    }
+
+    cache.putAll(newValues);
+    if (near != null) {
+      near.putAll(newValues);
+    }
+  }
+
+  SignalDetectionIdUtility.NearCacheStatistics statistics() {
+    var near = nearCache;
+    if (near == null) {
+      return new SignalDetectionIdUtility.NearCacheStatistics(0, 0, 0);
+    }
+
+    var stats = near.stats();
+    return new SignalDetectionIdUtility.NearCacheStatistics(
+        stats.hitCount(), stats.missCount(), near.size());
+  }
+}
@@ -4,12 +4,19 @@ import com.google.common.base.Preconditions;
 import gms.shared.frameworks.cache.utils.CacheInfo;
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementType;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cache.CacheAtomicityMode;
 import org.apache.ignite.cache.CacheMode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -75,43 +82,47 @@ public class SignalDetectionIdUtility {
           true,
           Optional.empty());
 
-  private IgniteCache<Long, UUID> aridSignalDetectionMap;
-  private IgniteCache<UUID, Long> signalDetectionAridMap;
-  private IgniteCache<SignalDetectionHypothesisArrivalIdComponents, UUID>
+  private static final long DEFAULT_NEAR_CACHE_MAX_ENTRIES = 50_000;
+
+  private final IdMapping<Long, UUID> aridSignalDetectionMap;
+  private final IdMapping<UUID, Long> signalDetectionAridMap;
+  private final IdMapping<SignalDetectionHypothesisArrivalIdComponents, UUID>
       arrivalIdComponentsSignalDetectionHypothesisIdMap;
-  private IgniteCache<UUID, SignalDetectionHypothesisArrivalIdComponents>
+  private final IdMapping<UUID, SignalDetectionHypothesisArrivalIdComponents>
       signalDetectionHypothesisIdArrivalIdComponentsMap;
-  private IgniteCache<SignalDetectionHypothesisAssocIdComponents, UUID>
+  private final IdMapping<SignalDetectionHypothesisAssocIdComponents, UUID>
       assocIdComponentsSignalDetectionHypothesisIdMap;
-  private IgniteCache<UUID, SignalDetectionHypothesisAssocIdComponents>
+  private final IdMapping<UUID, SignalDetectionHypothesisAssocIdComponents>
       signalDetectionHypothesisIdAssocIdComponentsMap;
-  private IgniteCache<AmplitudeIdComponents, FeatureMeasurementIdComponents>
+  private final IdMapping<AmplitudeIdComponents, FeatureMeasurementIdComponents>
       amplitudeIdComponentsFeatureMeasurementIdComponentsMap;
-  private IgniteCache<FeatureMeasurementIdComponents, AmplitudeIdComponents>
+  private final IdMapping<FeatureMeasurementIdComponents, AmplitudeIdComponents>
       featureMeasurementIdComponentsAmplitudeIdComponentsMap;
 
+  /** Point in time hit, miss and occupancy counts of the near caches of all the id mappings */
+  public record NearCacheStatistics(long hitCount, long missCount, long entryCount) {
+
+    NearCacheStatistics plus(NearCacheStatistics other) {
+      return new NearCacheStatistics(
+          hitCount + other.hitCount, missCount + other.missCount, entryCount + other.entryCount);
+    }
+  }
+
   @Autowired
   public SignalDetectionIdUtility() {
-
-    this.aridSignalDetectionMap =
-        IgniteConnectionManager.getOrCreateCache(ARID_SIGNAL_DETECTION_ID_CACHE);
-    this.signalDetectionAridMap =
-        IgniteConnectionManager.getOrCreateCache(SIGNAL_DETECTION_ID_ARID_CACHE);
-    this.arrivalIdComponentsSignalDetectionHypothesisIdMap =
-        IgniteConnectionManager.getOrCreateCache(ARRIVAL_ID_SIGNAL_DETECTION_HYPOTHESIS_ID);
-    this.signalDetectionHypothesisIdArrivalIdComponentsMap =
-        IgniteConnectionManager.getOrCreateCache(SIGNAL_DETECTION_HYPOTHESIS_ID_ARRIVAL_ID);
-    this.assocIdComponentsSignalDetectionHypothesisIdMap =
-        IgniteConnectionManager.getOrCreateCache(ASSOC_ID_SIGNAL_DETECTION_HYPOTHESIS_ID);
-    this.signalDetectionHypothesisIdAssocIdComponentsMap =
-        IgniteConnectionManager.getOrCreateCache(SIGNAL_DETECTION_HYPOTHESIS_ID_ASSOC_ID);
-    this.amplitudeIdComponentsFeatureMeasurementIdComponentsMap =
-        IgniteConnectionManager.getOrCreateCache(AMPLITUDE_ID_FEATURE_MEASUREMENT_ID);
-    this.featureMeasurementIdComponentsAmplitudeIdComponentsMap =
-        IgniteConnectionManager.getOrCreateCache(FEATURE_MEASUREMENT_ID_AMPLITUDE_ID);
+    this(
+        IgniteConnectionManager.getOrCreateCache(ARID_SIGNAL_DETECTION_ID_CACHE),
+        IgniteConnectionManager.getOrCreateCache(SIGNAL_DETECTION_ID_ARID_CACHE),
+        IgniteConnectionManager.getOrCreateCache(ARRIVAL_ID_SIGNAL_DETECTION_HYPOTHESIS_ID),
+        IgniteConnectionManager.getOrCreateCache(SIGNAL_DETECTION_HYPOTHESIS_ID_ARRIVAL_ID),
+        IgniteConnectionManager.getOrCreateCache(ASSOC_ID_SIGNAL_DETECTION_HYPOTHESIS_ID),
+        IgniteConnectionManager.getOrCreateCache(SIGNAL_DETECTION_HYPOTHESIS_ID_ASSOC_ID),
+        IgniteConnectionManager.getOrCreateCache(AMPLITUDE_ID_FEATURE_MEASUREMENT_ID),
+        IgniteConnectionManager.getOrCreateCache(FEATURE_MEASUREMENT_ID_AMPLITUDE_ID));
+    configureNearCache(DEFAULT_NEAR_CACHE_MAX_ENTRIES);
   }
 
-  // for testing only
+  // for testing only, the near caches are disabled until configured
   SignalDetectionIdUtility(
       IgniteCache<Long, UUID> aridSignalDetectionMap,
       IgniteCache<UUID, Long> signalDetectionAridMap,
@@ -128,20 +139,72 @@ public class SignalDetectionIdUtility {
       IgniteCache<FeatureMeasurementIdComponents, AmplitudeIdComponents>
           featureMeasurementIdComponentsAmplitudeIdComponentsMap) {
 
-    this.aridSignalDetectionMap = aridSignalDetectionMap;
-    this.signalDetectionAridMap = signalDetectionAridMap;
+    this.aridSignalDetectionMap = new IdMapping<>(aridSignalDetectionMap, 0);
+    this.signalDetectionAridMap = new IdMapping<>(signalDetectionAridMap, 0);
     this.arrivalIdComponentsSignalDetectionHypothesisIdMap =
-        arrivalIdComponentsSignalDetectionHypothesisIdMap;
+        new IdMapping<>(arrivalIdComponentsSignalDetectionHypothesisIdMap, 0);
     this.signalDetectionHypothesisIdArrivalIdComponentsMap =
-        signalDetectionHypothesisIdArrivalIdComponentsMap;
+        new IdMapping<>(signalDetectionHypothesisIdArrivalIdComponentsMap, 0);
     this.assocIdComponentsSignalDetectionHypothesisIdMap =
-        assocIdComponentsSignalDetectionHypothesisIdMap;
+        new IdMapping<>(assocIdComponentsSignalDetectionHypothesisIdMap, 0);
     this.signalDetectionHypothesisIdAssocIdComponentsMap =
-        signalDetectionHypothesisIdAssocIdComponentsMap;
+        new IdMapping<>(signalDetectionHypothesisIdAssocIdComponentsMap, 0);
     this.amplitudeIdComponentsFeatureMeasurementIdComponentsMap =
-        amplitudeIdComponentsFeatureMeasurementIdComponentsMap;
+        new IdMapping<>(amplitudeIdComponentsFeatureMeasurementIdComponentsMap, 0);
     this.featureMeasurementIdComponentsAmplitudeIdComponentsMap =
-        featureMeasurementIdComponentsAmplitudeIdComponentsMap;
+        new IdMapping<>(featureMeasurementIdComponentsAmplitudeIdComponentsMap, 0);
+  }
+
+  /**
+   * Replaces the process local near caches of the id mappings with empty near caches of the
+   * provided size. Ids are never remapped once assigned, so near cached mappings are served without
+   * a round trip to the Ignite caches.
+   *
+   * @param maxEntries maximum number of near cached mappings for each mapping direction; 0 disables
+   *     the near caches
+   */
+  @Autowired
+  void configureNearCache(
+      @Value(
+              "${signalDetectionIdUtility.nearCache.maxEntries:"
+                  + DEFAULT_NEAR_CACHE_MAX_ENTRIES
+                  + "}")
+          long maxEntries) {
+    mappings().forEach(mapping -> mapping.configureNearCache(maxEntries));
+  }
+
+  /**
+   * Checks whether id mappings are near cached in process, so ids resolved ahead of a lookup are
+   * served without a round trip to the Ignite caches
+   *
+   * @return true if the near caches are enabled, otherwise false
+   */
+  public boolean isNearCacheEnabled() {
+    return aridSignalDetectionMap.isNearCacheEnabled();
+  }
+
+  /**
+   * Retrieves the hit, miss and occupancy statistics summed across the near caches of the id
+   * mappings
+   *
+   * @return the current near cache statistics
+   */
+  public NearCacheStatistics getNearCacheStatistics() {
+    return mappings().stream()
+        .map(IdMapping::statistics)
+        .reduce(new NearCacheStatistics(0, 0, 0), NearCacheStatistics::plus);
+  }
+
+  private List<IdMapping<?, ?>> mappings() {
+    return List.of(
+        aridSignalDetectionMap,
+        signalDetectionAridMap,
+        arrivalIdComponentsSignalDetectionHypothesisIdMap,
+        signalDetectionHypothesisIdArrivalIdComponentsMap,
+        assocIdComponentsSignalDetectionHypothesisIdMap,
+        signalDetectionHypothesisIdAssocIdComponentsMap,
+        amplitudeIdComponentsFeatureMeasurementIdComponentsMap,
+        featureMeasurementIdComponentsAmplitudeIdComponentsMap);
   }
 
   /**
@@ -272,8 +335,7 @@ public class SignalDetectionIdUtility {
     var uuid = getSignalDetectionForArid(arid);
 
     if (uuid == null) {
-      var aridString = Long.toString(arid);
-      uuid = UUID.nameUUIDFromBytes(aridString.getBytes());
+      uuid = createSignalDetectionId(arid);
     }
 
     aridSignalDetectionMap.put(arid, uuid);
@@ -295,12 +357,11 @@ public class SignalDetectionIdUtility {
 
     var uuid = getSignalDetectionHypothesisIdForAridAndStageId(arid, legacyDatabaseAccountId);
 
+    var id = SignalDetectionHypothesisArrivalIdComponents.create(legacyDatabaseAccountId, arid);
     if (uuid == null) {
-      var aridString = Long.toString(arid);
-      uuid = UUID.nameUUIDFromBytes((aridString + legacyDatabaseAccountId).getBytes());
+      uuid = createSignalDetectionHypothesisId(id);
     }
 
-    var id = SignalDetectionHypothesisArrivalIdComponents.create(legacyDatabaseAccountId, arid);
     arrivalIdComponentsSignalDetectionHypothesisIdMap.put(id, uuid);
     signalDetectionHypothesisIdArrivalIdComponentsMap.put(uuid, id);
 
@@ -322,13 +383,11 @@ public class SignalDetectionIdUtility {
     var uuid =
         getSignalDetectionHypothesisIdForAridOridAndStageId(arid, orid, legacyDatabaseAccountId);
 
+    var id = SignalDetectionHypothesisAssocIdComponents.create(legacyDatabaseAccountId, arid, orid);
     if (uuid == null) {
-      var aridString = Long.toString(arid);
-      var oridString = Long.toString(orid);
-      uuid = UUID.nameUUIDFromBytes((aridString + oridString + legacyDatabaseAccountId).getBytes());
+      uuid = createSignalDetectionHypothesisId(id);
     }
 
-    var id = SignalDetectionHypothesisAssocIdComponents.create(legacyDatabaseAccountId, arid, orid);
     assocIdComponentsSignalDetectionHypothesisIdMap.put(id, uuid);
     signalDetectionHypothesisIdAssocIdComponentsMap.put(uuid, id);
 
@@ -393,4 +452,255 @@ public class SignalDetectionIdUtility {
     amplitudeIdComponentsFeatureMeasurementIdComponentsMap.put(
         ampidComponents, featureMeasurementComponents);
   }
+
+  /**
+   * Find the UUIDs of SignalDetections for the given arids with a single cache lookup
+   *
+   * @param arids Long Arrival Ids
+   * @return SignalDetection UUIDs by arid, without the arids that have no UUID
+   */
+  public Map<Long, UUID> getSignalDetectionsForArids(Collection<Long> arids) {
+    return aridSignalDetectionMap.getAll(arids);
+  }
+
+  /**
+   * Find the Arrival Ids for the given SignalDetection UUIDs with a single cache lookup
+   *
+   * @param uuids SignalDetection UUIDs
+   * @return arids by SignalDetection UUID, without the UUIDs that have no arid
+   */
+  public Map<UUID, Long> getAridsForSignalDetectionUUIDs(Collection<UUID> uuids) {
+    return signalDetectionAridMap.getAll(uuids);
+  }
+
+  /**
+   * Find the SignalDetectionHypothesis UUIDs for the given Arrival Id and Stage Id components with
+   * a single cache lookup
+   *
+   * @param ids {@link SignalDetectionHypothesisArrivalIdComponents} containing arids and stage ids
+   * @return SignalDetectionHypothesis UUIDs by id components, without the components that have no
+   *     UUID
+   */
+  public Map<SignalDetectionHypothesisArrivalIdComponents, UUID>
+      getSignalDetectionHypothesisIdsForArrivalIdComponents(
+          Collection<SignalDetectionHypothesisArrivalIdComponents> ids) {
+    return arrivalIdComponentsSignalDetectionHypothesisIdMap.getAll(ids);
+  }
+
+  /**
+   * Find the Arrival Id and Stage Id components for the given SignalDetectionHypothesis UUIDs with
+   * a single cache lookup
+   *
+   * @param uuids SignalDetectionHypothesis UUIDs
+   * @return {@link SignalDetectionHypothesisArrivalIdComponents} by SignalDetectionHypothesis UUID,
+   *     without the UUIDs that have no components
+   */
+  public Map<UUID, SignalDetectionHypothesisArrivalIdComponents>
+      getArrivalIdComponentsFromSignalDetectionHypothesisIds(Collection<UUID> uuids) {
+    return signalDetectionHypothesisIdArrivalIdComponentsMap.getAll(uuids);
+  }
+
+  /**
+   * Find the SignalDetectionHypothesis UUIDs for the given Arrival Id, Origin Id and Stage Id
+   * components with a single cache lookup
+   *
+   * @param ids {@link SignalDetectionHypothesisAssocIdComponents} containing arids, orids and stage
+   *     ids
+   * @return SignalDetectionHypothesis UUIDs by id components, without the components that have no
+   *     UUID
+   */
+  public Map<SignalDetectionHypothesisAssocIdComponents, UUID>
+      getSignalDetectionHypothesisIdsForAssocIdComponents(
+          Collection<SignalDetectionHypothesisAssocIdComponents> ids) {
+    return assocIdComponentsSignalDetectionHypothesisIdMap.getAll(ids);
+  }
+
+  /**
+   * Find the Arrival Id, Origin Id and Stage Id components for the given SignalDetectionHypothesis
+   * UUIDs with a single cache lookup
+   *
+   * @param uuids SignalDetectionHypothesis UUIDs
+   * @return {@link SignalDetectionHypothesisAssocIdComponents} by SignalDetectionHypothesis UUID,
+   *     without the UUIDs that have no components
+   */
+  public Map<UUID, SignalDetectionHypothesisAssocIdComponents>
+      getAssocIdComponentsFromSignalDetectionHypothesisIds(Collection<UUID> uuids) {
+    return signalDetectionHypothesisIdAssocIdComponentsMap.getAll(uuids);
+  }
+
+  /**
+   * Find the Amplitude Id and Stage Id components for the given SignalDetectionHypothesis UUID and
+   * Feature Measurement type components with a single cache lookup
+   *
+   * @param ids {@link FeatureMeasurementIdComponents} to look up
+   * @return {@link AmplitudeIdComponents} by feature measurement components, without the components
+   *     that have no amplitude id
+   */
+  public Map<FeatureMeasurementIdComponents, AmplitudeIdComponents>
+      getAmplitudeIdComponentsFromFeatureMeasurementIdComponents(
+          Collection<FeatureMeasurementIdComponents> ids) {
+    return featureMeasurementIdComponentsAmplitudeIdComponentsMap.getAll(ids);
+  }
+
+  /**
+   * Find the SignalDetectionHypothesis UUID and Feature Measurement type components for the given
+   * Amplitude Id and Stage Id components with a single cache lookup
+   *
+   * @param ids {@link AmplitudeIdComponents} to look up
+   * @return {@link FeatureMeasurementIdComponents} by amplitude components, without the components
+   *     that have no feature measurement
+   */
+  public Map<AmplitudeIdComponents, FeatureMeasurementIdComponents>
+      getFeatureMeasurementIdComponentsFromAmplitudeIdComponents(
+          Collection<AmplitudeIdComponents> ids) {
+    return amplitudeIdComponentsFeatureMeasurementIdComponentsMap.getAll(ids);
+  }
+
+  /**
+   * Add mappings between Signal detection UUIDs and arids with a single cache write per direction
+   *
+   * @param uuidsByArid SignalDetection UUIDs by Long Arrival Id
+   */
+  public void addAridsForSignalDetectionUUIDs(Map<Long, UUID> uuidsByArid) {
+    putAll(uuidsByArid, aridSignalDetectionMap, signalDetectionAridMap);
+  }
+
+  /**
+   * Add mappings between Signal detection hypothesis UUIDs and stage ids and arids with a single
+   * cache write per direction
+   *
+   * @param uuidsByIdComponents SignalDetectionHypothesis UUIDs by arrival id components
+   */
+  public void addArrivalIdComponentsForSignalDetectionHypothesisUUIDs(
+      Map<SignalDetectionHypothesisArrivalIdComponents, UUID> uuidsByIdComponents) {
+    putAll(
+        uuidsByIdComponents,
+        arrivalIdComponentsSignalDetectionHypothesisIdMap,
+        signalDetectionHypothesisIdArrivalIdComponentsMap);
+  }
+
+  /**
+   * Add mappings between Signal detection hypothesis UUIDs and stage ids, arids and orids with a
+   * single cache write per direction
+   *
+   * @param uuidsByIdComponents SignalDetectionHypothesis UUIDs by assoc id components
+   */
+  public void addAssocIdComponentsForSignalDetectionHypothesisUUIDs(
+      Map<SignalDetectionHypothesisAssocIdComponents, UUID> uuidsByIdComponents) {
+    putAll(
+        uuidsByIdComponents,
+        assocIdComponentsSignalDetectionHypothesisIdMap,
+        signalDetectionHypothesisIdAssocIdComponentsMap);
+  }
+
+  /**
+   * Add mappings of Signal detection hypothesis UUIDs and FeatureMeasurementTypes to stage ids and
+   * ampids with a single cache write per direction
+   *
+   * @param featureMeasurementsByAmplitude feature measurement id components by amplitude id
+   *     components
+   */
+  public void addAmplitudeIdComponentsForFeatureMeasurementIdComponents(
+      Map<AmplitudeIdComponents, FeatureMeasurementIdComponents> featureMeasurementsByAmplitude) {
+    putAll(
+        featureMeasurementsByAmplitude,
+        amplitudeIdComponentsFeatureMeasurementIdComponentsMap,
+        featureMeasurementIdComponentsAmplitudeIdComponentsMap);
+  }
+
+  /**
+   * Find the UUIDs of SignalDetections for the given arids, creating UUIDs for the arids that are
+   * not found in the map. Uses a single cache lookup and a single cache write per direction.
+   *
+   * @param arids Long Arrival Ids
+   * @return SignalDetection UUIDs by arid
+   */
+  public Map<Long, UUID> getOrCreateSignalDetectionIdsFromArids(Collection<Long> arids) {
+    return getOrCreate(
+        arids,
+        aridSignalDetectionMap,
+        signalDetectionAridMap,
+        SignalDetectionIdUtility::createSignalDetectionId);
+  }
+
+  /**
+   * Find the SignalDetectionHypothesis UUIDs for the given Arrival Id and Stage Id components,
+   * creating UUIDs for the components that are not found in the map. Uses a single cache lookup and
+   * a single cache write per direction.
+   *
+   * @param ids {@link SignalDetectionHypothesisArrivalIdComponents} containing arids and stage ids
+   * @return SignalDetectionHypothesis UUIDs by id components
+   */
+  public Map<SignalDetectionHypothesisArrivalIdComponents, UUID>
+      getOrCreateSignalDetectionHypothesisIdsFromArrivalIdComponents(
+          Collection<SignalDetectionHypothesisArrivalIdComponents> ids) {
+    return getOrCreate(
+        ids,
+        arrivalIdComponentsSignalDetectionHypothesisIdMap,
+        signalDetectionHypothesisIdArrivalIdComponentsMap,
+        SignalDetectionIdUtility::createSignalDetectionHypothesisId);
+  }
+
+  /**
+   * Find the SignalDetectionHypothesis UUIDs for the given Arrival Id, Origin Id and Stage Id
+   * components, creating UUIDs for the components that are not found in the map. Uses a single
+   * cache lookup and a single cache write per direction.
+   *
+   * @param ids {@link SignalDetectionHypothesisAssocIdComponents} containing arids, orids and stage
+   *     ids
+   * @return SignalDetectionHypothesis UUIDs by id components
+   */
+  public Map<SignalDetectionHypothesisAssocIdComponents, UUID>
+      getOrCreateSignalDetectionHypothesisIdsFromAssocIdComponents(
+          Collection<SignalDetectionHypothesisAssocIdComponents> ids) {
+    return getOrCreate(
+        ids,
+        assocIdComponentsSignalDetectionHypothesisIdMap,
+        signalDetectionHypothesisIdAssocIdComponentsMap,
+        SignalDetectionIdUtility::createSignalDetectionHypothesisId);
+  }
+
+  private static UUID createSignalDetectionId(long arid) {
+    return UUID.nameUUIDFromBytes(Long.toString(arid).getBytes());
+  }
+
+  private static UUID createSignalDetectionHypothesisId(
+      SignalDetectionHypothesisArrivalIdComponents id) {
+    return UUID.nameUUIDFromBytes(
+        (Long.toString(id.getArid()) + id.getLegacyDatabaseAccountId()).getBytes());
+  }
+
+  private static UUID createSignalDetectionHypothesisId(
+      SignalDetectionHypothesisAssocIdComponents id) {
+    return UUID.nameUUIDFromBytes(
+        (Long.toString(id.getArid())
+                + Long.toString(id.getOrid())
+                + id.getLegacyDatabaseAccountId())
+            .getBytes());
+  }
+
+  private static <K, V> Map<K, V> getOrCreate(
+      Collection<K> keys,
+      IdMapping<K, V> mapping,
+      IdMapping<V, K> inverseMapping,
+      Function<K, V> createValue) {
+
+    Map<K, V> values = new HashMap<>(mapping.getAll(keys));
+    keys.forEach(key -> values.computeIfAbsent(key, createValue));
+
+    putAll(values, mapping, inverseMapping);
+    return values;
+  }
+
+  private static <K, V> void putAll(
+      Map<K, V> values, IdMapping<K, V> mapping, IdMapping<V, K> inverseMapping) {
+    Preconditions.checkNotNull(values);
+
+    mapping.putAll(values);
+    inverseMapping.putAll(
+        values.entrySet().stream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getValue, Map.Entry::getKey, (first, second) -> first)));
+  }
 }
@@ -55,6 +55,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -90,6 +91,9 @@ import gms.shared.stationdefinition.coi.filter.FilterDefinition;
 import gms.shared.stationdefinition.coi.filter.LinearFilterDescription;
 import gms.shared.stationdefinition.coi.filter.types.FilterType;
 import gms.shared.stationdefinition.coi.filter.types.PassBandType;
+import gms.shared.stationdefinition.coi.station.Station;
+import gms.shared.stationdefinition.dao.css.SiteDao;
+import gms.shared.stationdefinition.dao.css.SiteKey;
 import gms.shared.stationdefinition.dao.css.enums.TagName;
 import gms.shared.stationdefinition.database.connector.SiteDatabaseConnector;
 import gms.shared.stationdefinition.database.connector.WfdiscDatabaseConnector;
@@ -365,18 +369,18 @@ class BridgedSignalDetectionRepositoryTest {
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage()).thenReturn(dbAccountStageMap);
 
     var idComponents1 = SDH_ARRIVAL_ID_COMPONENTS_1;
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var idComponents2 =
         SignalDetectionHypothesisArrivalIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            Map.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getArrivalIdComponentsFromSignalDetectionHypothesisIds(any());
 
     // create arrival current and previous stage connector mock returns
     List<ArrivalDao> currArrivals1 = List.of(ARRIVAL_1);
@@ -514,8 +518,7 @@ class BridgedSignalDetectionRepositoryTest {
             any(),
             any(),
             any());
-    verify(signalDetectionIdUtility, times(2))
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(any());
+    verify(signalDetectionIdUtility).getAssocIdComponentsFromSignalDetectionHypothesisIds(any());
 
     verifyNoMoreInteractions(
         signalDetectionBridgeDefinition,
@@ -578,18 +581,18 @@ class BridgedSignalDetectionRepositoryTest {
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage()).thenReturn(dbAccountStageMap);
 
     var idComponents1 = SDH_ARRIVAL_ID_COMPONENTS_1;
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var idComponents2 =
         SignalDetectionHypothesisArrivalIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            Map.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getArrivalIdComponentsFromSignalDetectionHypothesisIds(any());
 
     // create arrival current and previous stage connector mock returns
     List<ArrivalDao> currArrivals1 = List.of(ARRIVAL_1);
@@ -742,8 +745,7 @@ class BridgedSignalDetectionRepositoryTest {
             any(),
             any(),
             any());
-    verify(signalDetectionIdUtility, times(2))
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(any());
+    verify(signalDetectionIdUtility).getAssocIdComponentsFromSignalDetectionHypothesisIds(any());
 
     verifyNoMoreInteractions(
         signalDetectionBridgeDefinition,
@@ -784,38 +786,38 @@ class BridgedSignalDetectionRepositoryTest {
     var idComponents1 =
         SignalDetectionHypothesisArrivalIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_1.getId());
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var idComponents2 =
         SignalDetectionHypothesisArrivalIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            Map.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getArrivalIdComponentsFromSignalDetectionHypothesisIds(any());
 
     var assocIdComponents1 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_1.getId().getArrivalId(),
             ASSOC_TEST_1.getId().getOriginId());
-    doReturn(assocIdComponents1)
-        .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var assocIdComponents2 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_3.getId().getArrivalId(),
             ASSOC_TEST_3.getId().getOriginId());
-    doReturn(assocIdComponents2)
+    doReturn(
+            Map.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                assocIdComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                assocIdComponents2))
         .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAssocIdComponentsFromSignalDetectionHypothesisIds(any());
 
     // ---------------------------------------------------------
     // create arrival current and previous stage connector mock returns
@@ -963,38 +965,38 @@ class BridgedSignalDetectionRepositoryTest {
     var idComponents1 =
         SignalDetectionHypothesisArrivalIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_1.getId());
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var idComponents2 =
         SignalDetectionHypothesisArrivalIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            Map.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getArrivalIdComponentsFromSignalDetectionHypothesisIds(any());
 
     var assocIdComponents1 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_1.getId().getArrivalId(),
             ASSOC_TEST_1.getId().getOriginId());
-    doReturn(assocIdComponents1)
-        .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var assocIdComponents2 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_3.getId().getArrivalId(),
             ASSOC_TEST_3.getId().getOriginId());
-    doReturn(assocIdComponents2)
+    doReturn(
+            Map.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                assocIdComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                assocIdComponents2))
         .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAssocIdComponentsFromSignalDetectionHypothesisIds(any());
 
     List<SignalDetectionHypothesis> signalDetectionHypotheses =
         repository.findHypothesesByIds(
@@ -1087,6 +1089,61 @@ class BridgedSignalDetectionRepositoryTest {
     verifyMocks.accept(signalDetectionIdUtility);
   }
 
+  @Test
+  void testFindByStationsAndTimeBatchesStations() {
+    var otherStation = Station.createEntityReference("OTHER");
+    var otherSite = new SiteDao();
+    otherSite.setReferenceStation(otherStation.getName());
+    var otherSiteKey = new SiteKey();
+    otherSiteKey.setStationCode("OTH1");
+    otherSite.setId(otherSiteKey);
+
+    doReturn(amplitudeDatabaseConnector)
+        .when(signalDetectionBridgeDatabaseConnectors)
+        .getConnectorForCurrentStageOrThrow(WORKFLOW_DEFINITION_ID2_NAME, AMPLITUDE_CONNECTOR_TYPE);
+    doReturn(currArrivalDatabaseConnector)
+        .when(signalDetectionBridgeDatabaseConnectors)
+        .getConnectorForCurrentStageOrThrow(WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_CONNECTOR_TYPE);
+    doReturn(currAssocDatabaseConnector)
+        .when(signalDetectionBridgeDatabaseConnectors)
+        .getConnectorForCurrentStageOrThrow(WORKFLOW_DEFINITION_ID2_NAME, ASSOC_CONNECTOR_TYPE);
+    when(signalDetectionBridgeDefinition.getOrderedStages())
+        .thenReturn(ImmutableList.of(WORKFLOW_DEFINITION_ID1, WORKFLOW_DEFINITION_ID2));
+    when(signalDetectionBridgeDefinition.getMonitoringOrganization()).thenReturn(MONITORING_ORG);
+    when(signalDetectionBridgeDefinition.getMeasuredWaveformLeadDuration())
+        .thenReturn(MEASURED_WAVEFORM_LEAD_DURATION);
+    when(signalDetectionBridgeDefinition.getMeasuredWaveformLagDuration())
+        .thenReturn(MEASURED_WAVEFORM_LAG_DURATION);
+    when(siteDatabaseConnector.findSitesByReferenceStationAndTimeRange(
+            List.of(STATION.getName(), otherStation.getName()), START_TIME, END_TIME))
+        .thenReturn(List.of(getSiteForStation(), otherSite));
+
+    // one arrival query covers the channel groups of every station
+    when(currArrivalDatabaseConnector.findArrivals(
+            List.of(STATION.getName(), "OTH1"),
+            List.of(),
+            START_TIME,
+            END_TIME,
+            MEASURED_WAVEFORM_LEAD_DURATION,
+            MEASURED_WAVEFORM_LAG_DURATION))
+        .thenReturn(List.of(ARRIVAL_1, ARRIVAL_3));
+    when(signalDetectionConverter.convert(any())).thenReturn(Optional.of(SIGNAL_DETECTION_3));
+
+    List<SignalDetection> signalDetections =
+        repository.findByStationsAndTime(
+            List.of(STATION, otherStation),
+            START_TIME,
+            END_TIME,
+            WORKFLOW_DEFINITION_ID2,
+            List.of());
+
+    assertEquals(List.of(SIGNAL_DETECTION_3, SIGNAL_DETECTION_3), signalDetections);
+    verify(currArrivalDatabaseConnector, times(1))
+        .findArrivals(anyCollection(), anyCollection(), any(), any(), any(), any());
+    verify(currAssocDatabaseConnector, times(1)).findAssocsByArids(anyCollection());
+    verify(amplitudeDatabaseConnector, times(1)).findAmplitudesByArids(anyCollection());
+  }
+
   /** Initialize current stage db connectors for arrival and assoc */
   private void initCurrentConnectorMocks() {
     doReturn(amplitudeDatabaseConnector)
@@ -1215,15 +1272,20 @@ class BridgedSignalDetectionRepositoryTest {
     List<SignalDetection> expectedValues = List.of(SIGNAL_DETECTION, SIGNAL_DETECTION_3);
     Consumer<SignalDetectionIdUtility> twoAridSetup =
         sdUtil -> {
-          when(sdUtil.getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID))
-              .thenReturn(ARRIVAL_1.getId());
-          when(sdUtil.getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID_3))
-              .thenReturn(ARRIVAL_3.getId());
+          when(sdUtil.getAridsForSignalDetectionUUIDs(SIGNAL_DETECTION_IDS))
+              .thenReturn(
+                  Map.of(
+                      SIGNAL_DETECTION_ID,
+                      ARRIVAL_1.getId(),
+                      SIGNAL_DETECTION_ID_3,
+                      ARRIVAL_3.getId()));
+          when(sdUtil.isNearCacheEnabled()).thenReturn(true);
         };
     Consumer<SignalDetectionIdUtility> twoAridVerification =
         sdUtil -> {
-          verify(sdUtil).getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID);
-          verify(sdUtil).getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID_3);
+          verify(sdUtil).getAridsForSignalDetectionUUIDs(SIGNAL_DETECTION_IDS);
+          verify(sdUtil, atLeastOnce()).isNearCacheEnabled();
+          verify(sdUtil, atLeastOnce()).getOrCreateSignalDetectionIdsFromArids(anyCollection());
           verifyNoMoreInteractions(sdUtil);
         };
 
@@ -1234,13 +1296,14 @@ class BridgedSignalDetectionRepositoryTest {
   static Stream<Arguments> getFindByStationsAndTime() {
     List<SignalDetection> expectedValues = List.of(SIGNAL_DETECTION_3);
     Consumer<SignalDetectionIdUtility> aridSetup =
-        sdUtil -> {
-          when(sdUtil.getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID))
-              .thenReturn(ARRIVAL_1.getId());
-        };
+        sdUtil ->
+            when(sdUtil.getAridsForSignalDetectionUUIDs(List.of(SIGNAL_DETECTION_ID)))
+                .thenReturn(Map.of(SIGNAL_DETECTION_ID, ARRIVAL_1.getId()));
     Consumer<SignalDetectionIdUtility> aridVerification =
         sdUtil -> {
-          verify(sdUtil).getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID);
+          verify(sdUtil).getAridsForSignalDetectionUUIDs(List.of(SIGNAL_DETECTION_ID));
+          // the near cache is disabled, so detection ids are not assigned ahead of conversion
+          verify(sdUtil).isNearCacheEnabled();
           verifyNoMoreInteractions(sdUtil);
         };
 
@@ -1249,9 +1312,9 @@ class BridgedSignalDetectionRepositoryTest {
 
   @Test
   void testFindFilterRecordsForSignalDetectionHypothesesUsingArrival() {
-    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            HYPOTHESIS_ID))
-        .thenReturn(SDH_ARRIVAL_ID_COMPONENTS_1);
+    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisIds(
+            List.of(HYPOTHESIS_ID)))
+        .thenReturn(Map.of(HYPOTHESIS_ID, SDH_ARRIVAL_ID_COMPONENTS_1));
 
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage())
         .thenReturn(
@@ -1295,13 +1358,13 @@ class BridgedSignalDetectionRepositoryTest {
 
   @Test
   void testFindFilterRecordsForSignalDetectionHypothesesUsingAssoc() {
-    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            HYPOTHESIS_ID))
-        .thenReturn(null);
+    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisIds(
+            List.of(HYPOTHESIS_ID)))
+        .thenReturn(Map.of());
 
-    when(signalDetectionIdUtility.getAssocIdComponentsFromSignalDetectionHypothesisId(
-            HYPOTHESIS_ID))
-        .thenReturn(SDH_ASSOC_ID_COMPONENTS_1);
+    when(signalDetectionIdUtility.getAssocIdComponentsFromSignalDetectionHypothesisIds(
+            List.of(HYPOTHESIS_ID)))
+        .thenReturn(Map.of(HYPOTHESIS_ID, SDH_ASSOC_ID_COMPONENTS_1));
 
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage())
         .thenReturn(
@@ -1345,9 +1408,9 @@ class BridgedSignalDetectionRepositoryTest {
 
   @Test
   void testFindFilterRecordsForSignalDetectionHypothesesRemovesDuplicateHypotheses() {
-    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            HYPOTHESIS_ID))
-        .thenReturn(SDH_ARRIVAL_ID_COMPONENTS_1);
+    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisIds(
+            List.of(HYPOTHESIS_ID)))
+        .thenReturn(Map.of(HYPOTHESIS_ID, SDH_ARRIVAL_ID_COMPONENTS_1));
 
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage())
         .thenReturn(
@@ -1392,9 +1455,9 @@ class BridgedSignalDetectionRepositoryTest {
 
   @Test
   void testFindFilterRecordsForSignalDetectionHypothesesMissingLegacyIdReturnsNoResult() {
-    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisId(
-            HYPOTHESIS_ID))
-        .thenReturn(null);
+    when(signalDetectionIdUtility.getArrivalIdComponentsFromSignalDetectionHypothesisIds(
+            List.of(HYPOTHESIS_ID)))
+        .thenReturn(Map.of());
 
     var resultsPair =
         assertDoesNotThrow(
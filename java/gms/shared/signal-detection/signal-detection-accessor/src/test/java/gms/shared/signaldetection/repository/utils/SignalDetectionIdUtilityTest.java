@@ -8,20 +8,27 @@ import static gms.shared.signaldetection.repository.utils.SignalDetectionIdUtili
 import static gms.shared.signaldetection.repository.utils.SignalDetectionIdUtility.SIGNAL_DETECTION_ID_ARID_CACHE;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import gms.shared.frameworks.cache.utils.CacheInfo;
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementTypesChecker;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.ignite.IgniteCache;
@@ -183,6 +190,89 @@ class SignalDetectionIdUtilityTest {
     assertEquals(uuid, signalDetectionIdUtility.getOrCreateSignalDetectionIdfromArid(ARID_2));
   }
 
+  @Test
+  void testGetOrCreateSignalDetectionIdsFromArids() {
+
+    var uuid = UUID.fromString("10000000-100-0000-1000-100000000043");
+    var createdUuid = UUID.nameUUIDFromBytes(Long.toString(ARID_1).getBytes());
+    given(aridSignalDetectionMap.getAll(Set.of(ARID_1, ARID_2))).willReturn(Map.of(ARID_2, uuid));
+
+    assertEquals(
+        Map.of(ARID_1, createdUuid, ARID_2, uuid),
+        signalDetectionIdUtility.getOrCreateSignalDetectionIdsFromArids(List.of(ARID_1, ARID_2)));
+
+    verify(aridSignalDetectionMap).putAll(Map.of(ARID_1, createdUuid, ARID_2, uuid));
+    verify(signalDetectionAridMap).putAll(Map.of(createdUuid, ARID_1, uuid, ARID_2));
+  }
+
+  @Test
+  void testGetOrCreateSignalDetectionHypothesisIdsMatchesSingleIds() {
+
+    var stage = "stage";
+    var arrivalIdComponents = SignalDetectionHypothesisArrivalIdComponents.create(stage, ARID_1);
+    var assocIdComponents =
+        SignalDetectionHypothesisAssocIdComponents.create(stage, ARID_1, ORID_1);
+
+    assertEquals(
+        Map.of(
+            arrivalIdComponents,
+            signalDetectionIdUtility.getOrCreateSignalDetectionHypothesisIdFromAridAndStageId(
+                ARID_1, stage)),
+        signalDetectionIdUtility.getOrCreateSignalDetectionHypothesisIdsFromArrivalIdComponents(
+            List.of(arrivalIdComponents)));
+    assertEquals(
+        Map.of(
+            assocIdComponents,
+            signalDetectionIdUtility.getOrCreateSignalDetectionHypothesisIdFromAridOridAndStageId(
+                ARID_1, ORID_1, stage)),
+        signalDetectionIdUtility.getOrCreateSignalDetectionHypothesisIdsFromAssocIdComponents(
+            List.of(assocIdComponents)));
+  }
+
+  @Test
+  void testNearCacheServesAssignedIds() {
+
+    signalDetectionIdUtility.configureNearCache(10);
+
+    UUID uuid = UUID.fromString("10000000-100-0000-1000-100000000043");
+    given(aridSignalDetectionMap.get(ARID_2)).willReturn(uuid);
+    given(aridSignalDetectionMap.getAll(Set.of(ARID_1))).willReturn(Map.of());
+
+    assertEquals(uuid, signalDetectionIdUtility.getSignalDetectionForArid(ARID_2));
+    assertEquals(uuid, signalDetectionIdUtility.getSignalDetectionForArid(ARID_2));
+    assertEquals(
+        Map.of(ARID_2, uuid),
+        signalDetectionIdUtility.getSignalDetectionsForArids(List.of(ARID_1, ARID_2)));
+
+    // the mapping is already assigned, so only the inverse mapping is written
+    assertEquals(uuid, signalDetectionIdUtility.getOrCreateSignalDetectionIdfromArid(ARID_2));
+    assertEquals(ARID_2, signalDetectionIdUtility.getAridForSignalDetectionUUID(uuid));
+
+    verify(aridSignalDetectionMap).get(ARID_2);
+    verify(aridSignalDetectionMap, never()).put(ARID_2, uuid);
+    verify(signalDetectionAridMap).put(uuid, ARID_2);
+    verify(signalDetectionAridMap, never()).get(uuid);
+
+    assertEquals(
+        new SignalDetectionIdUtility.NearCacheStatistics(4, 2, 2),
+        signalDetectionIdUtility.getNearCacheStatistics());
+  }
+
+  @Test
+  void testConfigureNearCacheValidation() {
+    assertThrows(
+        IllegalArgumentException.class, () -> signalDetectionIdUtility.configureNearCache(-1));
+  }
+
+  @Test
+  void testIsNearCacheEnabled() {
+    signalDetectionIdUtility.configureNearCache(0);
+    assertFalse(signalDetectionIdUtility.isNearCacheEnabled());
+
+    signalDetectionIdUtility.configureNearCache(10);
+    assertTrue(signalDetectionIdUtility.isNearCacheEnabled());
+  }
+
   @ParameterizedTest
   @MethodSource("addAridAndStageIdForSignalDetectionHypothesisUUIDArguments")
   void testCreateValidation(
@@ -100,6 +100,13 @@ public class SignalDetectionApplication {
           CacheAtomicityMode.ATOMIC,
           true,
           Optional.empty());
+  public static final CacheInfo VERSION_ENTITY_TIME_INDEX_CACHE =
+      new CacheInfo(
+          "version-entity-time-index-cache",
+          CacheMode.PARTITIONED,
+          CacheAtomicityMode.ATOMIC,
+          true,
+          Optional.empty());
   public static final CacheInfo RECORD_ID_WFID_CHANNEL_CACHE =
       new CacheInfo(
           "arid-wfid-channel-cache",
@@ -143,6 +150,7 @@ public class SignalDetectionApplication {
           REQUEST_CACHE,
           VERSION_EFFECTIVE_TIME_CACHE,
           VERSION_ENTITY_TIME_CACHE,
+          VERSION_ENTITY_TIME_INDEX_CACHE,
           RECORD_ID_WFID_CHANNEL_CACHE,
           CHANNEL_RECORD_ID_WFID_CACHE,
           WFID_RESPONSE_CACHE,
@@ -2,6 +2,7 @@ package gms.shared.stationdefinition.cache;
 
 import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_EFFECTIVE_TIME_DERIVED_CACHE;
 import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_ENTITY_TIME_DERIVED_CACHE;
+import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_ENTITY_TIME_INDEX_DERIVED_CACHE;
 
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.frameworks.systemconfig.SystemConfig;
@@ -16,6 +17,7 @@ public class DerivedChannelVersionCache extends VersionCache {
     super(
         systemConfig,
         IgniteConnectionManager.getOrCreateCache(VERSION_EFFECTIVE_TIME_DERIVED_CACHE),
+        IgniteConnectionManager.getOrCreateCache(VERSION_ENTITY_TIME_INDEX_DERIVED_CACHE),
         IgniteConnectionManager.getOrCreateCache(VERSION_ENTITY_TIME_DERIVED_CACHE));
   }
 
@@ -2,6 +2,7 @@ package gms.shared.stationdefinition.cache;
 
 import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_EFFECTIVE_TIME_CACHE;
 import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_ENTITY_TIME_CACHE;
+import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_ENTITY_TIME_INDEX_CACHE;
 
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.frameworks.systemconfig.SystemConfig;
@@ -16,6 +17,7 @@ public class StandardVersionCache extends VersionCache {
     super(
         systemConfig,
         IgniteConnectionManager.getOrCreateCache(VERSION_EFFECTIVE_TIME_CACHE),
+        IgniteConnectionManager.getOrCreateCache(VERSION_ENTITY_TIME_INDEX_CACHE),
         IgniteConnectionManager.getOrCreateCache(VERSION_ENTITY_TIME_CACHE));
   }
 
@@ -2,32 +2,53 @@ package gms.shared.stationdefinition.cache;
 
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeMap;
+import com.google.common.collect.TreeRangeMap;
 import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** VersionCache for caching station definition versions and time ranges */
+/**
+ * VersionCache for caching station definition versions and time ranges. Each version is stored
+ * under its own (entityId, effectiveAt) key, alongside a small per-entity index of the time range
+ * covered by each effectiveAt, so lookups only retrieve the versions they need and caching new
+ * versions does not rewrite an entity's existing versions.
+ */
 public abstract class VersionCache {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(VersionCache.class);
   public static final String CACHE_INITIALIZED = "Cache already initialized: ";
+  private static final String VERSION_KEY_SEPARATOR = "@";
+  private static final int MAX_INDEX_UPDATE_ATTEMPTS = 100;
+  private static final long MIN_INDEX_UPDATE_BACKOFF_NANOS = 1_000;
+  private static final long MAX_INDEX_UPDATE_BACKOFF_NANOS = 1_000_000;
 
-  private final IgniteCache<String, RangeMap<Instant, Object>> versionsByEntityIdAndTimeCache;
+  private final IgniteCache<String, Object> versionsByEntityIdAndTimeCache;
+  private final IgniteCache<String, RangeMap<Instant, Instant>> versionTimeRangesByEntityIdCache;
   private final IgniteCache<String, NavigableSet<Instant>> versionEffectiveTimesByEntityIdCache;
   private SystemConfig systemConfig;
 
   protected VersionCache(
       SystemConfig systemConfig,
       IgniteCache<String, NavigableSet<Instant>> versionEffectiveTimesByEntityIdCache,
-      IgniteCache<String, RangeMap<Instant, Object>> versionsByEntityIdAndTimeCache) {
+      IgniteCache<String, RangeMap<Instant, Instant>> versionTimeRangesByEntityIdCache,
+      IgniteCache<String, Object> versionsByEntityIdAndTimeCache) {
 
     this.versionEffectiveTimesByEntityIdCache = versionEffectiveTimesByEntityIdCache;
+    this.versionTimeRangesByEntityIdCache = versionTimeRangesByEntityIdCache;
     this.versionsByEntityIdAndTimeCache = versionsByEntityIdAndTimeCache;
     this.systemConfig = systemConfig;
   }
@@ -42,6 +63,7 @@ public abstract class VersionCache {
 
   public void clear() {
     versionEffectiveTimesByEntityIdCache.clear();
+    versionTimeRangesByEntityIdCache.clear();
     versionsByEntityIdAndTimeCache.clear();
   }
 
@@ -66,17 +88,37 @@ public abstract class VersionCache {
   }
 
   /**
-   * Cache version objects using entityId and effectiveTimes
+   * Cache version objects using entityId and effectiveTimes. The versions are merged into the
+   * versions already cached for the entity, replacing any cached versions over the same time
+   * ranges. Concurrent calls for the same entity are applied atomically to the entity's index.
    *
    * @param key EntityId strings
    * @param value RangeMap of effectiveTimes to version objects
    */
   public void cacheVersionsByEntityIdAndTime(String key, RangeMap<Instant, Object> value) {
 
-    if (!versionsByEntityIdAndTimeCache.containsKey(key)) {
-      versionsByEntityIdAndTimeCache.put(key, value);
-    } else {
-      versionsByEntityIdAndTimeCache.get(key).putAll(value);
+    RangeMap<Instant, Instant> versionTimeRanges = TreeRangeMap.create();
+    Map<String, Object> versions = new HashMap<>();
+    value
+        .asMapOfRanges()
+        .forEach(
+            (range, version) -> {
+              var effectiveAt = effectiveAt(range);
+              versionTimeRanges.put(range, effectiveAt);
+              versions.put(versionKey(key, effectiveAt), version);
+            });
+
+    // versions are stored before they are indexed so they are present once they can be found
+    versionsByEntityIdAndTimeCache.putAll(versions);
+    var replacedEffectiveTimes = updateVersionTimeRanges(key, versionTimeRanges);
+    if (!replacedEffectiveTimes.isEmpty()) {
+      removeReplacedVersions(key, replacedEffectiveTimes);
+    }
+
+    // a concurrent store of the same entity may have removed an equal version it had replaced
+    // before this store indexed it again
+    if (!versionsByEntityIdAndTimeCache.containsKeys(versions.keySet())) {
+      versions.forEach(versionsByEntityIdAndTimeCache::putIfAbsent);
     }
   }
 
@@ -87,7 +129,7 @@ public abstract class VersionCache {
    * @return true if cache contains key
    */
   public boolean versionsByEntityIdAndTimeHasKey(String key) {
-    return versionsByEntityIdAndTimeCache.containsKey(key);
+    return versionTimeRangesByEntityIdCache.containsKey(key);
   }
 
   /**
@@ -107,7 +149,24 @@ public abstract class VersionCache {
    * @return rangeMap of versions by effectiveTime to version object
    */
   public RangeMap<Instant, Object> retrieveVersionsByEntityIdAndTimeRangeMap(String key) {
-    return versionsByEntityIdAndTimeCache.get(key);
+    RangeMap<Instant, Instant> versionTimeRanges = versionTimeRangesByEntityIdCache.get(key);
+    if (versionTimeRanges == null) {
+      return null;
+    }
+
+    var versions = retrieveVersions(key, versionTimeRanges.asMapOfRanges().values());
+    RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
+    versionTimeRanges
+        .asMapOfRanges()
+        .forEach(
+            (range, effectiveAt) -> {
+              var version = versions.get(effectiveAt);
+              if (version != null) {
+                rangeMap.put(range, version);
+              }
+            });
+
+    return rangeMap;
   }
 
   /**
@@ -118,9 +177,12 @@ public abstract class VersionCache {
    * @return version object from RangeMap
    */
   public Object retrieveVersionsByEntityIdAndTime(String key, Instant effectiveTime) {
-    RangeMap<Instant, Object> rangeMap = versionsByEntityIdAndTimeCache.get(key);
-    if (rangeMap != null) {
-      return rangeMap.get(effectiveTime);
+    RangeMap<Instant, Instant> versionTimeRanges = versionTimeRangesByEntityIdCache.get(key);
+    if (versionTimeRanges != null) {
+      var effectiveAt = versionTimeRanges.get(effectiveTime);
+      if (effectiveAt != null) {
+        return versionsByEntityIdAndTimeCache.get(versionKey(key, effectiveAt));
+      }
     }
 
     return null;
@@ -136,10 +198,136 @@ public abstract class VersionCache {
   public Collection<Object> retrieveVersionsByEntityIdAndTimeRange(
       String key, Range<Instant> timeRange) {
 
-    RangeMap<Instant, Object> rangeMap = versionsByEntityIdAndTimeCache.get(key);
-    if (rangeMap != null && timeRange != null) {
-      return rangeMap.subRangeMap(timeRange).asDescendingMapOfRanges().values();
+    RangeMap<Instant, Instant> versionTimeRanges = versionTimeRangesByEntityIdCache.get(key);
+    if (versionTimeRanges != null && timeRange != null) {
+      var effectiveTimes =
+          versionTimeRanges.subRangeMap(timeRange).asDescendingMapOfRanges().values();
+      var versions = retrieveVersions(key, effectiveTimes);
+      return effectiveTimes.stream()
+          .map(versions::get)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
     }
     return Collections.emptyList();
   }
+
+  /**
+   * Merges version time ranges into the index of an entity, retrying with a backoff until the index
+   * is updated without interleaving with a concurrent update
+   *
+   * @param key EntityId string
+   * @param versionTimeRanges time ranges of the versions by their effectiveAt
+   * @return effectiveAt of the versions no longer covering any time range of the entity
+   * @throws IllegalStateException if the index could not be updated within the maximum number of
+   *     attempts
+   */
+  private Set<Instant> updateVersionTimeRanges(
+      String key, RangeMap<Instant, Instant> versionTimeRanges) {
+
+    long backoffNanos = MIN_INDEX_UPDATE_BACKOFF_NANOS;
+    for (var attempt = 0; attempt < MAX_INDEX_UPDATE_ATTEMPTS; attempt++) {
+      if (attempt > 0) {
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(backoffNanos) + 1);
+        backoffNanos = Math.min(backoffNanos * 2, MAX_INDEX_UPDATE_BACKOFF_NANOS);
+      }
+
+      RangeMap<Instant, Instant> current = versionTimeRangesByEntityIdCache.get(key);
+      RangeMap<Instant, Instant> updated = TreeRangeMap.create();
+      if (current != null) {
+        updated.putAll(current);
+      }
+      updated.putAll(versionTimeRanges);
+
+      boolean stored =
+          current == null
+              ? versionTimeRangesByEntityIdCache.putIfAbsent(key, updated)
+              : versionTimeRangesByEntityIdCache.replace(key, current, updated);
+
+      if (stored) {
+        if (current == null) {
+          return Set.of();
+        }
+        Set<Instant> replacedEffectiveTimes = new HashSet<>(current.asMapOfRanges().values());
+        replacedEffectiveTimes.removeAll(updated.asMapOfRanges().values());
+        return replacedEffectiveTimes;
+      }
+    }
+
+    throw new IllegalStateException(
+        "Could not update the version index of "
+            + key
+            + " within "
+            + MAX_INDEX_UPDATE_ATTEMPTS
+            + " attempts");
+  }
+
+  /**
+   * Removes replaced versions of an entity. A version is only removed if it is unchanged and still
+   * not indexed, and is restored if a concurrent store indexes it again while it is being removed.
+   *
+   * @param key EntityId string
+   * @param replacedEffectiveTimes effectiveAt of the replaced versions
+   */
+  private void removeReplacedVersions(String key, Set<Instant> replacedEffectiveTimes) {
+    var replacedVersions =
+        versionsByEntityIdAndTimeCache.getAll(
+            replacedEffectiveTimes.stream()
+                .map(effectiveAt -> versionKey(key, effectiveAt))
+                .collect(Collectors.toSet()));
+
+    var indexedVersionKeys = indexedVersionKeys(key);
+    Map<String, Object> removedVersions = new HashMap<>();
+    replacedVersions.forEach(
+        (versionKey, version) -> {
+          if (!indexedVersionKeys.contains(versionKey)
+              && versionsByEntityIdAndTimeCache.remove(versionKey, version)) {
+            removedVersions.put(versionKey, version);
+          }
+        });
+
+    if (!removedVersions.isEmpty()) {
+      var reindexedVersionKeys = indexedVersionKeys(key);
+      removedVersions.forEach(
+          (versionKey, version) -> {
+            if (reindexedVersionKeys.contains(versionKey)) {
+              versionsByEntityIdAndTimeCache.putIfAbsent(versionKey, version);
+            }
+          });
+    }
+  }
+
+  private Set<String> indexedVersionKeys(String key) {
+    RangeMap<Instant, Instant> versionTimeRanges = versionTimeRangesByEntityIdCache.get(key);
+    if (versionTimeRanges == null) {
+      return Set.of();
+    }
+
+    return versionTimeRanges.asMapOfRanges().values().stream()
+        .map(effectiveAt -> versionKey(key, effectiveAt))
+        .collect(Collectors.toSet());
+  }
+
+  private Map<Instant, Object> retrieveVersions(String key, Collection<Instant> effectiveTimes) {
+    if (effectiveTimes.isEmpty()) {
+      return Map.of();
+    }
+
+    var versionKeys =
+        effectiveTimes.stream()
+            .distinct()
+            .collect(Collectors.toMap(effectiveAt -> versionKey(key, effectiveAt), e -> e));
+    Map<Instant, Object> versions = new HashMap<>();
+    versionsByEntityIdAndTimeCache
+        .getAll(versionKeys.keySet())
+        .forEach((versionKey, version) -> versions.put(versionKeys.get(versionKey), version));
+    return versions;
+  }
+
+  private static Instant effectiveAt(Range<Instant> range) {
+    return range.hasLowerBound() ? range.lowerEndpoint() : Instant.MIN;
+  }
+
+  private static String versionKey(String key, Instant effectiveAt) {
+    return key + VERSION_KEY_SEPARATOR + effectiveAt;
+  }
 }
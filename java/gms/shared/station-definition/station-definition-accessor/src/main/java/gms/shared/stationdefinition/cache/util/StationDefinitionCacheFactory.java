@@ -33,6 +33,13 @@ public class StationDefinitionCacheFactory {
           CacheAtomicityMode.ATOMIC,
           true,
           Optional.empty());
+  public static final CacheInfo VERSION_ENTITY_TIME_INDEX_CACHE =
+      new CacheInfo(
+          "version-entity-time-index-cache",
+          CacheMode.PARTITIONED,
+          CacheAtomicityMode.ATOMIC,
+          true,
+          Optional.empty());
   public static final CacheInfo RECORD_ID_WFID_CHANNEL_CACHE =
       new CacheInfo(
           "arid-wfid-channel-cache",
@@ -75,6 +82,13 @@ public class StationDefinitionCacheFactory {
           CacheAtomicityMode.ATOMIC,
           true,
           Optional.empty());
+  public static final CacheInfo VERSION_ENTITY_TIME_INDEX_DERIVED_CACHE =
+      new CacheInfo(
+          "version-entity-time-index-derived-cache",
+          CacheMode.PARTITIONED,
+          CacheAtomicityMode.ATOMIC,
+          true,
+          Optional.empty());
 
   private static final List<CacheInfo> CACHE_INFO_LIST =
       List.of(
@@ -83,9 +97,11 @@ public class StationDefinitionCacheFactory {
           // VERSION
           VERSION_EFFECTIVE_TIME_CACHE,
           VERSION_ENTITY_TIME_CACHE,
+          VERSION_ENTITY_TIME_INDEX_CACHE,
           // Derived version
           VERSION_EFFECTIVE_TIME_DERIVED_CACHE,
           VERSION_ENTITY_TIME_DERIVED_CACHE,
+          VERSION_ENTITY_TIME_INDEX_DERIVED_CACHE,
           // WFID and RECORDID mappings
           RECORD_ID_WFID_CHANNEL_CACHE,
           CHANNEL_RECORD_ID_WFID_CACHE,
@@ -695,13 +695,8 @@ public class BridgedChannelRepository implements ChannelRepository {
     versionTimes.add(channel.getEffectiveAt().orElseThrow());
     versionCache.cacheVersionEffectiveTimesByEntityId(key, versionTimes);
 
-    var versions = versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(key);
-
-    if (versions == null) {
-      versions = TreeRangeMap.create();
-    }
-
-    // cache derived channel versions
+    // cache derived channel version, merged into the versions already cached for the channel
+    RangeMap<Instant, Object> versions = TreeRangeMap.create();
     var range =
         channel.getEffectiveUntil().isPresent()
             ? Range.closedOpen(
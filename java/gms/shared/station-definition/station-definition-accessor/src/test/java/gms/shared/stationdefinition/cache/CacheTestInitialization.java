@@ -3,6 +3,7 @@ package gms.shared.stationdefinition.cache;
 import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.REQUEST_CACHE;
 import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_EFFECTIVE_TIME_CACHE;
 import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_ENTITY_TIME_CACHE;
+import static gms.shared.stationdefinition.cache.util.StationDefinitionCacheFactory.VERSION_ENTITY_TIME_INDEX_CACHE;
 
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.frameworks.systemconfig.SystemConfig;
@@ -24,6 +25,10 @@ public class CacheTestInitialization {
 
     IgniteConnectionManager.initialize(
         systemConfig,
-        List.of(REQUEST_CACHE, VERSION_EFFECTIVE_TIME_CACHE, VERSION_ENTITY_TIME_CACHE));
+        List.of(
+            REQUEST_CACHE,
+            VERSION_EFFECTIVE_TIME_CACHE,
+            VERSION_ENTITY_TIME_CACHE,
+            VERSION_ENTITY_TIME_INDEX_CACHE));
   }
 }
@@ -0,0 +1,244 @@
+package gms.shared.stationdefinition.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.google.common.collect.TreeRangeMap;
+import gms.shared.frameworks.systemconfig.SystemConfig;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.IgniteCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VersionCacheTest {
+
+  private static final String KEY = "StationASAR";
+  private static final Instant T0 = Instant.parse("2020-01-01T00:00:00Z");
+  private static final Instant T1 = Instant.parse("2021-01-01T00:00:00Z");
+  private static final Instant T2 = Instant.parse("2022-01-01T00:00:00Z");
+
+  private Map<String, Object> versions;
+  private IgniteCache<String, Object> versionsCache;
+  private Map<String, RangeMap<Instant, Instant>> versionTimeRanges;
+  private IgniteCache<String, RangeMap<Instant, Instant>> versionTimeRangesCache;
+  private VersionCache versionCache;
+
+  @BeforeEach
+  void setUp() {
+    versions = new ConcurrentHashMap<>();
+    versionsCache = mapBackedCache(versions);
+    IgniteCache<String, NavigableSet<Instant>> effectiveTimesCache =
+        mapBackedCache(new ConcurrentHashMap<>());
+    versionTimeRanges = new ConcurrentHashMap<>();
+    versionTimeRangesCache = mapBackedCache(versionTimeRanges);
+
+    versionCache =
+        new VersionCache(
+            mock(SystemConfig.class),
+            effectiveTimesCache,
+            versionTimeRangesCache,
+            versionsCache) {};
+  }
+
+  @Test
+  void testCacheVersionsMergesIntoCachedVersions() {
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.closedOpen(T0, T1), "v0"));
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.atLeast(T1), "v1"));
+
+    assertTrue(versionCache.versionsByEntityIdAndTimeHasKey(KEY));
+    assertFalse(versionCache.versionsByEntityIdAndTimeHasKey("StationOTHER"));
+
+    RangeMap<Instant, Object> expected = TreeRangeMap.create();
+    expected.put(Range.closedOpen(T0, T1), "v0");
+    expected.put(Range.atLeast(T1), "v1");
+    assertEquals(expected, versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(KEY));
+    assertNull(versionCache.retrieveVersionsByEntityIdAndTimeRangeMap("StationOTHER"));
+  }
+
+  @Test
+  void testRetrieveVersionByTimeFetchesOnlyThatVersion() {
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.closedOpen(T0, T1), "v0"));
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.atLeast(T1), "v1"));
+
+    assertEquals("v0", versionCache.retrieveVersionsByEntityIdAndTime(KEY, T0));
+    assertEquals("v1", versionCache.retrieveVersionsByEntityIdAndTime(KEY, T2));
+    assertNull(versionCache.retrieveVersionsByEntityIdAndTime(KEY, T0.minusSeconds(1)));
+    assertNull(versionCache.retrieveVersionsByEntityIdAndTime("StationOTHER", T0));
+
+    verify(versionsCache).get(KEY + "@" + T0);
+    verify(versionsCache).get(KEY + "@" + T1);
+    verify(versionsCache, never()).getAll(anySet());
+  }
+
+  @Test
+  void testRetrieveVersionsByTimeRange() {
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.closedOpen(T0, T1), "v0"));
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.closedOpen(T1, T2), "v1"));
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.atLeast(T2), "v2"));
+
+    assertEquals(
+        List.of("v1", "v0"),
+        versionCache.retrieveVersionsByEntityIdAndTimeRange(
+            KEY, Range.closed(T0.plusSeconds(1), T1.plusSeconds(1))));
+    assertEquals(
+        List.of(), versionCache.retrieveVersionsByEntityIdAndTimeRange(KEY, Range.lessThan(T0)));
+    assertEquals(List.of(), versionCache.retrieveVersionsByEntityIdAndTimeRange(KEY, null));
+  }
+
+  @Test
+  void testCacheVersionsReplacesOverlappedVersions() {
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.closedOpen(T1, T2), "v1"));
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.atLeast(T1), "v1-updated"));
+
+    assertEquals("v1-updated", versionCache.retrieveVersionsByEntityIdAndTime(KEY, T1));
+
+    // v0 covers the whole range of v1, which is no longer stored
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.atLeast(T0), "v0"));
+
+    assertEquals("v0", versionCache.retrieveVersionsByEntityIdAndTime(KEY, T2));
+    assertEquals(Map.of(KEY + "@" + T0, "v0"), versions);
+  }
+
+  @Test
+  void testConcurrentCacheVersions() {
+    var effectiveTimes =
+        IntStream.range(0, 64).mapToObj(T0::plusSeconds).collect(Collectors.toList());
+
+    effectiveTimes.parallelStream()
+        .forEach(
+            effectiveAt ->
+                versionCache.cacheVersionsByEntityIdAndTime(
+                    KEY,
+                    rangeMap(
+                        Range.closedOpen(effectiveAt, effectiveAt.plusSeconds(1)), effectiveAt)));
+
+    var rangeMap = versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(KEY);
+    assertEquals(effectiveTimes.size(), rangeMap.asMapOfRanges().size());
+    effectiveTimes.forEach(effectiveAt -> assertEquals(effectiveAt, rangeMap.get(effectiveAt)));
+  }
+
+  @Test
+  void testCacheVersionsRestoresVersionReindexedByConcurrentStore() {
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.closedOpen(T1, T2), "v1"));
+
+    // another store indexes v1 again while v0 replaces it, after v1 has been checked for removal
+    RangeMap<Instant, Instant> reindexed = TreeRangeMap.create();
+    reindexed.put(Range.closedOpen(T1, T2), T1);
+    when(versionTimeRangesCache.get(KEY))
+        .thenAnswer(invocation -> versionTimeRanges.get(KEY))
+        .thenAnswer(invocation -> versionTimeRanges.get(KEY))
+        .thenReturn(reindexed);
+
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.atLeast(T0), "v0"));
+
+    verify(versionsCache).remove(KEY + "@" + T1, "v1");
+    assertEquals(Map.of(KEY + "@" + T0, "v0", KEY + "@" + T1, "v1"), versions);
+  }
+
+  @Test
+  void testCacheVersionsFailsWhenIndexUpdatesKeepConflicting() {
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.closedOpen(T0, T1), "v0"));
+    doReturn(false).when(versionTimeRangesCache).replace(any(), any(), any());
+
+    var newVersions = rangeMap(Range.atLeast(T1), "v1");
+    assertThrows(
+        IllegalStateException.class,
+        () -> versionCache.cacheVersionsByEntityIdAndTime(KEY, newVersions));
+  }
+
+  @Test
+  void testClear() {
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, rangeMap(Range.atLeast(T0), "v0"));
+    versionCache.clear();
+
+    assertFalse(versionCache.versionsByEntityIdAndTimeHasKey(KEY));
+    assertTrue(versions.isEmpty());
+  }
+
+  private static RangeMap<Instant, Object> rangeMap(Range<Instant> range, Object version) {
+    RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
+    rangeMap.put(range, version);
+    return rangeMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> IgniteCache<String, V> mapBackedCache(Map<String, V> map) {
+    IgniteCache<String, V> cache = mock(IgniteCache.class);
+
+    when(cache.get(any())).thenAnswer(invocation -> map.get(invocation.<String>getArgument(0)));
+    when(cache.getAll(anySet()))
+        .thenAnswer(
+            invocation ->
+                invocation.<Set<String>>getArgument(0).stream()
+                    .filter(map::containsKey)
+                    .collect(Collectors.toMap(key -> key, map::get)));
+    when(cache.containsKeys(anySet()))
+        .thenAnswer(invocation -> map.keySet().containsAll(invocation.getArgument(0)));
+    when(cache.remove(any(), any()))
+        .thenAnswer(invocation -> map.remove(invocation.getArgument(0), invocation.getArgument(1)));
+    when(cache.containsKey(any()))
+        .thenAnswer(invocation -> map.containsKey(invocation.<String>getArgument(0)));
+    when(cache.putIfAbsent(any(), any()))
+        .thenAnswer(
+            invocation ->
+                map.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+    when(cache.replace(any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                map.replace(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    invocation.getArgument(2)));
+    doAnswer(
+            invocation -> {
+              map.put(invocation.getArgument(0), invocation.getArgument(1));
+              return null;
+            })
+        .when(cache)
+        .put(any(), any());
+    doAnswer(
+            invocation -> {
+              map.putAll(invocation.getArgument(0));
+              return null;
+            })
+        .when(cache)
+        .putAll(anyMap());
+    doAnswer(
+            invocation -> {
+              map.keySet().removeAll(invocation.getArgument(0));
+              return null;
+            })
+        .when(cache)
+        .removeAll(anySet());
+    doAnswer(
+            invocation -> {
+              map.clear();
+              return null;
+            })
+        .when(cache)
+        .clear();
+
+    return cache;
+  }
+}
@@ -1,19 +1,26 @@
 package gms.shared.stationdefinition.coi.channel;
 
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.google.auto.value.AutoValue;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import gms.shared.stationdefinition.coi.station.Station;
 import gms.shared.stationdefinition.coi.utils.CoiObjectMapperFactory;
 import gms.shared.stationdefinition.coi.utils.Units;
 import gms.shared.stationdefinition.dao.css.enums.ChannelType;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
@@ -23,6 +30,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -34,6 +42,17 @@ public final class ChannelNameUtilities {
   private static final String INCOHERENT = "incoherent";
   private static final Pattern HASH_REGEX = Pattern.compile("^.*/[0-9a-fA-F]{64}$");
 
+  // Maximum number of configured input Channels whose name hash JSON is memoized
+  private static final long MAX_CACHED_INPUT_CHANNELS = 10_000;
+
+  // Configured ObjectMappers are thread safe, so one mapper serializes every NameHash
+  private static final ObjectMapper NAME_HASH_MAPPER = createNameHashMapper();
+
+  // Input Channels are typically shared by many derived Channels, e.g. the raw Channels of a beam,
+  // so their JSON is memoized by identity rather than serialized for every derived Channel
+  private static final Cache<Channel, String> INPUT_CHANNEL_JSON =
+      CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_INPUT_CHANNELS).build();
+
   /** Private constructor prevents instantiating instances of {@link ChannelNameUtilities}. */
   private ChannelNameUtilities() {}
 
@@ -303,6 +322,7 @@ public final class ChannelNameUtilities {
     @JsonPropertyOrder(alphabetic = true)
     public abstract List<Object> getProcessingMetadata();
 
+    @JsonSerialize(contentUsing = ConfiguredInputSerializer.class)
     public abstract List<Channel> getConfiguredInputs();
 
     public abstract ChannelDataType getChannelDataType();
@@ -372,24 +392,14 @@ public final class ChannelNameUtilities {
      */
     String getHash() {
 
-      var simpleModule = new SimpleModule();
-      simpleModule.addSerializer(Double.class, new DoubleSerializerWithoutTrailingZeros());
-      simpleModule.addSerializer(double.class, new DoubleSerializerWithoutTrailingZeros());
-      simpleModule.addSerializer(Instant.class, new MillisecondInstantSerializer());
-
-      MapperBuilder<?, ?> builder =
-          JsonMapper.builder().configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
-      ObjectMapper jsonMapper = builder.build();
-
-      jsonMapper =
-          CoiObjectMapperFactory.configureObjectMapper(jsonMapper).registerModule(simpleModule);
-
-      try {
-        final String json = jsonMapper.writeValueAsString(this);
-        return Hashing.sha256().hashString(json, StandardCharsets.UTF_8).toString();
-      } catch (JsonProcessingException e) {
+      // The UTF-8 JSON is streamed into the hasher rather than built as a String first
+      Hasher hasher = Hashing.sha256().newHasher();
+      try (OutputStream hashStream = Funnels.asOutputStream(hasher)) {
+        NAME_HASH_MAPPER.writeValue(hashStream, this);
+      } catch (IOException e) {
         throw new IllegalStateException("Could not create unique id for Channel name", e);
       }
+      return hasher.hash().toString();
     }
 
     @AutoValue.Builder
@@ -465,4 +475,38 @@ public final class ChannelNameUtilities {
       }
     }
   }
+
+  /**
+   * Serializes a configured input {@link Channel} of a {@link NameHash} by writing its memoized
+   * JSON, which is identical to the JSON the {@link NameHash} mapper writes for the Channel.
+   */
+  static final class ConfiguredInputSerializer extends StdSerializer<Channel> {
+
+    ConfiguredInputSerializer() {
+      super(Channel.class);
+    }
+
+    @Override
+    public void serialize(Channel channel, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      try {
+        generator.writeRawValue(
+            INPUT_CHANNEL_JSON.get(channel, () -> NAME_HASH_MAPPER.writeValueAsString(channel)));
+      } catch (ExecutionException e) {
+        throw new IOException("Could not serialize configured input Channel", e.getCause());
+      }
+    }
+  }
+
+  private static ObjectMapper createNameHashMapper() {
+    var simpleModule = new SimpleModule();
+    simpleModule.addSerializer(Double.class, new DoubleSerializerWithoutTrailingZeros());
+    simpleModule.addSerializer(double.class, new DoubleSerializerWithoutTrailingZeros());
+    simpleModule.addSerializer(Instant.class, new MillisecondInstantSerializer());
+
+    ObjectMapper jsonMapper =
+        JsonMapper.builder().configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true).build();
+
+    return CoiObjectMapperFactory.configureObjectMapper(jsonMapper).registerModule(simpleModule);
+  }
 }
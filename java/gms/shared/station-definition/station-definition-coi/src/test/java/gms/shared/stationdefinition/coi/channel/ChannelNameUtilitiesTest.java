@@ -1,12 +1,17 @@
 package gms.shared.stationdefinition.coi.channel;
 
 import static gms.shared.stationdefinition.testfixtures.UtilsTestFixtures.CHANNEL;
+import static gms.shared.stationdefinition.testfixtures.UtilsTestFixtures.EVENT_BEAM_CHANNEL;
+import static gms.shared.stationdefinition.testfixtures.UtilsTestFixtures.FILTERED_EVENT_BEAM_CHANNEL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import gms.shared.stationdefinition.dao.css.enums.ChannelType;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -24,6 +29,40 @@ class ChannelNameUtilitiesTest {
     assertEquals(expected, actual);
   }
 
+  @ParameterizedTest
+  @MethodSource("getHashArguments")
+  void testGetHashMatchesGoldenHash(Channel channel, String expectedHash) {
+    assertEquals(expectedHash, ChannelNameUtilities.NameHash.builder(channel).build().getHash());
+  }
+
+  static Stream<Arguments> getHashArguments() {
+    // hashes computed when name hashes were serialized by a new ObjectMapper for every Channel
+    return Stream.of(
+        arguments(CHANNEL, "5857f90089e98f5c33f04d26a089c06e6541aee9776ac44567c2788b15290504"),
+        arguments(
+            EVENT_BEAM_CHANNEL, "34733f6b8c1b1b4a84f488cf998b774b41f9848cb6cadff96da0fe716054692d"),
+        arguments(
+            FILTERED_EVENT_BEAM_CHANNEL,
+            "c041413d4bc1d4a31bd0b073f7e3ca3584e22dbf0001047fc1f39d3f6a76953d"));
+  }
+
+  @Test
+  void testGetHashConcurrently() {
+    var expected = ChannelNameUtilities.NameHash.builder(FILTERED_EVENT_BEAM_CHANNEL).build();
+
+    List<String> hashes =
+        IntStream.range(0, 64)
+            .parallel()
+            .mapToObj(
+                i ->
+                    ChannelNameUtilities.NameHash.builder(FILTERED_EVENT_BEAM_CHANNEL)
+                        .build()
+                        .getHash())
+            .collect(Collectors.toList());
+
+    hashes.forEach(hash -> assertEquals(expected.getHash(), hash));
+  }
+
   @Test
   void testEmptyResponse() {
 
@@ -1,6 +1,8 @@
 package gms.shared.utilities.bridge.database.connector;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gms.shared.utilities.bridge.database.enums.EntityErrorMessage;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.NoResultException;
@@ -13,6 +15,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import net.jodah.failsafe.Failsafe;
@@ -20,6 +29,7 @@ import net.jodah.failsafe.Fallback;
 import net.jodah.failsafe.RetryPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 
 /** Persistence database connector which issues queries to the entity manager */
 public abstract class DatabaseConnector {
@@ -35,8 +45,38 @@ public abstract class DatabaseConnector {
   private static final String EMPTY_RESULT_MESSAGE = "Returning empty result.";
   private static final String EMPTY_LIST_MESSAGE = "Returning empty list.";
 
+  static final String POOL_MAX_SIZE_KEY = "hibernate.c3p0.max_size";
+
+  static final int DEFAULT_MAX_CONCURRENT_PARTITIONS = 1;
+
+  // Runs the partitions of concurrent partitioned queries. Each connector limits how many of its
+  // partitions are in flight, so the pool only grows to the sum of those limits.
+  private static final ExecutorService PARTITION_EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder()
+              .setNameFormat("database-connector-partition-%d")
+              .setDaemon(true)
+              .build());
+
+  // Set while a partition runs on the executor, so nested partitioned queries run serially rather
+  // than waiting on permits held by their callers
+  private static final ThreadLocal<Boolean> IN_PARTITION = ThreadLocal.withInitial(() -> false);
+
+  /** Point in time counts and timings of the partitions run by a connector */
+  public record PartitionStatistics(
+      long queryCount, long partitionCount, long totalPartitionNanos, long maxPartitionNanos) {}
+
   private final EntityManagerFactory entityManagerFactory;
 
+  // Limits the partitions in flight when partitioned queries run concurrently; null runs them
+  // serially on the calling thread
+  private volatile Semaphore partitionPermits;
+
+  private final LongAdder partitionedQueryCount = new LongAdder();
+  private final LongAdder partitionCount = new LongAdder();
+  private final LongAdder totalPartitionNanos = new LongAdder();
+  private final AtomicLong maxPartitionNanos = new AtomicLong();
+
   protected DatabaseConnector(EntityManagerFactory entityManagerFactory) {
     this.entityManagerFactory = entityManagerFactory;
   }
@@ -173,9 +213,40 @@ public abstract class DatabaseConnector {
             });
   }
 
+  /**
+   * Enables running the partitions of {@link #runPartitionedQuery(Collection, int, Function)}
+   * concurrently, with at most the provided number of partitions in flight for this connector. The
+   * limit is reduced to the size of the entity manager factory's connection pool when the pool size
+   * is configured. A limit of 1 runs partitions serially on the calling thread.
+   *
+   * @param maxConcurrentPartitions - maximum number of partitions in flight, at least 1
+   */
+  @Value("${databaseConnector.maxConcurrentPartitions:" + DEFAULT_MAX_CONCURRENT_PARTITIONS + "}")
+  public void setMaxConcurrentPartitions(int maxConcurrentPartitions) {
+    Preconditions.checkArgument(
+        maxConcurrentPartitions >= 1, "Maximum concurrent partitions must be at least 1");
+
+    int limit = Math.min(maxConcurrentPartitions, getConnectionPoolSize());
+    partitionPermits = limit > 1 ? new Semaphore(limit) : null;
+  }
+
+  /**
+   * Retrieves the partition counts and timings of the partitioned queries run by this connector
+   *
+   * @return the statistics
+   */
+  public PartitionStatistics getPartitionStatistics() {
+    return new PartitionStatistics(
+        partitionedQueryCount.sum(),
+        partitionCount.sum(),
+        totalPartitionNanos.sum(),
+        maxPartitionNanos.get());
+  }
+
   /**
    * Breaks the query into partitionSize batches and makes individual Oracle queries for each
-   * partition
+   * partition. Partitions run concurrently if enabled with {@link
+   * #setMaxConcurrentPartitions(int)}, and results are always returned in partition order.
    *
    * @param <P> input object type
    * @param <T> output object type
@@ -188,10 +259,108 @@ public abstract class DatabaseConnector {
       Collection<P> queryParams,
       int partitionSize,
       Function<Collection<P>, List<T>> partitionQueryFunction) {
-    return Lists.partition(new ArrayList<>(queryParams), partitionSize).stream()
-        .map(partitionQueryFunction)
-        .flatMap(Collection::stream)
-        .collect(Collectors.toList());
+
+    List<List<P>> partitions = Lists.partition(new ArrayList<>(queryParams), partitionSize);
+    partitionedQueryCount.increment();
+
+    var permits = partitionPermits;
+    if (permits == null || partitions.size() < 2 || IN_PARTITION.get()) {
+      return partitions.stream()
+          .map(partition -> runPartition(partition, partitionQueryFunction))
+          .flatMap(Collection::stream)
+          .collect(Collectors.toList());
+    }
+
+    List<CompletableFuture<List<T>>> partitionResults = new ArrayList<>(partitions.size());
+    for (List<P> partition : partitions) {
+      partitionResults.add(submitPartition(partition, partitionQueryFunction, permits));
+    }
+
+    try {
+      return partitionResults.stream()
+          .map(CompletableFuture::join)
+          .flatMap(Collection::stream)
+          .collect(Collectors.toList());
+    } catch (CompletionException e) {
+      // partition functions handle their own retries and fallbacks, so rethrow what they threw
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Runs the partition on the partition executor once a permit is available. If the calling thread
+   * is interrupted while waiting for a permit, the partition runs on the calling thread instead.
+   */
+  private <P, T> CompletableFuture<List<T>> submitPartition(
+      List<P> partition,
+      Function<Collection<P>, List<T>> partitionQueryFunction,
+      Semaphore permits) {
+
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted waiting to run a query partition, running on the calling thread");
+      return CompletableFuture.completedFuture(runPartition(partition, partitionQueryFunction));
+    }
+
+    try {
+      return CompletableFuture.supplyAsync(
+          () -> {
+            IN_PARTITION.set(true);
+            try {
+              return runPartition(partition, partitionQueryFunction);
+            } finally {
+              IN_PARTITION.remove();
+              permits.release();
+            }
+          },
+          PARTITION_EXECUTOR);
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /** Runs the query for a single partition, recording its duration */
+  private <P, T> List<T> runPartition(
+      List<P> partition, Function<Collection<P>, List<T>> partitionQueryFunction) {
+
+    long start = System.nanoTime();
+    try {
+      return partitionQueryFunction.apply(partition);
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      partitionCount.increment();
+      totalPartitionNanos.add(elapsed);
+      maxPartitionNanos.accumulateAndGet(elapsed, Math::max);
+      LOGGER.debug("Query partition of {} params completed in {} ns", partition.size(), elapsed);
+    }
+  }
+
+  /**
+   * Obtains the maximum size of the entity manager factory's connection pool
+   *
+   * @return the pool size, or {@link Integer#MAX_VALUE} if it is not configured
+   */
+  private int getConnectionPoolSize() {
+    var poolSize = entityManagerFactory.getProperties().get(POOL_MAX_SIZE_KEY);
+    if (poolSize == null) {
+      return Integer.MAX_VALUE;
+    }
+
+    try {
+      return Math.max(1, Integer.parseInt(poolSize.toString().trim()));
+    } catch (NumberFormatException e) {
+      LOGGER.warn("Ignoring invalid connection pool size {}", poolSize);
+      return Integer.MAX_VALUE;
+    }
   }
 
   /** Create RetryPolicy with transaction rollback for failed commits */
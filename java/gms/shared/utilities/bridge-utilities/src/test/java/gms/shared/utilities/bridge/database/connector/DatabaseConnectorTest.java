@@ -0,0 +1,173 @@
+package gms.shared.utilities.bridge.database.connector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseConnectorTest {
+
+  private static final List<Integer> PARAMS =
+      IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+  @Mock EntityManagerFactory entityManagerFactory;
+
+  private DatabaseConnector databaseConnector;
+
+  @BeforeEach
+  void setUp() {
+    databaseConnector = new DatabaseConnector(entityManagerFactory) {};
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void testRunPartitionedQueryPreservesOrder(int maxConcurrentPartitions) {
+    when(entityManagerFactory.getProperties()).thenReturn(Map.of());
+    databaseConnector.setMaxConcurrentPartitions(maxConcurrentPartitions);
+
+    List<Integer> results =
+        databaseConnector.runPartitionedQuery(PARAMS, 7, DatabaseConnectorTest::slowQuery);
+
+    assertEquals(PARAMS, results);
+
+    var statistics = databaseConnector.getPartitionStatistics();
+    assertEquals(1, statistics.queryCount());
+    assertEquals(15, statistics.partitionCount());
+    assertTrue(statistics.maxPartitionNanos() > 0);
+    assertTrue(statistics.totalPartitionNanos() >= statistics.maxPartitionNanos());
+  }
+
+  @Test
+  void testRunPartitionedQueryLimitsPartitionsInFlight() {
+    when(entityManagerFactory.getProperties())
+        .thenReturn(Map.of(DatabaseConnector.POOL_MAX_SIZE_KEY, "3"));
+    databaseConnector.setMaxConcurrentPartitions(10);
+
+    assertEquals(3, maxPartitionsInFlight(databaseConnector, 3));
+  }
+
+  @Test
+  void testMaxConcurrentPartitionsConfigured() {
+    when(entityManagerFactory.getProperties())
+        .thenReturn(Map.of(DatabaseConnector.POOL_MAX_SIZE_KEY, "3"));
+
+    try (var context = createContext(Map.of("databaseConnector.maxConcurrentPartitions", "2"))) {
+      assertEquals(2, maxPartitionsInFlight(context.getBean(DatabaseConnector.class), 2));
+    }
+  }
+
+  @Test
+  void testMaxConcurrentPartitionsConfiguredDefault() {
+    when(entityManagerFactory.getProperties())
+        .thenReturn(Map.of(DatabaseConnector.POOL_MAX_SIZE_KEY, "3"));
+
+    try (var context = createContext(Map.of())) {
+      assertEquals(1, maxPartitionsInFlight(context.getBean(DatabaseConnector.class), 1));
+    }
+  }
+
+  @Test
+  void testRunPartitionedQueryPropagatesPartitionFailure() {
+    when(entityManagerFactory.getProperties()).thenReturn(Map.of());
+    databaseConnector.setMaxConcurrentPartitions(4);
+
+    var failure = new DatabaseConnectorException("Query failed", new IllegalStateException());
+
+    var exception =
+        assertThrows(
+            DatabaseConnectorException.class,
+            () ->
+                databaseConnector.runPartitionedQuery(
+                    PARAMS,
+                    10,
+                    partition -> {
+                      if (partition.contains(50)) {
+                        throw failure;
+                      }
+                      return new ArrayList<>(partition);
+                    }));
+
+    assertSame(failure, exception);
+  }
+
+  @Test
+  void testSetMaxConcurrentPartitionsInvalid() {
+    assertThrows(
+        IllegalArgumentException.class, () -> databaseConnector.setMaxConcurrentPartitions(0));
+  }
+
+  private AnnotationConfigApplicationContext createContext(Map<String, Object> properties) {
+    var context = new AnnotationConfigApplicationContext();
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addFirst(new MapPropertySource("test", properties));
+    context.registerBean(
+        DatabaseConnector.class, () -> new DatabaseConnector(entityManagerFactory) {});
+    context.refresh();
+    return context;
+  }
+
+  /**
+   * Runs a partitioned query whose first partitions wait for each other to start, and returns the
+   * most partitions that were in flight at once
+   */
+  private static int maxPartitionsInFlight(DatabaseConnector connector, int awaitedPartitions) {
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    var allStarted = new CountDownLatch(awaitedPartitions);
+
+    List<Integer> results =
+        connector.runPartitionedQuery(
+            PARAMS,
+            10,
+            partition -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              allStarted.countDown();
+              try {
+                // Hold the first partitions until the expected limit is reached
+                allStarted.await(5, TimeUnit.SECONDS);
+                return slowQuery(partition);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return List.of();
+              } finally {
+                inFlight.decrementAndGet();
+              }
+            });
+
+    assertEquals(PARAMS, results);
+    return maxInFlight.get();
+  }
+
+  private static List<Integer> slowQuery(Collection<Integer> partition) {
+    try {
+      Thread.sleep(2);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return new ArrayList<>(partition);
+  }
+}
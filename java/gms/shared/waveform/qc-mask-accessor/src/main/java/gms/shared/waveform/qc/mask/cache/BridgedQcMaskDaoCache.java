@@ -2,6 +2,8 @@ package gms.shared.waveform.qc.mask.cache;
 
 import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_MASK_DAO_CACHE;
 
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.waveform.qc.coi.QcSegment;
@@ -11,16 +13,28 @@ import gms.shared.waveform.qc.mask.controller.QcSegmentController;
 import gms.shared.waveform.qc.mask.converter.QcDaoObject;
 import gms.shared.waveform.qc.mask.util.QcSegmentUtility;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /** Main qc mask dao cache for storing previously bridged daos */
@@ -29,21 +43,62 @@ public class BridgedQcMaskDaoCache {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BridgedQcMaskDaoCache.class);
   private static final String CACHE_INITIALIZED = "Cache already initialized: ";
+  private static final String STA_CHAN_PAIR_LOCK_PREFIX = "lock:";
+  private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+  static final int DEFAULT_MAX_CONCURRENT_STA_CHAN_PAIRS = 8;
 
   private final QcSegmentController qcSegmentController;
   private final BridgedQcSegmentCache bridgedQcSegmentCache;
+  private final ExecutorService staChanPairExecutor;
   private IgniteCache<String, QcDaoObject> qcMaskDaoCache;
 
-  @Autowired
   public BridgedQcMaskDaoCache(
       SystemConfig systemConfig,
       QcSegmentController qcSegmentController,
       BridgedQcSegmentCache bridgedQcSegmentCache) {
+    this(
+        systemConfig,
+        qcSegmentController,
+        bridgedQcSegmentCache,
+        DEFAULT_MAX_CONCURRENT_STA_CHAN_PAIRS);
+  }
+
+  @Autowired
+  public BridgedQcMaskDaoCache(
+      SystemConfig systemConfig,
+      QcSegmentController qcSegmentController,
+      BridgedQcSegmentCache bridgedQcSegmentCache,
+      @Value(
+              "${qcMaskDaoCache.maxConcurrentStaChanPairs:"
+                  + DEFAULT_MAX_CONCURRENT_STA_CHAN_PAIRS
+                  + "}")
+          int maxConcurrentStaChanPairs) {
+    Preconditions.checkArgument(
+        maxConcurrentStaChanPairs > 0, "Max concurrent station channel pairs must be positive");
+
     this.qcSegmentController = qcSegmentController;
     this.bridgedQcSegmentCache = bridgedQcSegmentCache;
+    this.staChanPairExecutor = createStaChanPairExecutor(maxConcurrentStaChanPairs);
     initializeCache(systemConfig);
   }
 
+  private static ExecutorService createStaChanPairExecutor(int maxConcurrentStaChanPairs) {
+    var executor =
+        new ThreadPoolExecutor(
+            maxConcurrentStaChanPairs,
+            maxConcurrentStaChanPairs,
+            IDLE_THREAD_TIMEOUT_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("qc-mask-dao-cache-update-%d")
+                .setDaemon(true)
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   /**
    * Setup and initialize qc mask dao cache
    *
@@ -62,7 +117,8 @@ public class BridgedQcMaskDaoCache {
   /**
    * For each QcDaoObject, checks if QcDaoObject exists in cache (indicating it has been processed)
    * and if it doesn't creates a new qcsegment from the QcDaoObject and stores it in the
-   * QcSegmentCache
+   * QcSegmentCache. QcDaoObjects are processed in bulk for each station channel pair, with
+   * different pairs processed concurrently.
    *
    * @param qcDaoObjects the qc dao objects
    * @param startTime the start time of the query for the dao objects
@@ -72,65 +128,131 @@ public class BridgedQcMaskDaoCache {
   public List<QcSegment> updateDaoObjectsAndQcSegments(
       Collection<QcDaoObject> qcDaoObjects, Instant startTime, Instant endTime) {
 
-    for (QcDaoObject qcDao : qcDaoObjects) {
+    Map<String, List<QcDaoObject>> qcDaosByStaChanPair =
+        qcDaoObjects.stream()
+            .collect(
+                Collectors.groupingBy(
+                    QcSegmentUtility::getChannelStaChanPair,
+                    LinkedHashMap::new,
+                    Collectors.toList()));
+
+    if (qcDaosByStaChanPair.size() < 2) {
+      qcDaosByStaChanPair.forEach(
+          (staChanPair, qcDaos) ->
+              updateStaChanPairDaoObjectsAndQcSegments(staChanPair, qcDaos, startTime, endTime));
+    } else {
+      var updates =
+          qcDaosByStaChanPair.entrySet().stream()
+              .map(
+                  entry ->
+                      CompletableFuture.runAsync(
+                          () ->
+                              updateStaChanPairDaoObjectsAndQcSegments(
+                                  entry.getKey(), entry.getValue(), startTime, endTime),
+                          staChanPairExecutor))
+              .collect(Collectors.toList());
 
-      var daoLock = getLockForQcDao(qcDao);
       try {
-        // acquire lock for this dao's key
-        daoLock.lock();
-        var key = QcSegmentUtility.getUniqueKeyForQcDao(qcDao);
+        updates.forEach(CompletableFuture::join);
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        if (e.getCause() instanceof Error error) {
+          throw error;
+        }
+        throw e;
+      }
+    }
+
+    return bridgedQcSegmentCache.findQcSegmentsByStaChanPairAndTimeRange(
+        qcDaosByStaChanPair.keySet(), startTime, endTime);
+  }
 
-        // check if dao not already in cache
-        if (!qcMaskDaoCache.containsKey(key)) {
+  /**
+   * Creates and updates the qc segments of the QcDaoObjects on a single station channel pair that
+   * are not already in the cache. Existence is checked and the QcDaoObjects are stored in bulk
+   * under one lock for the pair, and the pair's segments are updated in memory by each QcDaoObject
+   * in turn before being stored.
+   *
+   * @param staChanPair the station channel pair of the qc dao objects
+   * @param qcDaoObjects the qc dao objects
+   * @param startTime the start time of the query for the dao objects
+   * @param endTime the end time of the query for the dao objects
+   */
+  private void updateStaChanPairDaoObjectsAndQcSegments(
+      String staChanPair, List<QcDaoObject> qcDaoObjects, Instant startTime, Instant endTime) {
 
-          var staChanPair = QcSegmentUtility.getChannelStaChanPair(qcDao);
-          // get relevant qc segments from cache
-          var qcSegments =
-              bridgedQcSegmentCache.findQcSegmentsByStaChanPairAndTimeRange(
-                  Set.of(staChanPair), startTime, endTime);
+    // the lock key is prefixed so it cannot be the key of a cached dao
+    var staChanPairLock = qcMaskDaoCache.lock(STA_CHAN_PAIR_LOCK_PREFIX + staChanPair);
+    try {
+      // acquire lock for all daos on this sta chan pair
+      staChanPairLock.lock();
 
-          var updatedQcSegments =
-              qcSegmentController.updateQcSegmentsAndVersions(qcSegments, List.of(qcDao));
+      Map<String, QcDaoObject> newQcDaosByKey = new LinkedHashMap<>();
+      qcDaoObjects.forEach(
+          qcDao -> newQcDaosByKey.putIfAbsent(QcSegmentUtility.getUniqueKeyForQcDao(qcDao), qcDao));
 
-          var qcSegmentVersions = retrieveQcSegmentVersions(updatedQcSegments);
+      // drop daos already in cache
+      newQcDaosByKey.keySet().removeAll(qcMaskDaoCache.getAll(newQcDaosByKey.keySet()).keySet());
+      if (newQcDaosByKey.isEmpty()) {
+        return;
+      }
 
-          bridgedQcSegmentCache.storeQcSegments(updatedQcSegments);
+      // get relevant qc segments from cache
+      Map<UUID, QcSegment> qcSegmentsById = new LinkedHashMap<>();
+      bridgedQcSegmentCache
+          .findQcSegmentsByStaChanPairAndTimeRange(Set.of(staChanPair), startTime, endTime)
+          .forEach(qcSegment -> qcSegmentsById.put(qcSegment.getId(), qcSegment));
 
-          bridgedQcSegmentCache.storeQcSegmentVersions(qcSegmentVersions);
+      Map<UUID, QcSegment> updatedQcSegmentsById = new LinkedHashMap<>();
+      Set<QcSegmentVersion> addedQcSegmentVersions = new LinkedHashSet<>();
+      for (var qcDao : newQcDaosByKey.values()) {
+        var updatedQcSegments =
+            qcSegmentController.updateQcSegmentsAndVersions(
+                new ArrayList<>(qcSegmentsById.values()), List.of(qcDao));
+        updatedQcSegments.forEach(
+            qcSegment -> {
+              qcSegmentsById.put(qcSegment.getId(), qcSegment);
+              updatedQcSegmentsById.put(qcSegment.getId(), qcSegment);
+            });
 
-          qcMaskDaoCache.put(key, qcDao);
-        }
-      } finally {
-        daoLock.unlock();
+        // a later dao can add a newer version to the same segment, so the version added by each
+        // dao is collected here rather than taken from the final segments
+        addedQcSegmentVersions.addAll(retrieveLatestQcSegmentVersions(updatedQcSegments));
       }
-    }
 
-    var staChanPairs =
-        qcDaoObjects.stream()
-            .map(QcSegmentUtility::getChannelStaChanPair)
-            .distinct()
-            .collect(Collectors.toSet());
+      var updatedQcSegments = new ArrayList<>(updatedQcSegmentsById.values());
+      var qcSegmentVersions =
+          addedQcSegmentVersions.stream()
+              .filter(
+                  qcSegmentVersion ->
+                      !bridgedQcSegmentCache.containsQcSegmentVersion(qcSegmentVersion))
+              .collect(Collectors.toList());
 
-    return bridgedQcSegmentCache.findQcSegmentsByStaChanPairAndTimeRange(
-        staChanPairs, startTime, endTime);
+      bridgedQcSegmentCache.storeQcSegments(updatedQcSegments);
+
+      if (!qcSegmentVersions.isEmpty()) {
+        bridgedQcSegmentCache.storeQcSegmentVersions(qcSegmentVersions);
+      }
+
+      // sorted keys keep the entry lock order consistent across concurrent writers
+      qcMaskDaoCache.putAll(new TreeMap<>(newQcDaosByKey));
+    } finally {
+      staChanPairLock.unlock();
+    }
   }
 
-  private List<QcSegmentVersion> retrieveQcSegmentVersions(List<QcSegment> qcSegments) {
+  private static List<QcSegmentVersion> retrieveLatestQcSegmentVersions(
+      List<QcSegment> qcSegments) {
 
     return qcSegments.stream()
         .map(QcSegment::getData)
         .flatMap(Optional::stream)
         .map(data -> data.getVersionHistory().last())
-        .filter(
-            qcSegmentVersion -> !bridgedQcSegmentCache.containsQcSegmentVersion(qcSegmentVersion))
         .collect(Collectors.toList());
   }
 
-  private Lock getLockForQcDao(QcDaoObject qcDaoObject) {
-    var key = QcSegmentUtility.getUniqueKeyForQcDao(qcDaoObject);
-    return qcMaskDaoCache.lock(key);
-  }
-
   /** Clears all values within the cache */
   public void clear() {
     qcMaskDaoCache.clear();
@@ -1,6 +1,7 @@
 package gms.shared.waveform.qc.mask.cache;
 
 import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_CACHE;
+import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_STA_CHAN_INDEX_CACHE;
 import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_VERSION_CACHE;
 
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
@@ -13,22 +14,31 @@ import gms.shared.waveform.qc.coi.QcSegmentVersionId;
 import gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
-import javax.cache.Cache;
 import org.apache.ignite.IgniteCache;
-import org.apache.ignite.cache.query.ScanQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-/** Bridged qc segment cache stores new qc segment coi objects */
+/**
+ * Bridged qc segment cache stores new qc segment coi objects. Segments are indexed by the station
+ * channel pair of their channel, with the ids of the segments on each pair sorted by the start time
+ * of their latest version, so channel and time range lookups only retrieve the segments on the
+ * requested pairs that overlap the time range.
+ */
 @Component
 public final class BridgedQcSegmentCache {
 
@@ -37,6 +47,8 @@ public final class BridgedQcSegmentCache {
 
   private IgniteCache<UUID, QcSegment> qcSegmentCache;
   private IgniteCache<QcSegmentVersionId, QcSegmentVersion> qcSegmentVersionCache;
+  // station channel pair -> latest version start time -> segment id -> latest version end time
+  private IgniteCache<String, NavigableMap<Instant, Map<UUID, Instant>>> qcSegmentStaChanIndexCache;
 
   @Autowired
   public BridgedQcSegmentCache(SystemConfig systemConfig) {
@@ -57,6 +69,8 @@ public final class BridgedQcSegmentCache {
 
     this.qcSegmentCache = IgniteConnectionManager.getOrCreateCache(QC_SEGMENT_CACHE);
     this.qcSegmentVersionCache = IgniteConnectionManager.getOrCreateCache(QC_SEGMENT_VERSION_CACHE);
+    this.qcSegmentStaChanIndexCache =
+        IgniteConnectionManager.getOrCreateCache(QC_SEGMENT_STA_CHAN_INDEX_CACHE);
   }
 
   /**
@@ -66,10 +80,7 @@ public final class BridgedQcSegmentCache {
    * @return list of matching {@link QcSegment}s
    */
   public List<QcSegment> findQcSegmentsByIds(Collection<UUID> uuids) {
-    return qcSegmentCache.query(new ScanQuery<UUID, QcSegment>()).getAll().stream()
-        .filter(entry -> uuids.contains(entry.getKey()))
-        .map(Cache.Entry::getValue)
-        .collect(Collectors.toList());
+    return findByKeys(qcSegmentCache, uuids);
   }
 
   /**
@@ -81,13 +92,7 @@ public final class BridgedQcSegmentCache {
   public List<QcSegmentVersion> findQcSegmentVersionsByIds(
       Collection<QcSegmentVersionId> qcSegmentVersionIds) {
 
-    return qcSegmentVersionCache
-        .query(new ScanQuery<QcSegmentVersionId, QcSegmentVersion>())
-        .getAll()
-        .stream()
-        .filter(entry -> qcSegmentVersionIds.contains(entry.getKey()))
-        .map(Cache.Entry::getValue)
-        .collect(Collectors.toList());
+    return findByKeys(qcSegmentVersionCache, qcSegmentVersionIds);
   }
 
   /**
@@ -101,8 +106,12 @@ public final class BridgedQcSegmentCache {
   public List<QcSegment> findQcSegmentsByChannelsAndTimeRange(
       List<Channel> channels, Instant startTime, Instant endTime) {
 
-    return qcSegmentCache.query(new ScanQuery<UUID, QcSegment>()).getAll().stream()
-        .map(Cache.Entry::getValue)
+    var staChanPairs =
+        channels.stream()
+            .map(StationDefinitionIdUtility::getStationChannelCodeFromChannel)
+            .collect(Collectors.toSet());
+
+    return findIndexedQcSegments(staChanPairs, startTime, endTime).stream()
         .filter(BridgedQcSegmentCache::checkQcSegmentAndVersionData)
         .filter(
             qcSegment ->
@@ -123,8 +132,7 @@ public final class BridgedQcSegmentCache {
   public List<QcSegment> findQcSegmentsByStaChanPairAndTimeRange(
       Set<String> channelNames, Instant startTime, Instant endTime) {
 
-    return qcSegmentCache.query(new ScanQuery<UUID, QcSegment>()).getAll().stream()
-        .map(Cache.Entry::getValue)
+    return findIndexedQcSegments(channelNames, startTime, endTime).stream()
         .filter(BridgedQcSegmentCache::checkQcSegmentAndVersionData)
         .filter(
             qcSegment ->
@@ -135,20 +143,29 @@ public final class BridgedQcSegmentCache {
   }
 
   /**
-   * Store {@link QcSegment}s to cache
+   * Store {@link QcSegment}s to cache, moving each segment to the station channel pair and start
+   * time of its latest version in the index. The segments and their index entries are updated under
+   * the locks of the segments, so stored segments are findable once this returns and concurrent
+   * stores of a segment cannot interleave their index updates.
    *
    * @param qcSegments
    */
   public void storeQcSegments(Iterable<QcSegment> qcSegments) {
-    for (var qcSegment : qcSegments) {
-      var uuid = qcSegment.getId();
-      var lock = acquireQcSegmentLock(uuid);
-      try {
-        lock.lock();
-        qcSegmentCache.put(uuid, qcSegment);
-      } finally {
-        lock.unlock();
-      }
+    // sorted ids keep the lock order consistent across concurrent writers
+    Map<UUID, QcSegment> qcSegmentsById = new TreeMap<>();
+    qcSegments.forEach(qcSegment -> qcSegmentsById.put(qcSegment.getId(), qcSegment));
+    if (qcSegmentsById.isEmpty()) {
+      return;
+    }
+
+    var lock = qcSegmentCache.lockAll(qcSegmentsById.keySet());
+    try {
+      lock.lock();
+      var previousQcSegments = qcSegmentCache.getAll(qcSegmentsById.keySet());
+      qcSegmentCache.putAll(qcSegmentsById);
+      updateStaChanIndex(previousQcSegments, qcSegmentsById);
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -183,16 +200,159 @@ public final class BridgedQcSegmentCache {
   public void clear() {
     qcSegmentCache.clear();
     qcSegmentVersionCache.clear();
+    qcSegmentStaChanIndexCache.clear();
   }
 
   /**
-   * Lock the {@link QcSegmentCache} when updating
+   * Retrieve the values of the provided keys from a cache, in the order of the keys
    *
-   * @param uuid key to lock
-   * @return the cache lock for the UUID
+   * @param cache cache to retrieve values from
+   * @param keys keys of the values
+   * @return list of the values present in the cache
+   */
+  private static <K, V> List<V> findByKeys(IgniteCache<K, V> cache, Collection<K> keys) {
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+
+    var orderedKeys = new LinkedHashSet<>(keys);
+    var values = cache.getAll(orderedKeys);
+    return orderedKeys.stream()
+        .map(values::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Find the {@link QcSegment}s indexed on the station channel pairs whose latest version overlaps
+   * the time range
+   *
+   * @param staChanPairs station channel pairs
+   * @param startTime time range start
+   * @param endTime time range end
+   * @return list of {@link QcSegment}s
+   */
+  private List<QcSegment> findIndexedQcSegments(
+      Set<String> staChanPairs, Instant startTime, Instant endTime) {
+
+    if (staChanPairs.isEmpty()) {
+      return List.of();
+    }
+
+    var uuids =
+        qcSegmentStaChanIndexCache.getAll(new TreeSet<>(staChanPairs)).values().stream()
+            .flatMap(
+                segmentsByStartTime ->
+                    segmentsByStartTime.headMap(endTime, false).values().stream())
+            .flatMap(segmentEndTimes -> segmentEndTimes.entrySet().stream())
+            .filter(segmentEndTime -> segmentEndTime.getValue().isAfter(startTime))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+
+    return findByKeys(qcSegmentCache, uuids);
+  }
+
+  /**
+   * Create the index entry of a {@link QcSegment} from its channel and latest version
+   *
+   * @param qcSegment {@link QcSegment}, may be null
+   * @return the index entry, empty if the segment or its latest version has no data
+   */
+  private static Optional<IndexEntry> indexEntry(QcSegment qcSegment) {
+    if (qcSegment == null || !checkQcSegmentAndVersionData(qcSegment)) {
+      return Optional.empty();
+    }
+
+    var data = qcSegment.getData().orElseThrow();
+    var versionData = data.getVersionHistory().last().getData().orElseThrow();
+    return Optional.of(
+        new IndexEntry(
+            StationDefinitionIdUtility.getStationChannelCodeFromChannel(data.getChannel()),
+            versionData.getStartTime(),
+            versionData.getEndTime()));
+  }
+
+  /** Station channel pair and time range of the latest version of a {@link QcSegment} */
+  private record IndexEntry(String staChanPair, Instant startTime, Instant endTime) {}
+
+  /**
+   * Move the index entries of the provided {@link QcSegment}s from their previous latest versions
+   * to their stored latest versions. The indices of all affected station channel pairs are locked,
+   * read, updated and written back together.
+   *
+   * @param previousQcSegments previously cached {@link QcSegment}s by id
+   * @param qcSegmentsById stored {@link QcSegment}s by id
    */
-  private Lock acquireQcSegmentLock(UUID uuid) {
-    return qcSegmentCache.lock(uuid);
+  private void updateStaChanIndex(
+      Map<UUID, QcSegment> previousQcSegments, Map<UUID, QcSegment> qcSegmentsById) {
+
+    Map<UUID, IndexEntry> removedEntries = new HashMap<>();
+    Map<UUID, IndexEntry> addedEntries = new HashMap<>();
+    qcSegmentsById.forEach(
+        (uuid, qcSegment) -> {
+          indexEntry(previousQcSegments.get(uuid))
+              .ifPresent(entry -> removedEntries.put(uuid, entry));
+          indexEntry(qcSegment).ifPresent(entry -> addedEntries.put(uuid, entry));
+        });
+
+    // sorted pairs keep the lock order consistent across concurrent writers
+    Set<String> staChanPairs = new TreeSet<>();
+    removedEntries.values().forEach(entry -> staChanPairs.add(entry.staChanPair()));
+    addedEntries.values().forEach(entry -> staChanPairs.add(entry.staChanPair()));
+    if (staChanPairs.isEmpty()) {
+      return;
+    }
+
+    var lock = qcSegmentStaChanIndexCache.lockAll(staChanPairs);
+    try {
+      lock.lock();
+      Map<String, NavigableMap<Instant, Map<UUID, Instant>>> indices =
+          new HashMap<>(qcSegmentStaChanIndexCache.getAll(staChanPairs));
+
+      removedEntries.forEach(
+          (uuid, entry) -> {
+            var segmentsByStartTime = indices.get(entry.staChanPair());
+            if (segmentsByStartTime != null) {
+              segmentsByStartTime.computeIfPresent(
+                  entry.startTime(),
+                  (startTime, segmentEndTimes) -> {
+                    Map<UUID, Instant> updated = new HashMap<>(segmentEndTimes);
+                    updated.remove(uuid);
+                    return updated.isEmpty() ? null : updated;
+                  });
+            }
+          });
+      addedEntries.forEach(
+          (uuid, entry) ->
+              indices
+                  .computeIfAbsent(entry.staChanPair(), staChanPair -> new TreeMap<>())
+                  .compute(
+                      entry.startTime(),
+                      (startTime, segmentEndTimes) -> {
+                        Map<UUID, Instant> updated =
+                            segmentEndTimes == null
+                                ? new HashMap<>()
+                                : new HashMap<>(segmentEndTimes);
+                        updated.put(uuid, entry.endTime());
+                        return updated;
+                      }));
+
+      var emptyStaChanPairs =
+          indices.entrySet().stream()
+              .filter(index -> index.getValue().isEmpty())
+              .map(Map.Entry::getKey)
+              .collect(Collectors.toCollection(TreeSet::new));
+      emptyStaChanPairs.forEach(indices::remove);
+
+      if (!indices.isEmpty()) {
+        qcSegmentStaChanIndexCache.putAll(new TreeMap<>(indices));
+      }
+      if (!emptyStaChanPairs.isEmpty()) {
+        qcSegmentStaChanIndexCache.removeAll(emptyStaChanPairs);
+      }
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
@@ -25,6 +25,13 @@ public final class QcMaskCacheFactory {
           CacheAtomicityMode.TRANSACTIONAL,
           true,
           Optional.empty());
+  public static final CacheInfo QC_SEGMENT_STA_CHAN_INDEX_CACHE =
+      new CacheInfo(
+          "qc-segment-sta-chan-index-cache",
+          CacheMode.PARTITIONED,
+          CacheAtomicityMode.TRANSACTIONAL,
+          true,
+          Optional.empty());
   public static final CacheInfo QC_MASK_DAO_CACHE =
       new CacheInfo(
           "qc-mask-dao-cache",
@@ -34,7 +41,11 @@ public final class QcMaskCacheFactory {
           Optional.empty());
 
   private static final List<CacheInfo> CACHE_INFO_LIST =
-      List.of(QC_SEGMENT_CACHE, QC_SEGMENT_VERSION_CACHE, QC_MASK_DAO_CACHE);
+      List.of(
+          QC_SEGMENT_CACHE,
+          QC_SEGMENT_VERSION_CACHE,
+          QC_SEGMENT_STA_CHAN_INDEX_CACHE,
+          QC_MASK_DAO_CACHE);
 
   private QcMaskCacheFactory() {}
 
@@ -2,21 +2,27 @@ package gms.shared.waveform.qc.mask.cache;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import gms.shared.frameworks.cache.utils.IgniteTestUtility;
 import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.waveform.qc.coi.QcSegment;
+import gms.shared.waveform.qc.coi.QcSegmentVersion;
 import gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory;
 import gms.shared.waveform.qc.mask.controller.QcSegmentController;
 import gms.shared.waveform.qc.mask.testfixtures.QcTestFixtures;
+import gms.shared.waveform.qc.mask.util.QcSegmentUtility;
 import gms.shared.waveform.testfixture.QcSegmentTestFixtures;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -105,6 +111,83 @@ class BridgedQcMaskDaoCacheTest {
         .updateQcSegmentsAndVersions(List.of(segment), List.of(dao2));
   }
 
+  @Test
+  void testUpdatesStaChanPairsInBulk() {
+    var dao1 = QcTestFixtures.getDefaultQcDaoObject();
+    var dao2 = QcTestFixtures.getDefaultQcDaoObject();
+    dao2.setQcMaskId(2L);
+    var dao3 = QcTestFixtures.getDefaultQcDaoObject();
+    dao3.setStation("AS03");
+    dao3.setChannel("SHF");
+    var segment = QcSegmentTestFixtures.getDefaultQcSegment();
+
+    var staChanPair = QcSegmentUtility.getChannelStaChanPair(dao1);
+    var otherStaChanPair = QcSegmentUtility.getChannelStaChanPair(dao3);
+
+    when(segmentCache.findQcSegmentsByStaChanPairAndTimeRange(any(), any(), any()))
+        .thenReturn(List.of(segment));
+    when(qcSegmentController.updateQcSegmentsAndVersions(eq(List.of(segment)), any()))
+        .thenReturn(List.of(segment));
+
+    List<QcSegment> qcSegments =
+        daoCache.updateDaoObjectsAndQcSegments(
+            List.of(dao1, dao2, dao3, dao1), Instant.MIN, Instant.MAX);
+    assertEquals(List.of(segment), qcSegments);
+
+    // each pair's segments are read once, and each new dao is applied once
+    verify(segmentCache)
+        .findQcSegmentsByStaChanPairAndTimeRange(Set.of(staChanPair), Instant.MIN, Instant.MAX);
+    verify(segmentCache)
+        .findQcSegmentsByStaChanPairAndTimeRange(
+            Set.of(otherStaChanPair), Instant.MIN, Instant.MAX);
+    verify(segmentCache)
+        .findQcSegmentsByStaChanPairAndTimeRange(
+            Set.of(staChanPair, otherStaChanPair), Instant.MIN, Instant.MAX);
+    verify(qcSegmentController).updateQcSegmentsAndVersions(List.of(segment), List.of(dao1));
+    verify(qcSegmentController).updateQcSegmentsAndVersions(List.of(segment), List.of(dao2));
+    verify(qcSegmentController).updateQcSegmentsAndVersions(List.of(segment), List.of(dao3));
+    verify(segmentCache, times(2)).storeQcSegments(List.of(segment));
+
+    // all daos are now cached
+    daoCache.updateDaoObjectsAndQcSegments(List.of(dao1, dao2, dao3), Instant.MIN, Instant.MAX);
+    verifyNoMoreInteractions(qcSegmentController);
+  }
+
+  @Test
+  void testStoresVersionAddedByEachDao() {
+    var dao1 = QcTestFixtures.getDefaultQcDaoObject();
+    var dao2 = QcTestFixtures.getDefaultQcDaoObject();
+    dao2.setQcMaskId(2L);
+
+    // dao1 creates the segment, and dao2 encloses it, adding a second version
+    var version1 =
+        QcSegmentTestFixtures.getGenericQcSegmentVersion(
+            QcSegmentTestFixtures.ID_UUID,
+            QcSegmentTestFixtures.DEFAULT_START,
+            QcSegmentTestFixtures.DEFAULT_END,
+            QcSegmentTestFixtures.DEFAULT_END);
+    var version2 =
+        QcSegmentTestFixtures.getGenericQcSegmentVersion(
+            QcSegmentTestFixtures.ID_UUID,
+            QcSegmentTestFixtures.DEFAULT_START.minusSeconds(1),
+            QcSegmentTestFixtures.DEFAULT_END.plusSeconds(1),
+            QcSegmentTestFixtures.DEFAULT_END.plusSeconds(1));
+    var segment1 = qcSegment(version1);
+    var segment2 = qcSegment(version1, version2);
+
+    when(segmentCache.findQcSegmentsByStaChanPairAndTimeRange(any(), any(), any()))
+        .thenReturn(List.of());
+    when(qcSegmentController.updateQcSegmentsAndVersions(List.of(), List.of(dao1)))
+        .thenReturn(List.of(segment1));
+    when(qcSegmentController.updateQcSegmentsAndVersions(List.of(segment1), List.of(dao2)))
+        .thenReturn(List.of(segment2));
+
+    daoCache.updateDaoObjectsAndQcSegments(List.of(dao1, dao2), Instant.MIN, Instant.MAX);
+
+    verify(segmentCache).storeQcSegments(List.of(segment2));
+    verify(segmentCache).storeQcSegmentVersions(List.of(version1, version2));
+  }
+
   @Test
   void testQcSegmentVersionCacheNoDuplicates() {
     var dao1 = QcTestFixtures.getDefaultQcDaoObject();
@@ -144,4 +227,15 @@ class BridgedQcMaskDaoCacheTest {
 
     verify(segmentCache, never()).storeQcSegmentVersions(List.of(qcSegmentVersion));
   }
+
+  private static QcSegment qcSegment(QcSegmentVersion... versions) {
+    return QcSegment.instanceBuilder()
+        .setId(QcSegmentTestFixtures.ID_UUID)
+        .setData(
+            QcSegment.Data.instanceBuilder()
+                .setChannel(QcSegmentTestFixtures.CHANNEL_ONE)
+                .setVersionHistory(new TreeSet<>(Set.of(versions)))
+                .build())
+        .build();
+  }
 }
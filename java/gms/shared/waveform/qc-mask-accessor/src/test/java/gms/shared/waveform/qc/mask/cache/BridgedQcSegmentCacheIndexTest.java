@@ -0,0 +1,110 @@
+package gms.shared.waveform.qc.mask.cache;
+
+import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_CACHE;
+import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_STA_CHAN_INDEX_CACHE;
+import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_VERSION_CACHE;
+import static gms.shared.waveform.testfixture.QcSegmentTestFixtures.ID_UUID;
+import static gms.shared.waveform.testfixture.QcSegmentTestFixtures.ID_UUID_TWO;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
+import gms.shared.frameworks.systemconfig.SystemConfig;
+import gms.shared.stationdefinition.repository.util.StationDefinitionIdUtility;
+import gms.shared.waveform.qc.coi.QcSegment;
+import gms.shared.waveform.qc.coi.QcSegmentVersion;
+import gms.shared.waveform.qc.coi.QcSegmentVersionId;
+import gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory;
+import gms.shared.waveform.testfixture.QcSegmentTestFixtures;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import org.apache.ignite.IgniteCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BridgedQcSegmentCacheIndexTest {
+
+  @Mock SystemConfig systemConfig;
+
+  @Mock IgniteCache<UUID, QcSegment> segmentCache;
+
+  @Mock IgniteCache<QcSegmentVersionId, QcSegmentVersion> versionCache;
+
+  @Mock IgniteCache<String, NavigableMap<Instant, Map<UUID, Instant>>> indexCache;
+
+  @Mock Lock segmentLock;
+
+  @Mock Lock indexLock;
+
+  BridgedQcSegmentCache qcSegmentCache;
+
+  @BeforeEach
+  void setUp() {
+    try (var connectionManager = mockStatic(IgniteConnectionManager.class);
+        var cacheFactory = mockStatic(QcMaskCacheFactory.class)) {
+      connectionManager
+          .when(() -> IgniteConnectionManager.getOrCreateCache(QC_SEGMENT_CACHE))
+          .thenReturn(segmentCache);
+      connectionManager
+          .when(() -> IgniteConnectionManager.getOrCreateCache(QC_SEGMENT_VERSION_CACHE))
+          .thenReturn(versionCache);
+      connectionManager
+          .when(() -> IgniteConnectionManager.getOrCreateCache(QC_SEGMENT_STA_CHAN_INDEX_CACHE))
+          .thenReturn(indexCache);
+
+      qcSegmentCache = new BridgedQcSegmentCache(systemConfig);
+    }
+  }
+
+  @Test
+  void testStoreQcSegmentsUpdatesIndexUnderIndexLocks() {
+    var start = QcSegmentTestFixtures.DEFAULT_START;
+    var end = QcSegmentTestFixtures.DEFAULT_END;
+    var laterStart = end.plus(Duration.ofDays(1));
+    var laterEnd = laterStart.plus(Duration.ofDays(1));
+
+    var qcSegment = QcSegmentTestFixtures.getGenericQcSegment(ID_UUID, start, end, end);
+    var updatedQcSegment =
+        QcSegmentTestFixtures.getGenericQcSegment(ID_UUID, laterStart, laterEnd, laterEnd);
+    var staChanPair =
+        StationDefinitionIdUtility.getStationChannelCodeFromChannel(
+            qcSegment.getData().get().getChannel());
+
+    NavigableMap<Instant, Map<UUID, Instant>> cachedIndex =
+        new TreeMap<>(Map.of(start, Map.of(ID_UUID, end, ID_UUID_TWO, end)));
+
+    when(segmentCache.lockAll(Set.of(ID_UUID))).thenReturn(segmentLock);
+    when(segmentCache.getAll(Set.of(ID_UUID))).thenReturn(Map.of(ID_UUID, qcSegment));
+    when(indexCache.lockAll(Set.of(staChanPair))).thenReturn(indexLock);
+    when(indexCache.getAll(Set.of(staChanPair))).thenReturn(Map.of(staChanPair, cachedIndex));
+
+    qcSegmentCache.storeQcSegments(Set.of(updatedQcSegment));
+
+    NavigableMap<Instant, Map<UUID, Instant>> expectedIndex =
+        new TreeMap<>(
+            Map.of(start, Map.of(ID_UUID_TWO, end), laterStart, Map.of(ID_UUID, laterEnd)));
+
+    var order = inOrder(segmentLock, segmentCache, indexLock, indexCache);
+    order.verify(segmentLock).lock();
+    order.verify(segmentCache).putAll(Map.of(ID_UUID, updatedQcSegment));
+    order.verify(indexLock).lock();
+    order.verify(indexCache).putAll(Map.of(staChanPair, expectedIndex));
+    order.verify(indexLock).unlock();
+    order.verify(segmentLock).unlock();
+    verify(indexCache, never()).removeAll(any(Set.class));
+  }
+}
@@ -42,7 +42,8 @@ class BridgedQcSegmentCacheTest {
     IgniteTestUtility.initializeLocally(
         tempIgnitePath,
         QcMaskCacheFactory.QC_SEGMENT_CACHE,
-        QcMaskCacheFactory.QC_SEGMENT_VERSION_CACHE);
+        QcMaskCacheFactory.QC_SEGMENT_VERSION_CACHE,
+        QcMaskCacheFactory.QC_SEGMENT_STA_CHAN_INDEX_CACHE);
   }
 
   @BeforeEach
@@ -4,11 +4,20 @@ import gms.shared.stationdefinition.accessor.BridgedStationDefinitionAccessor;
 import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.qc.ProcessingMaskDefinition;
 import gms.shared.stationdefinition.coi.utils.FieldMapUtilities;
+import gms.shared.waveform.coi.ChannelSegmentDescriptor;
 import gms.shared.waveform.processingmask.api.ProcessingMaskRepository;
 import gms.shared.waveform.processingmask.coi.ProcessingMask;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,63 +57,35 @@ public class BridgedProcessingMaskLoader implements ProcessingMaskLoader {
   @Override
   public List<ProcessingMask> loadProcessingMasks(
       Channel channel, Instant startTime, Instant endTime) {
-    return flattenChannelToProcessingMasks(channel, startTime, endTime);
+    return new MaskedChannelGraph(List.of(channel)).createMasks(channel, startTime, endTime);
   }
 
-  private List<ProcessingMask> flattenChannelToProcessingMasks(
-      Channel channel, Instant startTime, Instant endTime) {
-
-    // Populate the input channel
-    var populatedInputChannel =
-        accessor
-            .findChannelsByNameAndTime(
-                List.of(channel.getName()),
-                channel
-                    .getEffectiveAt()
-                    .orElseThrow(
-                        () -> {
-                          LOGGER.error(
-                              "Channel must be a version reference or fully populated Channel.");
-                          return new IllegalStateException();
-                        }))
-            .get(0);
-
-    var masks = new ArrayList<ProcessingMask>();
-
-    // Skip raw channels
-    if (!Channel.isDerivedChannel(populatedInputChannel)) {
-      return masks;
-    }
-
-    // Return the masks for masked channels
-    if (isMasked(populatedInputChannel)) {
-      ProcessingMaskDefinition processingMaskDefinition;
-
-      try {
-        processingMaskDefinition =
-            FieldMapUtilities.fromFieldMap(
-                populatedInputChannel.getProcessingDefinition(), ProcessingMaskDefinition.class);
-      } catch (IllegalArgumentException e) {
-        throw new IllegalStateException(
-            "Masked channel does not have a processing mask definition", e);
-      }
-
-      masks.addAll(
-          repository.createForChannelAndTimeRange(
-              populatedInputChannel, startTime, endTime, processingMaskDefinition));
-
-      return masks;
-    }
-
-    // Otherwise keep looking for masked channels
-    populatedInputChannel
-        .getConfiguredInputs()
-        .forEach(
-            (Channel configInputChannel) ->
-                masks.addAll(
-                    flattenChannelToProcessingMasks(configInputChannel, startTime, endTime)));
-
-    return masks;
+  /**
+   * Creates the {@link ProcessingMask}s used in the {@link Channel} and time window of each of the
+   * provided {@link ChannelSegmentDescriptor}s. The derived channel graphs of all the descriptors
+   * are populated together, one accessor call per level of the graphs, and the masks of a masked
+   * channel are created once for each distinct time window.
+   *
+   * @param channelSegmentDescriptors the descriptors for which to create masks
+   * @return the {@link ProcessingMask}s used in each distinct input descriptor
+   * @throws IllegalStateException if a descriptor channel is an entity reference, if a masked
+   *     channel does not have a processing mask definition, or a derived channel does not have any
+   *     configured input channels
+   */
+  @Override
+  public Map<ChannelSegmentDescriptor, List<ProcessingMask>> loadProcessingMasks(
+      Collection<ChannelSegmentDescriptor> channelSegmentDescriptors) {
+    var graph =
+        new MaskedChannelGraph(
+            channelSegmentDescriptors.stream().map(ChannelSegmentDescriptor::getChannel).toList());
+
+    Map<ChannelSegmentDescriptor, List<ProcessingMask>> masksByDescriptor = new HashMap<>();
+    channelSegmentDescriptors.forEach(
+        descriptor ->
+            masksByDescriptor.computeIfAbsent(
+                descriptor,
+                key -> graph.createMasks(key.getChannel(), key.getStartTime(), key.getEndTime())));
+    return masksByDescriptor;
   }
 
   private static boolean isMasked(Channel channel) {
@@ -123,4 +104,150 @@ public class BridgedProcessingMaskLoader implements ProcessingMaskLoader {
     // Masked channels will have a raw configured input channel
     return !Channel.isDerivedChannel(channel.getConfiguredInputs().get(0));
   }
+
+  /** Name and effective time identifying a {@link Channel} version */
+  private record ChannelKey(String name, Instant effectiveAt) {
+
+    static ChannelKey of(Channel channel) {
+      return new ChannelKey(
+          channel.getName(),
+          channel
+              .getEffectiveAt()
+              .orElseThrow(
+                  () -> {
+                    LOGGER.error("Channel must be a version reference or fully populated Channel.");
+                    return new IllegalStateException();
+                  }));
+    }
+  }
+
+  /** Masked channel and time window for which masks are created */
+  private record MaskKey(ChannelKey channel, Instant startTime, Instant endTime) {}
+
+  /**
+   * Populated derived channels reachable from a set of channels, along with the masked channels,
+   * processing mask definitions and masks resolved from them
+   */
+  private final class MaskedChannelGraph {
+
+    private final Map<ChannelKey, Channel> populatedChannels = new HashMap<>();
+    private final Map<ChannelKey, List<ChannelKey>> maskedChannels = new HashMap<>();
+    private final Map<ChannelKey, ProcessingMaskDefinition> definitions = new HashMap<>();
+    private final Map<MaskKey, Collection<ProcessingMask>> masks = new HashMap<>();
+
+    MaskedChannelGraph(Collection<Channel> channels) {
+      // Raw channels are identified by name and never have masked inputs, so they aren't populated
+      Set<ChannelKey> level = derivedChannelKeys(channels.stream());
+
+      while (!level.isEmpty()) {
+        populate(level);
+        level =
+            derivedChannelKeys(
+                level.stream()
+                    .map(populatedChannels::get)
+                    .filter(channel -> !isMasked(channel))
+                    .flatMap(channel -> channel.getConfiguredInputs().stream()));
+        level.removeAll(populatedChannels.keySet());
+      }
+    }
+
+    List<ProcessingMask> createMasks(Channel channel, Instant startTime, Instant endTime) {
+      return maskedChannels(channel).stream()
+          .flatMap(
+              maskedChannel ->
+                  masks
+                      .computeIfAbsent(
+                          new MaskKey(maskedChannel, startTime, endTime),
+                          key ->
+                              repository.createForChannelAndTimeRange(
+                                  populatedChannels.get(maskedChannel),
+                                  startTime,
+                                  endTime,
+                                  definition(maskedChannel)))
+                      .stream())
+          .toList();
+    }
+
+    private Set<ChannelKey> derivedChannelKeys(Stream<Channel> channels) {
+      Set<ChannelKey> keys = new LinkedHashSet<>();
+      channels.forEach(
+          channel -> {
+            var key = ChannelKey.of(channel);
+            if (Channel.isDerivedChannel(channel)) {
+              keys.add(key);
+            }
+          });
+      return keys;
+    }
+
+    private void populate(Set<ChannelKey> level) {
+      level.stream()
+          .collect(
+              Collectors.groupingBy(
+                  ChannelKey::effectiveAt,
+                  LinkedHashMap::new,
+                  Collectors.mapping(ChannelKey::name, Collectors.toList())))
+          .forEach(
+              (effectiveAt, names) -> {
+                var channelsByName =
+                    accessor.findChannelsByNameAndTime(names, effectiveAt).stream()
+                        .collect(
+                            Collectors.toMap(
+                                Channel::getName, Function.identity(), (first, second) -> first));
+
+                names.forEach(
+                    name -> {
+                      var channel = channelsByName.get(name);
+                      if (channel == null) {
+                        throw new IllegalStateException(
+                            "Could not find channel " + name + " effective at " + effectiveAt);
+                      }
+                      populatedChannels.put(new ChannelKey(name, effectiveAt), channel);
+                    });
+              });
+    }
+
+    private List<ChannelKey> maskedChannels(Channel channel) {
+      var key = ChannelKey.of(channel);
+
+      // Skip raw channels
+      if (!Channel.isDerivedChannel(channel)) {
+        return List.of();
+      }
+
+      var cachedMaskedChannels = maskedChannels.get(key);
+      if (cachedMaskedChannels != null) {
+        return cachedMaskedChannels;
+      }
+
+      var populatedChannel = populatedChannels.get(key);
+
+      // Masked channels are their own masked channel, otherwise keep looking through the inputs
+      List<ChannelKey> keys =
+          isMasked(populatedChannel)
+              ? List.of(key)
+              : populatedChannel.getConfiguredInputs().stream()
+                  .flatMap(input -> maskedChannels(input).stream())
+                  .distinct()
+                  .toList();
+
+      maskedChannels.put(key, keys);
+      return keys;
+    }
+
+    private ProcessingMaskDefinition definition(ChannelKey maskedChannel) {
+      return definitions.computeIfAbsent(
+          maskedChannel,
+          key -> {
+            try {
+              return FieldMapUtilities.fromFieldMap(
+                  populatedChannels.get(key).getProcessingDefinition(),
+                  ProcessingMaskDefinition.class);
+            } catch (IllegalArgumentException e) {
+              throw new IllegalStateException(
+                  "Masked channel does not have a processing mask definition", e);
+            }
+          });
+    }
+  }
 }
@@ -4,6 +4,7 @@ import static gms.shared.stationdefinition.facet.FacetingTypes.CHANNEL_TYPE;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.spring.utilities.aspect.Timing;
 import gms.shared.spring.utilities.framework.RetryService;
@@ -26,9 +27,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.Validate;
@@ -37,6 +42,7 @@ import org.apache.ignite.IgniteCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpEntity;
@@ -57,6 +63,14 @@ public class BridgedWaveformRepository implements WaveformRepository {
   private static final String STATION_DEFINITION_SERVICE_URL =
       "http://station-definition-service:8080/station-definition-service/station-definition/channels/query/names";
 
+  private static final int DEFAULT_CONVERSION_THREADS = 8;
+  private static final long IDLE_CONVERSION_THREAD_TIMEOUT_SECONDS = 60;
+
+  // Channels are converted on this pool rather than the common fork-join pool, as each conversion
+  // blocks until the converter has decoded its wfdiscs
+  private final ThreadPoolExecutor conversionExecutor =
+      createConversionExecutor(DEFAULT_CONVERSION_THREADS);
+
   private Environment environment;
   private final WfdiscDatabaseConnector wfdiscDatabaseConnector;
   private final ChannelSegmentConverter converter;
@@ -81,6 +95,44 @@ public class BridgedWaveformRepository implements WaveformRepository {
     this.environment = environment;
   }
 
+  /**
+   * Sets the number of channels converted to waveforms at once
+   *
+   * @param conversionThreads the number of channel conversion threads
+   */
+  @Value("${waveformRepository.conversionThreads:" + DEFAULT_CONVERSION_THREADS + "}")
+  void setConversionThreads(int conversionThreads) {
+    Validate.isTrue(
+        conversionThreads > 0, "Number of waveform conversion threads must be greater than 0");
+
+    // the maximum pool size cannot be set below the core pool size
+    synchronized (conversionExecutor) {
+      if (conversionThreads > conversionExecutor.getMaximumPoolSize()) {
+        conversionExecutor.setMaximumPoolSize(conversionThreads);
+        conversionExecutor.setCorePoolSize(conversionThreads);
+      } else {
+        conversionExecutor.setCorePoolSize(conversionThreads);
+        conversionExecutor.setMaximumPoolSize(conversionThreads);
+      }
+    }
+  }
+
+  private static ThreadPoolExecutor createConversionExecutor(int conversionThreads) {
+    var executor =
+        new ThreadPoolExecutor(
+            conversionThreads,
+            conversionThreads,
+            IDLE_CONVERSION_THREAD_TIMEOUT_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("waveform-conversion-%d")
+                .setDaemon(true)
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   @Override
   @Timing
   public Collection<ChannelSegment<Waveform>> findByChannelsAndTimeRange(
@@ -146,7 +198,8 @@ public class BridgedWaveformRepository implements WaveformRepository {
   }
 
   /**
-   * converts Channel, WfDisc map to ChannelSegment<Waveform> must be public to allow Timing aspect
+   * converts Channel, WfDisc map to ChannelSegment<Waveform> must be public to allow Timing aspect.
+   * Channels are converted in parallel and returned in the order of the map's channels.
    *
    * @param channelWfdiscDaoMultimap map containing channels to wfdisc
    * @param startTime time to start the waveform
@@ -156,15 +209,25 @@ public class BridgedWaveformRepository implements WaveformRepository {
   public Collection<ChannelSegment<Waveform>> createWaveforms(
       Multimap<Channel, WfdiscDao> channelWfdiscDaoMultimap, Instant startTime, Instant endTime) {
 
-    return channelWfdiscDaoMultimap.keySet().stream()
-        .map(
-            channel ->
-                converter.convert(
-                    channel,
-                    new ArrayList<>(channelWfdiscDaoMultimap.get(channel)),
-                    startTime,
-                    endTime))
-        .toList();
+    var conversions =
+        channelWfdiscDaoMultimap.keySet().stream()
+            .map(
+                channel -> {
+                  var wfdiscDaos = new ArrayList<>(channelWfdiscDaoMultimap.get(channel));
+                  return CompletableFuture.supplyAsync(
+                      () -> converter.convert(channel, wfdiscDaos, startTime, endTime),
+                      conversionExecutor);
+                })
+            .toList();
+
+    try {
+      return conversions.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
   }
 
   /**
@@ -275,16 +338,7 @@ public class BridgedWaveformRepository implements WaveformRepository {
 
   private Map<ChannelSegmentDescriptor, List<ProcessingMask>> loadProcessingMasks(
       Collection<ChannelSegmentDescriptor> channelSegmentDescriptors) {
-    return channelSegmentDescriptors.stream()
-        .map(
-            descriptor ->
-                Map.entry(
-                    descriptor,
-                    processingMaskLoader.loadProcessingMasks(
-                        descriptor.getChannel(),
-                        descriptor.getStartTime(),
-                        descriptor.getEndTime())))
-        .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+    return processingMaskLoader.loadProcessingMasks(channelSegmentDescriptors);
   }
 
   private Collection<ChannelSegment<Waveform>> getChannelSegments(
@@ -314,7 +368,7 @@ public class BridgedWaveformRepository implements WaveformRepository {
             (var segment) -> {
               var data =
                   segment.getData().get().toBuilder()
-                      .setMaskedBy(processingMaskMap.get(csd))
+                      .setMaskedBy(processingMaskMap.getOrDefault(csd, List.of()))
                       .build();
               return segment.toBuilder().setData(data).build();
             });
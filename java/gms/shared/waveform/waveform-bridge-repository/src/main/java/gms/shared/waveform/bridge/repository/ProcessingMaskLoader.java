@@ -1,12 +1,39 @@
 package gms.shared.waveform.bridge.repository;
 
 import gms.shared.stationdefinition.coi.channel.Channel;
+import gms.shared.waveform.coi.ChannelSegmentDescriptor;
 import gms.shared.waveform.processingmask.coi.ProcessingMask;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /** Interface for getting processing masks from some source. */
 public interface ProcessingMaskLoader {
 
   List<ProcessingMask> loadProcessingMasks(Channel channel, Instant startTime, Instant endTime);
+
+  /**
+   * Loads the {@link ProcessingMask}s used in the {@link Channel} and time window of each of the
+   * provided {@link ChannelSegmentDescriptor}s. Implementations may override this to share work
+   * across the descriptors.
+   *
+   * @param channelSegmentDescriptors the descriptors for which to load masks
+   * @return the {@link ProcessingMask}s for each distinct input descriptor
+   */
+  default Map<ChannelSegmentDescriptor, List<ProcessingMask>> loadProcessingMasks(
+      Collection<ChannelSegmentDescriptor> channelSegmentDescriptors) {
+    return channelSegmentDescriptors.stream()
+        .distinct()
+        .collect(
+            Collectors.toMap(
+                Function.identity(),
+                descriptor ->
+                    loadProcessingMasks(
+                        descriptor.getChannel(),
+                        descriptor.getStartTime(),
+                        descriptor.getEndTime())));
+  }
 }
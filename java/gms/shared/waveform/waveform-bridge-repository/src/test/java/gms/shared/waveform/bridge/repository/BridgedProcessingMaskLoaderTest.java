@@ -16,16 +16,21 @@ import gms.shared.stationdefinition.coi.qc.QcSegmentCategoryAndType;
 import gms.shared.stationdefinition.coi.station.Station;
 import gms.shared.stationdefinition.coi.utils.FieldMapUtilities;
 import gms.shared.stationdefinition.coi.utils.Units;
+import gms.shared.waveform.coi.ChannelSegmentDescriptor;
 import gms.shared.waveform.processingmask.coi.ProcessingMask;
 import gms.shared.waveform.qc.coi.QcSegmentVersion;
 import gms.shared.waveform.qc.coi.QcSegmentVersionId;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -298,10 +303,6 @@ class BridgedProcessingMaskLoaderTest {
         derivedLeafVer.toBuilder()
             .setData(DATA.toBuilder().setConfiguredInputs(List.of(RAW_CHANNEL)).build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(derivedLeafVer.getName()), derivedLeafVer.getEffectiveAt().get()))
-        .thenReturn(List.of(derivedLeafFull));
 
     // PROC_MASK_ENTITY Leaf
     var maskedEntityLeafVer =
@@ -314,10 +315,6 @@ class BridgedProcessingMaskLoaderTest {
                     .setProcessingDefinition(FieldMapUtilities.toFieldMap(PROC_MASK_DEF))
                     .build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(maskedEntityLeafVer.getName()), maskedEntityLeafVer.getEffectiveAt().get()))
-        .thenReturn(List.of(maskedEntityLeafFull));
     Mockito.when(
             repository.createForChannelAndTimeRange(
                 maskedEntityLeafFull, Instant.MIN, Instant.EPOCH, PROC_MASK_DEF))
@@ -334,10 +331,6 @@ class BridgedProcessingMaskLoaderTest {
                     .setProcessingDefinition(FieldMapUtilities.toFieldMap(PROC_MASK_DEF))
                     .build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(maskedAMBLeafVer.getName()), maskedAMBLeafVer.getEffectiveAt().get()))
-        .thenReturn(List.of(maskedAMBLeafFull));
     Mockito.when(
             repository.createForChannelAndTimeRange(
                 maskedAMBLeafFull, Instant.MIN, Instant.EPOCH, PROC_MASK_DEF))
@@ -353,10 +346,6 @@ class BridgedProcessingMaskLoaderTest {
                     .setProcessingDefinition(FieldMapUtilities.toFieldMap(PROC_MASK_DEF))
                     .build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(maskedDFLeafVer.getName()), maskedDFLeafVer.getEffectiveAt().get()))
-        .thenReturn(List.of(maskedDFLeafFull));
     Mockito.when(
             repository.createForChannelAndTimeRange(
                 maskedDFLeafFull, Instant.MIN, Instant.EPOCH, PROC_MASK_DEF))
@@ -373,10 +362,6 @@ class BridgedProcessingMaskLoaderTest {
                     .setProcessingDefinition(FieldMapUtilities.toFieldMap(PROC_MASK_DEF))
                     .build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(maskedSDBLeafVer.getName()), maskedSDBLeafVer.getEffectiveAt().get()))
-        .thenReturn(List.of(maskedSDBLeafFull));
     Mockito.when(
             repository.createForChannelAndTimeRange(
                 maskedSDBLeafFull, Instant.MIN, Instant.EPOCH, PROC_MASK_DEF))
@@ -392,10 +377,6 @@ class BridgedProcessingMaskLoaderTest {
                     .setProcessingDefinition(FieldMapUtilities.toFieldMap(PROC_MASK_DEF))
                     .build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(maskedSGLeafVer.getName()), maskedSGLeafVer.getEffectiveAt().get()))
-        .thenReturn(List.of(maskedSGLeafFull));
     Mockito.when(
             repository.createForChannelAndTimeRange(
                 maskedSGLeafFull, Instant.MIN, Instant.EPOCH, PROC_MASK_DEF))
@@ -407,10 +388,6 @@ class BridgedProcessingMaskLoaderTest {
         shallowNodeVer.toBuilder()
             .setData(DATA.toBuilder().setConfiguredInputs(List.of(maskedAMBLeafVer)).build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(shallowNodeVer.getName()), shallowNodeVer.getEffectiveAt().get()))
-        .thenReturn(List.of(shallowNodeFull));
 
     // Deep Node 3
     var deepNode3Ver = Channel.createVersionReference("Deep Node 3/masked", Instant.MIN);
@@ -418,10 +395,6 @@ class BridgedProcessingMaskLoaderTest {
         deepNode3Ver.toBuilder()
             .setData(DATA.toBuilder().setConfiguredInputs(List.of(maskedSGLeafVer)).build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(deepNode3Ver.getName()), deepNode3Ver.getEffectiveAt().get()))
-        .thenReturn(List.of(deepNode3Full));
 
     // Deep Node 2
     var deepNode2Ver = Channel.createVersionReference("Deep Node 2/masked/beam", Instant.MIN);
@@ -438,10 +411,6 @@ class BridgedProcessingMaskLoaderTest {
                             RAW_CHANNEL))
                     .build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(deepNode2Ver.getName()), deepNode2Ver.getEffectiveAt().get()))
-        .thenReturn(List.of(deepNode2Full));
 
     // Deep Node 1
     var deepNode1Ver = Channel.createVersionReference("Deep Node 1/masked", Instant.MIN);
@@ -449,10 +418,6 @@ class BridgedProcessingMaskLoaderTest {
         deepNode1Ver.toBuilder()
             .setData(DATA.toBuilder().setConfiguredInputs(List.of(deepNode2Ver)).build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(deepNode1Ver.getName()), deepNode1Ver.getEffectiveAt().get()))
-        .thenReturn(List.of(deepNode1Full));
 
     // Top Node
     var topNodeVer = Channel.createVersionReference("Top Node/beam/masked", Instant.MIN);
@@ -469,10 +434,19 @@ class BridgedProcessingMaskLoaderTest {
                             deepNode2Ver))
                     .build())
             .build();
-    Mockito.when(
-            accessor.findChannelsByNameAndTime(
-                List.of(topNodeVer.getName()), topNodeVer.getEffectiveAt().get()))
-        .thenReturn(List.of(topNodeFull));
+
+    mockFindChannelsByNameAndTime(
+        derivedLeafFull,
+        maskedEntityLeafFull,
+        maskedAMBLeafFull,
+        maskedDFLeafFull,
+        maskedSDBLeafFull,
+        maskedSGLeafFull,
+        shallowNodeFull,
+        deepNode3Full,
+        deepNode2Full,
+        deepNode1Full,
+        topNodeFull);
 
     var masks = pmlb.loadProcessingMasks(topNodeVer, Instant.MIN, Instant.EPOCH);
     Assertions.assertEquals(5, masks.size());
@@ -481,5 +455,90 @@ class BridgedProcessingMaskLoaderTest {
     Assertions.assertTrue(masks.contains(PROC_MASK_DF));
     Assertions.assertTrue(masks.contains(PROC_MASK_SDB));
     Assertions.assertTrue(masks.contains(PROC_MASK_SG));
+
+    // One accessor call per level of derived channels
+    Mockito.verify(accessor, Mockito.times(4))
+        .findChannelsByNameAndTime(Mockito.anyList(), Mockito.eq(Instant.MIN));
+  }
+
+  @Test
+  void testLoadProcessingMasksForDescriptors() {
+    var maskedVer = Channel.createVersionReference("Masked Channel/masked", Instant.MIN);
+    var maskedFull =
+        maskedVer.toBuilder()
+            .setData(
+                DATA.toBuilder()
+                    .setConfiguredInputs(List.of(RAW_CHANNEL))
+                    .setProcessingDefinition(FieldMapUtilities.toFieldMap(PROC_MASK_DEF))
+                    .build())
+            .build();
+
+    var beamVer = Channel.createVersionReference("Beam Channel/masked/beam", Instant.MIN);
+    var beamFull =
+        beamVer.toBuilder()
+            .setData(DATA.toBuilder().setConfiguredInputs(List.of(maskedVer, RAW_CHANNEL)).build())
+            .build();
+
+    var filterVer = Channel.createVersionReference("Filter Channel/masked/filter", Instant.MIN);
+    var filterFull =
+        filterVer.toBuilder()
+            .setData(DATA.toBuilder().setConfiguredInputs(List.of(maskedVer)).build())
+            .build();
+
+    mockFindChannelsByNameAndTime(maskedFull, beamFull, filterFull);
+
+    var laterStartTime = Instant.EPOCH.minusSeconds(60);
+    Mockito.when(
+            repository.createForChannelAndTimeRange(
+                maskedFull, Instant.MIN, Instant.EPOCH, PROC_MASK_DEF))
+        .thenReturn(List.of(PROC_MASK_AMB));
+    Mockito.when(
+            repository.createForChannelAndTimeRange(
+                maskedFull, laterStartTime, Instant.EPOCH, PROC_MASK_DEF))
+        .thenReturn(List.of(PROC_MASK_DF));
+
+    var beamDescriptor =
+        ChannelSegmentDescriptor.from(beamVer, Instant.MIN, Instant.EPOCH, Instant.EPOCH);
+    var filterDescriptor =
+        ChannelSegmentDescriptor.from(filterVer, Instant.MIN, Instant.EPOCH, Instant.EPOCH);
+    var laterFilterDescriptor =
+        ChannelSegmentDescriptor.from(filterVer, laterStartTime, Instant.EPOCH, Instant.EPOCH);
+    var rawDescriptor =
+        ChannelSegmentDescriptor.from(RAW_CHANNEL, Instant.MIN, Instant.EPOCH, Instant.EPOCH);
+
+    var masksByDescriptor =
+        pmlb.loadProcessingMasks(
+            List.of(beamDescriptor, filterDescriptor, laterFilterDescriptor, rawDescriptor));
+
+    Assertions.assertEquals(
+        Map.of(
+            beamDescriptor,
+            List.of(PROC_MASK_AMB),
+            filterDescriptor,
+            List.of(PROC_MASK_AMB),
+            laterFilterDescriptor,
+            List.of(PROC_MASK_DF),
+            rawDescriptor,
+            List.of()),
+        masksByDescriptor);
+
+    // The descriptor channels are populated together, then their shared masked input
+    Mockito.verify(accessor, Mockito.times(2))
+        .findChannelsByNameAndTime(Mockito.anyList(), Mockito.eq(Instant.MIN));
+    Mockito.verify(repository)
+        .createForChannelAndTimeRange(maskedFull, Instant.MIN, Instant.EPOCH, PROC_MASK_DEF);
+  }
+
+  private void mockFindChannelsByNameAndTime(Channel... channels) {
+    var channelsByName =
+        Arrays.stream(channels).collect(Collectors.toMap(Channel::getName, Function.identity()));
+
+    Mockito.when(accessor.findChannelsByNameAndTime(Mockito.anyList(), Mockito.eq(Instant.MIN)))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<String>>getArgument(0).stream()
+                    .map(channelsByName::get)
+                    .filter(Objects::nonNull)
+                    .toList());
   }
 }
@@ -18,34 +18,84 @@ import org.apache.commons.lang3.tuple.Triple;
 @AutoValue
 public abstract class Waveform extends Timeseries {
 
+  // Magnitude below which samples are rounded without BigDecimal. Within it, the rounding error of
+  // the primitive path is far below SAFE_MARGIN.
+  private static final double FAST_ROUNDING_LIMIT = 1.0e6;
+  private static final double SCALE = 1.0e4;
+
+  // Offset that makes floor() round a scaled sample half up, including values that round up to a
+  // half at the intermediate scale of 10 (half of 1e-10, scaled by 1e4)
+  private static final double ROUND_UP_OFFSET = 0.5 + 0.5e-6;
+
+  // Scaled samples this close to a rounding boundary are rounded with BigDecimal
+  private static final double SAFE_MARGIN = 1.0e-5;
+
   /**
    * Creates a waveform by providing all arguments, except endTime which is computed in the base
-   * class.
+   * class. Samples are rounded to 4 decimal places.
    */
   @JsonCreator
   public static Waveform create(
       @JsonProperty("startTime") Instant startTime,
       @JsonProperty("sampleRateHz") double sampleRateHz,
       @JsonProperty("samples") double[] values) {
+    validate(startTime, sampleRateHz, values);
+
+    var roundedValues = new double[values.length];
+    for (var i = 0; i < values.length; i++) {
+      roundedValues[i] = round(values[i]);
+    }
+    return new AutoValue_Waveform(Type.WAVEFORM, startTime, sampleRateHz, roundedValues);
+  }
+
+  /**
+   * Creates a waveform from samples that are already rounded to 4 decimal places, such as the
+   * samples of other waveforms, without rounding them again. The samples array is used as is and
+   * must not be modified afterwards.
+   */
+  public static Waveform createWithoutRounding(
+      Instant startTime, double sampleRateHz, double[] roundedValues) {
+    validate(startTime, sampleRateHz, roundedValues);
+    return new AutoValue_Waveform(Type.WAVEFORM, startTime, sampleRateHz, roundedValues);
+  }
+
+  private static void validate(Instant startTime, double sampleRateHz, double[] values) {
     Objects.requireNonNull(startTime);
     Preconditions.checkArgument(
         sampleRateHz > 0.0, "Cannot create Waveform with negative sample rate");
     Objects.requireNonNull(values, "Cannot create waveform with null values");
     Preconditions.checkArgument(
         values.length > 0, "Cannot create waveform with empty values array");
+  }
+
+  /**
+   * Rounds a sample half up to 4 decimal places, after first rounding it to 10 decimal places to
+   * account for floating point error such as .702049999999999 (giving .70205 and then .7021).
+   */
+  private static double round(double value) {
+    double magnitude = Math.abs(value);
+    if (magnitude < FAST_ROUNDING_LIMIT) {
+      double scaled = magnitude * SCALE + ROUND_UP_OFFSET;
+      double rounded = Math.floor(scaled);
+      double fraction = scaled - rounded;
+
+      if (fraction > SAFE_MARGIN && fraction < 1.0 - SAFE_MARGIN) {
+        if (rounded == 0.0) {
+          return 0.0;
+        }
+        return Math.copySign(rounded, value) / SCALE;
+      }
+    }
+
+    return roundExactly(value);
+  }
 
-    // this is needed to account for floating point error such as .702049999999999,
-    // round the scale 10 first to get .70205, then round to the scale 4 to get .7021
-    values =
-        Arrays.stream(values)
-            .map(
-                val ->
-                    BigDecimal.valueOf(val)
-                        .setScale(10, RoundingMode.HALF_UP)
-                        .setScale(4, RoundingMode.HALF_UP)
-                        .doubleValue())
-            .toArray();
-    return new AutoValue_Waveform(Type.WAVEFORM, startTime, sampleRateHz, values);
+  /** Rounds the shortest decimal representation of a sample, as {@link #round(double)} does */
+  private static double roundExactly(double value) {
+    return BigDecimal.valueOf(value)
+        .setScale(10, RoundingMode.HALF_UP)
+        .setScale(4, RoundingMode.HALF_UP)
+        .doubleValue();
   }
 
   /** The time at which the Waveform begins. */
@@ -156,7 +206,7 @@ public abstract class Waveform extends Timeseries {
             this.getSamples(),
             newIndicesAndSampleCount.getLeft(),
             newIndicesAndSampleCount.getMiddle() + 1);
-    return Waveform.create(newStart, getSampleRateHz(), newValues);
+    return Waveform.createWithoutRounding(newStart, getSampleRateHz(), newValues);
   }
 
   /**
@@ -7,7 +7,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import org.apache.commons.lang3.ArrayUtils;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -143,69 +143,135 @@ public final class WaveformUtility {
       return waveforms;
     }
     Collections.sort(waveforms);
-    // create a new list for the new channel segment and iterate over all waveforms in this
-    // channel segment. Add the first waveform to the new list to begin
-    List<Waveform> newWaveforms = new ArrayList<>();
-    var previousWaveform = waveforms.get(0);
-    newWaveforms.add(previousWaveform);
+    // create a new list of runs for the new channel segment and iterate over all waveforms in this
+    // channel segment. Merging extends a run without copying samples; each run is copied into a
+    // single waveform once all merges are known.
+    List<MergeRun> newRuns = new ArrayList<>();
+    var previousRun = MergeRun.of(waveforms.get(0));
+    newRuns.add(previousRun);
     for (Waveform nextWaveform : waveforms.subList(1, waveforms.size())) {
-      LOGGER.info(
-          "Waveform start: {} and end: {}", nextWaveform.getStartTime(), nextWaveform.getEndTime());
+      var nextRun = MergeRun.of(nextWaveform);
       // get the next waveform after the previous and see if the sample rates are comparable.
-      if (Math.abs(previousWaveform.getSampleRateHz() - nextWaveform.getSampleRateHz())
+      if (Math.abs(previousRun.sampleRateHz - nextWaveform.getSampleRateHz())
           <= sampleRateTolerance) {
-        LOGGER.info("SampleRate is within tolerance. Checking for sample count.");
 
         // get the fractional gap sample count (fractional sample period between the two waveforms)
         // and check to see if a merged waveform is required (gap is less than specified number of
         // samples and
         // positive, so it is not an overlap instead).
-        double fractionalGapSampleCount = getFractionalSampleCount(previousWaveform, nextWaveform);
+        double fractionalGapSampleCount =
+            getFractionalSampleCount(
+                previousRun.sampleRateHz,
+                previousRun.endTime,
+                nextWaveform.getSampleRateHz(),
+                nextWaveform.getStartTime());
 
         // do not want any gaps that are negative, meaning overlaps.
         if (fractionalGapSampleCount < sampleDifferenceAllowed && fractionalGapSampleCount >= 0) {
-          LOGGER.info("Merging waveforms");
-
-          nextWaveform = merge(previousWaveform, nextWaveform);
+          nextRun = previousRun.append(nextWaveform);
 
           // remove the previous waveform (which is now merged) and continue
-          newWaveforms.remove(newWaveforms.size() - 1);
+          newRuns.remove(newRuns.size() - 1);
         }
       }
-      if (isNextWaveformDistinctFromPreviousWaveform(previousWaveform, nextWaveform)) {
+      if (isNextWaveformDistinctFromPreviousWaveform(
+          previousRun.startTime, previousRun.endTime, nextRun.startTime, nextRun.endTime)) {
         // add the next waveform, update the previousWaveform and continue, but only if the
         // nextWaveform is distrinct from (not included in) the previous waveform
-        newWaveforms.add(nextWaveform);
-        previousWaveform = nextWaveform;
+        newRuns.add(nextRun);
+        previousRun = nextRun;
       }
     }
 
     // return the merged waveforms
-    LOGGER.info("Returning list as {}", newWaveforms.size());
-    return newWaveforms;
+    LOGGER.debug("Merged {} waveforms into {}", waveforms.size(), newRuns.size());
+    return newRuns.stream().map(MergeRun::toWaveform).collect(Collectors.toList());
   }
 
   private static boolean isNextWaveformDistinctFromPreviousWaveform(
-      Waveform previousWaveform, Waveform nextWaveform) {
-    return !((previousWaveform.getStartTime().isBefore(nextWaveform.getStartTime())
-            || previousWaveform.getStartTime().equals(nextWaveform.getStartTime()))
-        && (previousWaveform.getEndTime().isAfter(nextWaveform.getEndTime())
-            || previousWaveform.getEndTime().equals(nextWaveform.getEndTime())));
+      Instant previousStartTime,
+      Instant previousEndTime,
+      Instant nextStartTime,
+      Instant nextEndTime) {
+    return !((previousStartTime.isBefore(nextStartTime) || previousStartTime.equals(nextStartTime))
+        && (previousEndTime.isAfter(nextEndTime) || previousEndTime.equals(nextEndTime)));
   }
 
   /**
-   * Merges two waveforms together, including their underlying values
-   *
-   * @param first The first waveform to merge
-   * @param second The second waveform to merge
-   * @return The merged waveform, including the values from the two input waveforms.
+   * A run of contiguous waveforms that merge into a single waveform. Runs are immutable and share
+   * their earlier waveforms, so appending to a run is constant time. The start time, sample rate
+   * and end time of a run are those the merged waveform will have.
    */
-  private static Waveform merge(Waveform first, Waveform second) {
-    // make a new Waveform that is a merger of the previousWaveform and the next Waveform
-    double[] samples = ArrayUtils.addAll(first.getSamples(), second.getSamples());
-    double sampleRate =
-        (samples.length - 1) / getDurationSeconds(first.getStartTime(), second.getEndTime());
-    return Waveform.create(first.getStartTime(), sampleRate, samples);
+  private static final class MergeRun {
+
+    private final MergeRun previous;
+    private final Waveform last;
+    private final int sampleCount;
+    private final Instant startTime;
+    private final double sampleRateHz;
+    private final Instant endTime;
+
+    private MergeRun(
+        MergeRun previous,
+        Waveform last,
+        int sampleCount,
+        Instant startTime,
+        double sampleRateHz,
+        Instant endTime) {
+      this.previous = previous;
+      this.last = last;
+      this.sampleCount = sampleCount;
+      this.startTime = startTime;
+      this.sampleRateHz = sampleRateHz;
+      this.endTime = endTime;
+    }
+
+    static MergeRun of(Waveform waveform) {
+      return new MergeRun(
+          null,
+          waveform,
+          waveform.getSampleCount(),
+          waveform.getStartTime(),
+          waveform.getSampleRateHz(),
+          waveform.getEndTime());
+    }
+
+    /**
+     * Merges a waveform onto the end of this run
+     *
+     * @param next the waveform to merge
+     * @return the merged run, including the samples of this run and the next waveform
+     */
+    MergeRun append(Waveform next) {
+      int mergedSampleCount = Math.addExact(sampleCount, next.getSampleCount());
+      double mergedSampleRate =
+          (mergedSampleCount - 1) / getDurationSeconds(startTime, next.getEndTime());
+      // matches Timeseries.getEndTime of the merged waveform
+      Instant mergedEndTime =
+          startTime.plusNanos((long) ((mergedSampleCount - 1) * (1E9 / mergedSampleRate)));
+      return new MergeRun(
+          this, next, mergedSampleCount, startTime, mergedSampleRate, mergedEndTime);
+    }
+
+    /**
+     * Copies the samples of this run into a single waveform
+     *
+     * @return the merged waveform
+     */
+    Waveform toWaveform() {
+      if (previous == null) {
+        return last;
+      }
+
+      var samples = new double[sampleCount];
+      var end = sampleCount;
+      for (var run = this; run != null; run = run.previous) {
+        double[] runSamples = run.last.getSamples();
+        end -= runSamples.length;
+        System.arraycopy(runSamples, 0, samples, end, runSamples.length);
+      }
+      return Waveform.createWithoutRounding(startTime, sampleRateHz, samples);
+    }
   }
 
   /**
@@ -217,10 +283,20 @@ public final class WaveformUtility {
    * @return The fractional sample count as a Duration.
    */
   private static double getFractionalSampleCount(Waveform previousWaveform, Waveform nextWaveform) {
-    double meanSampleRate =
-        (nextWaveform.getSampleRateHz() + previousWaveform.getSampleRateHz()) / 2.0;
-    return meanSampleRate
-        * getDurationSeconds(previousWaveform.getEndTime(), nextWaveform.getStartTime());
+    return getFractionalSampleCount(
+        previousWaveform.getSampleRateHz(),
+        previousWaveform.getEndTime(),
+        nextWaveform.getSampleRateHz(),
+        nextWaveform.getStartTime());
+  }
+
+  private static double getFractionalSampleCount(
+      double previousSampleRateHz,
+      Instant previousEndTime,
+      double nextSampleRateHz,
+      Instant nextStartTime) {
+    double meanSampleRate = (nextSampleRateHz + previousSampleRateHz) / 2.0;
+    return meanSampleRate * getDurationSeconds(previousEndTime, nextStartTime);
   }
 
   /**
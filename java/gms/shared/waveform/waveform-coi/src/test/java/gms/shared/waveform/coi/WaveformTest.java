@@ -10,10 +10,13 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.google.common.collect.Range;
 import gms.shared.waveform.testfixture.WaveformTestFixtures;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -55,6 +58,59 @@ class WaveformTest {
     assertArrayEquals(result, waveform.getSamples());
   }
 
+  @Test
+  void testCreateRoundingMatchesBigDecimal() {
+    var random = new Random(42);
+    var values = new double[200_000];
+    for (var i = 0; i < values.length; i++) {
+      // Random values across magnitudes, and values at and next to the rounding boundaries
+      double boundary =
+          switch (i % 4) {
+            case 0 -> (random.nextInt(2_000_000) - 1_000_000 + 0.5) / 1.0e4;
+            case 1 -> (random.nextInt(2_000_000) - 1_000_000 + 0.4999995) / 1.0e4;
+            case 2 -> (random.nextInt(2_000_000) - 1_000_000) / 1.0e4;
+            default -> (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(18) - 6);
+          };
+      values[i] = boundary + random.nextInt(9) * Math.ulp(boundary) - 4 * Math.ulp(boundary);
+    }
+
+    var expected = Arrays.stream(values).map(WaveformTest::roundWithBigDecimal).toArray();
+    assertArrayEquals(expected, Waveform.create(startTime, sampleRate, values).getSamples());
+  }
+
+  @Test
+  void testCreateRoundingSignedZero() {
+    var values = new double[] {0.0, -0.0, -0.00004, 0.00004, -0.00005};
+    var result = new double[] {0.0, 0.0, 0.0, 0.0, -0.0001};
+
+    assertArrayEquals(result, Waveform.create(startTime, sampleRate, values).getSamples());
+  }
+
+  @Test
+  void testCreateRoundingNonFinite() {
+    var values = new double[] {1.0, Double.NaN};
+    assertThrows(NumberFormatException.class, () -> Waveform.create(startTime, sampleRate, values));
+  }
+
+  @Test
+  void testCreateWithoutRounding() {
+    var values = new double[] {-36.4889, -62.9174, 219.7021};
+
+    var waveform = Waveform.createWithoutRounding(startTime, sampleRate, values);
+    assertArrayEquals(values, waveform.getSamples());
+    assertEquals(Waveform.create(startTime, sampleRate, values), waveform);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Waveform.createWithoutRounding(startTime, sampleRate, new double[] {}));
+  }
+
+  private static double roundWithBigDecimal(double value) {
+    return BigDecimal.valueOf(value)
+        .setScale(10, RoundingMode.HALF_UP)
+        .setScale(4, RoundingMode.HALF_UP)
+        .doubleValue();
+  }
+
   @Test
   void testCreateValid() {
     final int sampleCount = 5;
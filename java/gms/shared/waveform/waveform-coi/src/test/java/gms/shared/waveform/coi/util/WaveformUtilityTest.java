@@ -1,6 +1,7 @@
 package gms.shared.waveform.coi.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import gms.shared.stationdefinition.dao.css.WfdiscDao;
 import gms.shared.waveform.coi.Waveform;
@@ -12,12 +13,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -448,6 +453,75 @@ class WaveformUtilityTest {
     assertEquals(numWaveforms, WaveformUtility.mergeWaveforms(waveforms, sampTol, sampDiff).size());
   }
 
+  @Test
+  void testMergeWaveformsMatchesPairwiseMerge() {
+    var random = new Random(3);
+    List<Waveform> waveforms = new ArrayList<>();
+    var startTime = Instant.EPOCH;
+    for (var i = 0; i < 200; i++) {
+      var samples = new double[1 + random.nextInt(80)];
+      Arrays.setAll(samples, j -> random.nextInt(100_000) / 1.0e4);
+      var waveform = Waveform.create(startTime, 40.0, samples);
+      waveforms.add(waveform);
+
+      // Mostly contiguous pieces, with some gaps, overlaps and enclosed pieces
+      int gapSamples =
+          switch (random.nextInt(10)) {
+            case 0 -> 3;
+            case 1 -> -samples.length / 2;
+            case 2 -> -samples.length;
+            default -> 1;
+          };
+      startTime = waveform.getEndTime().plusNanos((long) (gapSamples * 1.0e9 / 40.0)).plusNanos(1);
+    }
+
+    var expected = pairwiseMerge(new ArrayList<>(waveforms), 1.0, 1.5);
+    var merged = WaveformUtility.mergeWaveforms(new ArrayList<>(waveforms), 1.0, 1.5);
+
+    assertTrue(merged.size() < waveforms.size());
+    assertEquals(expected, merged);
+  }
+
+  /** Reference implementation of mergeWaveforms, merging each pair of waveforms in turn */
+  private static List<Waveform> pairwiseMerge(
+      List<Waveform> waveforms, double sampleRateTolerance, double sampleDifferenceAllowed) {
+    Collections.sort(waveforms);
+    List<Waveform> newWaveforms = new ArrayList<>();
+    var previousWaveform = waveforms.get(0);
+    newWaveforms.add(previousWaveform);
+    for (Waveform nextWaveform : waveforms.subList(1, waveforms.size())) {
+      if (Math.abs(previousWaveform.getSampleRateHz() - nextWaveform.getSampleRateHz())
+          <= sampleRateTolerance) {
+        double gap =
+            (previousWaveform.getSampleRateHz() + nextWaveform.getSampleRateHz())
+                / 2.0
+                * seconds(previousWaveform.getEndTime(), nextWaveform.getStartTime());
+        if (gap < sampleDifferenceAllowed && gap >= 0) {
+          double[] samples =
+              ArrayUtils.addAll(previousWaveform.getSamples(), nextWaveform.getSamples());
+          nextWaveform =
+              Waveform.create(
+                  previousWaveform.getStartTime(),
+                  (samples.length - 1)
+                      / seconds(previousWaveform.getStartTime(), nextWaveform.getEndTime()),
+                  samples);
+          newWaveforms.remove(newWaveforms.size() - 1);
+        }
+      }
+      if (!(!previousWaveform.getStartTime().isAfter(nextWaveform.getStartTime())
+          && !previousWaveform.getEndTime().isBefore(nextWaveform.getEndTime()))) {
+        newWaveforms.add(nextWaveform);
+        previousWaveform = nextWaveform;
+      }
+    }
+    return newWaveforms;
+  }
+
+  private static double seconds(Instant start, Instant end) {
+    var duration = Duration.between(start, end);
+    return (double) duration.getNano() / 1000000000 + duration.getSeconds();
+  }
+
   private static double[] getDoubleArray(int n, double value) {
     double[] a = new double[n];
     Arrays.fill(a, value);
@@ -2,6 +2,7 @@ package gms.shared.waveform.converter;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.ChannelTypes;
 import gms.shared.stationdefinition.coi.channel.ChannelTypesParser;
@@ -19,6 +20,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
@@ -26,10 +29,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
@@ -51,6 +61,88 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
 
   private static final double SAMPLE_DIFF_ALLOWED = 1.5;
 
+  // Mappings of .w files, shared by all reads of the same file
+  private static final WaveformFileMappings FILE_MAPPINGS =
+      WaveformFileMappings.create(Duration.ofMinutes(10), 1024);
+
+  private static final int DEFAULT_MAX_CONCURRENT_READS = 16;
+
+  // Bounds the number of .w files read at once across all conversions; resized in place, so
+  // permits held by reads in flight are returned to the same semaphore
+  private final ResizableSemaphore readPermits =
+      new ResizableSemaphore(DEFAULT_MAX_CONCURRENT_READS);
+
+  private static final int DEFAULT_DECODE_THREADS = 8;
+  private static final long IDLE_DECODE_THREAD_TIMEOUT_SECONDS = 60;
+
+  // Wfdiscs are read and decoded on this pool rather than the common fork-join pool, so blocking
+  // on read permits and file I/O does not starve other parallel streams
+  private final ThreadPoolExecutor decodeExecutor = createDecodeExecutor(DEFAULT_DECODE_THREADS);
+
+  private static final long DEFAULT_BLOCK_CACHE_BYTES = 256L * 1024 * 1024;
+
+  // Decoded, calibrated samples of recently read wfdiscs
+  private DecodedWaveformCache blockCache =
+      DecodedWaveformCache.create(DEFAULT_BLOCK_CACHE_BYTES, false);
+
+  /**
+   * Sets the maximum number of .w files read at once across all conversions. Wfdiscs are decoded in
+   * parallel, so this bounds the file I/O issued by large requests.
+   *
+   * @param maxConcurrentReads the maximum number of concurrent file reads
+   */
+  @Value("${waveformConverter.maxConcurrentReads:" + DEFAULT_MAX_CONCURRENT_READS + "}")
+  void setMaxConcurrentReads(int maxConcurrentReads) {
+    Preconditions.checkArgument(
+        maxConcurrentReads > 0, "Maximum concurrent waveform reads must be greater than 0");
+    readPermits.resize(maxConcurrentReads);
+  }
+
+  /**
+   * Sets the number of threads reading and decoding wfdiscs across all conversions
+   *
+   * @param decodeThreads the number of decode threads
+   */
+  @Value("${waveformConverter.decodeThreads:" + DEFAULT_DECODE_THREADS + "}")
+  void setDecodeThreads(int decodeThreads) {
+    Preconditions.checkArgument(
+        decodeThreads > 0, "Number of waveform decode threads must be greater than 0");
+
+    // the maximum pool size cannot be set below the core pool size
+    synchronized (decodeExecutor) {
+      if (decodeThreads > decodeExecutor.getMaximumPoolSize()) {
+        decodeExecutor.setMaximumPoolSize(decodeThreads);
+        decodeExecutor.setCorePoolSize(decodeThreads);
+      } else {
+        decodeExecutor.setCorePoolSize(decodeThreads);
+        decodeExecutor.setMaximumPoolSize(decodeThreads);
+      }
+    }
+  }
+
+  /**
+   * Replaces the decoded waveform block cache with an empty cache of the provided size
+   *
+   * @param maxBytes maximum number of decoded sample bytes to cache; 0 disables caching
+   * @param offHeap if true, cached samples are held in direct buffers outside of the heap
+   */
+  @Autowired
+  void configureBlockCache(
+      @Value("${waveformConverter.blockCache.maxBytes:" + DEFAULT_BLOCK_CACHE_BYTES + "}")
+          long maxBytes,
+      @Value("${waveformConverter.blockCache.offHeap:false}") boolean offHeap) {
+    this.blockCache = DecodedWaveformCache.create(maxBytes, offHeap);
+  }
+
+  /**
+   * Retrieves the hit, miss and occupancy statistics of the decoded waveform block cache
+   *
+   * @return the current block cache statistics
+   */
+  public DecodedWaveformCache.Statistics getBlockCacheStatistics() {
+    return blockCache.statistics();
+  }
+
   /**
    * Converts a Channel a list of WfdiscDao and File pairs into a {@link ChannelSegment<Waveform>}
    *
@@ -124,18 +216,38 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
 
   private List<Waveform> readWaveforms(
       List<WfdiscDao> wfdiscDaos, Channel channel, Instant startTime, Instant endTime) {
-    return WaveformUtility.mergeWaveforms(
+    var activeProfiles = environment.getActiveProfiles();
+
+    // Wfdiscs are decoded in parallel; the reads are joined in wfdisc order, so merging is
+    // independent of the order the reads complete in
+    var reads =
         wfdiscDaos.stream()
             .map(
                 wfdiscDao ->
-                    timingLogger.apply(
-                        "readWaveform",
-                        () -> tryReadWaveform(wfdiscDao, channel, startTime, endTime),
-                        environment.getActiveProfiles()))
-            .flatMap(Optional::stream)
-            .collect(Collectors.toList()),
-        1,
-        SAMPLE_DIFF_ALLOWED);
+                    CompletableFuture.supplyAsync(
+                        () ->
+                            timingLogger.apply(
+                                "readWaveform",
+                                () -> tryReadWaveform(wfdiscDao, channel, startTime, endTime),
+                                activeProfiles),
+                        decodeExecutor))
+            .collect(Collectors.toList());
+
+    List<Waveform> waveforms;
+    try {
+      waveforms =
+          reads.stream()
+              .map(CompletableFuture::join)
+              .flatMap(Optional::stream)
+              .collect(Collectors.toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+
+    return WaveformUtility.mergeWaveforms(waveforms, 1, SAMPLE_DIFF_ALLOWED);
   }
 
   private Optional<Waveform> tryReadWaveform(
@@ -154,7 +266,7 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
    *
    * @return single Waveform object
    */
-  private static Waveform readWaveform(
+  private Waveform readWaveform(
       WfdiscDao wfdiscDao, Channel channel, Instant startTime, Instant endTime) throws IOException {
 
     Instant wfdiscStartTime = wfdiscDao.getTime();
@@ -177,24 +289,119 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
             : Duration.between(wfdiscStartTime, startTime).toNanos();
     long currentSkip = (long) (skipNanos / NANO_SECOND_PER_SECOND * sampRateSeconds);
 
+    LOGGER.info("Reading waveform for {}", channel.getName());
+    LOGGER.info(
+        "Start: {}, End: {}, skip: {}, num samples: {}",
+        wfdiscStartTime,
+        wfdiscEndTime,
+        currentSkip,
+        nsamp);
+
     var file = new File(wfdiscDao.getDir() + File.separator + wfdiscDao.getDfile());
+    double calibration = wfdiscDao.getCalib();
+
+    // A block the cache cannot keep is not decoded whole; only the requested samples are read
+    if (!blockCache.canCache(nsamp)) {
+      int samplesToRead = (int) Math.min(actualSamplesToRead, Math.max(nsamp - currentSkip, 0));
+      double[] data =
+          readPermittedSamples(
+              file, dataType.toString(), samplesToRead, foff, (int) currentSkip, calibration);
+      return Waveform.create(readingStartTime, sampRateSeconds, data);
+    }
+
+    // The whole wfdisc is decoded and cached, and the requested samples are sliced from it. Only
+    // blocks that are not cached wait for a read permit.
+    var blockKey =
+        new DecodedWaveformCache.BlockKey(
+            wfdiscDao.getDir(),
+            wfdiscDao.getDfile(),
+            foff,
+            wfdiscDao.getId(),
+            WaveformFileMappings.FileVersion.of(file.toPath()));
+    double[] data =
+        blockCache.getSamples(
+            blockKey,
+            (int) currentSkip,
+            (int) actualSamplesToRead,
+            () -> readPermittedSamples(file, dataType.toString(), nsamp, foff, 0, calibration));
+
+    return Waveform.create(readingStartTime, sampRateSeconds, data);
+  }
+
+  private double[] readPermittedSamples(
+      File file, String dataType, int samplesToRead, long foff, int skip, double calibration)
+      throws IOException {
+    try {
+      readPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting to read " + file);
+    }
+
+    try {
+      return readSamples(file, dataType, samplesToRead, foff, skip, calibration);
+    } finally {
+      readPermits.release();
+    }
+  }
+
+  /**
+   * Reads and calibrates a range of the samples of a wfdisc
+   *
+   * @return the calibrated samples
+   */
+  private static double[] readSamples(
+      File file, String dataType, int samplesToRead, long foff, int skip, double calibration)
+      throws IOException {
+
+    Optional<ByteBuffer> mapping = FILE_MAPPINGS.getMapping(file.toPath());
+    if (mapping.isPresent()) {
+      return DefaultWaveformReader.readSamples(
+          mapping.get(), dataType, samplesToRead, foff, skip, calibration);
+    }
+
     try (InputStream inputStream = new FileInputStream(file)) {
-      LOGGER.info("Reading waveform for {}", channel.getName());
-      LOGGER.info(
-          "Start: {}, End: {}, skip: {}, num samples: {}",
-          wfdiscStartTime,
-          wfdiscEndTime,
-          currentSkip,
-          nsamp);
       double[] data =
-          DefaultWaveformReader.readSamples(
-              inputStream, dataType.toString(), (int) actualSamplesToRead, foff, (int) currentSkip);
-      double calibration = wfdiscDao.getCalib();
+          DefaultWaveformReader.readSamples(inputStream, dataType, samplesToRead, foff, skip);
       for (var i = 0; i < data.length; i++) {
         data[i] *= calibration;
       }
 
-      return Waveform.create(readingStartTime, sampRateSeconds, data);
+      return data;
+    }
+  }
+
+  private static ThreadPoolExecutor createDecodeExecutor(int decodeThreads) {
+    var executor =
+        new ThreadPoolExecutor(
+            decodeThreads,
+            decodeThreads,
+            IDLE_DECODE_THREAD_TIMEOUT_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("waveform-decode-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /** {@link Semaphore} whose number of permits can be changed while permits are held */
+  private static final class ResizableSemaphore extends Semaphore {
+
+    private int maxPermits;
+
+    ResizableSemaphore(int maxPermits) {
+      super(maxPermits);
+      this.maxPermits = maxPermits;
+    }
+
+    synchronized void resize(int newMaxPermits) {
+      int delta = newMaxPermits - maxPermits;
+      if (delta > 0) {
+        release(delta);
+      } else if (delta < 0) {
+        reducePermits(-delta);
+      }
+      maxPermits = newMaxPermits;
     }
   }
 
@@ -0,0 +1,153 @@
+package gms.shared.waveform.converter;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size bounded, least recently used cache of decoded and calibrated waveform blocks. A block holds
+ * every sample of a single wfdisc, so requests for overlapping time ranges of the same wfdisc slice
+ * their samples from one decode of the .w file. Blocks can be held off-heap in direct buffers to
+ * keep large caches out of the garbage collected heap.
+ */
+public final class DecodedWaveformCache {
+
+  /**
+   * Identifies the samples of a single wfdisc, as of a version of its .w file. A rewritten file has
+   * a new version, so samples decoded from the previous file are not served for it.
+   */
+  record BlockKey(
+      String dir,
+      String dfile,
+      long foff,
+      long wfid,
+      WaveformFileMappings.FileVersion fileVersion) {}
+
+  /** Point in time hit, miss and occupancy counts of the cache */
+  public record Statistics(long hitCount, long missCount, long blockCount, long occupiedBytes) {}
+
+  /** Decodes all the calibrated samples of a block */
+  @FunctionalInterface
+  interface BlockLoader {
+    double[] load() throws IOException;
+  }
+
+  private final Cache<BlockKey, DoubleBuffer> blocks;
+  private final long maxBytes;
+  private final boolean offHeap;
+  private final AtomicLong occupiedBytes = new AtomicLong();
+
+  private DecodedWaveformCache(long maxBytes, boolean offHeap) {
+    this.maxBytes = maxBytes;
+    this.offHeap = offHeap;
+    this.blocks =
+        // A single segment lets a block use the whole weight limit rather than a segment's share
+        // of it; blocks are decoded outside of the segment lock
+        CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(maxBytes)
+            .weigher((BlockKey key, DoubleBuffer block) -> weigh(block))
+            .removalListener(this::onRemoval)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Creates a new, empty cache
+   *
+   * @param maxBytes maximum number of sample bytes held by the cache; 0 disables caching
+   * @param offHeap if true, blocks are held in direct buffers outside of the heap
+   * @return the cache
+   */
+  static DecodedWaveformCache create(long maxBytes, boolean offHeap) {
+    Preconditions.checkArgument(maxBytes >= 0, "Decoded waveform cache size cannot be negative");
+    return new DecodedWaveformCache(maxBytes, offHeap);
+  }
+
+  /**
+   * Checks whether a block of the provided number of samples can be kept by this cache. Blocks
+   * heavier than the cache are evicted as soon as they are loaded.
+   *
+   * @param sampleCount number of samples in the block
+   * @return true if the block fits in the cache, false if it does not or caching is disabled
+   */
+  boolean canCache(long sampleCount) {
+    return maxBytes > 0 && sampleCount * Double.BYTES <= maxBytes;
+  }
+
+  /**
+   * Retrieves a range of samples from the block for the provided key, loading and caching the block
+   * if it is not already cached. The range is truncated to the samples in the block.
+   *
+   * @param key identifies the block
+   * @param offset index of the first sample in the block to retrieve
+   * @param length maximum number of samples to retrieve
+   * @param loader decodes the block if it is not cached
+   * @return the samples of the requested range
+   * @throws IOException if the block could not be loaded
+   */
+  double[] getSamples(BlockKey key, int offset, int length, BlockLoader loader) throws IOException {
+
+    DoubleBuffer block;
+    try {
+      block = blocks.get(key, () -> toBlock(loader.load()));
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException(e.getCause());
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+
+    int from = Math.min(Math.max(offset, 0), block.capacity());
+    int to = (int) Math.min((long) from + Math.max(length, 0), block.capacity());
+    var samples = new double[to - from];
+    block.get(from, samples);
+    return samples;
+  }
+
+  /**
+   * Retrieves the current statistics of the cache
+   *
+   * @return the statistics
+   */
+  public Statistics statistics() {
+    var stats = blocks.stats();
+    return new Statistics(stats.hitCount(), stats.missCount(), blocks.size(), occupiedBytes.get());
+  }
+
+  private DoubleBuffer toBlock(double[] samples) {
+    DoubleBuffer block;
+    if (offHeap) {
+      block = ByteBuffer.allocateDirect(samples.length * Double.BYTES).asDoubleBuffer();
+      block.put(0, samples);
+    } else {
+      block = DoubleBuffer.wrap(samples);
+    }
+
+    occupiedBytes.addAndGet((long) samples.length * Double.BYTES);
+    return block.asReadOnlyBuffer();
+  }
+
+  private void onRemoval(RemovalNotification<BlockKey, DoubleBuffer> notification) {
+    var block = notification.getValue();
+    if (block != null) {
+      occupiedBytes.addAndGet(-(long) block.capacity() * Double.BYTES);
+    }
+  }
+
+  private static int weigh(DoubleBuffer block) {
+    return (int) Math.min(Integer.MAX_VALUE, (long) block.capacity() * Double.BYTES);
+  }
+}
@@ -0,0 +1,95 @@
+package gms.shared.waveform.converter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-only memory mappings of waveform (.w) files, shared by every read of the same file. A
+ * mapping is only reused while its file keeps the size, modification time and file key it had when
+ * it was mapped, so a file that is appended to, truncated or replaced is mapped again rather than
+ * read through a stale mapping. Mappings do not hold open file descriptors; their memory is
+ * released once they are evicted and no longer referenced.
+ */
+final class WaveformFileMappings {
+
+  private final Cache<Path, FileMapping> mappingCache;
+
+  private WaveformFileMappings(Duration expiration, long maxFiles) {
+    this.mappingCache =
+        CacheBuilder.newBuilder().expireAfterAccess(expiration).maximumSize(maxFiles).build();
+  }
+
+  static WaveformFileMappings create(Duration expiration, long maxFiles) {
+    return new WaveformFileMappings(expiration, maxFiles);
+  }
+
+  /**
+   * Identifies the contents of a file by its size, modification time and file key. The file key
+   * changes when a file is replaced by another, even if the size and modification time match, and
+   * is null on file systems without file keys.
+   */
+  record FileVersion(long size, FileTime lastModified, Object fileKey) {
+
+    /**
+     * Reads the current version of a file
+     *
+     * @param path path of the file
+     * @return the current version of the file
+     * @throws IOException if the file attributes cannot be read
+     */
+    static FileVersion of(Path path) throws IOException {
+      var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      return new FileVersion(
+          attributes.size(), attributes.lastModifiedTime(), attributes.fileKey());
+    }
+  }
+
+  private record FileMapping(FileVersion version, ByteBuffer buffer) {}
+
+  /**
+   * Retrieves a mapping of the entire waveform file. The returned buffer is shared, so callers must
+   * only read it with absolute indices or through their own duplicates or slices.
+   *
+   * @param path path of the waveform file
+   * @return the mapping, or {@link Optional#empty()} if the file is too large to map as a single
+   *     buffer
+   * @throws IOException if the file cannot be read
+   */
+  Optional<ByteBuffer> getMapping(Path path) throws IOException {
+    var version = FileVersion.of(path);
+    if (version.size() > Integer.MAX_VALUE) {
+      return Optional.empty();
+    }
+
+    var mapping = mappingCache.getIfPresent(path);
+    if (mapping != null && mapping.version().equals(version)) {
+      return Optional.of(mapping.buffer());
+    }
+
+    // Concurrent first reads of a file may each map it; the last mapping cached is kept. A file
+    // modified while it is mapped has a newer version than the one recorded, so it is mapped again
+    // by the next read.
+    mapping = new FileMapping(version, map(path, version.size()));
+    mappingCache.put(path, mapping);
+    return Optional.of(mapping.buffer());
+  }
+
+  private static ByteBuffer map(Path path, long size) throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < size) {
+        throw new IOException("Waveform file " + path + " was truncated while being mapped");
+      }
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, size).asReadOnlyBuffer();
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package gms.shared.waveform.converter;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -21,6 +23,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -265,6 +268,106 @@ class ChannelSegmentConverterTest {
     assertEquals(channelSegmentCorrect, convertedChannelSegment);
   }
 
+  @Test
+  void testConvertChannelSegmentSingleConcurrentRead() throws IOException {
+    List<WfdiscDao> wfdiscDaos = ChannelSegmentTestFixtures.getTestWfdiscListForT4();
+    Channel channel = ChannelSegmentTestFixtures.getTestChannelT4();
+    wfdiscDaos = setWfdiscDaoDir(wfdiscDaos);
+    Instant startTime =
+        wfdiscDaos.stream().map(WfdiscDao::getTime).min(Instant::compareTo).orElseThrow();
+    Instant endTime =
+        wfdiscDaos.stream().map(WfdiscDao::getEndTime).max(Instant::compareTo).orElseThrow();
+    doReturn(new String[] {}).when(environment).getActiveProfiles();
+
+    channelSegmentConverter.setMaxConcurrentReads(1);
+    channelSegmentConverter.setDecodeThreads(1);
+    ChannelSegment<Waveform> convertedChannelSegment =
+        channelSegmentConverter.convert(channel, wfdiscDaos, startTime, endTime);
+
+    List<Waveform> waveforms = getWaveforms(T4WAVEFORMS);
+
+    ChannelSegment<Waveform> channelSegmentCorrect =
+        ChannelSegmentTestFixtures.createChannelSegment(
+            channel, waveforms, convertedChannelSegment.getId().getCreationTime());
+
+    assertEquals(channelSegmentCorrect, convertedChannelSegment);
+  }
+
+  @Test
+  void testConvertChannelSegmentReadsThroughBlockCache() {
+    List<WfdiscDao> wfdiscDaos = ChannelSegmentTestFixtures.getTestWfdiscListForT4();
+    Channel channel = ChannelSegmentTestFixtures.getTestChannelT4();
+    wfdiscDaos = setWfdiscDaoDir(wfdiscDaos);
+    Instant startTime =
+        wfdiscDaos.stream().map(WfdiscDao::getTime).min(Instant::compareTo).orElseThrow();
+    Instant endTime =
+        wfdiscDaos.stream().map(WfdiscDao::getEndTime).max(Instant::compareTo).orElseThrow();
+    doReturn(new String[] {}).when(environment).getActiveProfiles();
+
+    channelSegmentConverter.configureBlockCache(1024 * 1024, true);
+    ChannelSegment<Waveform> first =
+        channelSegmentConverter.convert(channel, wfdiscDaos, startTime, endTime);
+    ChannelSegment<Waveform> second =
+        channelSegmentConverter.convert(channel, wfdiscDaos, startTime, endTime);
+
+    // A later window of the same wfdiscs is sliced from the cached blocks
+    Instant laterStartTime = startTime.plusSeconds(1);
+    ChannelSegment<Waveform> later =
+        channelSegmentConverter.convert(channel, wfdiscDaos, laterStartTime, endTime);
+
+    assertEquals(first.getTimeseries(), second.getTimeseries());
+    Waveform firstWaveform = first.getTimeseries().get(0);
+    Waveform laterWaveform = later.getTimeseries().get(0);
+    int skipped = firstWaveform.getSampleCount() - laterWaveform.getSampleCount();
+    assertArrayEquals(
+        Arrays.copyOfRange(firstWaveform.getSamples(), skipped, firstWaveform.getSampleCount()),
+        laterWaveform.getSamples());
+
+    var statistics = channelSegmentConverter.getBlockCacheStatistics();
+    assertEquals(wfdiscDaos.size(), statistics.missCount());
+    assertEquals(2L * wfdiscDaos.size(), statistics.hitCount());
+    assertEquals(wfdiscDaos.size(), statistics.blockCount());
+  }
+
+  @Test
+  void testConvertChannelSegmentWithBlockCacheDisabledReadsRequestedRange() {
+    Channel channel = ChannelSegmentTestFixtures.getTestChannelT4();
+    List<WfdiscDao> wfdiscDaos =
+        setWfdiscDaoDir(ChannelSegmentTestFixtures.getTestWfdiscListForT4());
+    Instant startTime = wfdiscDaos.get(0).getTime().plusSeconds(10);
+    Instant endTime = startTime.plusSeconds(10);
+    doReturn(new String[] {}).when(environment).getActiveProfiles();
+
+    ChannelSegment<Waveform> expected =
+        channelSegmentConverter.convert(channel, wfdiscDaos, startTime, endTime);
+
+    // decoding all the samples of this wfdisc would need an array beyond the VM's limit, so the
+    // conversion only succeeds if just the requested range is read
+    List<WfdiscDao> largeWfdiscDaos =
+        setWfdiscDaoDir(ChannelSegmentTestFixtures.getTestWfdiscListForT4());
+    largeWfdiscDaos.forEach(wfdiscDao -> wfdiscDao.setNsamp(Integer.MAX_VALUE));
+
+    channelSegmentConverter.configureBlockCache(0, false);
+    ChannelSegment<Waveform> converted =
+        channelSegmentConverter.convert(channel, largeWfdiscDaos, startTime, endTime);
+
+    assertEquals(expected.getTimeseries(), converted.getTimeseries());
+    var statistics = channelSegmentConverter.getBlockCacheStatistics();
+    assertEquals(0, statistics.missCount());
+    assertEquals(0, statistics.blockCount());
+  }
+
+  @Test
+  void testSetMaxConcurrentReadsInvalid() {
+    assertThrows(
+        IllegalArgumentException.class, () -> channelSegmentConverter.setMaxConcurrentReads(0));
+  }
+
+  @Test
+  void testSetDecodeThreadsInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> channelSegmentConverter.setDecodeThreads(0));
+  }
+
   @Test
   void testConvertChannelSegmentS2FormatWaveform() throws IOException {
     List<WfdiscDao> wfdiscDaos = ChannelSegmentTestFixtures.getTestWfdiscListForS2();
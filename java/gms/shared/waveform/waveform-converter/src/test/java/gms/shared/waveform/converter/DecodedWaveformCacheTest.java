@@ -0,0 +1,107 @@
+package gms.shared.waveform.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gms.shared.waveform.converter.DecodedWaveformCache.BlockKey;
+import gms.shared.waveform.converter.DecodedWaveformCache.Statistics;
+import gms.shared.waveform.converter.WaveformFileMappings.FileVersion;
+import java.io.IOException;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DecodedWaveformCacheTest {
+
+  private static final FileVersion FILE_VERSION =
+      new FileVersion(160, FileTime.fromMillis(0), null);
+  private static final BlockKey KEY_1 = new BlockKey("dir", "file.w", 0, 1, FILE_VERSION);
+  private static final BlockKey KEY_2 = new BlockKey("dir", "file.w", 80, 2, FILE_VERSION);
+  private static final double[] SAMPLES = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0};
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testGetSamplesSlicesCachedBlock(boolean offHeap) throws IOException {
+    var cache = DecodedWaveformCache.create(1024, offHeap);
+    var loads = new AtomicInteger();
+    DecodedWaveformCache.BlockLoader loader =
+        () -> {
+          loads.incrementAndGet();
+          return SAMPLES.clone();
+        };
+
+    assertArrayEquals(new double[] {3.0, 4.0, 5.0}, cache.getSamples(KEY_1, 2, 3, loader));
+    assertArrayEquals(new double[] {9.0, 10.0}, cache.getSamples(KEY_1, 8, 5, loader));
+    assertArrayEquals(new double[] {}, cache.getSamples(KEY_1, 12, 5, loader));
+    assertEquals(1, loads.get());
+
+    assertEquals(new Statistics(2, 1, 1, SAMPLES.length * Double.BYTES), cache.statistics());
+  }
+
+  @Test
+  void testGetSamplesReloadsRewrittenFile() throws IOException {
+    var cache = DecodedWaveformCache.create(1024, false);
+    var rewrittenKey =
+        new BlockKey("dir", "file.w", 0, 1, new FileVersion(160, FileTime.fromMillis(1), null));
+
+    assertArrayEquals(new double[] {1.0, 2.0}, cache.getSamples(KEY_1, 0, 2, SAMPLES::clone));
+    assertArrayEquals(
+        new double[] {-1.0}, cache.getSamples(rewrittenKey, 0, 2, () -> new double[] {-1.0}));
+
+    assertEquals(2, cache.statistics().missCount());
+  }
+
+  @Test
+  void testGetSamplesEvictsBeyondMaxBytes() throws IOException {
+    var cache = DecodedWaveformCache.create(SAMPLES.length * Double.BYTES, false);
+
+    cache.getSamples(KEY_1, 0, 1, SAMPLES::clone);
+    cache.getSamples(KEY_2, 0, 1, SAMPLES::clone);
+
+    var statistics = cache.statistics();
+    assertEquals(1, statistics.blockCount());
+    assertEquals(SAMPLES.length * Double.BYTES, statistics.occupiedBytes());
+  }
+
+  @Test
+  void testGetSamplesDisabled() throws IOException {
+    var cache = DecodedWaveformCache.create(0, false);
+
+    assertArrayEquals(new double[] {1.0, 2.0}, cache.getSamples(KEY_1, 0, 2, SAMPLES::clone));
+    assertArrayEquals(new double[] {1.0, 2.0}, cache.getSamples(KEY_1, 0, 2, SAMPLES::clone));
+
+    assertEquals(new Statistics(0, 2, 0, 0), cache.statistics());
+  }
+
+  @Test
+  void testGetSamplesLoaderError() {
+    var cache = DecodedWaveformCache.create(1024, false);
+
+    DecodedWaveformCache.BlockLoader loader =
+        () -> {
+          throw new IOException("Bad data");
+        };
+
+    var exception = assertThrows(IOException.class, () -> cache.getSamples(KEY_1, 0, 1, loader));
+    assertEquals("Bad data", exception.getMessage());
+    assertEquals(0, cache.statistics().blockCount());
+  }
+
+  @Test
+  void testCanCache() {
+    var cache = DecodedWaveformCache.create(SAMPLES.length * Double.BYTES, false);
+    assertTrue(cache.canCache(SAMPLES.length));
+    assertFalse(cache.canCache(SAMPLES.length + 1L));
+    assertFalse(DecodedWaveformCache.create(0, false).canCache(0));
+  }
+
+  @Test
+  void testCreateNegativeSize() {
+    assertThrows(IllegalArgumentException.class, () -> DecodedWaveformCache.create(-1, false));
+  }
+}
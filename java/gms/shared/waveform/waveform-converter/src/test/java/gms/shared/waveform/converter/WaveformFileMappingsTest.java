@@ -0,0 +1,90 @@
+package gms.shared.waveform.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WaveformFileMappingsTest {
+
+  @TempDir Path tempDir;
+
+  private WaveformFileMappings mappings;
+
+  @BeforeEach
+  void setUp() {
+    mappings = WaveformFileMappings.create(Duration.ofMinutes(1), 10);
+  }
+
+  @Test
+  void testGetMappingSharedAcrossReads() throws IOException {
+    Path file = Files.write(tempDir.resolve("test.w"), new byte[] {1, 2, 3, 4});
+
+    ByteBuffer mapping = mappings.getMapping(file).orElseThrow();
+    assertEquals(4, mapping.capacity());
+    assertEquals(3, mapping.get(2));
+    assertTrue(mapping.isReadOnly());
+
+    assertSame(mapping, mappings.getMapping(file).orElseThrow());
+  }
+
+  @Test
+  void testGetMappingRemapsGrownFile() throws IOException {
+    Path file = Files.write(tempDir.resolve("test.w"), new byte[] {1, 2, 3, 4});
+    ByteBuffer mapping = mappings.getMapping(file).orElseThrow();
+
+    Files.write(file, new byte[] {5, 6}, StandardOpenOption.APPEND);
+
+    ByteBuffer remapped = mappings.getMapping(file).orElseThrow();
+    assertNotSame(mapping, remapped);
+    assertEquals(6, remapped.capacity());
+    assertEquals(6, remapped.get(5));
+  }
+
+  @Test
+  void testGetMappingRemapsTruncatedFile() throws IOException {
+    Path file = Files.write(tempDir.resolve("test.w"), new byte[] {1, 2, 3, 4});
+    ByteBuffer mapping = mappings.getMapping(file).orElseThrow();
+
+    Files.write(file, new byte[] {5, 6});
+
+    ByteBuffer remapped = mappings.getMapping(file).orElseThrow();
+    assertNotSame(mapping, remapped);
+    assertEquals(2, remapped.capacity());
+    assertEquals(6, remapped.get(1));
+  }
+
+  @Test
+  void testGetMappingRemapsRewrittenFileOfSameSize() throws IOException {
+    Path file = Files.write(tempDir.resolve("test.w"), new byte[] {1, 2, 3, 4});
+    ByteBuffer mapping = mappings.getMapping(file).orElseThrow();
+
+    Files.write(file, new byte[] {5, 6, 7, 8});
+    Files.setLastModifiedTime(
+        file,
+        FileTime.fromMillis(
+            Files.getLastModifiedTime(file).toMillis() + Duration.ofMinutes(1).toMillis()));
+
+    ByteBuffer remapped = mappings.getMapping(file).orElseThrow();
+    assertNotSame(mapping, remapped);
+    assertEquals(7, remapped.get(2));
+  }
+
+  @Test
+  void testGetMappingMissingFile() {
+    Path file = tempDir.resolve("missing.w");
+    assertThrows(IOException.class, () -> mappings.getMapping(file));
+  }
+}
@@ -0,0 +1,146 @@
+package gms.utilities.waveformreader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads variable-bit length integers from a {@link ByteBuffer}, or from an {@link InputStream}
+ * through an internal buffer. Up to 64 bits of the data are held in an accumulator, so bytes are
+ * loaded a word at a time rather than through a separate call for every 8 bits read.
+ *
+ * <p>Matching {@link BitInputStream}, reading beyond the end of the data returns 1 bits.
+ */
+public final class BitReader {
+
+  private static final int LAST_BYTE_SHIFT = Long.SIZE - Byte.SIZE;
+
+  private final ByteBuffer buffer;
+  private final InputStream input;
+  private boolean endOfInput;
+
+  // Bits not yet read, left aligned. Bits below the top bitCount bits are always 0 until the end
+  // of the data has been padded.
+  private long accumulator;
+  private int bitCount;
+  private boolean padded;
+
+  /**
+   * Construct a bit reader over the remaining bytes of the provided buffer. The buffer's position
+   * is not modified.
+   *
+   * @param buffer the data to read
+   */
+  public BitReader(ByteBuffer buffer) {
+    this.buffer = buffer.slice();
+    this.input = null;
+    this.endOfInput = true;
+  }
+
+  /**
+   * Construct a bit reader over the provided input stream, reading up to bufferSize bytes at a
+   * time. Do not use the input stream for any other reading while the bit reader is in use.
+   *
+   * @param input the data to read
+   * @param bufferSize number of bytes to read from the input stream at a time
+   */
+  public BitReader(InputStream input, int bufferSize) {
+    this.buffer = ByteBuffer.allocate(bufferSize).flip();
+    this.input = input;
+    this.endOfInput = false;
+  }
+
+  /**
+   * Read a 32-bit integer constructed from the next n bits of 2's complement data.
+   *
+   * @param bits number of bits to read (0 to 32)
+   * @param signed if true, sign extend the last bit.
+   */
+  public int read(int bits, boolean signed) throws IOException {
+    if (bits == 0) {
+      return 0;
+    }
+
+    if (bitCount < bits) {
+      refill();
+
+      if (bitCount < bits) {
+        // Pad the end of the data with 1 bits
+        accumulator |= -1L >>> bitCount;
+        bitCount = Long.SIZE;
+        padded = true;
+      }
+    }
+
+    long value = accumulator;
+    accumulator <<= bits;
+    bitCount -= bits;
+
+    if (signed) {
+      return (int) (value >> (Long.SIZE - bits));
+    } else {
+      return (int) (value >>> (Long.SIZE - bits));
+    }
+  }
+
+  /**
+   * Estimates the number of whole bytes that can be read without reaching the end of the data,
+   * excluding the bits remaining from a partially read byte.
+   *
+   * @return estimated number of whole bytes remaining
+   */
+  public int available() throws IOException {
+    if (padded) {
+      return 0;
+    }
+
+    int available = buffer.remaining() + bitCount / Byte.SIZE;
+    if (!endOfInput) {
+      available += input.available();
+    }
+    return available;
+  }
+
+  /** Loads whole bytes into the accumulator until it holds more than 56 bits or the data ends */
+  private void refill() throws IOException {
+    if (bitCount == 0 && buffer.remaining() >= Long.BYTES) {
+      accumulator = buffer.getLong();
+      bitCount = Long.SIZE;
+      return;
+    }
+
+    while (bitCount <= LAST_BYTE_SHIFT) {
+      if (!buffer.hasRemaining() && !fill()) {
+        return;
+      }
+
+      accumulator |= (buffer.get() & 0xFFL) << (LAST_BYTE_SHIFT - bitCount);
+      bitCount += Byte.SIZE;
+    }
+  }
+
+  /**
+   * Reads more bytes from the input stream into the buffer
+   *
+   * @return true if any bytes were read, false at the end of the data
+   */
+  private boolean fill() throws IOException {
+    while (!endOfInput) {
+      buffer.compact();
+      int read =
+          input.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      if (read < 0) {
+        endOfInput = true;
+      } else {
+        buffer.position(buffer.position() + read);
+      }
+      buffer.flip();
+
+      if (buffer.hasRemaining()) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -2,6 +2,7 @@ package gms.utilities.waveformreader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,10 +12,21 @@ public class CanadianCompressedWaveformReader implements WaveformReader {
   private static final Logger LOGGER =
       LoggerFactory.getLogger(CanadianCompressedWaveformReader.class);
 
+  private static final int BUFFER_SIZE = 8192;
+
   public double[] read(InputStream input, int numSamples, int skip) throws IOException {
+    return read(new BitReader(input, BUFFER_SIZE), numSamples, skip);
+  }
+
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    return read(new BitReader(buffer), numSamples, skip);
+  }
+
+  private static double[] read(BitReader bitReader, int numSamples, int skip) throws IOException {
     // Extract the canadian compressed data
     // TODO: (sgk 06/23/2021) should this really read skip + numSamples of data?
-    double[] data = CanadianCompression.read(input, skip + numSamples, false);
+    double[] data = CanadianCompression.read(bitReader, skip + numSamples, false);
 
     if (skip == 0) {
       return data;
@@ -49,43 +61,40 @@ public class CanadianCompressedWaveformReader implements WaveformReader {
     /**
      * Read the compressed data stream, composed of N samples.
      *
-     * @param inputStream Stream of compressed data to read from
+     * @param bitReader Compressed data to read from
      * @param numSamples Number of samples to read from stream
      * @return uncompressed integer samples
      */
-    public static double[] read(InputStream inputStream, int numSamples, boolean interlace)
+    public static double[] read(BitReader bitReader, int numSamples, boolean interlace)
         throws IOException {
-      var bitInputStream = new BitInputStream(inputStream, 8192);
-
       //  Determine the number of blocks
       var numBlocks = (int) Math.ceil(numSamples / ((double) SAMPLES_IN_BLOCK));
       var dataArray = new double[numSamples];
 
       if (interlace) {
-        readInterlaced(numSamples, bitInputStream, numBlocks, dataArray);
+        readInterlaced(numSamples, bitReader, numBlocks, dataArray);
       } else {
-        readSequential(numSamples, bitInputStream, numBlocks, dataArray);
+        readSequential(numSamples, bitReader, numBlocks, dataArray);
       }
 
       return dataArray;
     }
 
     private static void readSequential(
-        int numSamples, BitInputStream bitInputStream, int numBlocks, double[] data)
-        throws IOException {
+        int numSamples, BitReader bitReader, int numBlocks, double[] data) throws IOException {
       //  Read the index blocks
       var bitsDoubleArray = new byte[numBlocks][GROUPS_IN_BLOCK];
       for (var iCounter = 0; iCounter < numBlocks; iCounter++) {
-        readIndexBlock(bitInputStream, bitsDoubleArray[iCounter]);
+        readIndexBlock(bitReader, bitsDoubleArray[iCounter]);
       }
 
       //  Read the first sample
-      var first = bitInputStream.read(32, true);
+      var first = bitReader.read(32, true);
 
       //  Read the data blocks
       var n = 0;
       for (var i = 0; i < numBlocks && n < numSamples; i++) {
-        n = readDataBlock(bitInputStream, bitsDoubleArray[i], data, n);
+        n = readDataBlock(bitReader, bitsDoubleArray[i], data, n);
       }
 
       //  undo the second difference
@@ -100,8 +109,7 @@ public class CanadianCompressedWaveformReader implements WaveformReader {
     }
 
     private static void readInterlaced(
-        int numSamples, BitInputStream bitInputStream, int numBlocks, double[] data)
-        throws IOException {
+        int numSamples, BitReader bitReader, int numBlocks, double[] data) throws IOException {
       var error = false;
       var blockBytes = new byte[GROUPS_IN_BLOCK];
       var n = 0;
@@ -113,10 +121,10 @@ public class CanadianCompressedWaveformReader implements WaveformReader {
         int startN = n;
 
         //  Read the index block
-        readIndexBlock(bitInputStream, blockBytes);
+        readIndexBlock(bitReader, blockBytes);
 
         //  Read the first sample
-        int firstSample = bitInputStream.read(32, true);
+        int firstSample = bitReader.read(32, true);
         if (firstSample != data[n] && n > 0) {
           error = true;
         }
@@ -124,7 +132,7 @@ public class CanadianCompressedWaveformReader implements WaveformReader {
         n++;
 
         //  Read the differentiated samples
-        n = readDataBlock(bitInputStream, blockBytes, data, n);
+        n = readDataBlock(bitReader, blockBytes, data, n);
 
         //  Integrate the data twice
         WaveformReaderUtil.integrate(data, startN + 1, n);
@@ -143,25 +151,24 @@ public class CanadianCompressedWaveformReader implements WaveformReader {
      * Read an index block from the provided input stream and store the number of bits in the
      * provided array.
      */
-    private static void readIndexBlock(BitInputStream bitInputStream, byte[] bits)
-        throws IOException {
-      int lengthCode = bitInputStream.read(1, false);
+    private static void readIndexBlock(BitReader bitReader, byte[] bits) throws IOException {
+      int lengthCode = bitReader.read(1, false);
       byte[] bitLengths = bitLengthsForCodes[lengthCode];
 
       for (var i = 0; i < GROUPS_IN_BLOCK; i++) {
-        bits[i] = bitLengths[bitInputStream.read(3, false)];
+        bits[i] = bitLengths[bitReader.read(3, false)];
       }
     }
 
     /** Read the data block from the provided input stream and return the number of samples read */
-    private static int readDataBlock(
-        BitInputStream bitInputStream, byte[] bits, double[] data, int n) throws IOException {
+    private static int readDataBlock(BitReader bitReader, byte[] bits, double[] data, int n)
+        throws IOException {
 
       for (var j = 0; j < GROUPS_IN_BLOCK; j++) {
         int b = bits[j];
 
         for (var k = 0; k < SAMPLES_IN_GROUP && n < data.length; k++, n++) {
-          data[n] = bitInputStream.read(b, true);
+          data[n] = bitReader.read(b, true);
         }
       }
 
@@ -2,9 +2,8 @@ package gms.utilities.waveformreader;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.List;
 import org.apache.commons.lang3.Validate;
 
 public class Cm6WaveformReader implements WaveformReader {
@@ -40,52 +39,58 @@ public class Cm6WaveformReader implements WaveformReader {
     Validate.validState(skip == 0);
     Validate.validState(numSamples >= 0);
 
-    String cm6NoSpaces = new String(input.readAllBytes()).replace(" ", "");
-    try {
-      int[] parsedWaveformInts = cm6ToInt(cm6NoSpaces);
+    return decode(ByteBuffer.wrap(input.readAllBytes()), numSamples);
+  }
 
-      return Arrays.stream(parsedWaveformInts).asDoubleStream().toArray();
+  /**
+   * Reads the remaining bytes of the ByteBuffer as an IMS 2.0 CM6 waveform.
+   *
+   * @param buffer the buffer to read from
+   * @param numSamples number of samples to read
+   * @param skip number of bytes to skip (required to be 0 for IMS 2.0 data)
+   * @return int[] of digitizer counts from the waveform
+   */
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    Validate.notNull(buffer);
+    // The notion of skipping bytes doesn't apply to IMS 2.0 data since it's a string (not binary)
+    Validate.validState(skip == 0);
+    Validate.validState(numSamples >= 0);
+
+    return decode(buffer.slice(), numSamples);
+  }
+
+  private static double[] decode(ByteBuffer cm6Bytes, int numSamples) throws IOException {
+    try {
+      return cm6ToDouble(cm6Bytes, numSamples);
     } catch (IOException e) {
       throw new IOException("Error parsing CM6 data", e);
     }
   }
 
   /**
-   * Convert CM6 compressed string to int[]
+   * Convert CM6 compressed characters to doubles, restoring the original values from their second
+   * differences as each value is decoded
    *
-   * @param cm6String CM6 string data to be decompressed into ints
-   * @return decompressed CM6 string as int[]
+   * @param cm6Bytes CM6 characters to be decompressed
+   * @param numSamples expected number of values, used to size the output
+   * @return decompressed CM6 values
    */
-  private int[] cm6ToInt(String cm6String) throws IOException {
-    Validate.notEmpty(cm6String);
-
-    List<Integer> integerList;
-
-    integerList = getIntList(cm6String);
-    // Keep track of the number of integers we have found (index into integerList)
-    int intCount = integerList.size();
-
-    // iout is a name from the original C algorithm; leaving so there's some semblance of
-    // traceability
-    int[] iout = integerList.stream().mapToInt(x -> x).toArray();
-    // Restore original values from second differences
-    iout[1] += 2 * iout[0];
-    for (int i = 2; i < intCount; i++) {
-      iout[i] += 2 * iout[i - 1] - iout[i - 2];
-    }
+  private static double[] cm6ToDouble(ByteBuffer cm6Bytes, int numSamples) throws IOException {
+    double[] iout = new double[Math.max(numSamples, 1)];
+    // Keep track of the number of integers we have found (index into iout)
+    var intCount = 0;
+    // The previous two restored values
+    var previous = 0;
+    var secondPrevious = 0;
 
-    return iout;
-  }
-
-  private static List<Integer> getIntList(String cm6String) throws IOException {
-    List<Integer> intList = new ArrayList<>();
     // cache to hold bytes as we find them
     int cachedBytes = 0;
     // Cache to hold integers until a control bit is found
     int[] intBuf = {0, 0, 0, 0, 0, 0, 0};
 
-    for (int i = 0; i < cm6String.length(); i++) {
-      char currentChar = cm6String.charAt(i);
+    while (cm6Bytes.hasRemaining()) {
+      int currentChar = cm6Bytes.get() & 0xFF;
 
       // ignore newline and CR-return characters
       // Blank is an invalid character, but ANMO sends it sometimes at the end of a CM6 block
@@ -135,19 +140,31 @@ public class Cm6WaveformReader implements WaveformReader {
       }
 
       cachedBytes = 0;
-      intList.add(tmpInt);
+
+      // Restore original value from second differences
+      int value = tmpInt + 2 * previous - secondPrevious;
+      secondPrevious = previous;
+      previous = value;
+
+      if (intCount == iout.length) {
+        iout = Arrays.copyOf(iout, 2 * intCount);
+      }
+      iout[intCount] = value;
+      intCount++;
     }
 
     // If the last datum had the control bit set, there will be leftover unprocessed data in the
     // buffer
     verifyNoCachedBytes(cachedBytes);
 
-    return intList;
+    Validate.isTrue(intCount > 0, "No CM6 values to decompress");
+
+    return intCount == iout.length ? iout : Arrays.copyOf(iout, intCount);
   }
 
-  private static void verifyCurrentChar(char currentChar) throws IOException {
-    if (ichar[currentChar] == -1) {
-      var error = String.format("Invalid ichar: %s", currentChar);
+  private static void verifyCurrentChar(int currentChar) throws IOException {
+    if (currentChar >= ichar.length || ichar[currentChar] == -1) {
+      var error = String.format("Invalid ichar: %s", (char) currentChar);
       throw new IOException(error);
     }
   }
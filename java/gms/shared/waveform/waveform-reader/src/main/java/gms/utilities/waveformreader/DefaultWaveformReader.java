@@ -2,6 +2,7 @@ package gms.utilities.waveformreader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +68,37 @@ public final class DefaultWaveformReader {
     return reader.read(input, samplesToRead, skip);
   }
 
+  /**
+   * Calls the proper waveform reader to read and calibrate samples from a buffer, starting at the
+   * provided offset from the start of the buffer. The buffer's position is not modified, so a
+   * single buffer can be read concurrently.
+   *
+   * @param buffer data bytes, such as a mapped waveform file
+   * @param format the format code, e.g. 's4' or 'b#'.
+   * @param samplesToRead number of samples to read
+   * @param fOff offset of the waveform from the start of the buffer, in bytes
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each sample
+   * @return the calibrated samples
+   */
+  public static double[] readSamples(
+      ByteBuffer buffer, String format, int samplesToRead, long fOff, int skip, double calibration)
+      throws IOException {
+
+    if (fOff < 0) {
+      throw new IOException("Cannot read waveform at negative foff " + fOff);
+    }
+
+    if (fOff > buffer.limit()) {
+      throw new IOException("Number of bytes from buffer of file less than foff.");
+    }
+
+    WaveformReader reader = readerFor(format);
+
+    var waveformBytes = buffer.slice((int) fOff, buffer.limit() - (int) fOff);
+    return reader.readBuffer(waveformBytes, samplesToRead, skip, calibration);
+  }
+
   /**
    * Looks up a DefaultWaveformReader corresponding to the given format code (CSS 3.0).
    *
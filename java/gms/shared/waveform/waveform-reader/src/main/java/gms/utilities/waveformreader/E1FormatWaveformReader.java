@@ -2,6 +2,8 @@ package gms.utilities.waveformreader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,16 +53,41 @@ public class E1FormatWaveformReader implements WaveformReader {
       return new double[0];
     }
 
-    var bis = new BitInputStream(is, BITS_TO_READ);
+    return read(new BitReader(is, BITS_TO_READ), numSamples, skip);
+  }
 
+  /**
+   * Reads the remaining bytes of the ByteBuffer as an E1 waveform.
+   *
+   * @param buffer the input data
+   * @param numSamples the number of samples in the buffer
+   * @param skip the number of skipped samples in the buffer
+   * @return the array representing the E1 waveform
+   */
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    Validate.notNull(buffer);
+
+    if (numSamples <= 0) {
+      return new double[0];
+    }
+
+    return read(new BitReader(buffer), numSamples, skip);
+  }
+
+  private static double[] read(BitReader reader, int numSamples, int skip) throws IOException {
     int totalSamples = numSamples + skip;
     double[] data = new double[numSamples];
 
+    // Records overlapping the skipped samples or the end of the data are decoded into a scratch
+    // frame; all others are decoded straight into the data
+    double[] scratchFrame = new double[0];
+
     // Loop over each record
     int recNum = 0;
-    while (recNum < totalSamples && bis.available() > 0) {
+    while (recNum < totalSamples && reader.available() > 0) {
       // Get the size of compressed data
-      int compSize = bis.read(COMP_SIZE_BITS, false);
+      int compSize = reader.read(COMP_SIZE_BITS, false);
       if (compSize < 0) {
         break;
       }
@@ -69,55 +96,73 @@ public class E1FormatWaveformReader implements WaveformReader {
       int compLength = (compSize / COMPRESSION_RATIO) - COMPRESSION_OVERHEAD;
 
       // Get the number of data samples
-      int numSamp = bis.read(SAMPLE_BITS, false);
+      int numSamp = reader.read(SAMPLE_BITS, false);
       if (numSamp < 0) {
         break;
       }
 
       // Get the number of differences
-      int numDiff = bis.read(DIFFERENCE_BITS, false);
+      int numDiff = reader.read(DIFFERENCE_BITS, false);
       if (numDiff < 0) {
         break;
       }
 
       // Get the check value
-      int check = bis.read(CHECK_VALUE_BITS, true);
+      int check = reader.read(CHECK_VALUE_BITS, true);
 
-      // Allocate memory for the uncompressed data
-      double[] dataFrame = new double[numSamp];
+      double[] dataFrame;
+      int offset;
+      if (recNum >= skip && recNum + numSamp <= totalSamples) {
+        dataFrame = data;
+        offset = recNum - skip;
+      } else {
+        if (scratchFrame.length < numSamp) {
+          scratchFrame = new double[numSamp];
+        } else {
+          Arrays.fill(scratchFrame, 0, numSamp, 0.0);
+        }
+        dataFrame = scratchFrame;
+        offset = 0;
+      }
 
       // Demap the data
-      demapData(compLength, numSamp, dataFrame, bis);
+      demapData(compLength, numSamp, dataFrame, offset, reader);
 
       // Integrate the data
       for (var i = 0; i < numDiff; i++) {
-        WaveformReaderUtil.integrate(dataFrame, 0, numSamp);
+        WaveformReaderUtil.integrate(dataFrame, offset, offset + numSamp);
       }
 
       // Check decompression
-      logDecompressionError(numSamp, check, dataFrame);
+      logDecompressionError(numSamp, check, dataFrame, offset);
 
       // Skip records as necessary, incrementing recNum as records are processed
-      recNum = skipRecords(recNum, totalSamples, skip, dataFrame, data);
+      if (dataFrame == data) {
+        recNum += numSamp;
+      } else {
+        recNum = skipRecords(recNum, totalSamples, skip, dataFrame, numSamp, data);
+      }
     }
 
     return data;
   }
 
-  private static void demapData(int compLength, int numSamp, double[] dataFrame, BitInputStream bis)
+  private static void demapData(
+      int compLength, int numSamp, double[] dataFrame, int offset, BitReader reader)
       throws IOException {
     var bitCount = 0;
-    var sampleCount = 0;
-    while ((bitCount < compLength) && (sampleCount < numSamp)) {
-      int code1 = bis.read(1, false);
-      sampleCount = processCode1(code1, sampleCount, numSamp, dataFrame, bis);
+    var sampleCount = offset;
+    int endCount = offset + numSamp;
+    while ((bitCount < compLength) && (sampleCount < endCount)) {
+      int code1 = reader.read(1, false);
+      sampleCount = processCode1(code1, sampleCount, endCount, dataFrame, reader);
       bitCount++;
       // Note: sampleCount is incremented as necessary in the processCode methods
     }
   }
 
   private static int processCode1(
-      int code1, int sampleCount, int numSamp, double[] dataFrame, BitInputStream bis)
+      int code1, int sampleCount, int endCount, double[] dataFrame, BitReader reader)
       throws IOException {
     switch (code1) {
       case SETS_DATA_TYPE -> {
@@ -126,13 +171,13 @@ public class E1FormatWaveformReader implements WaveformReader {
          * 0AAAAAAA|AABBBBBB|BBBCCCCC|CCCCDDDD
          * DDDDDEEE|EEEEEEFF|FFFFFFFG|GGGGGGGG
          */
-        for (var k = 0; k < SAMPLE_SIZE_7 && sampleCount < numSamp; k++, sampleCount++) {
-          dataFrame[sampleCount] = bis.read(BIT_LENGTH_9, true);
+        for (var k = 0; k < SAMPLE_SIZE_7 && sampleCount < endCount; k++, sampleCount++) {
+          dataFrame[sampleCount] = reader.read(BIT_LENGTH_9, true);
         }
       }
       case DOES_NOT_SET_DATA_TYPE -> {
-        int code2 = bis.read(1, false);
-        sampleCount = processCode2(code2, sampleCount, numSamp, dataFrame, bis);
+        int code2 = reader.read(1, false);
+        sampleCount = processCode2(code2, sampleCount, endCount, dataFrame, reader);
       }
       default -> {
         // there are no other valid code1 values; take no action
@@ -142,7 +187,7 @@ public class E1FormatWaveformReader implements WaveformReader {
   }
 
   private static int processCode2(
-      int code2, int sampleCount, int numSamp, double[] dataFrame, BitInputStream bis)
+      int code2, int sampleCount, int endCount, double[] dataFrame, BitReader reader)
       throws IOException {
     switch (code2) {
       case SETS_DATA_TYPE -> {
@@ -151,14 +196,14 @@ public class E1FormatWaveformReader implements WaveformReader {
          * 10AAAAAA|AAAABBBB|BBBBBBCC|CCCCCCCC
          */
         for (var k = 0;
-            readAnotherSample(k, SAMPLE_SIZE_3, sampleCount, numSamp);
+            readAnotherSample(k, SAMPLE_SIZE_3, sampleCount, endCount);
             k++, sampleCount++) {
-          dataFrame[sampleCount] = bis.read(BIT_LENGTH_10, true);
+          dataFrame[sampleCount] = reader.read(BIT_LENGTH_10, true);
         }
       }
       case DOES_NOT_SET_DATA_TYPE -> {
-        int code3 = bis.read(2, false);
-        sampleCount = processCode3(code3, sampleCount, numSamp, dataFrame, bis);
+        int code3 = reader.read(2, false);
+        sampleCount = processCode3(code3, sampleCount, endCount, dataFrame, reader);
       }
       default -> {
         // there are no other valid code2 values; take no action
@@ -168,7 +213,7 @@ public class E1FormatWaveformReader implements WaveformReader {
   }
 
   private static int processCode3(
-      int code3, int sampleCount, int numSamp, double[] dataFrame, BitInputStream bis)
+      int code3, int sampleCount, int endCount, double[] dataFrame, BitReader reader)
       throws IOException {
     switch (code3) {
       case FOUR_7_BIT_SAMPLES -> {
@@ -177,9 +222,9 @@ public class E1FormatWaveformReader implements WaveformReader {
          * 1100AAAA|AAABBBBB|BBCCCCCC|CDDDDDDD
          */
         for (var k = 0;
-            readAnotherSample(k, SAMPLE_SIZE_4, sampleCount, numSamp);
+            readAnotherSample(k, SAMPLE_SIZE_4, sampleCount, endCount);
             k++, sampleCount++) {
-          dataFrame[sampleCount] = bis.read(BIT_LENGTH_7, true);
+          dataFrame[sampleCount] = reader.read(BIT_LENGTH_7, true);
         }
       }
       case FIVE_12_BIT_SAMPLES -> {
@@ -189,9 +234,9 @@ public class E1FormatWaveformReader implements WaveformReader {
          * CCCCCCCC|DDDDDDDD|DDDDEEEE|EEEEEEEE
          */
         for (var k = 0;
-            readAnotherSample(k, SAMPLE_SIZE_5, sampleCount, numSamp);
+            readAnotherSample(k, SAMPLE_SIZE_5, sampleCount, endCount);
             k++, sampleCount++) {
-          dataFrame[sampleCount] = bis.read(BIT_LENGTH_12, true);
+          dataFrame[sampleCount] = reader.read(BIT_LENGTH_12, true);
         }
       }
       case FOUR_15_BIT_SAMPLES -> {
@@ -201,9 +246,9 @@ public class E1FormatWaveformReader implements WaveformReader {
          * BBCCCCCC|CCCCCCCC|CDDDDDDD|DDDDDDDD
          */
         for (var k = 0;
-            readAnotherSample(k, SAMPLE_SIZE_4, sampleCount, numSamp);
+            readAnotherSample(k, SAMPLE_SIZE_4, sampleCount, endCount);
             k++, sampleCount++) {
-          dataFrame[sampleCount] = bis.read(BIT_LENGTH_15, true);
+          dataFrame[sampleCount] = reader.read(BIT_LENGTH_15, true);
         }
       }
       case ONE_28_BIT_SAMPLE -> {
@@ -211,7 +256,7 @@ public class E1FormatWaveformReader implements WaveformReader {
          * 1 28-bit sample Bit map format:
          * 1111AAAA|AAAAAAAA|AAAAAAAA|AAAAAAAA
          */
-        dataFrame[sampleCount] = bis.read(BIT_LENGTH_28, true);
+        dataFrame[sampleCount] = reader.read(BIT_LENGTH_28, true);
         sampleCount++;
       }
       default -> {
@@ -222,22 +267,23 @@ public class E1FormatWaveformReader implements WaveformReader {
   }
 
   private static boolean readAnotherSample(
-      int sampleCountInRecord, int samplesInThisRecord, int sampleCount, int numSamp) {
-    return (sampleCountInRecord < samplesInThisRecord) && (sampleCount < numSamp);
+      int sampleCountInRecord, int samplesInThisRecord, int sampleCount, int endCount) {
+    return (sampleCountInRecord < samplesInThisRecord) && (sampleCount < endCount);
   }
 
-  private static void logDecompressionError(int numSamp, int check, double[] dataFrame) {
-    if ((numSamp > 0) && (Math.abs(check - dataFrame[numSamp - 1]) > TOLERANCE)) {
+  private static void logDecompressionError(
+      int numSamp, int check, double[] dataFrame, int offset) {
+    if ((numSamp > 0) && (Math.abs(check - dataFrame[offset + numSamp - 1]) > TOLERANCE)) {
       LOGGER.error(
           "Error decompressing, check value ({}) does not match last value ({}).",
           check,
-          dataFrame[numSamp - 1]);
+          dataFrame[offset + numSamp - 1]);
     }
   }
 
   private static int skipRecords(
-      int recNum, int totalSamples, int skip, double[] dataFrame, double[] data) {
-    for (var j = 0; j < dataFrame.length && recNum < totalSamples; j++, recNum++) {
+      int recNum, int totalSamples, int skip, double[] dataFrame, int numSamp, double[] data) {
+    for (var j = 0; j < numSamp && recNum < totalSamples; j++, recNum++) {
       if (recNum >= skip) {
         data[recNum - skip] = dataFrame[j];
       }
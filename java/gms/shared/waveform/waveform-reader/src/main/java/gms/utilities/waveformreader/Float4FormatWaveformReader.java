@@ -3,6 +3,8 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.apache.commons.lang3.Validate;
 
 /** Code for reading waveform format 'f4', VAX single precision real (4 bytes). */
@@ -44,6 +46,41 @@ public class Float4FormatWaveformReader implements WaveformReader {
     return data;
   }
 
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    return readBuffer(buffer, numSamples, skip, 1.0);
+  }
+
+  /**
+   * Reads the remaining bytes of the ByteBuffer as an F4 waveform, calibrating each sample as it is
+   * read.
+   *
+   * @param buffer the buffer to read from
+   * @param numSamples number of samples to read
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each sample
+   * @return calibrated samples from the waveform
+   * @throws IOException if skip is negative
+   */
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip, double calibration)
+      throws IOException {
+    Validate.notNull(buffer);
+
+    var samples =
+        WaveformReaderUtil.skipSamples(buffer, skip, Float.BYTES)
+            .order(ByteOrder.BIG_ENDIAN)
+            .asFloatBuffer();
+    int count = Math.min(numSamples, samples.remaining());
+
+    double[] data = new double[numSamples];
+    for (var i = 0; i < count; i++) {
+      data[i] = vax2float(samples.get(i)) * calibration;
+    }
+
+    return data;
+  }
+
   /**
    * Convert a float from VAX F to ieee float
    *
@@ -3,6 +3,8 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,4 +38,43 @@ public class I4FormatWaveformReader implements WaveformReader {
     }
     return data;
   }
+
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    return readBuffer(buffer, numSamples, skip, 1.0);
+  }
+
+  /**
+   * Reads the remaining bytes of the ByteBuffer as an I4 waveform, calibrating each sample as it is
+   * read.
+   *
+   * @param buffer the buffer to read from
+   * @param numSamples number of samples to read
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each sample
+   * @return calibrated digitizer counts from the waveform
+   * @throws IOException if the skipped samples extend beyond the end of the buffer
+   */
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip, double calibration)
+      throws IOException {
+    Validate.notNull(buffer);
+
+    if (skip < 0 || buffer.remaining() < skip * 4L) {
+      LOGGER.error("The skip method returned an invalid number of bytes skipped.");
+      throw new IOException("Skip resulted in error");
+    }
+
+    var samples =
+        WaveformReaderUtil.skipSamples(buffer, skip, Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asIntBuffer();
+    int count = Math.min(numSamples, samples.remaining());
+
+    double[] data = new double[numSamples];
+    for (var i = 0; i < count; i++) {
+      data[i] = samples.get(i) * calibration;
+    }
+    return data;
+  }
 }
@@ -2,12 +2,14 @@ package gms.utilities.waveformreader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import org.apache.commons.lang3.Validate;
 
 /** Code for reading waveform format 's3', SUN integer (3 bytes). */
 public class Sun3FormatWaveformReader implements WaveformReader {
 
   private static final int BITS_PER_DATUM = 24;
+  private static final int BYTES_PER_DATUM = BITS_PER_DATUM / Byte.SIZE;
 
   /**
    * Reads the InputStream as an S3 waveform.
@@ -44,4 +46,46 @@ public class Sun3FormatWaveformReader implements WaveformReader {
 
     return data;
   }
+
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    return readBuffer(buffer, numSamples, skip, 1.0);
+  }
+
+  /**
+   * Reads the remaining bytes of the ByteBuffer as an S3 waveform, calibrating each sample as it is
+   * read.
+   *
+   * @param buffer the buffer to read from
+   * @param numSamples number of samples to read
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each sample
+   * @return calibrated digitizer counts from the waveform
+   * @throws IOException if skip is negative
+   */
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip, double calibration)
+      throws IOException {
+    Validate.notNull(buffer);
+
+    var samples = WaveformReaderUtil.skipSamples(buffer, skip, BYTES_PER_DATUM);
+    int count = Math.min(numSamples, samples.remaining() / BYTES_PER_DATUM);
+
+    // Check if no data could be read
+    if (count == 0) {
+      return new double[] {};
+    }
+
+    double[] data = new double[numSamples];
+    for (int i = 0, index = 0; i < count; i++, index += BYTES_PER_DATUM) {
+      // Shift the 24 bits to the top of the int, then back down to sign extend them
+      int datum =
+          (samples.get(index) << 24)
+              | ((samples.get(index + 1) & 0xFF) << 16)
+              | ((samples.get(index + 2) & 0xFF) << 8);
+      data[i] = (datum >> 8) * calibration;
+    }
+
+    return data;
+  }
 }
@@ -3,6 +3,8 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -48,4 +50,44 @@ public class Sun4FormatWaveformReader implements WaveformReader {
 
     return data;
   }
+
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    return readBuffer(buffer, numSamples, skip, 1.0);
+  }
+
+  /**
+   * Reads the remaining bytes of the ByteBuffer as an S4 waveform, calibrating each sample as it is
+   * read.
+   *
+   * @param buffer the buffer to read from
+   * @param numSamples number of samples to read
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each sample
+   * @return calibrated digitizer counts from the waveform
+   * @throws IOException if skip is negative
+   */
+  @Override
+  public double[] readBuffer(ByteBuffer buffer, int numSamples, int skip, double calibration)
+      throws IOException {
+    Validate.notNull(buffer);
+
+    var samples =
+        WaveformReaderUtil.skipSamples(buffer, skip, Integer.BYTES)
+            .order(ByteOrder.BIG_ENDIAN)
+            .asIntBuffer();
+    int count = Math.min(numSamples, samples.remaining());
+
+    //  Check if no data could be read
+    if (count == 0) {
+      return new double[] {};
+    }
+
+    double[] data = new double[numSamples];
+    for (var i = 0; i < count; i++) {
+      data[i] = samples.get(i) * calibration;
+    }
+
+    return data;
+  }
 }
@@ -1,7 +1,9 @@
 package gms.utilities.waveformreader;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Functional interface for a WaveformReader; takes an InputStream, number of samples to skip, and
@@ -20,4 +22,41 @@ public interface WaveformReader {
    * @throws IOException if I/O problems occur during reading from InputStream
    */
   double[] read(InputStream input, int numSamples, int skip) throws IOException;
+
+  /**
+   * Reads a waveform from the remaining bytes of a ByteBuffer. The buffer's position is not
+   * modified. The default implementation copies the bytes to read them as an InputStream.
+   *
+   * @param buffer the buffer to read from
+   * @param skip number of samples to skip
+   * @param numSamples number of samples to read
+   * @return digitizer counts as int[]
+   * @throws IOException if problems occur during reading from the buffer
+   */
+  default double[] readBuffer(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    var bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return read(new ByteArrayInputStream(bytes), numSamples, skip);
+  }
+
+  /**
+   * Reads a waveform from the remaining bytes of a ByteBuffer, multiplying each sample by the
+   * provided calibration. The buffer's position is not modified. The default implementation reads
+   * the samples and then calibrates them.
+   *
+   * @param buffer the buffer to read from
+   * @param skip number of samples to skip
+   * @param numSamples number of samples to read
+   * @param calibration factor applied to each sample
+   * @return calibrated digitizer counts
+   * @throws IOException if problems occur during reading from the buffer
+   */
+  default double[] readBuffer(ByteBuffer buffer, int numSamples, int skip, double calibration)
+      throws IOException {
+    double[] data = readBuffer(buffer, numSamples, skip);
+    for (var i = 0; i < data.length; i++) {
+      data[i] *= calibration;
+    }
+    return data;
+  }
 }
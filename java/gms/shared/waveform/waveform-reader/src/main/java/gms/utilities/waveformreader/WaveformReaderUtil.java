@@ -1,5 +1,8 @@
 package gms.utilities.waveformreader;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 public class WaveformReaderUtil {
 
   private WaveformReaderUtil() {
@@ -26,4 +29,25 @@ public class WaveformReaderUtil {
       data[i] = prev;
     }
   }
+
+  /**
+   * Slices the remaining bytes of a buffer of fixed width samples after the skipped samples,
+   * without modifying the buffer's position. Skipping past the end of the buffer results in an
+   * empty slice.
+   *
+   * @param buffer Buffer of samples
+   * @param skip Number of samples to skip
+   * @param bytesPerSample Width of each sample, in bytes
+   * @return The bytes following the skipped samples
+   * @throws IOException if skip is negative
+   */
+  public static ByteBuffer skipSamples(ByteBuffer buffer, int skip, int bytesPerSample)
+      throws IOException {
+    if (skip < 0) {
+      throw new IOException("Cannot skip a negative number of samples: " + skip);
+    }
+
+    var skipBytes = (int) Math.min(buffer.remaining(), (long) skip * bytesPerSample);
+    return buffer.slice(buffer.position() + skipBytes, buffer.remaining() - skipBytes);
+  }
 }
@@ -0,0 +1,68 @@
+package gms.utilities.waveformreader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BitReaderTest {
+
+  private static final int BYTE_COUNT = 1000;
+
+  @Test
+  void testReadMatchesBitInputStream() throws IOException {
+    var random = new Random(11);
+    var bytes = new byte[BYTE_COUNT];
+    random.nextBytes(bytes);
+
+    var expected = new BitInputStream(new ByteArrayInputStream(bytes), 16);
+    var streamReader = new BitReader(new ByteArrayInputStream(bytes), 16);
+    var bufferReader = new BitReader(ByteBuffer.wrap(bytes));
+
+    // Read past the end of the data, which both readers pad with 1 bits
+    for (var bitsRead = 0; bitsRead < (BYTE_COUNT + 8) * Byte.SIZE; ) {
+      int bits = 1 + random.nextInt(Integer.SIZE);
+      boolean signed = random.nextBoolean();
+
+      int expectedValue = expected.read(bits, signed);
+      assertEquals(expectedValue, streamReader.read(bits, signed), "after " + bitsRead + " bits");
+      assertEquals(expectedValue, bufferReader.read(bits, signed), "after " + bitsRead + " bits");
+
+      bitsRead += bits;
+    }
+  }
+
+  @Test
+  void testAvailable() throws IOException {
+    var bytes = new byte[] {(byte) 0xA5, 0x0F, (byte) 0xF0};
+    var reader = new BitReader(ByteBuffer.wrap(bytes));
+
+    assertEquals(3, reader.available());
+    assertEquals(0xA, reader.read(4, false));
+    assertEquals(2, reader.available());
+    assertEquals(0x50F, reader.read(12, false));
+    assertEquals(1, reader.available());
+    assertEquals(-1, reader.read(4, true));
+    assertEquals(0, reader.available());
+    assertEquals(0, reader.read(4, false));
+    assertEquals(0, reader.available());
+
+    // Reads beyond the end of the data return 1 bits
+    assertEquals(0xFF, reader.read(8, false));
+    assertEquals(0, reader.available());
+  }
+
+  @Test
+  void testReadDoesNotModifyBuffer() throws IOException {
+    var buffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+    buffer.position(1);
+
+    var reader = new BitReader(buffer);
+    assertEquals(0x02030405, reader.read(32, false));
+    assertEquals(0x06070809, reader.read(32, false));
+    assertEquals(1, buffer.position());
+  }
+}
@@ -1,7 +1,10 @@
 package gms.utilities.waveformreader;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +29,13 @@ class CanadianCompressedWaveformReaderTest {
     //      .testReadTestData(reader, this.getClass().getResourceAsStream(WFE1_FILE),
     //        SAMPLES_TO_READ, SAMPLES_TO_SKIP, REF_SAMPLES);
   }
+
+  @Test
+  void testReadByteBuffer() throws Exception {
+    try (InputStream is = this.getClass().getResourceAsStream(WFE1_FILE)) {
+      double[] actual =
+          reader.readBuffer(ByteBuffer.wrap(is.readAllBytes()), SAMPLES_TO_READ, SAMPLES_TO_SKIP);
+      assertArrayEquals(REF_SAMPLES, actual, 1e-7);
+    }
+  }
 }
@@ -1,20 +1,28 @@
 package gms.utilities.waveformreader;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 class DefaultWaveformReaderTest {
 
+  private static final double CALIBRATION = 0.25;
+
   @ParameterizedTest
   @MethodSource("readSamplesArguments")
   void testReadSamplesTakeSkip(FormatCode formatCode, String file) throws IOException {
@@ -47,6 +55,61 @@ class DefaultWaveformReaderTest {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("readSamplesArguments")
+  void testReadSamplesBufferMatchesStream(FormatCode formatCode, String file) throws IOException {
+    try (InputStream is = this.getClass().getResourceAsStream(file)) {
+      byte[] bytes = is.readAllBytes();
+
+      double[] expected =
+          DefaultWaveformReader.readSamples(
+              new ByteArrayInputStream(bytes), formatCode.getCode(), 100, 0, 0);
+      for (var i = 0; i < expected.length; i++) {
+        expected[i] *= CALIBRATION;
+      }
+
+      double[] actual =
+          DefaultWaveformReader.readSamples(
+              ByteBuffer.wrap(bytes), formatCode.getCode(), 100, 0, 0, CALIBRATION);
+      assertArrayEquals(expected, actual);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("readSamplesFixedWidthArguments")
+  void testReadSamplesBufferSkip(FormatCode formatCode, String file, int bytesPerSample)
+      throws IOException {
+    try (InputStream is = this.getClass().getResourceAsStream(file)) {
+      var buffer = ByteBuffer.wrap(is.readAllBytes());
+
+      double[] all = DefaultWaveformReader.readSamples(buffer, formatCode.getCode(), 10, 0, 0, 1.0);
+
+      // Skipping samples and offsetting by whole samples both start reading at the same sample
+      double[] skipped =
+          DefaultWaveformReader.readSamples(buffer, formatCode.getCode(), 6, 0, 4, 1.0);
+      double[] offset =
+          DefaultWaveformReader.readSamples(
+              buffer, formatCode.getCode(), 6, 4L * bytesPerSample, 0, 1.0);
+
+      assertArrayEquals(Arrays.copyOfRange(all, 4, 10), skipped);
+      assertArrayEquals(Arrays.copyOfRange(all, 4, 10), offset);
+      assertEquals(0, buffer.position());
+    }
+  }
+
+  @Test
+  void testReadSamplesBufferOffsetErrors() {
+    var buffer = ByteBuffer.wrap(new byte[8]);
+    String format = FormatCode.S4.getCode();
+
+    assertThrows(
+        IOException.class, () -> DefaultWaveformReader.readSamples(buffer, format, 1, -1, 0, 1.0));
+    assertThrows(
+        IOException.class, () -> DefaultWaveformReader.readSamples(buffer, format, 1, 9, 0, 1.0));
+    assertThrows(
+        IOException.class, () -> DefaultWaveformReader.readSamples(buffer, format, 1, 0, -1, 1.0));
+  }
+
   @ParameterizedTest
   @MethodSource("readSamplesArguments_mismatchedFormat")
   void testReadSamplesTakeSkipMismatchedFormat(FormatCode formatCode, String file)
@@ -130,6 +193,15 @@ class DefaultWaveformReaderTest {
         Arguments.arguments(FormatCode.I4, "/css/WFS4/i4.w"));
   }
 
+  private static Stream<Arguments> readSamplesFixedWidthArguments() {
+    return Stream.of(
+        Arguments.arguments(FormatCode.S4, "/css/WFS4/I22FR.s4.w", 4),
+        Arguments.arguments(FormatCode.S3, "/css/WFS4/I22FR.s3.w", 3),
+        Arguments.arguments(FormatCode.S2, "/css/WFS4/S2Test.w", 2),
+        Arguments.arguments(FormatCode.F4, "/css/WFS4/F4Test.w", 4),
+        Arguments.arguments(FormatCode.T4, "/css/WFS4/t4.w", 4));
+  }
+
   private static Stream<Arguments> readSamplesArguments_mismatchedFormat() {
     return Stream.of(Arguments.arguments(FormatCode.F4, "/css/WFS4/I22FR.s3.w"));
   }
@@ -1,6 +1,11 @@
 package gms.utilities.waveformreader;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 class E1FormatWaveformReaderTest {
@@ -19,4 +24,24 @@ class E1FormatWaveformReaderTest {
           reader, is, SAMPLES_TO_READ, SAMPLES_TO_SKIP, REF_SAMPLES);
     }
   }
+
+  @Test
+  void testReadByteBuffer() throws Exception {
+    try (InputStream is = this.getClass().getResourceAsStream(WFE1_FILE)) {
+      double[] actual = reader.readBuffer(ByteBuffer.wrap(is.readAllBytes()), SAMPLES_TO_READ, 0);
+      assertArrayEquals(REF_SAMPLES, actual, 1e-7);
+    }
+  }
+
+  @Test
+  void testReadWithSkip() throws Exception {
+    byte[] bytes;
+    try (InputStream is = this.getClass().getResourceAsStream(WFE1_FILE)) {
+      bytes = is.readAllBytes();
+    }
+
+    double[] all = reader.read(new ByteArrayInputStream(bytes), 1000, 0);
+    double[] skipped = reader.readBuffer(ByteBuffer.wrap(bytes), 400, 300);
+    assertArrayEquals(Arrays.copyOfRange(all, 300, 700), skipped, 1e-7);
+  }
 }
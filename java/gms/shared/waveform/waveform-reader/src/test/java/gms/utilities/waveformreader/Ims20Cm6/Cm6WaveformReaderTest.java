@@ -8,6 +8,7 @@ import gms.utilities.waveformreader.Cm6WaveformReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -45,6 +46,12 @@ class Cm6WaveformReaderTest {
             InputStream truthWaveform =
                 new ByteArrayInputStream(intWaveformStrings.get(i).getBytes())) {
           double[] parsedWaveformDoubles = waveformReader.read(waveform, waveform.available(), 0);
+          assertArrayEquals(
+              parsedWaveformDoubles,
+              waveformReader.readBuffer(
+                  ByteBuffer.wrap(cm6WaveformStrings.get(i).getBytes()),
+                  parsedWaveformDoubles.length,
+                  0));
           int[] parsedWaveformInts =
               Arrays.stream(parsedWaveformDoubles)
                   .mapToInt((x) -> Double.valueOf(x).intValue())
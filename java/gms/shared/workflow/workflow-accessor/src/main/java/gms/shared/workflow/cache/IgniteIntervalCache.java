@@ -1,7 +1,8 @@
 package gms.shared.workflow.cache;
 
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toMap;
 
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.workflow.cache.util.WorkflowCacheFactory;
@@ -10,31 +11,37 @@ import gms.shared.workflow.coi.StageInterval;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import javax.cache.Cache;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.apache.ignite.configuration.NearCacheConfiguration;
 
 /**
  * Cache that delegates to an Apache Ignite {@link IgniteCache} for CRUD operations on {@link
- * StageInterval}s. Ignite is configured to contain key-value pairs of Stage names to {@link
- * NavigableMap}s of StageIntervals by start time. The combination of stage name and start time
- * define uniqueness for StageInterval, allowing this caching structure to contain all relevant
- * intervals without concerns of conflicting keys.
+ * StageInterval}s. Ignite is configured to contain key-value pairs of {@link IntervalId}s to
+ * StageIntervals, along with a secondary index of Stage names to {@link NavigableMap}s of
+ * StageInterval end times by start time. The combination of stage name and start time define
+ * uniqueness for StageInterval, allowing this caching structure to contain all relevant intervals
+ * without concerns of conflicting keys, and allowing range retrievals to only visit the intervals
+ * within the requested time range.
  */
 public final class IgniteIntervalCache implements IntervalCache {
 
   private final IgniteCache<IntervalId, StageInterval> stageIntervalsByIntervalId;
+  private final IgniteCache<String, StageIntervalIndex> stageIntervalIndicesByStageName;
 
   private IgniteIntervalCache(
-      IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndStartTime) {
+      IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndStartTime,
+      IgniteCache<String, StageIntervalIndex> stageIntervalIndicesByStageName) {
     this.stageIntervalsByIntervalId = stageIntervalsByNameAndStartTime;
+    this.stageIntervalIndicesByStageName = stageIntervalIndicesByStageName;
   }
 
   /**
@@ -45,7 +52,9 @@ public final class IgniteIntervalCache implements IntervalCache {
   public static IgniteIntervalCache create() {
     IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndTime =
         IgniteConnectionManager.getOrCreateCache(WorkflowCacheFactory.INTERVAL_CACHE);
-    return new IgniteIntervalCache(stageIntervalsByNameAndTime);
+    IgniteCache<String, StageIntervalIndex> stageIntervalIndicesByStageName =
+        IgniteConnectionManager.getOrCreateCache(WorkflowCacheFactory.INTERVAL_INDEX_CACHE);
+    return new IgniteIntervalCache(stageIntervalsByNameAndTime, stageIntervalIndicesByStageName);
   }
 
   /**
@@ -60,7 +69,9 @@ public final class IgniteIntervalCache implements IntervalCache {
     IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndTime =
         IgniteConnectionManager.getOrCreateCache(
             WorkflowCacheFactory.INTERVAL_CACHE, nearCacheConfiguration);
-    return new IgniteIntervalCache(stageIntervalsByNameAndTime);
+    IgniteCache<String, StageIntervalIndex> stageIntervalIndicesByStageName =
+        IgniteConnectionManager.getOrCreateCache(WorkflowCacheFactory.INTERVAL_INDEX_CACHE);
+    return new IgniteIntervalCache(stageIntervalsByNameAndTime, stageIntervalIndicesByStageName);
   }
 
   /**
@@ -162,7 +173,8 @@ public final class IgniteIntervalCache implements IntervalCache {
 
   /**
    * Batch retrieval of all stage intervals with stage names in the input collection within the
-   * input time range.
+   * input time range. Candidate intervals are located through each stage's {@link
+   * StageIntervalIndex}, then retrieved in a single batch.
    *
    * @param stageNames First retrieval keys
    * @param startTime Start of the span of second retrieval keys, inclusive
@@ -174,31 +186,47 @@ public final class IgniteIntervalCache implements IntervalCache {
   public List<StageInterval> getAll(
       Collection<String> stageNames, Instant startTime, Instant endTime) {
 
-    return stageIntervalsByIntervalId
-        .query(new ScanQuery<IntervalId, StageInterval>())
-        .getAll()
-        .stream()
-        .map(Cache.Entry::getValue)
+    var intervalIds = new LinkedHashSet<IntervalId>();
+    for (String stageName : stageNames) {
+      var stageIntervalIndex = stageIntervalIndicesByStageName.get(stageName);
+      if (stageIntervalIndex != null) {
+        var definitionId = WorkflowDefinitionId.from(stageName);
+        stageIntervalIndex.findStartTimes(startTime, endTime).stream()
+            .map(intervalStartTime -> IntervalId.from(intervalStartTime, definitionId))
+            .forEach(intervalIds::add);
+      }
+    }
+
+    if (intervalIds.isEmpty()) {
+      return List.of();
+    }
+
+    // index entries for intervals removed mid-prune are not present, and are skipped
+    var stageIntervals = stageIntervalsByIntervalId.getAll(intervalIds);
+    return intervalIds.stream()
+        .map(stageIntervals::get)
+        .filter(Objects::nonNull)
         .filter(
             interval ->
-                stageNames.contains(interval.getName())
-                    && interval.getStartTime().isBefore(endTime)
+                interval.getStartTime().isBefore(endTime)
                     && interval.getEndTime().isAfter(startTime))
         .collect(toList());
   }
 
   /**
-   * Retrieves all modification times for all stage intervals, and finds the maximum time.
+   * Retrieves the latest modification time tracked by each stage's {@link StageIntervalIndex}, and
+   * finds the maximum time.
    *
    * @return The latest modification time for all stage intervals
    */
   @Override
   public Optional<Instant> getLatestModificationTime() {
-    return stageIntervalsByIntervalId
-        .query(new ScanQuery<IntervalId, StageInterval>())
+    return stageIntervalIndicesByStageName
+        .query(new ScanQuery<String, StageIntervalIndex>())
         .getAll()
         .stream()
-        .map(entry -> entry.getValue().getModificationTime())
+        .map(entry -> entry.getValue().getLatestModificationTime())
+        .flatMap(Optional::stream)
         .max(Instant::compareTo);
   }
 
@@ -215,26 +243,48 @@ public final class IgniteIntervalCache implements IntervalCache {
     try {
       lock.lock();
       stageIntervalsByIntervalId.put(stageInterval.getIntervalId(), stageInterval);
+      index(stageInterval.getName(), List.of(stageInterval));
     } finally {
       lock.unlock();
     }
   }
 
   /**
-   * Atomically Inserts or updates a collection of StageIntervals. This method will lock on each
-   * stage name.
+   * Atomically Inserts or updates a collection of StageIntervals. This method will lock all
+   * intervals of each stage at once, storing and indexing them in a single batch.
    *
    * @param stageIntervals StageIntervals
    */
   @Override
   public void putAll(Collection<? extends StageInterval> stageIntervals) {
-    stageIntervals.forEach(this::put);
+    stageIntervals.stream()
+        .collect(groupingBy(StageInterval::getName))
+        .forEach(
+            (stageName, stageIntervalsForStage) -> {
+              var stageIntervalsById =
+                  stageIntervalsForStage.stream()
+                      .collect(
+                          toMap(
+                              StageInterval::getIntervalId,
+                              StageInterval.class::cast,
+                              (first, second) -> second));
+
+              var lock = stageIntervalsByIntervalId.lockAll(stageIntervalsById.keySet());
+              try {
+                lock.lock();
+                stageIntervalsByIntervalId.putAll(stageIntervalsById);
+                index(stageName, stageIntervalsById.values());
+              } finally {
+                lock.unlock();
+              }
+            });
   }
 
   /** Clears all values within the cache */
   @Override
   public void clear() {
     stageIntervalsByIntervalId.clear();
+    stageIntervalIndicesByStageName.clear();
   }
 
   /**
@@ -247,13 +297,13 @@ public final class IgniteIntervalCache implements IntervalCache {
   public void prune(Instant olderThan) {
 
     var keys =
-        stageIntervalsByIntervalId
-            .query(new ScanQuery<IntervalId, StageInterval>())
+        stageIntervalIndicesByStageName
+            .query(new ScanQuery<String, StageIntervalIndex>())
             .getAll()
             .stream()
-            .filter(entry -> !entry.getValue().getEndTime().isAfter(olderThan))
-            .map(Cache.Entry::getKey)
-            .collect(toSet());
+            .map(entry -> pruneIndex(entry.getKey(), olderThan))
+            .flatMap(List::stream)
+            .collect(toList());
 
     keys.forEach(
         (IntervalId intervalId) -> {
@@ -267,6 +317,63 @@ public final class IgniteIntervalCache implements IntervalCache {
         });
   }
 
+  /**
+   * Atomically adds the provided {@link StageInterval}s to the {@link StageIntervalIndex} of their
+   * stage, creating the index if it does not yet exist
+   *
+   * @param stageName name of the stage the StageIntervals belong to
+   * @param stageIntervals StageIntervals to index
+   */
+  private void index(String stageName, Collection<? extends StageInterval> stageIntervals) {
+    var lock = stageIntervalIndicesByStageName.lock(stageName);
+    try {
+      lock.lock();
+      var stageIntervalIndex =
+          Optional.ofNullable(stageIntervalIndicesByStageName.get(stageName))
+              .orElseGet(StageIntervalIndex::new);
+      stageIntervals.forEach(
+          stageInterval ->
+              stageIntervalIndex.add(
+                  stageInterval.getStartTime(),
+                  stageInterval.getEndTime(),
+                  stageInterval.getModificationTime()));
+      stageIntervalIndicesByStageName.put(stageName, stageIntervalIndex);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Atomically removes all {@link StageInterval}s with endTimes <= olderThan from the {@link
+   * StageIntervalIndex} of the provided stage
+   *
+   * @param stageName name of the stage to prune
+   * @param olderThan Expiration time
+   * @return The IntervalIds of all StageIntervals removed from the index
+   */
+  private List<IntervalId> pruneIndex(String stageName, Instant olderThan) {
+    var lock = stageIntervalIndicesByStageName.lock(stageName);
+    try {
+      lock.lock();
+      var stageIntervalIndex = stageIntervalIndicesByStageName.get(stageName);
+      if (stageIntervalIndex == null) {
+        return List.of();
+      }
+
+      var startTimes = stageIntervalIndex.removeOlderThan(olderThan);
+      if (!startTimes.isEmpty()) {
+        stageIntervalIndicesByStageName.put(stageName, stageIntervalIndex);
+      }
+
+      var definitionId = WorkflowDefinitionId.from(stageName);
+      return startTimes.stream()
+          .map(startTime -> IntervalId.from(startTime, definitionId))
+          .collect(toList());
+    } finally {
+      lock.unlock();
+    }
+  }
+
   /**
    * Returns a {@link Lock} allowing the caller to lock a given {@link StageInterval} in the cache
    * to prevent concurrent updates
@@ -0,0 +1,123 @@
+package gms.shared.workflow.cache;
+
+import gms.shared.workflow.coi.StageInterval;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Secondary index of all {@link StageInterval}s cached for a single stage. Maps each interval's
+ * start time to its end time, allowing range lookups to visit only the intervals that can overlap
+ * the requested time range. Also tracks the longest indexed interval duration, used to bound range
+ * lookups, and the latest modification time of any interval indexed for the stage.
+ */
+final class StageIntervalIndex implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final TreeMap<Instant, Instant> endTimesByStartTime;
+  private Duration maxDuration;
+  private Instant latestModificationTime;
+
+  StageIntervalIndex() {
+    this.endTimesByStartTime = new TreeMap<>();
+    this.maxDuration = Duration.ZERO;
+  }
+
+  /**
+   * Adds or replaces the index entry for an interval with the provided times
+   *
+   * @param startTime start time of the indexed interval
+   * @param endTime end time of the indexed interval
+   * @param modificationTime modification time of the indexed interval
+   */
+  void add(Instant startTime, Instant endTime, Instant modificationTime) {
+    endTimesByStartTime.put(startTime, endTime);
+
+    var duration = Duration.between(startTime, endTime);
+    if (duration.compareTo(maxDuration) > 0) {
+      maxDuration = duration;
+    }
+
+    if (latestModificationTime == null || modificationTime.isAfter(latestModificationTime)) {
+      latestModificationTime = modificationTime;
+    }
+  }
+
+  /**
+   * Finds the start times of all indexed intervals overlapping the provided time range. Only
+   * intervals starting within the longest indexed duration before the range are visited.
+   *
+   * @param startTime Start of the time range, exclusive of intervals ending at this time
+   * @param endTime End of the time range, exclusive of intervals starting at this time
+   * @return Start times of all overlapping intervals, in ascending order
+   */
+  List<Instant> findStartTimes(Instant startTime, Instant endTime) {
+    var candidates =
+        endTimesByStartTime.subMap(startTime.minus(maxDuration), false, endTime, false);
+
+    List<Instant> startTimes = new ArrayList<>();
+    for (Map.Entry<Instant, Instant> entry : candidates.entrySet()) {
+      if (entry.getValue().isAfter(startTime)) {
+        startTimes.add(entry.getKey());
+      }
+    }
+
+    return startTimes;
+  }
+
+  /**
+   * Removes all indexed intervals with end times <= olderThan, recomputing the longest indexed
+   * duration if any interval was removed
+   *
+   * @param olderThan Expiration time
+   * @return Start times of all removed intervals
+   */
+  List<Instant> removeOlderThan(Instant olderThan) {
+    List<Instant> startTimes = new ArrayList<>();
+
+    // an interval's start precedes its end, so expired intervals all start before olderThan
+    var iterator = endTimesByStartTime.headMap(olderThan, false).entrySet().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (!entry.getValue().isAfter(olderThan)) {
+        startTimes.add(entry.getKey());
+        iterator.remove();
+      }
+    }
+
+    if (!startTimes.isEmpty()) {
+      maxDuration =
+          endTimesByStartTime.entrySet().stream()
+              .map(entry -> Duration.between(entry.getKey(), entry.getValue()))
+              .max(Duration::compareTo)
+              .orElse(Duration.ZERO);
+    }
+
+    return startTimes;
+  }
+
+  /**
+   * Retrieves the longest duration of any interval currently indexed
+   *
+   * @return The longest indexed duration, or {@link Duration#ZERO} if no interval is indexed
+   */
+  Duration getMaxDuration() {
+    return maxDuration;
+  }
+
+  /**
+   * Retrieves the latest modification time of any interval added to this index. Pruning intervals
+   * does not roll this time back.
+   *
+   * @return The latest modification time, or {@link Optional#empty()} if no interval was indexed
+   */
+  Optional<Instant> getLatestModificationTime() {
+    return Optional.ofNullable(latestModificationTime);
+  }
+}
@@ -20,7 +20,16 @@ public final class WorkflowCacheFactory {
           true,
           Optional.empty());
 
-  private static final List<CacheInfo> CACHE_INFO_LIST = List.of(INTERVAL_CACHE);
+  public static final CacheInfo INTERVAL_INDEX_CACHE =
+      new CacheInfo(
+          "interval-index-cache",
+          CacheMode.PARTITIONED,
+          CacheAtomicityMode.TRANSACTIONAL,
+          true,
+          Optional.empty());
+
+  private static final List<CacheInfo> CACHE_INFO_LIST =
+      List.of(INTERVAL_CACHE, INTERVAL_INDEX_CACHE);
 
   private WorkflowCacheFactory() {
     // Hide implicit public constructor
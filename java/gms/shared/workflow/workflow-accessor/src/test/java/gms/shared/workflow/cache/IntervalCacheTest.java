@@ -14,6 +14,7 @@ import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -33,7 +34,10 @@ class IntervalCacheTest {
 
   @BeforeAll
   static void setup() {
-    IgniteTestUtility.initializeLocally(tempIgnitePath, WorkflowCacheFactory.INTERVAL_CACHE);
+    IgniteTestUtility.initializeLocally(
+        tempIgnitePath,
+        WorkflowCacheFactory.INTERVAL_CACHE,
+        WorkflowCacheFactory.INTERVAL_INDEX_CACHE);
   }
 
   @BeforeEach
@@ -128,6 +132,37 @@ class IntervalCacheTest {
     assertTrue(actualIntervals.contains(secondInterval));
   }
 
+  @Test
+  void testGetLatestModificationTime() {
+    Instant startTime = Instant.EPOCH;
+    Instant endTime = startTime.plusSeconds(500);
+    String firstStage = "Test 1";
+    String secondStage = "Test 2";
+    var intervalData =
+        MockIntervalData.get(
+            startTime,
+            endTime,
+            Set.of(WorkflowDefinitionId.from(firstStage), WorkflowDefinitionId.from(secondStage)));
+    var firstInterval = (InteractiveAnalysisStageInterval) intervalData.get(firstStage).get(0);
+    var secondInterval =
+        ((InteractiveAnalysisStageInterval) intervalData.get(secondStage).get(0))
+            .toBuilder()
+                .setModificationTime(firstInterval.getModificationTime().plusSeconds(60))
+                .build();
+
+    assertTrue(intervalCache.getLatestModificationTime().isEmpty());
+
+    intervalCache.put(firstInterval);
+    assertEquals(
+        Optional.of(firstInterval.getModificationTime()),
+        intervalCache.getLatestModificationTime());
+
+    intervalCache.put(secondInterval);
+    assertEquals(
+        Optional.of(secondInterval.getModificationTime()),
+        intervalCache.getLatestModificationTime());
+  }
+
   @Test
   void testPrune() {
     Instant startTime = Instant.EPOCH;
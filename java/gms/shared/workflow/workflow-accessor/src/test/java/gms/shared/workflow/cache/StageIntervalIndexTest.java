@@ -0,0 +1,36 @@
+package gms.shared.workflow.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class StageIntervalIndexTest {
+
+  @Test
+  void testRemoveOlderThanRecomputesMaxDuration() {
+    var stageIntervalIndex = new StageIntervalIndex();
+    var modificationTime = Instant.EPOCH.plusSeconds(7200);
+    stageIntervalIndex.add(Instant.EPOCH, Instant.EPOCH.plusSeconds(3600), modificationTime);
+    stageIntervalIndex.add(
+        Instant.EPOCH.plusSeconds(3600), Instant.EPOCH.plusSeconds(3900), Instant.EPOCH);
+    assertEquals(Duration.ofSeconds(3600), stageIntervalIndex.getMaxDuration());
+
+    assertEquals(
+        List.of(Instant.EPOCH),
+        stageIntervalIndex.removeOlderThan(Instant.EPOCH.plusSeconds(3600)));
+    assertEquals(Duration.ofSeconds(300), stageIntervalIndex.getMaxDuration());
+    assertEquals(
+        List.of(Instant.EPOCH.plusSeconds(3600)),
+        stageIntervalIndex.findStartTimes(Instant.EPOCH, Instant.EPOCH.plusSeconds(7200)));
+
+    assertEquals(
+        List.of(Instant.EPOCH.plusSeconds(3600)),
+        stageIntervalIndex.removeOlderThan(Instant.EPOCH.plusSeconds(3900)));
+    assertEquals(Duration.ZERO, stageIntervalIndex.getMaxDuration());
+    assertEquals(Optional.of(modificationTime), stageIntervalIndex.getLatestModificationTime());
+  }
+}